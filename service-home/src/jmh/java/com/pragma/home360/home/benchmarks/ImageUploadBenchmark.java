@@ -0,0 +1,135 @@
+package com.pragma.home360.home.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compara cómo guardar con su SHA-256 una imagen de 10 MB, el {@code max-file-size} del servicio, que el
+ * contenedor ya dejó en un archivo temporal: moverla y leerla otra vez para el hash; copiarla con
+ * {@code FileChannel.transferFrom} desde un {@code DigestInputStream}; y copiarla con un buffer de 64 KB
+ * desde el mismo stream, como lo hace {@code LocalFileStorageService.storeFile}.
+ *
+ * <p>En modo Throughput, MB/s = ops/s × 10. El perfilador {@code gc} reporta en
+ * {@code gc.alloc.rate.norm} los bytes asignados por subida. Ejecutar con {@code ./gradlew jmh}.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ImageUploadBenchmark {
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    @Param({"10485760"})
+    private int imageBytes;
+
+    private byte[] content;
+    private Path directory;
+    private Path spooled;
+    private Path target;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        content = new byte[imageBytes];
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < imageBytes; i++) {
+            content[i] = (byte) random.nextInt(256);
+        }
+        directory = Files.createTempDirectory("image-upload");
+        spooled = directory.resolve("upload.tmp");
+        target = directory.resolve("stored.jpg");
+    }
+
+    @Setup(Level.Invocation)
+    public void spool() throws IOException {
+        Files.deleteIfExists(target);
+        Files.write(spooled, content);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public byte[] moveThenHash() throws IOException {
+        Files.move(spooled, target);
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return digest.digest();
+    }
+
+    @Benchmark
+    public byte[] digestTransferFrom() throws IOException {
+        MessageDigest digest = sha256();
+        try (ReadableByteChannel source = Channels.newChannel(new DigestInputStream(Files.newInputStream(spooled), digest));
+             FileChannel sink = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long position = 0;
+            long transferred;
+            while (position < imageBytes && (transferred = sink.transferFrom(source, position, imageBytes - position)) > 0) {
+                position += transferred;
+            }
+        }
+        return digest.digest();
+    }
+
+    @Benchmark
+    public byte[] digestCopy() throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[BUFFER_BYTES];
+        try (InputStream input = new DigestInputStream(Files.newInputStream(spooled), digest);
+             FileChannel sink = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                while (chunk.hasRemaining()) {
+                    sink.write(chunk);
+                }
+            }
+        }
+        return digest.digest();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
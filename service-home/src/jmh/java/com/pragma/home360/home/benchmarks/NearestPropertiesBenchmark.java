@@ -0,0 +1,139 @@
+package com.pragma.home360.home.benchmarks;
+
+import com.pragma.home360.home.infrastructure.search.KdTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara los k vecinos más cercanos resueltos con el KD-tree del índice espacial contra la consulta
+ * SQL equivalente que ordena toda la tabla por distancia de Haversine.
+ *
+ * <p>Ejecutar con {@code ./gradlew jmh}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NearestPropertiesBenchmark {
+
+    private static final int QUERY_POINTS = 1024;
+    private static final double MIN_LATITUDE = -4.2;
+    private static final double MAX_LATITUDE = 12.4;
+    private static final double MIN_LONGITUDE = -79.0;
+    private static final double MAX_LONGITUDE = -66.9;
+
+    private static final String NEAREST_SQL = "SELECT id FROM locations ORDER BY "
+            + "POWER(SIN(RADIANS(latitude - ?) / 2), 2) "
+            + "+ COS(RADIANS(?)) * COS(RADIANS(latitude)) * POWER(SIN(RADIANS(longitude - ?) / 2), 2) "
+            + "LIMIT ?";
+
+    @Param({"10000", "100000"})
+    private int locations;
+
+    @Param({"10"})
+    private int k;
+
+    private KdTree tree;
+    private double[] queryLatitudes;
+    private double[] queryLongitudes;
+    private int nextQuery;
+
+    private Connection connection;
+    private PreparedStatement nearestStatement;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        SplittableRandom random = new SplittableRandom(42);
+        long[] ids = new long[locations];
+        double[] latitudes = new double[locations];
+        double[] longitudes = new double[locations];
+        for (int i = 0; i < locations; i++) {
+            ids[i] = i + 1L;
+            latitudes[i] = random.nextDouble(MIN_LATITUDE, MAX_LATITUDE);
+            longitudes[i] = random.nextDouble(MIN_LONGITUDE, MAX_LONGITUDE);
+        }
+        tree = KdTree.build(ids, latitudes, longitudes, locations);
+
+        queryLatitudes = new double[QUERY_POINTS];
+        queryLongitudes = new double[QUERY_POINTS];
+        for (int i = 0; i < QUERY_POINTS; i++) {
+            queryLatitudes[i] = random.nextDouble(MIN_LATITUDE, MAX_LATITUDE);
+            queryLongitudes[i] = random.nextDouble(MIN_LONGITUDE, MAX_LONGITUDE);
+        }
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:nearest;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS locations");
+            statement.execute("CREATE TABLE locations (id BIGINT PRIMARY KEY, latitude DOUBLE, longitude DOUBLE)");
+            statement.execute("CREATE INDEX idx_locations_lat_lng ON locations (latitude, longitude)");
+        }
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO locations VALUES (?, ?, ?)")) {
+            for (int i = 0; i < locations; i++) {
+                insert.setLong(1, ids[i]);
+                insert.setDouble(2, latitudes[i]);
+                insert.setDouble(3, longitudes[i]);
+                insert.addBatch();
+                if ((i + 1) % 1000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        nearestStatement = connection.prepareStatement(NEAREST_SQL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        nearestStatement.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public void kdTree(Blackhole blackhole) {
+        int query = nextQuery();
+        KdTree.Neighbors neighbors = new KdTree.Neighbors(k);
+        tree.nearest(queryLatitudes[query], queryLongitudes[query], id -> true, neighbors);
+
+        long[] ids = new long[k];
+        double[] distances = new double[k];
+        blackhole.consume(neighbors.drainInto(ids, distances));
+        blackhole.consume(ids);
+    }
+
+    @Benchmark
+    public void sqlOrderByDistance(Blackhole blackhole) throws SQLException {
+        int query = nextQuery();
+        nearestStatement.setDouble(1, queryLatitudes[query]);
+        nearestStatement.setDouble(2, queryLatitudes[query]);
+        nearestStatement.setDouble(3, queryLongitudes[query]);
+        nearestStatement.setInt(4, k);
+        try (ResultSet resultSet = nearestStatement.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getLong(1));
+            }
+        }
+    }
+
+    private int nextQuery() {
+        int query = nextQuery;
+        nextQuery = (nextQuery + 1) % QUERY_POINTS;
+        return query;
+    }
+}
@@ -0,0 +1,205 @@
+package com.pragma.home360.home.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara la importación de 10000 propiedades fila a fila, como la haría un {@code save} por propiedad
+ * con id {@code IDENTITY} (una consulta por categoría y ubicación y una inserción con su id generado),
+ * contra la importación por lotes: una consulta por conjunto de ids y sentencias JDBC agrupadas.
+ *
+ * <p>Ejecutar con {@code ./gradlew jmh}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PropertyImportBenchmark {
+
+    private static final int CATEGORIES = 20;
+    private static final int LOCATIONS = 5_000;
+
+    private static final String INSERT_SQL = "INSERT INTO properties (name, description, number_of_rooms, "
+            + "number_of_bathrooms, price, active_publication_date, publication_status, location_id, category_id, "
+            + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Param({"10000"})
+    private int rows;
+
+    @Param({"500"})
+    private int batchSize;
+
+    private String[] names;
+    private int[] rooms;
+    private BigDecimal[] prices;
+    private long[] categoryIds;
+    private long[] locationIds;
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        SplittableRandom random = new SplittableRandom(42);
+        names = new String[rows];
+        rooms = new int[rows];
+        prices = new BigDecimal[rows];
+        categoryIds = new long[rows];
+        locationIds = new long[rows];
+        for (int i = 0; i < rows; i++) {
+            names[i] = "Propiedad importada " + i;
+            rooms[i] = random.nextInt(1, 6);
+            prices[i] = BigDecimal.valueOf(random.nextLong(100_000_000L, 2_000_000_000L), 2);
+            categoryIds[i] = random.nextLong(1, CATEGORIES + 1);
+            locationIds[i] = random.nextLong(1, LOCATIONS + 1);
+        }
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:import;DB_CLOSE_DELAY=-1");
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS properties");
+            statement.execute("DROP TABLE IF EXISTS categories");
+            statement.execute("DROP TABLE IF EXISTS locations");
+            statement.execute("CREATE TABLE categories (id BIGINT PRIMARY KEY, name VARCHAR(50))");
+            statement.execute("CREATE TABLE locations (id BIGINT PRIMARY KEY, address VARCHAR(255))");
+            statement.execute("CREATE TABLE properties (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255) NOT NULL, "
+                    + "description VARCHAR(2000), number_of_rooms INT NOT NULL, number_of_bathrooms INT NOT NULL, "
+                    + "price DECIMAL(12, 2), active_publication_date DATE, publication_status VARCHAR(50) NOT NULL, "
+                    + "location_id BIGINT NOT NULL REFERENCES locations (id), "
+                    + "category_id BIGINT NOT NULL REFERENCES categories (id), "
+                    + "created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL)");
+            statement.execute("INSERT INTO categories SELECT X, 'Categoría ' || X FROM SYSTEM_RANGE(1, " + CATEGORIES + ")");
+            statement.execute("INSERT INTO locations SELECT X, 'Calle ' || X FROM SYSTEM_RANGE(1, " + LOCATIONS + ")");
+        }
+        connection.commit();
+    }
+
+    @Setup(Level.Invocation)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE properties");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void rowByRow(Blackhole blackhole) throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement findCategory = connection.prepareStatement("SELECT id, name FROM categories WHERE id = ?");
+             PreparedStatement findLocation = connection.prepareStatement("SELECT id, address FROM locations WHERE id = ?");
+             PreparedStatement insert = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < rows; i++) {
+                if (!exists(findCategory, categoryIds[i]) || !exists(findLocation, locationIds[i])) {
+                    continue;
+                }
+                bind(insert, i, now);
+                insert.executeUpdate();
+                try (ResultSet generatedKeys = insert.getGeneratedKeys()) {
+                    generatedKeys.next();
+                    blackhole.consume(generatedKeys.getLong(1));
+                }
+            }
+        }
+        connection.commit();
+    }
+
+    @Benchmark
+    public void setBasedLookupAndJdbcBatch(Blackhole blackhole) throws SQLException {
+        Set<Long> existingCategories = existingIds("categories", categoryIds);
+        Set<Long> existingLocations = existingIds("locations", locationIds);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            int pending = 0;
+            for (int i = 0; i < rows; i++) {
+                if (!existingCategories.contains(categoryIds[i]) || !existingLocations.contains(locationIds[i])) {
+                    continue;
+                }
+                bind(insert, i, now);
+                insert.addBatch();
+                if (++pending == batchSize) {
+                    executeBatch(insert, blackhole);
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                executeBatch(insert, blackhole);
+            }
+        }
+        connection.commit();
+    }
+
+    private void bind(PreparedStatement insert, int row, Timestamp now) throws SQLException {
+        insert.setString(1, names[row]);
+        insert.setString(2, "Descripción de la propiedad importada " + row);
+        insert.setInt(3, rooms[row]);
+        insert.setInt(4, 2);
+        insert.setBigDecimal(5, prices[row]);
+        insert.setDate(6, Date.valueOf(LocalDate.now()));
+        insert.setString(7, "PUBLISHED");
+        insert.setLong(8, locationIds[row]);
+        insert.setLong(9, categoryIds[row]);
+        insert.setTimestamp(10, now);
+        insert.setTimestamp(11, now);
+    }
+
+    private static void executeBatch(PreparedStatement insert, Blackhole blackhole) throws SQLException {
+        insert.executeBatch();
+        try (ResultSet generatedKeys = insert.getGeneratedKeys()) {
+            while (generatedKeys.next()) {
+                blackhole.consume(generatedKeys.getLong(1));
+            }
+        }
+    }
+
+    private static boolean exists(PreparedStatement find, long id) throws SQLException {
+        find.setLong(1, id);
+        try (ResultSet resultSet = find.executeQuery()) {
+            return resultSet.next();
+        }
+    }
+
+    private Set<Long> existingIds(String table, long[] ids) throws SQLException {
+        Set<Long> requested = new HashSet<>();
+        for (long id : ids) {
+            requested.add(id);
+        }
+        Set<Long> existing = new HashSet<>(requested.size());
+        try (PreparedStatement find = connection.prepareStatement("SELECT id FROM " + table + " WHERE id = ANY(?)")) {
+            find.setArray(1, connection.createArrayOf("BIGINT", requested.toArray()));
+            try (ResultSet resultSet = find.executeQuery()) {
+                while (resultSet.next()) {
+                    existing.add(resultSet.getLong(1));
+                }
+            }
+        }
+        return existing;
+    }
+}
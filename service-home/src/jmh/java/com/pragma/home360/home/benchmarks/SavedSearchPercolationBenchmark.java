@@ -0,0 +1,147 @@
+package com.pragma.home360.home.benchmarks;
+
+import com.pragma.home360.home.domain.model.SavedSearchModel;
+import com.pragma.home360.home.infrastructure.search.PropertyReferences;
+import com.pragma.home360.home.infrastructure.search.SavedSearchMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara la percolación de una propiedad nueva con el {@link SavedSearchMatcher} contra evaluar una
+ * por una todas las búsquedas guardadas. Las búsquedas y propiedades se generan con la distribución
+ * típica del catálogo: 40 barrios en 10 ciudades de 3 departamentos y 6 categorías.
+ *
+ * <p>Ejecutar con {@code ./gradlew jmh}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SavedSearchPercolationBenchmark {
+
+    private static final int QUERY_PROPERTIES = 1024;
+    private static final int CATEGORIES = 6;
+    private static final int NEIGHBORHOODS = 40;
+    private static final int CITIES = 10;
+    private static final int DEPARTMENTS = 3;
+
+    @Param({"10000", "100000"})
+    private int searches;
+
+    private SavedSearchMatcher matcher;
+    private SavedSearchModel[] savedSearches;
+    private PropertyReferences[] references;
+    private BigDecimal[] prices;
+    private Integer[] rooms;
+    private Integer[] bathrooms;
+    private int nextQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        matcher = new SavedSearchMatcher();
+        savedSearches = new SavedSearchModel[searches];
+        for (int i = 0; i < searches; i++) {
+            savedSearches[i] = randomSearch(i + 1L, random);
+            matcher.add(savedSearches[i]);
+        }
+
+        references = new PropertyReferences[QUERY_PROPERTIES];
+        prices = new BigDecimal[QUERY_PROPERTIES];
+        rooms = new Integer[QUERY_PROPERTIES];
+        bathrooms = new Integer[QUERY_PROPERTIES];
+        for (int i = 0; i < QUERY_PROPERTIES; i++) {
+            long neighborhood = 1 + random.nextInt(NEIGHBORHOODS);
+            long city = cityOf(neighborhood);
+            references[i] = new PropertyReferences(1L + random.nextInt(CATEGORIES), neighborhood, city, departmentOf(city));
+            prices[i] = BigDecimal.valueOf(random.nextLong(80_000_000L, 2_000_000_000L));
+            rooms[i] = 1 + random.nextInt(5);
+            bathrooms[i] = 1 + random.nextInt(4);
+        }
+    }
+
+    @Benchmark
+    public void matcher(Blackhole blackhole) {
+        int query = nextQuery();
+        blackhole.consume(matcher.match(references[query], prices[query], rooms[query], bathrooms[query]));
+    }
+
+    @Benchmark
+    public void linearScan(Blackhole blackhole) {
+        int query = nextQuery();
+        PropertyReferences property = references[query];
+        int matches = 0;
+        for (SavedSearchModel search : savedSearches) {
+            if (matches(search, property, prices[query], rooms[query], bathrooms[query])) {
+                matches++;
+            }
+        }
+        blackhole.consume(matches);
+    }
+
+    private static boolean matches(SavedSearchModel search, PropertyReferences property,
+                                   BigDecimal price, int roomCount, int bathroomCount) {
+        return (search.categoryId() == null || search.categoryId().equals(property.categoryId()))
+                && (search.neighborhoodId() == null || search.neighborhoodId().equals(property.neighborhoodId()))
+                && (search.neighborhoodId() != null || search.cityId() == null || search.cityId().equals(property.cityId()))
+                && (search.neighborhoodId() != null || search.cityId() != null
+                || search.departmentId() == null || search.departmentId().equals(property.departmentId()))
+                && (search.minPrice() == null || search.minPrice().compareTo(price) <= 0)
+                && (search.maxPrice() == null || search.maxPrice().compareTo(price) >= 0)
+                && (search.minRooms() == null || search.minRooms() <= roomCount)
+                && (search.maxRooms() == null || search.maxRooms() >= roomCount)
+                && (search.minBathrooms() == null || search.minBathrooms() <= bathroomCount);
+    }
+
+    private static SavedSearchModel randomSearch(long id, SplittableRandom random) {
+        Long category = random.nextInt(3) == 0 ? null : 1L + random.nextInt(CATEGORIES);
+        Long neighborhood = null;
+        Long city = null;
+        Long department = null;
+        int locationKind = random.nextInt(10);
+        if (locationKind < 5) {
+            neighborhood = 1L + random.nextInt(NEIGHBORHOODS);
+        } else if (locationKind < 8) {
+            city = 1L + random.nextInt(CITIES);
+        } else if (locationKind < 9) {
+            department = 1L + random.nextInt(DEPARTMENTS);
+        }
+        BigDecimal minPrice = null;
+        BigDecimal maxPrice = null;
+        if (random.nextInt(4) != 0) {
+            long min = random.nextLong(80_000_000L, 1_500_000_000L);
+            minPrice = BigDecimal.valueOf(min);
+            maxPrice = BigDecimal.valueOf(min + random.nextLong(50_000_000L, 500_000_000L));
+        }
+        Integer minRooms = random.nextBoolean() ? 1 + random.nextInt(4) : null;
+        Integer maxRooms = minRooms != null && random.nextBoolean() ? minRooms + random.nextInt(2) : null;
+        Integer minBathrooms = random.nextInt(3) == 0 ? 1 + random.nextInt(3) : null;
+        return new SavedSearchModel(id, "comprador" + id + "@correo.com", null, minPrice, maxPrice,
+                minRooms, maxRooms, minBathrooms, category, department, city, neighborhood, null);
+    }
+
+    private static long cityOf(long neighborhood) {
+        return 1 + (neighborhood - 1) % CITIES;
+    }
+
+    private static long departmentOf(long city) {
+        return 1 + (city - 1) % DEPARTMENTS;
+    }
+
+    private int nextQuery() {
+        int query = nextQuery;
+        nextQuery = (nextQuery + 1) % QUERY_PROPERTIES;
+        return query;
+    }
+}
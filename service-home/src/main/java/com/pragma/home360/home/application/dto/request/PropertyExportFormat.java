@@ -0,0 +1,31 @@
+package com.pragma.home360.home.application.dto.request;
+
+/**
+ * Formatos en que se puede descargar el catálogo de propiedades publicadas.
+ */
+public enum PropertyExportFormat {
+    /**
+     * Un objeto JSON por línea.
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+    /**
+     * Valores separados por comas con una fila de encabezado, según RFC 4180.
+     */
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String mediaType;
+    private final String fileExtension;
+
+    PropertyExportFormat(String mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
@@ -0,0 +1,20 @@
+package com.pragma.home360.home.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+@Schema(description = "Petición para guardar una búsqueda y recibir alertas de propiedades nuevas que la cumplan")
+public record SaveSavedSearchRequest(
+        @Schema(description = "Correo al que se envían las alertas", example = "comprador@correo.com") String email,
+        @Schema(description = "Nombre para reconocer la búsqueda", example = "Apartamentos en El Poblado") String name,
+        @Schema(description = "Precio mínimo", example = "200000000") BigDecimal minPrice,
+        @Schema(description = "Precio máximo", example = "450000000") BigDecimal maxPrice,
+        @Schema(description = "Mínimo de habitaciones", example = "2") Integer minRooms,
+        @Schema(description = "Máximo de habitaciones", example = "3") Integer maxRooms,
+        @Schema(description = "Mínimo de baños", example = "2") Integer minBathrooms,
+        @Schema(description = "ID de la categoría", example = "1") Long categoryId,
+        @Schema(description = "ID del departamento", example = "1") Long departmentId,
+        @Schema(description = "ID de la ciudad", example = "1") Long cityId,
+        @Schema(description = "ID del barrio; tiene prioridad sobre la ciudad y el departamento", example = "7") Long neighborhoodId) {
+}
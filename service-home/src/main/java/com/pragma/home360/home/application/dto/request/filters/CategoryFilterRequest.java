@@ -8,12 +8,18 @@ public record CategoryFilterRequest(
         @Schema(description = "Número de página (empieza desde 0)", example = "0", defaultValue = "0") Integer page,
         @Schema(description = "Cantidad de elementos por página", example = "20", defaultValue = "10") Integer size,
         @Schema(description = "Campo por el cual ordenar", example = "name", defaultValue = "id") String sortField,
-        @Schema(description = "Dirección del ordenamiento", example = "DESC", defaultValue = "ASC", allowableValues = {"ASC", "DESC"}) Sort.Direction direction) {
+        @Schema(description = "Dirección del ordenamiento", example = "DESC", defaultValue = "ASC", allowableValues = {"ASC", "DESC"}) Sort.Direction direction,
+        @Schema(description = "Si es false, no se calculan totalPages ni totalElements y solo se informa hasNext", example = "false", defaultValue = "true") Boolean withTotal) {
 
     public CategoryFilterRequest {
         page = (page == null) ? 0 : page;
         size = (size == null) ? 10 : size;
         sortField = (sortField == null) ? "id" : sortField;
         direction = (direction == null) ? Sort.Direction.ASC : direction;
+        withTotal = (withTotal == null) ? Boolean.TRUE : withTotal;
+    }
+
+    public CategoryFilterRequest(Integer page, Integer size, String sortField, Sort.Direction direction) {
+        this(page, size, sortField, direction, null);
     }
 }
\ No newline at end of file
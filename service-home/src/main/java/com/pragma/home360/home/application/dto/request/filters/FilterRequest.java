@@ -16,13 +16,20 @@ public record FilterRequest(
         @Schema(description = "Término de búsqueda general", example = "producto") String searchTerm,
         @Schema(description = "Filtrar por estado activo/inactivo", example = "true") Boolean active,
         @Schema(description = "Fecha de inicio para filtrado (formato ISO)", example = "2023-01-01") @JsonFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
-        @Schema(description = "Fecha de fin para filtrado (formato ISO)", example = "2023-12-31") @JsonFormat(pattern = "yyyy-MM-dd") LocalDate endDate) {
+        @Schema(description = "Fecha de fin para filtrado (formato ISO)", example = "2023-12-31") @JsonFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+        @Schema(description = "Si es false, no se calculan totalPages ni totalElements y solo se informa hasNext", example = "false", defaultValue = "true") Boolean withTotal) {
 
     public FilterRequest {
         if (page == null) page = 0;
         if (size == null) size = 10;
         if (sortField == null || sortField.isBlank()) sortField = "id";
         if (direction == null) direction = Sort.Direction.ASC;
+        if (withTotal == null) withTotal = Boolean.TRUE;
+    }
+
+    public FilterRequest(Integer page, Integer size, String sortField, Sort.Direction direction,
+                         String searchTerm, Boolean active, LocalDate startDate, LocalDate endDate) {
+        this(page, size, sortField, direction, searchTerm, active, startDate, endDate, null);
     }
 
     public FilterRequest() {
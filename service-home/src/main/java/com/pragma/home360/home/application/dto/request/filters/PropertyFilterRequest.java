@@ -1,13 +1,33 @@
 package com.pragma.home360.home.application.dto.request.filters;
 
+import com.pragma.home360.home.infrastructure.entities.enums.PropertyPublicationStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.math.BigDecimal;
 
 public record PropertyFilterRequest(
         @Schema(description = "Número de página (empieza desde 0)", example = "0", defaultValue = "0") Integer page,
         @Schema(description = "Cantidad de elementos por página", example = "20", defaultValue = "10") Integer size,
-        @Schema(description = "Campo por el cual ordenar", example = "name", defaultValue = "id") String sortField,
+        @Schema(description = "Campo por el cual ordenar. Con 'relevance' se ordena por coincidencia con 'searchTerm'", example = "name", defaultValue = "id",
+                allowableValues = {"id", "price", "createdAt", "activePublicationDate", "numberOfRooms", "name", "relevance"}) String sortField,
         @Schema(description = "Dirección del ordenamiento", example = "DESC", defaultValue = "ASC", allowableValues = {"ASC", "DESC"}) String direction,
-        @Schema(description = "Campo por el cual filtrar", example = "name", defaultValue = "id") String searchTerm) {
+        @Schema(description = "Campo por el cual filtrar", example = "name", defaultValue = "id") String searchTerm,
+        @Schema(description = "Cursor opaco devuelto en 'nextCursor'. Si se envía, se ignora 'page' y se pagina por keyset", example = "bmFtZQpBU0MKMTIKVkNhc2E") String cursor,
+        @Schema(description = "Precio mínimo (inclusive)", example = "200000000")
+        @PositiveOrZero(message = "El precio mínimo no puede ser negativo.") BigDecimal minPrice,
+        @Schema(description = "Precio máximo (inclusive)", example = "450000000")
+        @PositiveOrZero(message = "El precio máximo no puede ser negativo.") BigDecimal maxPrice,
+        @Schema(description = "Cantidad mínima de habitaciones", example = "3")
+        @PositiveOrZero(message = "La cantidad mínima de habitaciones no puede ser negativa.") Integer minRooms,
+        @Schema(description = "Cantidad mínima de baños", example = "2")
+        @PositiveOrZero(message = "La cantidad mínima de baños no puede ser negativa.") Integer minBathrooms,
+        @Schema(description = "ID de la categoría", example = "1") Long categoryId,
+        @Schema(description = "ID de la ciudad", example = "1") Long cityId,
+        @Schema(description = "ID del barrio", example = "1") Long neighborhoodId,
+        @Schema(description = "ID del departamento", example = "1") Long departmentId,
+        @Schema(description = "Estado de publicación", example = "PUBLISHED") PropertyPublicationStatus publicationStatus,
+        @Schema(description = "Si es false, no se calculan totalPages ni totalElements y solo se informa hasNext", example = "false", defaultValue = "true") Boolean withTotal) {
 
     public PropertyFilterRequest {
         if (page == null) {
@@ -25,5 +45,16 @@ public record PropertyFilterRequest(
         if (searchTerm == null || searchTerm.isEmpty()) {
             searchTerm = "";
         }
+        if (withTotal == null) {
+            withTotal = true;
+        }
+    }
+
+    public PropertyFilterRequest(Integer page, Integer size, String sortField, String direction, String searchTerm, String cursor) {
+        this(page, size, sortField, direction, searchTerm, cursor, null, null, null, null, null, null, null, null, null, null);
+    }
+
+    public PropertyFilterRequest(Integer page, Integer size, String sortField, String direction, String searchTerm) {
+        this(page, size, sortField, direction, searchTerm, null);
     }
 }
@@ -0,0 +1,14 @@
+package com.pragma.home360.home.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Cantidad de propiedades para un valor de faceta")
+public record FacetCountResponse(
+        @Schema(description = "ID del valor", example = "1")
+        Long id,
+        @Schema(description = "Nombre del valor", example = "Medellín")
+        String name,
+        @Schema(description = "Cantidad de propiedades", example = "42")
+        long count
+) {
+}
@@ -0,0 +1,9 @@
+package com.pragma.home360.home.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record NearestPropertyResponse(
+        @Schema(description = "Distancia en kilómetros desde el punto consultado", example = "1.37") double distanceKm,
+        PropertyResponse property
+) {
+}
@@ -1,5 +1,7 @@
 package com.pragma.home360.home.application.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.pragma.home360.home.domain.utils.pagination.PagedResult;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.List;
@@ -13,9 +15,39 @@ public record PaginatedResponse<T>(
         int currentPage,
         @Schema(description = "Tamaño de la página", example = "10")
         int pageSize,
-        @Schema(description = "Número total de páginas", example = "5")
-        int totalPages,
-        @Schema(description = "Número total de elementos", example = "50")
-        long totalElements
+        @Schema(description = "Número total de páginas (ausente si se pidió withTotal=false)", example = "5")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Integer totalPages,
+        @Schema(description = "Número total de elementos (ausente si se pidió withTotal=false)", example = "50")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Long totalElements,
+        @Schema(description = "Cursor opaco para solicitar la siguiente página por keyset (ausente si no hay más elementos)", example = "bmFtZQpBU0MKMTIKVkNhc2E")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String nextCursor,
+        @Schema(description = "Indica si existe una página siguiente", example = "true")
+        boolean hasNext
 ) {
+
+    public PaginatedResponse(List<T> content, int currentPage, int pageSize, int totalPages, long totalElements, String nextCursor) {
+        this(content, currentPage, pageSize, totalPages, totalElements, nextCursor, nextCursor != null || currentPage + 1 < totalPages);
+    }
+
+    public PaginatedResponse(List<T> content, int currentPage, int pageSize, int totalPages, long totalElements) {
+        this(content, currentPage, pageSize, totalPages, totalElements, null);
+    }
+
+    /**
+     * Construye la respuesta con el contenido ya mapeado y los metadatos de paginación del resultado de dominio.
+     */
+    public static <T> PaginatedResponse<T> of(List<T> content, PagedResult<?> pagedResult) {
+        return new PaginatedResponse<>(
+                content,
+                pagedResult.page(),
+                pagedResult.size(),
+                pagedResult.hasTotal() ? pagedResult.totalPages() : null,
+                pagedResult.hasTotal() ? pagedResult.totalElements() : null,
+                pagedResult.nextCursor(),
+                pagedResult.hasNext()
+        );
+    }
 }
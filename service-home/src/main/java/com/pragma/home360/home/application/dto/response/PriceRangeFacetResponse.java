@@ -0,0 +1,18 @@
+package com.pragma.home360.home.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+@Schema(description = "Cantidad de propiedades en un rango de precio [minPrice, maxPrice)")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PriceRangeFacetResponse(
+        @Schema(description = "Precio mínimo (inclusive), ausente si el rango es abierto", example = "100000000")
+        BigDecimal minPrice,
+        @Schema(description = "Precio máximo (exclusivo), ausente si el rango es abierto", example = "200000000")
+        BigDecimal maxPrice,
+        @Schema(description = "Cantidad de propiedades", example = "17")
+        long count
+) {
+}
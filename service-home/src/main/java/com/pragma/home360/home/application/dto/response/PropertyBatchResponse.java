@@ -0,0 +1,11 @@
+package com.pragma.home360.home.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Propiedades consultadas por lista de IDs")
+public record PropertyBatchResponse(
+        @Schema(description = "Propiedades encontradas, en el orden de los IDs solicitados") List<PropertyResponse> properties,
+        @Schema(description = "IDs solicitados que no corresponden a ninguna propiedad", example = "[42]") List<Long> missingIds) {
+}
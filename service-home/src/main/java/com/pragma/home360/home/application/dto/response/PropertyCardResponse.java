@@ -0,0 +1,28 @@
+package com.pragma.home360.home.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+@Schema(description = "Datos mínimos de una propiedad para mostrarla como tarjeta en el listado")
+public record PropertyCardResponse(
+        @Schema(description = "ID de la propiedad", example = "12")
+        Long id,
+        @Schema(description = "Nombre de la propiedad", example = "Apartamento en El Poblado")
+        String name,
+        @Schema(description = "Precio de la propiedad", example = "450000000")
+        BigDecimal price,
+        @Schema(description = "Cantidad de habitaciones", example = "3")
+        Integer numberOfRooms,
+        @Schema(description = "Cantidad de baños", example = "2")
+        Integer numberOfBathrooms,
+        @Schema(description = "Ciudad de la ubicación", example = "Medellín")
+        String cityName,
+        @Schema(description = "Barrio de la ubicación", example = "El Poblado")
+        String neighborhoodName,
+        @Schema(description = "URL de la imagen principal, ausente si no tiene", example = "/media/properties/12-1.jpg")
+        String mainImageUrl,
+        @Schema(description = "Cantidad de imágenes de la propiedad", example = "8")
+        Integer imageCount
+) {
+}
@@ -0,0 +1,20 @@
+package com.pragma.home360.home.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+@Schema(description = "Grupo de propiedades publicadas de una celda del mapa")
+public record PropertyClusterResponse(
+        @Schema(description = "Cantidad de propiedades en la celda", example = "42")
+        long count,
+        @Schema(description = "Latitud del centroide de las propiedades", example = "6.2088")
+        double latitude,
+        @Schema(description = "Longitud del centroide de las propiedades", example = "-75.5678")
+        double longitude,
+        @Schema(description = "Precio más bajo de la celda", example = "180000000")
+        BigDecimal minPrice,
+        @Schema(description = "Precio más alto de la celda", example = "950000000")
+        BigDecimal maxPrice
+) {
+}
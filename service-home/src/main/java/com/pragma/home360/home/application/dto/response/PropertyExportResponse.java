@@ -0,0 +1,25 @@
+package com.pragma.home360.home.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Schema(description = "Fila del catálogo exportado de propiedades publicadas")
+public record PropertyExportResponse(
+        @Schema(description = "ID de la propiedad", example = "31") Long id,
+        @Schema(description = "Nombre de la propiedad", example = "Penthouse Poblado") String name,
+        @Schema(description = "Descripción de la propiedad") String description,
+        @Schema(description = "Precio", example = "450000000") BigDecimal price,
+        @Schema(description = "Número de habitaciones", example = "3") Integer numberOfRooms,
+        @Schema(description = "Número de baños", example = "2") Integer numberOfBathrooms,
+        @Schema(description = "Nombre de la categoría", example = "Apartamento") String categoryName,
+        @Schema(description = "Dirección", example = "Calle 10 # 43-12") String address,
+        @Schema(description = "Latitud en grados decimales", example = "6.2088") Double latitude,
+        @Schema(description = "Longitud en grados decimales", example = "-75.5678") Double longitude,
+        @Schema(description = "Nombre del barrio", example = "El Poblado") String neighborhoodName,
+        @Schema(description = "Nombre de la ciudad", example = "Medellín") String cityName,
+        @Schema(description = "Nombre del departamento", example = "Antioquia") String departmentName,
+        @Schema(description = "Fecha de publicación activa") LocalDate activePublicationDate,
+        @Schema(description = "URL de la imagen principal", example = "/media/properties/31-1.jpg") String mainImageUrl) {
+}
@@ -0,0 +1,18 @@
+package com.pragma.home360.home.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Conteos por faceta de las propiedades que cumplen los filtros")
+public record PropertyFacetsResponse(
+        @Schema(description = "Total de propiedades que cumplen los filtros", example = "120")
+        long total,
+        @Schema(description = "Conteo por categoría")
+        List<FacetCountResponse> categories,
+        @Schema(description = "Conteo por ciudad")
+        List<FacetCountResponse> cities,
+        @Schema(description = "Conteo por rango de precio")
+        List<PriceRangeFacetResponse> priceRanges
+) {
+}
@@ -0,0 +1,12 @@
+package com.pragma.home360.home.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Reporte de una importación masiva de propiedades")
+public record PropertyImportReportResponse(
+        @Schema(description = "Cantidad de filas importadas", example = "998") int imported,
+        @Schema(description = "Cantidad de filas rechazadas", example = "2") int rejected,
+        @Schema(description = "Resultado de cada fila, en el orden recibido") List<PropertyImportRowResponse> rows) {
+}
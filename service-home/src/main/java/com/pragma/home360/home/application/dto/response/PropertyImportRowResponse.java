@@ -0,0 +1,11 @@
+package com.pragma.home360.home.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Resultado de una fila de la importación")
+public record PropertyImportRowResponse(
+        @Schema(description = "Número de fila, desde 1 y sin contar el encabezado del CSV", example = "1") int row,
+        @Schema(description = "Indica si la fila se importó", example = "true") boolean imported,
+        @Schema(description = "ID asignado a la propiedad importada", example = "31") Long propertyId,
+        @Schema(description = "Motivo del rechazo", example = "El precio de la propiedad debe ser mayor que cero.") String error) {
+}
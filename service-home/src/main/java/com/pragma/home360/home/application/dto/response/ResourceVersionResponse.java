@@ -0,0 +1,12 @@
+package com.pragma.home360.home.application.dto.response;
+
+import java.time.Instant;
+
+/**
+ * Validadores HTTP de un recurso: la etiqueta fuerte, ya entre comillas, y la fecha de modificación,
+ * o {@code null} cuando el recurso no puede ofrecer una fecha confiable.
+ */
+public record ResourceVersionResponse(
+        String eTag,
+        Instant lastModified) {
+}
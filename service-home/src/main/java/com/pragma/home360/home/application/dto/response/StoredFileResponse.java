@@ -0,0 +1,15 @@
+package com.pragma.home360.home.application.dto.response;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * Archivo guardado listo para servirse: su ruta en disco, tamaño, fecha de modificación y la etiqueta
+ * fuerte, ya entre comillas, calculada a partir de su contenido.
+ */
+public record StoredFileResponse(
+        Path path,
+        long size,
+        Instant lastModified,
+        String eTag) {
+}
@@ -0,0 +1,17 @@
+package com.pragma.home360.home.application.dto.response;
+
+import com.pragma.home360.home.domain.model.SuggestionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Sugerencia de autocompletado del buscador")
+public record SuggestionResponse(
+        @Schema(description = "Tipo de entidad sugerida", example = "NEIGHBORHOOD")
+        SuggestionType type,
+        @Schema(description = "ID de la entidad sugerida", example = "7")
+        Long id,
+        @Schema(description = "Nombre de la entidad tal como está registrado", example = "El Poblado")
+        String text,
+        @Schema(description = "Popularidad: propiedades publicadas que referencian la entidad, o 1 si es una propiedad", example = "128")
+        long popularity
+) {
+}
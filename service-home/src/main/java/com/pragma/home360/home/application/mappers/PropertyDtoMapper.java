@@ -2,15 +2,35 @@ package com.pragma.home360.home.application.mappers;
 
 import com.pragma.home360.home.application.dto.request.SavePropertyRequest;
 import com.pragma.home360.home.application.dto.request.filters.PropertyFilterRequest;
+import com.pragma.home360.home.application.dto.response.NearestPropertyResponse;
+import com.pragma.home360.home.application.dto.response.PaginatedResponse;
+import com.pragma.home360.home.application.dto.response.PropertyCardResponse;
+import com.pragma.home360.home.application.dto.response.PropertyClusterResponse;
+import com.pragma.home360.home.application.dto.response.PropertyExportResponse;
+import com.pragma.home360.home.application.dto.response.PropertyFacetsResponse;
 import com.pragma.home360.home.application.dto.response.PropertyResponse;
+import com.pragma.home360.home.application.dto.response.ResourceVersionResponse;
+import com.pragma.home360.home.domain.model.NearestPropertyModel;
+import com.pragma.home360.home.domain.model.PropertyCardModel;
+import com.pragma.home360.home.domain.model.PropertyClusterModel;
+import com.pragma.home360.home.domain.model.PropertyCriteriaModel;
+import com.pragma.home360.home.domain.model.PropertyExportModel;
+import com.pragma.home360.home.domain.model.PropertyFacetsModel;
 import com.pragma.home360.home.domain.model.PropertyFilterModel;
 import com.pragma.home360.home.domain.model.PropertyModel;
+import com.pragma.home360.home.domain.model.PropertyVersionModel;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Mappings;
 import org.mapstruct.ReportingPolicy;
+import org.springframework.util.DigestUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 @Mapper(componentModel = "spring",
         uses = {CategoryDtoMapper.class, LocationDtoMapper.class},
@@ -23,7 +43,38 @@ public interface PropertyDtoMapper {
     })
     PropertyModel fromRequestToModel(SavePropertyRequest request);
 
-    PropertyFilterModel fromFilterRequestToModel(PropertyFilterRequest request);
+    default NearestPropertyResponse fromNearestModelToResponse(NearestPropertyModel nearestPropertyModel) {
+        return new NearestPropertyResponse(
+                nearestPropertyModel.distanceKm(),
+                fromModelToResponse(nearestPropertyModel.property())
+        );
+    }
+
+    default PropertyFilterModel fromFilterRequestToModel(PropertyFilterRequest request) {
+        if (request == null) {
+            return null;
+        }
+        return new PropertyFilterModel(
+                request.page(),
+                request.size(),
+                request.sortField(),
+                request.direction(),
+                request.searchTerm(),
+                request.cursor(),
+                new PropertyCriteriaModel(
+                        request.minPrice(),
+                        request.maxPrice(),
+                        request.minRooms(),
+                        request.minBathrooms(),
+                        request.categoryId(),
+                        request.cityId(),
+                        request.neighborhoodId(),
+                        request.departmentId(),
+                        request.publicationStatus()
+                ),
+                request.withTotal()
+        );
+    }
 
     @Mappings({
             @Mapping(source = "category", target = "category"),
@@ -35,4 +86,56 @@ public interface PropertyDtoMapper {
     })
     PropertyResponse fromModelToResponse(PropertyModel propertyModel);
 
+    PropertyFacetsResponse fromFacetsModelToResponse(PropertyFacetsModel propertyFacetsModel);
+
+    PropertyClusterResponse fromClusterModelToResponse(PropertyClusterModel propertyClusterModel);
+
+    PropertyCardResponse fromCardModelToResponse(PropertyCardModel propertyCardModel);
+
+    PropertyExportResponse fromExportModelToResponse(PropertyExportModel propertyExportModel);
+
+    /**
+     * La etiqueta es el id más la fecha de modificación en microsegundos, la precisión con que se guarda.
+     */
+    default ResourceVersionResponse fromVersionModelToResponse(PropertyVersionModel versionModel) {
+        Instant updatedAt = versionModel.updatedAt().atZone(ZoneId.systemDefault()).toInstant();
+        long micros = TimeUnit.SECONDS.toMicros(updatedAt.getEpochSecond()) + TimeUnit.NANOSECONDS.toMicros(updatedAt.getNano());
+        return new ResourceVersionResponse("\"" + versionModel.id() + "-" + Long.toHexString(micros) + "\"", updatedAt);
+    }
+
+    default ResourceVersionResponse fromResponseToVersionResponse(PropertyResponse propertyResponse) {
+        return fromVersionModelToResponse(new PropertyVersionModel(propertyResponse.id(), propertyResponse.updatedAt()));
+    }
+
+    /**
+     * La etiqueta de una página del listado resume el id y la fecha de modificación de cada propiedad, en
+     * orden, junto con su paginación. Se calcula sobre la página ya cargada, que normalmente viene de la
+     * caché del listado. No lleva fecha de modificación: una propiedad que sale de la página no la cambia.
+     */
+    default ResourceVersionResponse fromPropertyPageToVersionResponse(PaginatedResponse<PropertyResponse> page) {
+        return pageVersion(page, property -> property.id() + "@" + property.updatedAt());
+    }
+
+    /**
+     * Las tarjetas no traen fecha de modificación, así que la etiqueta resume todos los campos que se envían.
+     */
+    default ResourceVersionResponse fromCardPageToVersionResponse(PaginatedResponse<PropertyCardResponse> page) {
+        return pageVersion(page, PropertyCardResponse::toString);
+    }
+
+    private static <T> ResourceVersionResponse pageVersion(PaginatedResponse<T> page, Function<T, String> itemVersion) {
+        StringBuilder digestSource = new StringBuilder(page.content().size() * 32 + 64);
+        for (T item : page.content()) {
+            digestSource.append(itemVersion.apply(item)).append(';');
+        }
+        digestSource.append(page.currentPage()).append('|')
+                .append(page.pageSize()).append('|')
+                .append(page.totalElements()).append('|')
+                .append(page.totalPages()).append('|')
+                .append(page.nextCursor()).append('|')
+                .append(page.hasNext());
+        String digest = DigestUtils.md5DigestAsHex(digestSource.toString().getBytes(StandardCharsets.UTF_8));
+        return new ResourceVersionResponse("\"" + digest + "\"", null);
+    }
+
 }
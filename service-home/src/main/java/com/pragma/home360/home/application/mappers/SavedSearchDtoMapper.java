@@ -0,0 +1,15 @@
+package com.pragma.home360.home.application.mappers;
+
+import com.pragma.home360.home.application.dto.request.SaveSavedSearchRequest;
+import com.pragma.home360.home.application.dto.response.SavedSearchResponse;
+import com.pragma.home360.home.domain.model.SavedSearchModel;
+import org.mapstruct.Mapper;
+
+@Mapper(
+        componentModel = "spring",
+        unmappedTargetPolicy = org.mapstruct.ReportingPolicy.IGNORE
+)
+public interface SavedSearchDtoMapper {
+    SavedSearchModel toModel(SaveSavedSearchRequest request);
+    SavedSearchResponse toResponse(SavedSearchModel savedSearchModel);
+}
@@ -0,0 +1,16 @@
+package com.pragma.home360.home.application.mappers;
+
+import com.pragma.home360.home.application.dto.response.SuggestionResponse;
+import com.pragma.home360.home.domain.model.SuggestionModel;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(
+        componentModel = "spring",
+        unmappedTargetPolicy = org.mapstruct.ReportingPolicy.IGNORE
+)
+public interface SuggestionDtoMapper {
+    SuggestionResponse toResponse(SuggestionModel suggestionModel);
+    List<SuggestionResponse> toResponseList(List<SuggestionModel> suggestions);
+}
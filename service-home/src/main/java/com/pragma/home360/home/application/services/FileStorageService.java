@@ -1,5 +1,6 @@
 package com.pragma.home360.home.application.services;
 
+import com.pragma.home360.home.application.dto.response.StoredFileResponse;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -8,4 +9,11 @@ public interface FileStorageService {
     String storeFile(MultipartFile file, Long propertyId, String originalFilename) throws IOException;
 
     void deleteFile(String fileUrl) throws IOException;
+
+    /**
+     * Archivo guardado para una propiedad, con los validadores para servirlo.
+     *
+     * @throws com.pragma.home360.home.domain.exceptions.ModelNotFoundException si no existe
+     */
+    StoredFileResponse getStoredFile(Long propertyId, String fileName) throws IOException;
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.pragma.home360.home.application.services;
+
+import com.pragma.home360.home.application.dto.request.PropertyExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface PropertyExportService {
+
+    /**
+     * Escribe todas las propiedades publicadas en el formato indicado a medida que se leen. No cierra el flujo.
+     */
+    void exportPublishedProperties(PropertyExportFormat format, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,19 @@
+package com.pragma.home360.home.application.services;
+
+import com.pragma.home360.home.application.dto.request.SavePropertyRequest;
+import com.pragma.home360.home.application.dto.response.PropertyImportReportResponse;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+public interface PropertyImportService {
+
+    PropertyImportReportResponse importProperties(List<SavePropertyRequest> requests);
+
+    /**
+     * Importa un CSV con el encabezado {@code name,description,numberOfRooms,numberOfBathrooms,price,
+     * activePublicationDate,categoryId,locationId}. Las filas que no se pueden interpretar se rechazan
+     * sin detener la importación.
+     */
+    PropertyImportReportResponse importPropertiesCsv(MultipartFile file);
+}
@@ -2,15 +2,65 @@ package com.pragma.home360.home.application.services;
 
 import com.pragma.home360.home.application.dto.request.SavePropertyRequest;
 import com.pragma.home360.home.application.dto.request.filters.PropertyFilterRequest;
+import com.pragma.home360.home.application.dto.response.NearestPropertyResponse;
 import com.pragma.home360.home.application.dto.response.PaginatedResponse;
+import com.pragma.home360.home.application.dto.response.PropertyBatchResponse;
+import com.pragma.home360.home.application.dto.response.PropertyCardResponse;
+import com.pragma.home360.home.application.dto.response.PropertyClusterResponse;
+import com.pragma.home360.home.application.dto.response.PropertyFacetsResponse;
 import com.pragma.home360.home.application.dto.response.PropertyResponse;
+import com.pragma.home360.home.application.dto.response.ResourceVersionResponse;
+
+import java.util.List;
 
 public interface PropertyService {
 
     PropertyResponse saveProperty(SavePropertyRequest propertyRequest);
 
-    PropertyResponse getPropertyById(Long id);
+    /**
+     * Detalle de la propiedad. Si la copia en caché no corresponde a {@code version}, porque otra réplica la
+     * modificó, se vuelve a leer de la base de datos.
+     *
+     * @param version Validadores leídos de la base de datos, o {@code null} si no se conocen
+     */
+    PropertyResponse getPropertyById(Long id, ResourceVersionResponse version);
+
+    PropertyBatchResponse getPropertiesByIds(List<Long> ids);
+
+    /**
+     * Validadores del detalle de una propiedad, o {@code null} si no existe.
+     */
+    ResourceVersionResponse getPropertyVersion(Long id);
+
+    /**
+     * Validadores del detalle ya cargado, para que la etiqueta corresponda siempre al cuerpo enviado.
+     */
+    ResourceVersionResponse getPropertyVersion(PropertyResponse property);
 
     PaginatedResponse<PropertyResponse> getAllProperties(PropertyFilterRequest propertyFilterRequest);
 
+    /**
+     * Validadores de una página ya cargada del listado, sin consultar la base de datos.
+     */
+    ResourceVersionResponse getPropertyListingVersion(PaginatedResponse<PropertyResponse> page);
+
+    PaginatedResponse<PropertyCardResponse> getPropertyCards(PropertyFilterRequest propertyFilterRequest);
+
+    /**
+     * Validadores de una página ya cargada de tarjetas, sin consultar la base de datos.
+     */
+    ResourceVersionResponse getPropertyCardsVersion(PaginatedResponse<PropertyCardResponse> page);
+
+    PropertyFacetsResponse getPropertyFacets(PropertyFilterRequest propertyFilterRequest);
+
+    PaginatedResponse<PropertyResponse> getPropertiesNear(double latitude, double longitude, double radiusKm,
+                                                          PropertyFilterRequest propertyFilterRequest);
+
+    List<NearestPropertyResponse> getNearestProperties(double latitude, double longitude, int limit);
+
+    List<NearestPropertyResponse> getPropertiesNearestTo(Long propertyId, int limit);
+
+    List<PropertyClusterResponse> getPropertyClusters(double minLatitude, double minLongitude,
+                                                      double maxLatitude, double maxLongitude, int zoom);
+
 }
@@ -0,0 +1,12 @@
+package com.pragma.home360.home.application.services;
+
+import com.pragma.home360.home.application.dto.request.SaveSavedSearchRequest;
+import com.pragma.home360.home.application.dto.response.SavedSearchResponse;
+
+public interface SavedSearchService {
+    SavedSearchResponse save(SaveSavedSearchRequest request);
+
+    SavedSearchResponse getSavedSearchById(Long id);
+
+    void deleteSavedSearch(Long id);
+}
@@ -0,0 +1,9 @@
+package com.pragma.home360.home.application.services;
+
+import com.pragma.home360.home.application.dto.response.SuggestionResponse;
+
+import java.util.List;
+
+public interface SuggestionService {
+    List<SuggestionResponse> suggest(String query, int limit);
+}
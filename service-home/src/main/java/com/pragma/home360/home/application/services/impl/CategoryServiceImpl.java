@@ -34,7 +34,8 @@ public class CategoryServiceImpl implements CategoryService {
                 request.page(),
                 request.size(),
                 request.sortField(),
-                request.direction()
+                request.direction(),
+                request.withTotal()
         ));
 
         List<CategoryResponse> categories = categoryPage.content()
@@ -42,13 +43,7 @@ public class CategoryServiceImpl implements CategoryService {
                 .map(categoryDtoMapper::toResponse)
                 .toList();
 
-        return new PaginatedResponse<>(
-                categories,
-                categoryPage.page(),
-                categoryPage.size(),
-                categoryPage.totalPages(),
-                categoryPage.totalElements()
-        );
+        return PaginatedResponse.of(categories, categoryPage);
     }
 
 }
@@ -38,18 +38,14 @@ public class CityServiceImpl implements CityService {
         int page = paginationRequest.page();
         int size = paginationRequest.size();
 
-        PagedResult<CityModel> cities = cityServicePort.getAllCities(page, size);
-        long totalCount = cityServicePort.getCityCount();
+        PagedResult<CityModel> cities = cityServicePort.getAllCities(page, size, paginationRequest.withTotal());
 
-        return new PaginatedResponse<>(
+        return PaginatedResponse.of(
                 cities.content()
                         .stream()
                         .map(cityDtoMapper::modelToResponse)
                         .toList(),
-                page,
-                size,
-                cities.totalPages(),
-                totalCount
+                cities
         );
 
     }
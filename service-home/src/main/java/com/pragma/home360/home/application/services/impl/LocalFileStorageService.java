@@ -1,6 +1,10 @@
 package com.pragma.home360.home.application.services.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pragma.home360.home.application.dto.response.StoredFileResponse;
 import com.pragma.home360.home.application.services.FileStorageService;
+import com.pragma.home360.home.domain.exceptions.ModelNotFoundException;
 import com.pragma.home360.home.domain.exceptions.ValidationException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -9,19 +13,44 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Objects;
 import java.util.UUID;
 
+import static com.pragma.home360.home.domain.utils.constants.DomainConstants.STORED_FILE_NOT_FOUND;
+
 @Service
 public class LocalFileStorageService implements FileStorageService {
 
+    private static final int STORED_FILE_CACHE_MAX_ENTRIES = 10_000;
+    private static final int CONTENT_HASH_BUFFER_BYTES = 64 * 1024;
+    private static final String CONTENT_HASH_SUFFIX = ".sha256";
+
     private final Path fileStorageLocation;
     private final String baseUrl;
 
+    /**
+     * Validadores ya leídos por archivo. Los nombres son UUID y los archivos no se reescriben, pero
+     * la entrada solo se reutiliza si el tamaño y la fecha de modificación no cambiaron.
+     */
+    private final Cache<Path, StoredFileResponse> storedFiles = Caffeine.newBuilder()
+            .maximumSize(STORED_FILE_CACHE_MAX_ENTRIES)
+            .build();
+
 
     public LocalFileStorageService(@Value("${home360.file.upload-dir:./uploads/property-images}") String uploadDir,
                                    @Value("${home360.file.base-url:/media/properties}") String baseUrl) {
@@ -53,9 +82,16 @@ public class LocalFileStorageService implements FileStorageService {
 
         Path targetLocation = propertyDir.resolve(uniqueFileName);
 
-        try (InputStream inputStream = file.getInputStream()) {
-            Files.copy(inputStream, targetLocation, StandardCopyOption.REPLACE_EXISTING);
+        // El hash se calcula mientras se escribe el archivo, sin volver a leerlo, y queda junto a él para
+        // servirlo como ETag.
+        String eTag;
+        try {
+            eTag = writeHashingContent(file, targetLocation);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(targetLocation);
+            throw e;
         }
+        saveContentETag(targetLocation, eTag);
 
         return baseUrl + "/" + propertyId + "/" + uniqueFileName;
     }
@@ -71,8 +107,115 @@ public class LocalFileStorageService implements FileStorageService {
 
         if (Files.exists(filePath) && filePath.startsWith(this.fileStorageLocation)) {
             Files.delete(filePath);
+            Files.deleteIfExists(contentHashPath(filePath));
+            storedFiles.invalidate(filePath);
         } else {
             System.err.println("File to delete not found or path is invalid: " + filePath);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public StoredFileResponse getStoredFile(Long propertyId, String fileName) throws IOException {
+        Path propertyDir = this.fileStorageLocation.resolve(String.valueOf(propertyId));
+        Path filePath = propertyDir.resolve(fileName).normalize();
+        BasicFileAttributes attributes;
+        try {
+            if (!filePath.getParent().equals(propertyDir) || fileName.contains(CONTENT_HASH_SUFFIX)) {
+                throw new NoSuchFileException(filePath.toString());
+            }
+            attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            throw new ModelNotFoundException(String.format(STORED_FILE_NOT_FOUND, fileName, propertyId));
+        }
+        if (!attributes.isRegularFile()) {
+            throw new ModelNotFoundException(String.format(STORED_FILE_NOT_FOUND, fileName, propertyId));
+        }
+
+        Instant lastModified = attributes.lastModifiedTime().toInstant();
+        StoredFileResponse cached = storedFiles.getIfPresent(filePath);
+        if (cached != null && cached.size() == attributes.size() && cached.lastModified().equals(lastModified)) {
+            return cached;
+        }
+        StoredFileResponse storedFile = new StoredFileResponse(filePath, attributes.size(), lastModified, savedContentETag(filePath));
+        storedFiles.put(filePath, storedFile);
+        return storedFile;
+    }
+
+    /**
+     * ETag guardada junto al archivo al subirlo. Los archivos anteriores a ese cambio no la tienen: se
+     * calcula y se guarda la primera vez que se piden.
+     */
+    private static String savedContentETag(Path filePath) throws IOException {
+        try {
+            return Files.readString(contentHashPath(filePath), StandardCharsets.US_ASCII);
+        } catch (NoSuchFileException e) {
+            return saveContentETag(filePath);
+        }
+    }
+
+    private static String saveContentETag(Path filePath) throws IOException {
+        return saveContentETag(filePath, contentETag(filePath));
+    }
+
+    private static String saveContentETag(Path filePath, String eTag) throws IOException {
+        // Se escribe aparte y se mueve para que una lectura concurrente no vea el archivo a medio escribir.
+        Path temporary = Files.createTempFile(filePath.getParent(), null, CONTENT_HASH_SUFFIX + ".tmp");
+        Files.writeString(temporary, eTag, StandardCharsets.US_ASCII);
+        Files.move(temporary, contentHashPath(filePath), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return eTag;
+    }
+
+    private static Path contentHashPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + CONTENT_HASH_SUFFIX);
+    }
+
+    /**
+     * Copia la parte al destino, que no debe existir, y devuelve la ETag del contenido escrito. Un
+     * {@code FileChannel.transferFrom} desde el stream avanza de a 8 KB; el buffer propio de 64 KB reduce
+     * las llamadas al digest y al canal.
+     */
+    private static String writeHashingContent(MultipartFile file, Path target) throws IOException {
+        MessageDigest digest = contentDigest();
+        byte[] buffer = new byte[CONTENT_HASH_BUFFER_BYTES];
+        try (InputStream input = new DigestInputStream(file.getInputStream(), digest);
+             FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                while (chunk.hasRemaining()) {
+                    channel.write(chunk);
+                }
+            }
+        }
+        return toETag(digest);
+    }
+
+    /**
+     * SHA-256 del contenido leído con un buffer directo, sin copiar el archivo al heap. Solo se usa con los
+     * archivos guardados antes de calcular el hash al subirlos.
+     */
+    private static String contentETag(Path filePath) throws IOException {
+        MessageDigest digest = contentDigest();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CONTENT_HASH_BUFFER_BYTES);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return toETag(digest);
+    }
+
+    private static MessageDigest contentDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toETag(MessageDigest digest) {
+        return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest()) + "\"";
+    }
+}
@@ -72,18 +72,13 @@ public class NeighborhoodServiceImpl implements NeighborhoodService {
                         filter.searchTerm(),
                         filter.active(),
                         filter.startDate(),
-                        filter.endDate()
+                        filter.endDate(),
+                        filter.withTotal()
                 ));
 
         List<NeighborhoodResponse> neighborhoods = neighborhoodDtoMapper.fromModelListToResponseList(neighborhoodPage.content());
 
-        return new PaginatedResponse<>(
-                neighborhoods,
-                neighborhoodPage.page(),
-                neighborhoodPage.size(),
-                neighborhoodPage.totalPages(),
-                neighborhoodPage.totalElements()
-        );
+        return PaginatedResponse.of(neighborhoods, neighborhoodPage);
     }
 
     @Override
@@ -96,18 +91,13 @@ public class NeighborhoodServiceImpl implements NeighborhoodService {
                 filter.searchTerm(),
                 filter.active(),
                 filter.startDate(),
-                filter.endDate()
+                filter.endDate(),
+                filter.withTotal()
         ));
 
         List<NeighborhoodResponse> neighborhoods = neighborhoodDtoMapper.fromModelListToResponseList(neighborhoodPage.content());
 
-        return new PaginatedResponse<>(
-                neighborhoods,
-                neighborhoodPage.page(),
-                neighborhoodPage.size(),
-                neighborhoodPage.totalPages(),
-                neighborhoodPage.totalElements()
-        );
+        return PaginatedResponse.of(neighborhoods, neighborhoodPage);
     }
 
 
@@ -0,0 +1,131 @@
+package com.pragma.home360.home.application.services.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.pragma.home360.home.application.dto.request.PropertyExportFormat;
+import com.pragma.home360.home.application.dto.response.PropertyExportResponse;
+import com.pragma.home360.home.application.mappers.PropertyDtoMapper;
+import com.pragma.home360.home.application.services.PropertyExportService;
+import com.pragma.home360.home.domain.ports.in.PropertyServicePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+@Service
+@RequiredArgsConstructor
+public class PropertyExportServiceImpl implements PropertyExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER = "id,name,description,price,numberOfRooms,numberOfBathrooms,categoryName,"
+            + "address,latitude,longitude,neighborhoodName,cityName,departmentName,activePublicationDate,mainImageUrl";
+
+    private final PropertyServicePort propertyServicePort;
+    private final PropertyDtoMapper propertyDtoMapper;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void exportPublishedProperties(PropertyExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        RowWriter rowWriter = format == PropertyExportFormat.CSV ? csvRowWriter(writer) : ndjsonRowWriter(writer);
+        try {
+            propertyServicePort.exportPublishedProperties(property -> {
+                try {
+                    rowWriter.write(propertyDtoMapper.fromExportModelToResponse(property));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        rowWriter.flush();
+    }
+
+    /**
+     * Un generador para todo el recorrido, sin separador entre valores raíz ni vaciado tras cada fila:
+     * el búfer se vacía cuando se llena.
+     */
+    private RowWriter ndjsonRowWriter(Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        ObjectWriter objectWriter = objectMapper.writerFor(PropertyExportResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return new RowWriter() {
+            @Override
+            public void write(PropertyExportResponse row) throws IOException {
+                objectWriter.writeValue(generator, row);
+                generator.writeRaw('\n');
+            }
+
+            @Override
+            public void flush() throws IOException {
+                generator.flush();
+            }
+        };
+    }
+
+    private static RowWriter csvRowWriter(Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        return new RowWriter() {
+            @Override
+            public void write(PropertyExportResponse row) throws IOException {
+                Object[] values = {row.id(), row.name(), row.description(), row.price(), row.numberOfRooms(),
+                        row.numberOfBathrooms(), row.categoryName(), row.address(), row.latitude(), row.longitude(),
+                        row.neighborhoodName(), row.cityName(), row.departmentName(), row.activePublicationDate(),
+                        row.mainImageUrl()};
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writeCsvValue(writer, values[i]);
+                }
+                writer.write("\r\n");
+            }
+
+            @Override
+            public void flush() throws IOException {
+                writer.flush();
+            }
+        };
+    }
+
+    /**
+     * Los textos se encierran entre comillas solo si contienen separadores, comillas o saltos de línea.
+     */
+    private static void writeCsvValue(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        boolean quote = false;
+        for (int i = 0; i < text.length() && !quote; i++) {
+            char c = text.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private interface RowWriter {
+        void write(PropertyExportResponse row) throws IOException;
+
+        void flush() throws IOException;
+    }
+}
@@ -3,6 +3,8 @@ package com.pragma.home360.home.application.services.impl;
 
 import com.pragma.home360.home.application.dto.request.PropertyImageUploadRequest;
 import com.pragma.home360.home.application.dto.response.PropertyImageResponse;
+import com.pragma.home360.home.application.dto.response.ResourceVersionResponse;
+import com.pragma.home360.home.application.mappers.PropertyDtoMapper;
 import com.pragma.home360.home.application.mappers.PropertyImageDtoMapper;
 import com.pragma.home360.home.application.services.PropertyImageService;
 import com.pragma.home360.home.domain.model.PropertyImageModel;
@@ -20,6 +22,7 @@ public class PropertyImageServiceImpl implements PropertyImageService {
 
     private final PropertyImageServicePort propertyImageServicePort;
     private final PropertyImageDtoMapper propertyImageDtoMapper;
+    private final PropertyDtoMapper propertyDtoMapper;
 
     @Override
     @Transactional
@@ -42,6 +45,14 @@ public class PropertyImageServiceImpl implements PropertyImageService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersionResponse getImagesVersion(Long propertyId) {
+        return propertyImageServicePort.getPropertyImagesVersion(propertyId)
+                .map(propertyDtoMapper::fromVersionModelToResponse)
+                .orElse(null);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PropertyImageResponse getImageById(Long imageId) {
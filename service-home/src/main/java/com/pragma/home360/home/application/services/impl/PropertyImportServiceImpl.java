@@ -0,0 +1,226 @@
+package com.pragma.home360.home.application.services.impl;
+
+import com.pragma.home360.home.application.dto.request.SavePropertyRequest;
+import com.pragma.home360.home.application.dto.response.PropertyImportReportResponse;
+import com.pragma.home360.home.application.dto.response.PropertyImportRowResponse;
+import com.pragma.home360.home.application.mappers.PropertyDtoMapper;
+import com.pragma.home360.home.application.services.PropertyImportService;
+import com.pragma.home360.home.domain.exceptions.ValidationException;
+import com.pragma.home360.home.domain.model.PropertyImportResultModel;
+import com.pragma.home360.home.domain.model.PropertyModel;
+import com.pragma.home360.home.domain.ports.in.PropertyServicePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static com.pragma.home360.home.domain.utils.constants.DomainConstants.*;
+
+@Service
+@RequiredArgsConstructor
+public class PropertyImportServiceImpl implements PropertyImportService {
+
+    static final List<String> CSV_COLUMNS = List.of("name", "description", "numberOfRooms", "numberOfBathrooms",
+            "price", "activePublicationDate", "categoryId", "locationId");
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final PropertyServicePort propertyServicePort;
+    private final PropertyDtoMapper propertyDtoMapper;
+
+    @Override
+    public PropertyImportReportResponse importProperties(List<SavePropertyRequest> requests) {
+        List<ParsedRow> rows = new ArrayList<>(requests != null ? requests.size() : 0);
+        if (requests != null) {
+            for (SavePropertyRequest request : requests) {
+                rows.add(request != null ? ParsedRow.of(propertyDtoMapper.fromRequestToModel(request))
+                        : ParsedRow.invalid(PROPERTY_IMPORT_ROW_EMPTY));
+            }
+        }
+        return importRows(rows);
+    }
+
+    @Override
+    public PropertyImportReportResponse importPropertiesCsv(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new ValidationException(PROPERTY_IMPORT_FILE_EMPTY);
+        }
+        List<List<String>> records;
+        try (Reader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            records = readCsv(reader);
+        } catch (IOException e) {
+            throw new ValidationException(String.format(PROPERTY_IMPORT_FILE_READ_FAILED, e.getMessage()));
+        }
+        if (records.isEmpty() || !CSV_COLUMNS.equals(header(records.get(0)))) {
+            throw new ValidationException(String.format(PROPERTY_IMPORT_CSV_HEADER_INVALID, String.join(",", CSV_COLUMNS)));
+        }
+
+        List<ParsedRow> rows = new ArrayList<>(records.size() - 1);
+        for (List<String> values : records.subList(1, records.size())) {
+            rows.add(parseCsvRow(values));
+        }
+        return importRows(rows);
+    }
+
+    /**
+     * Envía al dominio, en una sola importación, las filas que se pudieron interpretar y mezcla su
+     * resultado con el de las que no, conservando el orden recibido.
+     */
+    private PropertyImportReportResponse importRows(List<ParsedRow> rows) {
+        if (rows.isEmpty()) {
+            throw new ValidationException(PROPERTY_IMPORT_EMPTY);
+        }
+        if (rows.size() > PROPERTY_IMPORT_MAX_ROWS) {
+            throw new ValidationException(PROPERTY_IMPORT_MAX_ROWS_EXCEEDED);
+        }
+        List<PropertyModel> models = rows.stream()
+                .map(ParsedRow::model)
+                .filter(Objects::nonNull)
+                .toList();
+        Iterator<PropertyImportResultModel> domainResults = models.isEmpty()
+                ? Collections.emptyIterator()
+                : propertyServicePort.importProperties(models).results().iterator();
+
+        List<PropertyImportRowResponse> responses = new ArrayList<>(rows.size());
+        int imported = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            ParsedRow row = rows.get(i);
+            PropertyImportResultModel result = row.model() != null
+                    ? domainResults.next()
+                    : PropertyImportResultModel.rejected(row.error());
+            if (result.isImported()) {
+                imported++;
+            }
+            responses.add(new PropertyImportRowResponse(i + 1, result.isImported(), result.propertyId(), result.error()));
+        }
+        return new PropertyImportReportResponse(imported, rows.size() - imported, responses);
+    }
+
+    private ParsedRow parseCsvRow(List<String> values) {
+        if (values.size() != CSV_COLUMNS.size()) {
+            return ParsedRow.invalid(String.format(PROPERTY_IMPORT_CSV_COLUMN_COUNT_INVALID, values.size(), CSV_COLUMNS.size()));
+        }
+        try {
+            SavePropertyRequest request = new SavePropertyRequest(
+                    emptyToNull(values.get(0)),
+                    emptyToNull(values.get(1)),
+                    parse(values, 2, Integer::valueOf),
+                    parse(values, 3, Integer::valueOf),
+                    parse(values, 4, BigDecimal::new),
+                    parse(values, 5, LocalDate::parse),
+                    parse(values, 6, Integer::valueOf),
+                    parse(values, 7, Integer::valueOf));
+            return ParsedRow.of(propertyDtoMapper.fromRequestToModel(request));
+        } catch (ValidationException e) {
+            return ParsedRow.invalid(e.getMessage());
+        }
+    }
+
+    private static <T> T parse(List<String> values, int column, Function<String, T> parser) {
+        String value = emptyToNull(values.get(column));
+        if (value == null) {
+            return null;
+        }
+        try {
+            return parser.apply(value.trim());
+        } catch (RuntimeException e) {
+            throw new ValidationException(String.format(PROPERTY_IMPORT_CSV_VALUE_INVALID, value, CSV_COLUMNS.get(column)));
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static List<String> header(List<String> values) {
+        List<String> header = new ArrayList<>(values.size());
+        for (String value : values) {
+            header.add(value.trim());
+        }
+        if (!header.isEmpty() && !header.get(0).isEmpty() && header.get(0).charAt(0) == BYTE_ORDER_MARK) {
+            header.set(0, header.get(0).substring(1));
+        }
+        return header;
+    }
+
+    /**
+     * Lee registros CSV según RFC 4180, igual que los escribe la exportación: campos entre comillas
+     * dobles con comillas duplicadas y saltos de línea permitidos dentro, y filas terminadas en CRLF o LF.
+     * Las líneas en blanco se omiten.
+     */
+    static List<List<String>> readCsv(Reader reader) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        List<String> record = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStarted = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            char ch = (char) c;
+            if (quoted) {
+                if (ch != '"') {
+                    field.append(ch);
+                    continue;
+                }
+                reader.mark(1);
+                if (reader.read() == '"') {
+                    field.append('"');
+                } else {
+                    reader.reset();
+                    quoted = false;
+                }
+            } else if (ch == '"' && field.isEmpty()) {
+                quoted = true;
+                fieldStarted = true;
+            } else if (ch == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+                fieldStarted = true;
+            } else if (ch == '\n') {
+                endRecord(records, record, field, fieldStarted);
+                record = new ArrayList<>();
+                fieldStarted = false;
+            } else if (ch != '\r') {
+                field.append(ch);
+                fieldStarted = true;
+            }
+        }
+        endRecord(records, record, field, fieldStarted);
+        return records;
+    }
+
+    private static void endRecord(List<List<String>> records, List<String> record, StringBuilder field, boolean fieldStarted) {
+        if (fieldStarted || !record.isEmpty()) {
+            record.add(field.toString());
+            records.add(record);
+        }
+        field.setLength(0);
+    }
+
+    /**
+     * Fila ya interpretada: el modelo a validar en el dominio o el error que impidió construirlo.
+     */
+    private record ParsedRow(PropertyModel model, String error) {
+
+        static ParsedRow of(PropertyModel model) {
+            return new ParsedRow(model, null);
+        }
+
+        static ParsedRow invalid(String error) {
+            return new ParsedRow(null, error);
+        }
+    }
+}
@@ -2,10 +2,20 @@ package com.pragma.home360.home.application.services.impl;
 
 import com.pragma.home360.home.application.dto.request.SavePropertyRequest;
 import com.pragma.home360.home.application.dto.request.filters.PropertyFilterRequest;
+import com.pragma.home360.home.application.dto.response.NearestPropertyResponse;
 import com.pragma.home360.home.application.dto.response.PaginatedResponse;
+import com.pragma.home360.home.application.dto.response.PropertyBatchResponse;
+import com.pragma.home360.home.application.dto.response.PropertyCardResponse;
+import com.pragma.home360.home.application.dto.response.PropertyClusterResponse;
+import com.pragma.home360.home.application.dto.response.PropertyFacetsResponse;
 import com.pragma.home360.home.application.dto.response.PropertyResponse;
+import com.pragma.home360.home.application.dto.response.ResourceVersionResponse;
 import com.pragma.home360.home.application.mappers.PropertyDtoMapper;
 import com.pragma.home360.home.application.services.PropertyService;
+import com.pragma.home360.home.domain.model.GeoRadiusModel;
+import com.pragma.home360.home.domain.model.MapViewportModel;
+import com.pragma.home360.home.domain.model.PropertyBatchModel;
+import com.pragma.home360.home.domain.model.PropertyCardModel;
 import com.pragma.home360.home.domain.model.PropertyFilterModel;
 import com.pragma.home360.home.domain.model.PropertyModel;
 import com.pragma.home360.home.domain.ports.in.PropertyServicePort;
@@ -34,30 +44,117 @@ public class PropertyServiceImpl implements PropertyService {
 
     @Override
     @Transactional(readOnly = true)
-    public PropertyResponse getPropertyById(Long id) {
+    public PropertyResponse getPropertyById(Long id, ResourceVersionResponse version) {
         PropertyModel propertyModel = propertyServicePort.getPropertyById(id);
         if (propertyModel == null) {
             return null;
         }
-        return propertyDtoMapper.fromModelToResponse(propertyModel);
+        PropertyResponse response = propertyDtoMapper.fromModelToResponse(propertyModel);
+        if (version != null && !version.equals(propertyDtoMapper.fromResponseToVersionResponse(response))) {
+            response = propertyDtoMapper.fromModelToResponse(propertyServicePort.reloadPropertyById(id));
+        }
+        return response;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PropertyBatchResponse getPropertiesByIds(List<Long> ids) {
+        PropertyBatchModel batch = propertyServicePort.getPropertiesByIds(ids);
+        return new PropertyBatchResponse(
+                batch.properties().stream().map(propertyDtoMapper::fromModelToResponse).toList(),
+                batch.missingIds());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersionResponse getPropertyVersion(Long id) {
+        return propertyServicePort.getPropertyVersion(id)
+                .map(propertyDtoMapper::fromVersionModelToResponse)
+                .orElse(null);
+    }
+
+    @Override
+    public ResourceVersionResponse getPropertyVersion(PropertyResponse property) {
+        return propertyDtoMapper.fromResponseToVersionResponse(property);
     }
 
     @Override
     @Transactional(readOnly = true)
     public PaginatedResponse<PropertyResponse> getAllProperties(PropertyFilterRequest propertyFilterRequest) {
-        PropertyFilterModel propertyFilterModel = propertyDtoMapper.fromFilterRequestToModel(propertyFilterRequest);
+        return listProperties(propertyDtoMapper.fromFilterRequestToModel(propertyFilterRequest));
+    }
+
+    @Override
+    public ResourceVersionResponse getPropertyListingVersion(PaginatedResponse<PropertyResponse> page) {
+        return propertyDtoMapper.fromPropertyPageToVersionResponse(page);
+    }
+
+    @Override
+    public ResourceVersionResponse getPropertyCardsVersion(PaginatedResponse<PropertyCardResponse> page) {
+        return propertyDtoMapper.fromCardPageToVersionResponse(page);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginatedResponse<PropertyCardResponse> getPropertyCards(PropertyFilterRequest propertyFilterRequest) {
+        PagedResult<PropertyCardModel> pagedResultModel = propertyServicePort.getPropertyCards(
+                propertyDtoMapper.fromFilterRequestToModel(propertyFilterRequest));
+
+        List<PropertyCardResponse> cardResponses = pagedResultModel.content().stream()
+                .map(propertyDtoMapper::fromCardModelToResponse)
+                .toList();
+
+        return PaginatedResponse.of(cardResponses, pagedResultModel);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginatedResponse<PropertyResponse> getPropertiesNear(double latitude, double longitude, double radiusKm,
+                                                                 PropertyFilterRequest propertyFilterRequest) {
+        PropertyFilterModel propertyFilterModel = propertyDtoMapper.fromFilterRequestToModel(propertyFilterRequest)
+                .withNear(new GeoRadiusModel(latitude, longitude, radiusKm));
+        return listProperties(propertyFilterModel);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<NearestPropertyResponse> getNearestProperties(double latitude, double longitude, int limit) {
+        return propertyServicePort.getNearestProperties(latitude, longitude, limit).stream()
+                .map(propertyDtoMapper::fromNearestModelToResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<NearestPropertyResponse> getPropertiesNearestTo(Long propertyId, int limit) {
+        return propertyServicePort.getPropertiesNearestTo(propertyId, limit).stream()
+                .map(propertyDtoMapper::fromNearestModelToResponse)
+                .toList();
+    }
+
+    @Override
+    public List<PropertyClusterResponse> getPropertyClusters(double minLatitude, double minLongitude,
+                                                             double maxLatitude, double maxLongitude, int zoom) {
+        MapViewportModel viewport = new MapViewportModel(minLatitude, minLongitude, maxLatitude, maxLongitude, zoom);
+        return propertyServicePort.getPropertyClusters(viewport).stream()
+                .map(propertyDtoMapper::fromClusterModelToResponse)
+                .toList();
+    }
+
+    private PaginatedResponse<PropertyResponse> listProperties(PropertyFilterModel propertyFilterModel) {
         PagedResult<PropertyModel> pagedResultModel = propertyServicePort.getAllProperties(propertyFilterModel);
 
         List<PropertyResponse> propertyResponses = pagedResultModel.content().stream()
                 .map(propertyDtoMapper::fromModelToResponse)
                 .collect(Collectors.toList());
 
-        return new PaginatedResponse<>(
-                propertyResponses,
-                pagedResultModel.page(),
-                pagedResultModel.size(),
-                pagedResultModel.totalPages(),
-                pagedResultModel.totalElements()
-        );
+        return PaginatedResponse.of(propertyResponses, pagedResultModel);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PropertyFacetsResponse getPropertyFacets(PropertyFilterRequest propertyFilterRequest) {
+        PropertyFilterModel propertyFilterModel = propertyDtoMapper.fromFilterRequestToModel(propertyFilterRequest);
+        return propertyDtoMapper.fromFacetsModelToResponse(propertyServicePort.getPropertyFacets(propertyFilterModel));
     }
 }
@@ -0,0 +1,31 @@
+package com.pragma.home360.home.application.services.impl;
+
+import com.pragma.home360.home.application.dto.request.SaveSavedSearchRequest;
+import com.pragma.home360.home.application.dto.response.SavedSearchResponse;
+import com.pragma.home360.home.application.mappers.SavedSearchDtoMapper;
+import com.pragma.home360.home.application.services.SavedSearchService;
+import com.pragma.home360.home.domain.ports.in.SavedSearchServicePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class SavedSearchServiceImpl implements SavedSearchService {
+    private final SavedSearchServicePort savedSearchServicePort;
+    private final SavedSearchDtoMapper savedSearchDtoMapper;
+
+    @Override
+    public SavedSearchResponse save(SaveSavedSearchRequest request) {
+        return savedSearchDtoMapper.toResponse(savedSearchServicePort.saveSavedSearch(savedSearchDtoMapper.toModel(request)));
+    }
+
+    @Override
+    public SavedSearchResponse getSavedSearchById(Long id) {
+        return savedSearchDtoMapper.toResponse(savedSearchServicePort.getSavedSearchById(id));
+    }
+
+    @Override
+    public void deleteSavedSearch(Long id) {
+        savedSearchServicePort.deleteSavedSearch(id);
+    }
+}
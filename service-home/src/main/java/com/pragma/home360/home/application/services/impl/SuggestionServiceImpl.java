@@ -0,0 +1,22 @@
+package com.pragma.home360.home.application.services.impl;
+
+import com.pragma.home360.home.application.dto.response.SuggestionResponse;
+import com.pragma.home360.home.application.mappers.SuggestionDtoMapper;
+import com.pragma.home360.home.application.services.SuggestionService;
+import com.pragma.home360.home.domain.ports.in.SuggestionServicePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SuggestionServiceImpl implements SuggestionService {
+    private final SuggestionServicePort suggestionServicePort;
+    private final SuggestionDtoMapper suggestionDtoMapper;
+
+    @Override
+    public List<SuggestionResponse> suggest(String query, int limit) {
+        return suggestionDtoMapper.toResponseList(suggestionServicePort.suggest(query, limit));
+    }
+}
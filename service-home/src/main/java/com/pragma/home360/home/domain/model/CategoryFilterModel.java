@@ -6,7 +6,8 @@ public record CategoryFilterModel(
         Integer page,
         Integer size,
         String sortField,
-        Sort.Direction direction
+        Sort.Direction direction,
+        boolean withTotal
 ) {
 
     public CategoryFilterModel {
@@ -16,6 +17,10 @@ public record CategoryFilterModel(
         if (direction == null) direction = Sort.Direction.ASC;
     }
 
+    public CategoryFilterModel(Integer page, Integer size, String sortField, Sort.Direction direction) {
+        this(page, size, sortField, direction, true);
+    }
+
     public CategoryFilterModel() {
         this(0, 10, "id", Sort.Direction.ASC);
     }
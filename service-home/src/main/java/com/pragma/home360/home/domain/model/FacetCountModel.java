@@ -0,0 +1,8 @@
+package com.pragma.home360.home.domain.model;
+
+public record FacetCountModel(
+        Long id,
+        String name,
+        long count
+) {
+}
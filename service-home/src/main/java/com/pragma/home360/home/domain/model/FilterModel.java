@@ -12,7 +12,8 @@ public record FilterModel(
         String searchTerm,
         Boolean active,
         LocalDate startDate,
-        LocalDate endDate
+        LocalDate endDate,
+        boolean withTotal
 ) {
 
     public FilterModel {
@@ -22,6 +23,11 @@ public record FilterModel(
         if (direction == null) direction = Sort.Direction.ASC;
     }
 
+    public FilterModel(Integer page, Integer size, String sortField, Sort.Direction direction,
+                       String searchTerm, Boolean active, LocalDate startDate, LocalDate endDate) {
+        this(page, size, sortField, direction, searchTerm, active, startDate, endDate, true);
+    }
+
     public FilterModel() {
         this(0, 10, "id", Sort.Direction.ASC, null, null, null, null);
     }
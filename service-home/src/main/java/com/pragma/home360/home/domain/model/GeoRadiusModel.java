@@ -0,0 +1,11 @@
+package com.pragma.home360.home.domain.model;
+
+/**
+ * Círculo de búsqueda geográfica: centro en grados decimales y radio en kilómetros.
+ */
+public record GeoRadiusModel(
+        double latitude,
+        double longitude,
+        double radiusKm
+) {
+}
@@ -0,0 +1,14 @@
+package com.pragma.home360.home.domain.model;
+
+/**
+ * Área visible del mapa en grados decimales y su nivel de zoom. Si {@code minLongitude} es mayor
+ * que {@code maxLongitude}, el área cruza el antimeridiano.
+ */
+public record MapViewportModel(
+        double minLatitude,
+        double minLongitude,
+        double maxLatitude,
+        double maxLongitude,
+        int zoom
+) {
+}
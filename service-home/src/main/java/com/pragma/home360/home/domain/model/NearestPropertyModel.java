@@ -0,0 +1,10 @@
+package com.pragma.home360.home.domain.model;
+
+/**
+ * Propiedad devuelta por una consulta de vecinos más cercanos junto con su distancia al punto consultado.
+ */
+public record NearestPropertyModel(
+        PropertyModel property,
+        double distanceKm
+) {
+}
@@ -0,0 +1,13 @@
+package com.pragma.home360.home.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Cantidad de propiedades con precio en {@code [minPrice, maxPrice)}. Un extremo nulo indica un rango abierto.
+ */
+public record PriceRangeFacetModel(
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        long count
+) {
+}
@@ -0,0 +1,12 @@
+package com.pragma.home360.home.domain.model;
+
+import java.util.List;
+
+/**
+ * Propiedades encontradas en el orden en que se pidieron y los ids que no existen.
+ */
+public record PropertyBatchModel(
+        List<PropertyModel> properties,
+        List<Long> missingIds
+) {
+}
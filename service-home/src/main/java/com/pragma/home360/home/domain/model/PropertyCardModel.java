@@ -0,0 +1,20 @@
+package com.pragma.home360.home.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Vista reducida de una propiedad para las tarjetas del listado: sin descripción, categoría ni galería,
+ * solo su imagen principal y cuántas imágenes tiene.
+ */
+public record PropertyCardModel(
+        Long id,
+        String name,
+        BigDecimal price,
+        Integer numberOfRooms,
+        Integer numberOfBathrooms,
+        String cityName,
+        String neighborhoodName,
+        String mainImageUrl,
+        Integer imageCount
+) {
+}
@@ -0,0 +1,15 @@
+package com.pragma.home360.home.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Agrupación de las propiedades publicadas de una celda del mapa: cantidad, centroide y rango de precios.
+ */
+public record PropertyClusterModel(
+        long count,
+        double latitude,
+        double longitude,
+        BigDecimal minPrice,
+        BigDecimal maxPrice
+) {
+}
@@ -0,0 +1,45 @@
+package com.pragma.home360.home.domain.model;
+
+import com.pragma.home360.home.infrastructure.entities.enums.PropertyPublicationStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * Filtros estructurados del listado de propiedades. Los valores nulos no filtran; {@code near}
+ * restringe a las propiedades cuya ubicación cae dentro del radio indicado.
+ */
+public record PropertyCriteriaModel(
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        Integer minRooms,
+        Integer minBathrooms,
+        Long categoryId,
+        Long cityId,
+        Long neighborhoodId,
+        Long departmentId,
+        PropertyPublicationStatus publicationStatus,
+        GeoRadiusModel near
+) {
+
+    private static final PropertyCriteriaModel EMPTY = new PropertyCriteriaModel(null, null, null, null, null, null, null, null, null, null);
+
+    public PropertyCriteriaModel(BigDecimal minPrice, BigDecimal maxPrice, Integer minRooms, Integer minBathrooms,
+                                 Long categoryId, Long cityId, Long neighborhoodId, Long departmentId,
+                                 PropertyPublicationStatus publicationStatus) {
+        this(minPrice, maxPrice, minRooms, minBathrooms, categoryId, cityId, neighborhoodId, departmentId,
+                publicationStatus, null);
+    }
+
+    public static PropertyCriteriaModel empty() {
+        return EMPTY;
+    }
+
+    public boolean isEmpty() {
+        return EMPTY.equals(this);
+    }
+
+    public PropertyCriteriaModel withNear(GeoRadiusModel newNear) {
+        return new PropertyCriteriaModel(minPrice, maxPrice, minRooms, minBathrooms, categoryId, cityId,
+                neighborhoodId, departmentId, publicationStatus, newNear);
+    }
+}
@@ -0,0 +1,26 @@
+package com.pragma.home360.home.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Fila plana del catálogo exportado: la propiedad con los nombres de sus catálogos y su imagen principal.
+ */
+public record PropertyExportModel(
+        Long id,
+        String name,
+        String description,
+        BigDecimal price,
+        Integer numberOfRooms,
+        Integer numberOfBathrooms,
+        String categoryName,
+        String address,
+        Double latitude,
+        Double longitude,
+        String neighborhoodName,
+        String cityName,
+        String departmentName,
+        LocalDate activePublicationDate,
+        String mainImageUrl
+) {
+}
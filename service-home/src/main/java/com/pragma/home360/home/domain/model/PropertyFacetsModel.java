@@ -0,0 +1,11 @@
+package com.pragma.home360.home.domain.model;
+
+import java.util.List;
+
+public record PropertyFacetsModel(
+        long total,
+        List<FacetCountModel> categories,
+        List<FacetCountModel> cities,
+        List<PriceRangeFacetModel> priceRanges
+) {
+}
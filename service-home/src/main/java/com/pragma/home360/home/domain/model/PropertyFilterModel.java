@@ -7,6 +7,40 @@ public record PropertyFilterModel(
         Integer size,
         String sortField,
         String direction,
-        String searchTerm
+        String searchTerm,
+        String cursor,
+        PropertyCriteriaModel criteria,
+        boolean withTotal
 ) {
+
+    public PropertyFilterModel {
+        if (criteria == null) {
+            criteria = PropertyCriteriaModel.empty();
+        }
+    }
+
+    public PropertyFilterModel(Integer page, Integer size, String sortField, String direction, String searchTerm,
+                               String cursor, PropertyCriteriaModel criteria) {
+        this(page, size, sortField, direction, searchTerm, cursor, criteria, true);
+    }
+
+    public PropertyFilterModel(Integer page, Integer size, String sortField, String direction, String searchTerm, String cursor) {
+        this(page, size, sortField, direction, searchTerm, cursor, PropertyCriteriaModel.empty());
+    }
+
+    public PropertyFilterModel(Integer page, Integer size, String sortField, String direction, String searchTerm) {
+        this(page, size, sortField, direction, searchTerm, null);
+    }
+
+    public boolean isCursorMode() {
+        return cursor != null && !cursor.isBlank();
+    }
+
+    public PropertyFilterModel withSearchTerm(String newSearchTerm) {
+        return new PropertyFilterModel(page, size, sortField, direction, newSearchTerm, cursor, criteria, withTotal);
+    }
+
+    public PropertyFilterModel withNear(GeoRadiusModel near) {
+        return new PropertyFilterModel(page, size, sortField, direction, searchTerm, cursor, criteria.withNear(near), withTotal);
+    }
 }
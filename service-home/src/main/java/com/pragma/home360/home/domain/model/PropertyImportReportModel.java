@@ -0,0 +1,13 @@
+package com.pragma.home360.home.domain.model;
+
+import java.util.List;
+
+/**
+ * Reporte de una importación masiva. {@code results} tiene una entrada por fila recibida, en el mismo orden.
+ */
+public record PropertyImportReportModel(
+        int imported,
+        int rejected,
+        List<PropertyImportResultModel> results
+) {
+}
@@ -0,0 +1,22 @@
+package com.pragma.home360.home.domain.model;
+
+/**
+ * Resultado de una fila de la importación: el id asignado si se importó o el motivo del rechazo.
+ */
+public record PropertyImportResultModel(
+        Long propertyId,
+        String error
+) {
+
+    public static PropertyImportResultModel imported(Long propertyId) {
+        return new PropertyImportResultModel(propertyId, null);
+    }
+
+    public static PropertyImportResultModel rejected(String error) {
+        return new PropertyImportResultModel(null, error);
+    }
+
+    public boolean isImported() {
+        return error == null;
+    }
+}
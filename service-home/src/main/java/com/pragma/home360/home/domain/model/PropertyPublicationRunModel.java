@@ -0,0 +1,11 @@
+package com.pragma.home360.home.domain.model;
+
+/**
+ * Resultado de una ejecución de la publicación de propiedades pendientes: cuántas se publicaron y en
+ * cuántos bloques.
+ */
+public record PropertyPublicationRunModel(
+        int published,
+        int chunks
+) {
+}
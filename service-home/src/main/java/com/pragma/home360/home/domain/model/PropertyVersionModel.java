@@ -0,0 +1,14 @@
+package com.pragma.home360.home.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Versión de una propiedad para las peticiones condicionales. {@code updatedAt} cambia con cada
+ * edición de la propiedad y con cada alta, baja o cambio de imagen principal; los cambios de nombre
+ * de su categoría o ubicación no la modifican.
+ */
+public record PropertyVersionModel(
+        Long id,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,25 @@
+package com.pragma.home360.home.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Búsqueda guardada por un comprador para recibir alertas de propiedades nuevas. Los criterios nulos
+ * no filtran; la ubicación se restringe por el más específico de barrio, ciudad o departamento.
+ */
+public record SavedSearchModel(
+        Long id,
+        String email,
+        String name,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        Integer minRooms,
+        Integer maxRooms,
+        Integer minBathrooms,
+        Long categoryId,
+        Long departmentId,
+        Long cityId,
+        Long neighborhoodId,
+        LocalDateTime createdAt
+) {
+}
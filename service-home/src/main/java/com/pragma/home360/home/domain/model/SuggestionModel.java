@@ -0,0 +1,13 @@
+package com.pragma.home360.home.domain.model;
+
+/**
+ * Sugerencia de autocompletado: la entidad encontrada, su nombre original y su popularidad, que para
+ * los catálogos es la cantidad de propiedades publicadas que los referencian.
+ */
+public record SuggestionModel(
+        SuggestionType type,
+        Long id,
+        String text,
+        long popularity
+) {
+}
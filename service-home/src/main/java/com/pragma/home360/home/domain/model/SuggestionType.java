@@ -0,0 +1,12 @@
+package com.pragma.home360.home.domain.model;
+
+/**
+ * Tipo de entidad a la que apunta una sugerencia del buscador.
+ */
+public enum SuggestionType {
+    PROPERTY,
+    NEIGHBORHOOD,
+    CITY,
+    DEPARTMENT,
+    CATEGORY
+}
@@ -11,6 +11,8 @@ public interface CityServicePort {
 
     PagedResult<CityModel> getAllCities(int page, int size);
 
+    PagedResult<CityModel> getAllCities(int page, int size, boolean withTotal);
+
     CityModel getCityById(Long id);
 
     long getCityCount();
@@ -1,15 +1,22 @@
 package com.pragma.home360.home.domain.ports.in;
 
 import com.pragma.home360.home.domain.model.PropertyImageModel;
+import com.pragma.home360.home.domain.model.PropertyVersionModel;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface PropertyImageServicePort {
     PropertyImageModel savePropertyImage(Long propertyId, MultipartFile imageFile, String description, boolean isMainImage);
 
     List<PropertyImageModel> getPropertyImages(Long propertyId);
 
+    /**
+     * Versión de la propiedad, que cambia con cada modificación de sus imágenes.
+     */
+    Optional<PropertyVersionModel> getPropertyImagesVersion(Long propertyId);
+
     PropertyImageModel getPropertyImageById(Long imageId);
 
     void deletePropertyImage(Long imageId);
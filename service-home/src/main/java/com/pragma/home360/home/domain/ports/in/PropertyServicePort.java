@@ -1,22 +1,65 @@
 package com.pragma.home360.home.domain.ports.in;
 
+import com.pragma.home360.home.domain.model.MapViewportModel;
+import com.pragma.home360.home.domain.model.NearestPropertyModel;
+import com.pragma.home360.home.domain.model.PropertyBatchModel;
+import com.pragma.home360.home.domain.model.PropertyCardModel;
+import com.pragma.home360.home.domain.model.PropertyExportModel;
+import com.pragma.home360.home.domain.model.PropertyClusterModel;
+import com.pragma.home360.home.domain.model.PropertyFacetsModel;
 import com.pragma.home360.home.domain.model.PropertyFilterModel;
+import com.pragma.home360.home.domain.model.PropertyImportReportModel;
 import com.pragma.home360.home.domain.model.PropertyModel;
+import com.pragma.home360.home.domain.model.PropertyPublicationRunModel;
+import com.pragma.home360.home.domain.model.PropertyVersionModel;
 import com.pragma.home360.home.domain.utils.pagination.PagedResult;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
 public interface PropertyServicePort {
 
     PropertyModel saveProperty(PropertyModel propertyModel);
 
+    PropertyImportReportModel importProperties(List<PropertyModel> propertyModels);
+
     PropertyModel getPropertyById(Long id);
 
+    /**
+     * Detalle leído de la base de datos, sin la copia en caché que pueda tener esta réplica.
+     */
+    PropertyModel reloadPropertyById(Long id);
+
+    PropertyBatchModel getPropertiesByIds(List<Long> ids);
+
+    Optional<PropertyVersionModel> getPropertyVersion(Long id);
+
     PagedResult<PropertyModel> getAllProperties(PropertyFilterModel propertyFilterModel);
 
+    PagedResult<PropertyCardModel> getPropertyCards(PropertyFilterModel propertyFilterModel);
+
+    PropertyFacetsModel getPropertyFacets(PropertyFilterModel propertyFilterModel);
+
+    List<NearestPropertyModel> getNearestProperties(double latitude, double longitude, int limit);
+
+    List<NearestPropertyModel> getPropertiesNearestTo(Long propertyId, int limit);
+
+    List<PropertyClusterModel> getPropertyClusters(MapViewportModel viewport);
+
+    void exportPublishedProperties(Consumer<PropertyExportModel> consumer);
+
     void updateProperty(Long id, PropertyModel propertyModel);
 
     void deleteProperty(Long id);
 
     boolean existsPropertyById(Long id);
 
-    void processPendingPropertiesToPublish();
+    PropertyPublicationRunModel processPendingPropertiesToPublish();
+
+    /**
+     * Fecha de publicación activa más próxima entre las propiedades pendientes, vacía si no hay ninguna.
+     */
+    Optional<LocalDate> getNextPendingPublicationDate();
 }
@@ -0,0 +1,11 @@
+package com.pragma.home360.home.domain.ports.in;
+
+import com.pragma.home360.home.domain.model.SavedSearchModel;
+
+public interface SavedSearchServicePort {
+    SavedSearchModel saveSavedSearch(SavedSearchModel savedSearchModel);
+
+    SavedSearchModel getSavedSearchById(Long id);
+
+    void deleteSavedSearch(Long id);
+}
@@ -0,0 +1,9 @@
+package com.pragma.home360.home.domain.ports.in;
+
+import com.pragma.home360.home.domain.model.SuggestionModel;
+
+import java.util.List;
+
+public interface SuggestionServicePort {
+    List<SuggestionModel> suggest(String query, int limit);
+}
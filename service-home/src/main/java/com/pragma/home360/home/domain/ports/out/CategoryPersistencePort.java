@@ -4,7 +4,9 @@ import com.pragma.home360.home.domain.model.CategoryFilterModel;
 import com.pragma.home360.home.domain.model.CategoryModel;
 import com.pragma.home360.home.domain.utils.pagination.PagedResult;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 public interface CategoryPersistencePort {
     CategoryModel save(CategoryModel categoryModel);
@@ -14,4 +16,9 @@ public interface CategoryPersistencePort {
     PagedResult<CategoryModel> getCategories(CategoryFilterModel categoryFilterModel);
 
     Optional<CategoryModel> getCategoryById(Long id);
+
+    /**
+     * Resuelve en una sola consulta cuáles de los ids recibidos corresponden a categorías existentes.
+     */
+    Set<Long> getExistingCategoryIds(Collection<Long> ids);
 }
@@ -17,6 +17,8 @@ public interface CityPersistencePort {
 
     PagedResult<CityModel> getAllCities(int page, int size);
 
+    PagedResult<CityModel> getAllCities(int page, int size, boolean withTotal);
+
     long getCityCount();
 
     boolean existsCityByName(String name);
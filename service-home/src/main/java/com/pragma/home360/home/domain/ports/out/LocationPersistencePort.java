@@ -3,13 +3,20 @@ package com.pragma.home360.home.domain.ports.out;
 import com.pragma.home360.home.domain.model.LocationModel;
 import com.pragma.home360.home.domain.utils.pagination.PagedResult;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 public interface LocationPersistencePort {
     LocationModel saveLocation(LocationModel location);
 
     Optional<LocationModel> getLocationById(Long id);
 
+    /**
+     * Resuelve en una sola consulta cuáles de los ids recibidos corresponden a ubicaciones existentes.
+     */
+    Set<Long> getExistingLocationIds(Collection<Long> ids);
+
     PagedResult<LocationModel> searchLocations(String normalizedText, int page, int size, String sortBy, String sortDirection);
 
 }
\ No newline at end of file
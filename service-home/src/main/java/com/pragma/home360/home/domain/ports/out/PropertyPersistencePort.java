@@ -1,22 +1,58 @@
 package com.pragma.home360.home.domain.ports.out;
 
+import com.pragma.home360.home.domain.model.MapViewportModel;
+import com.pragma.home360.home.domain.model.NearestPropertyModel;
+import com.pragma.home360.home.domain.model.PropertyCardModel;
+import com.pragma.home360.home.domain.model.PropertyExportModel;
+import com.pragma.home360.home.domain.model.PropertyClusterModel;
+import com.pragma.home360.home.domain.model.PropertyFacetsModel;
 import com.pragma.home360.home.domain.model.PropertyFilterModel;
 import com.pragma.home360.home.domain.model.PropertyModel;
+import com.pragma.home360.home.domain.model.PropertyVersionModel;
 import com.pragma.home360.home.domain.utils.pagination.PagedResult;
-import com.pragma.home360.home.infrastructure.entities.enums.PropertyPublicationStatus;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface PropertyPersistencePort {
 
     PropertyModel saveProperty(PropertyModel propertyModel);
 
+    /**
+     * Inserta las propiedades en lotes. Sus categorías y ubicaciones ya fueron validadas.
+     *
+     * @return Ids asignados, en el mismo orden de las propiedades recibidas
+     */
+    List<Long> saveProperties(List<PropertyModel> propertyModels);
+
     Optional<PropertyModel> getPropertyById(Long id); // Cambiado para devolver Optional
 
+    /**
+     * Vuelve a leer el detalle de la base de datos aunque haya una copia en caché, y la reemplaza.
+     */
+    Optional<PropertyModel> reloadPropertyById(Long id);
+
+    /**
+     * Carga en una sola consulta las propiedades existentes entre los ids indicados, con sus relaciones.
+     * El orden del resultado no está definido y los ids inexistentes se omiten.
+     */
+    List<PropertyModel> getPropertiesByIds(Collection<Long> ids);
+
+    Optional<PropertyVersionModel> getPropertyVersion(Long id);
+
     PagedResult<PropertyModel> getAllProperties(PropertyFilterModel propertyFilterModel);
 
+    PagedResult<PropertyCardModel> getPropertyCards(PropertyFilterModel propertyFilterModel);
+
+    PropertyFacetsModel getPropertyFacets(PropertyFilterModel propertyFilterModel);
+
+    List<NearestPropertyModel> getNearestProperties(double latitude, double longitude, int limit, Long excludedPropertyId);
+
+    List<PropertyClusterModel> getPropertyClusters(MapViewportModel viewport);
+
 
     void updateProperty(Long id, PropertyModel propertyModel);
 
@@ -27,8 +63,20 @@ public interface PropertyPersistencePort {
     boolean existsPropertyByName(String name);
 
 
-    List<PropertyModel> findByPublicationStatusAndActiveDateLessThanEqual(PropertyPublicationStatus status, LocalDate date);
+    /**
+     * Publica, en una transacción propia, hasta {@code limit} propiedades pendientes cuya fecha de
+     * publicación activa es igual o anterior a {@code date}.
+     *
+     * @return Ids de las propiedades publicadas; menos de {@code limit} si ya no quedan pendientes
+     */
+    List<Long> publishPendingProperties(LocalDate date, int limit);
+
+    Optional<LocalDate> findNextPendingPublicationDate();
 
-    void updateProperties(List<PropertyModel> propertyModels);
+    /**
+     * Entrega una por una todas las propiedades publicadas, ordenadas por id, sin cargarlas todas en memoria.
+     * El consumidor se invoca mientras la lectura sigue abierta.
+     */
+    void forEachPublishedProperty(Consumer<PropertyExportModel> consumer);
 
 }
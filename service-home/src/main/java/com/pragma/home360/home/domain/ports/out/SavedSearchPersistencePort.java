@@ -0,0 +1,13 @@
+package com.pragma.home360.home.domain.ports.out;
+
+import com.pragma.home360.home.domain.model.SavedSearchModel;
+
+import java.util.Optional;
+
+public interface SavedSearchPersistencePort {
+    SavedSearchModel saveSavedSearch(SavedSearchModel savedSearchModel);
+
+    Optional<SavedSearchModel> getSavedSearchById(Long id);
+
+    void deleteSavedSearch(Long id);
+}
@@ -0,0 +1,13 @@
+package com.pragma.home360.home.domain.ports.out;
+
+import com.pragma.home360.home.domain.model.SuggestionModel;
+
+import java.util.List;
+
+public interface SuggestionIndexPort {
+    /**
+     * @param normalizedPrefix Prefijo ya normalizado con {@code TextNormalizer}
+     * @return Hasta {@code limit} sugerencias ordenadas de mayor a menor popularidad
+     */
+    List<SuggestionModel> suggest(String normalizedPrefix, int limit);
+}
@@ -68,6 +68,12 @@ public class CityUseCase implements CityServicePort {
         return cityPersistencePort.getAllCities(page, size);
     }
 
+    @Override
+    public PagedResult<CityModel> getAllCities(int page, int size, boolean withTotal) {
+        DepartmentUseCase.validateFilters(page, size);
+        return cityPersistencePort.getAllCities(page, size, withTotal);
+    }
+
     @Override
     public long getCityCount() {
         return cityPersistencePort.getCityCount();
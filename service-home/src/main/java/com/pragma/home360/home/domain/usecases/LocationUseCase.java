@@ -6,8 +6,8 @@ import com.pragma.home360.home.domain.ports.out.CityPersistencePort;
 import com.pragma.home360.home.domain.ports.out.LocationPersistencePort;
 import com.pragma.home360.home.domain.ports.out.NeighborhoodPersistencePort;
 import com.pragma.home360.home.domain.utils.pagination.PagedResult;
+import com.pragma.home360.home.domain.utils.text.TextNormalizer;
 
-import java.text.Normalizer;
 import java.util.Optional;
 
 import static com.pragma.home360.home.domain.utils.constants.DomainConstants.*;
@@ -55,7 +55,7 @@ public class LocationUseCase implements LocationServicePort {
 
     @Override
     public PagedResult<LocationModel> searchLocations(String searchText, int page, int size, String sortBy, String sortDirection) {
-        String normalizedText = searchText != null ? normalizeText(searchText) : "";
+        String normalizedText = searchText != null ? TextNormalizer.normalize(searchText) : "";
 
         validateCustom(p -> p >= INITIAL_PAGE, page, PAGINATION_PAGE_NEGATIVE, RuntimeException.class.getName());
         validateCustom(s -> s >= MIN_PAGE_SIZE && s <= MAX_PAGE_SIZE, size, PAGINATION_SIZE_BETWEEN, null);
@@ -84,12 +84,4 @@ public class LocationUseCase implements LocationServicePort {
     public Optional<LocationModel> getLocationById(Long id) {
         return locationPersistencePort.getLocationById(id);
     }
-
-    private String normalizeText(String text) {
-        if (text == null || text.isEmpty()) {
-            return "";
-        }
-        return Normalizer.normalize(text.toLowerCase(), Normalizer.Form.NFD)
-                .replaceAll("\\p{InCombiningDiacriticalMarks}", "");
-    }
 }
\ No newline at end of file
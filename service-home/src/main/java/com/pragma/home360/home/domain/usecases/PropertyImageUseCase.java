@@ -4,6 +4,7 @@ import com.pragma.home360.home.application.services.FileStorageService;
 import com.pragma.home360.home.domain.exceptions.ModelNotFoundException;
 import com.pragma.home360.home.domain.exceptions.ValidationException;
 import com.pragma.home360.home.domain.model.PropertyImageModel;
+import com.pragma.home360.home.domain.model.PropertyVersionModel;
 import com.pragma.home360.home.domain.ports.in.PropertyImageServicePort;
 import com.pragma.home360.home.domain.ports.out.PropertyImagePersistencePort;
 import com.pragma.home360.home.domain.ports.out.PropertyPersistencePort;
@@ -13,6 +14,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 import static com.pragma.home360.home.domain.utils.constants.DomainConstants.*;
 
@@ -68,6 +70,11 @@ public class PropertyImageUseCase implements PropertyImageServicePort {
         return propertyImagePersistencePort.findAllByPropertyId(propertyId);
     }
 
+    @Override
+    public Optional<PropertyVersionModel> getPropertyImagesVersion(Long propertyId) {
+        return propertyPersistencePort.getPropertyVersion(propertyId);
+    }
+
     @Override
     public PropertyImageModel getPropertyImageById(Long imageId) {
         return propertyImagePersistencePort.findById(imageId)
@@ -2,18 +2,42 @@ package com.pragma.home360.home.domain.usecases;
 
 import com.pragma.home360.home.domain.exceptions.ModelNotFoundException;
 import com.pragma.home360.home.domain.exceptions.ValidationException;
+import com.pragma.home360.home.domain.model.GeoRadiusModel;
+import com.pragma.home360.home.domain.model.LocationModel;
+import com.pragma.home360.home.domain.model.MapViewportModel;
+import com.pragma.home360.home.domain.model.NearestPropertyModel;
+import com.pragma.home360.home.domain.model.PropertyBatchModel;
+import com.pragma.home360.home.domain.model.PropertyCardModel;
+import com.pragma.home360.home.domain.model.PropertyExportModel;
+import com.pragma.home360.home.domain.model.PropertyClusterModel;
+import com.pragma.home360.home.domain.model.PropertyCriteriaModel;
+import com.pragma.home360.home.domain.model.PropertyFacetsModel;
 import com.pragma.home360.home.domain.model.PropertyFilterModel;
+import com.pragma.home360.home.domain.model.PropertyImportReportModel;
+import com.pragma.home360.home.domain.model.PropertyImportResultModel;
 import com.pragma.home360.home.domain.model.PropertyModel;
+import com.pragma.home360.home.domain.model.PropertyPublicationRunModel;
+import com.pragma.home360.home.domain.model.PropertyVersionModel;
 import com.pragma.home360.home.domain.ports.in.PropertyServicePort;
 import com.pragma.home360.home.domain.ports.out.CategoryPersistencePort;
 import com.pragma.home360.home.domain.ports.out.LocationPersistencePort;
 import com.pragma.home360.home.domain.ports.out.PropertyPersistencePort;
+import com.pragma.home360.home.domain.utils.pagination.KeysetCursor;
 import com.pragma.home360.home.domain.utils.pagination.PagedResult;
+import com.pragma.home360.home.domain.utils.text.TextNormalizer;
 import com.pragma.home360.home.infrastructure.entities.enums.PropertyPublicationStatus;
 
-import java.text.Normalizer;
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.pragma.home360.home.domain.utils.constants.DomainConstants.*;
@@ -37,49 +61,76 @@ public class PropertyUseCase implements PropertyServicePort {
 
     @Override
     public PropertyModel saveProperty(PropertyModel propertyModel) {
-        validateNotEmpty(propertyModel.getName(), PROPERTY_NAME_CANNOT_BE_EMPTY);
-        validateMaxLength(propertyModel.getName(), PROPERTY_NAME_MAX_LENGTH, String.format(PROPERTY_NAME_MAX_LENGTH_EXCEEDED, PROPERTY_NAME_MAX_LENGTH));
-
-        if (propertyModel.getPrice() == null || propertyModel.getPrice().signum() <= 0) {
-            throw new ValidationException(PROPERTY_PRICE_MUST_BE_POSITIVE);
-        }
-        if (propertyModel.getNumberOfRooms() == null || propertyModel.getNumberOfRooms() <= 0) {
-            throw new ValidationException(PROPERTY_ROOMS_MUST_BE_POSITIVE);
-        }
-        if (propertyModel.getNumberOfBathrooms() == null || propertyModel.getNumberOfBathrooms() <= 0) {
-            throw new ValidationException(PROPERTY_BATHROOMS_MUST_BE_POSITIVE);
-        }
+        validateNewProperty(propertyModel, LocalDate.now());
 
-        LocalDate today = LocalDate.now();
-        LocalDate activeDate = propertyModel.getActivePublicationDate();
+        validateCategoryId(propertyModel);
+        categoryPersistencePort.getCategoryById(propertyModel.getCategory().getId())
+                .orElseThrow(() -> new ModelNotFoundException(String.format(CATEGORY_NOT_FOUND_BY_ID, propertyModel.getCategory().getId())));
+        validateLocationId(propertyModel);
+        locationPersistencePort.getLocationById(propertyModel.getLocation().getId())
+                .orElseThrow(() -> new ModelNotFoundException(String.format(LOCATION_NOT_FOUND_BY_ID, propertyModel.getLocation().getId())));
 
+        return propertyPersistencePort.saveProperty(propertyModel);
+    }
 
-        if (activeDate.isBefore(today)) {
-            throw new ValidationException(PROPERTY_ACTIVE_DATE_IN_PAST);
+    /**
+     * Aplica a cada fila las mismas reglas que {@link #saveProperty}, pero resuelve las categorías y
+     * ubicaciones de todas las filas en una consulta por tabla y guarda las válidas juntas. Una fila
+     * inválida no detiene la importación: queda rechazada con su mensaje en el reporte.
+     */
+    @Override
+    public PropertyImportReportModel importProperties(List<PropertyModel> propertyModels) {
+        if (propertyModels == null || propertyModels.isEmpty()) {
+            throw new ValidationException(PROPERTY_IMPORT_EMPTY);
         }
-        if (activeDate.isAfter(today.plusMonths(1))) {
-            throw new ValidationException(PROPERTY_ACTIVE_DATE_EXCEEDS_LIMIT);
+        if (propertyModels.size() > PROPERTY_IMPORT_MAX_ROWS) {
+            throw new ValidationException(PROPERTY_IMPORT_MAX_ROWS_EXCEEDED);
         }
 
-        if (activeDate.isAfter(today)) {
-            propertyModel.setPublicationStatus(PropertyPublicationStatus.PUBLICATION_PENDING);
-        } else {
-            propertyModel.setPublicationStatus(PropertyPublicationStatus.PUBLISHED);
+        Set<Long> categoryIds = new HashSet<>();
+        Set<Long> locationIds = new HashSet<>();
+        for (PropertyModel propertyModel : propertyModels) {
+            if (propertyModel.getCategory() != null && propertyModel.getCategory().getId() != null) {
+                categoryIds.add(propertyModel.getCategory().getId());
+            }
+            if (propertyModel.getLocation() != null && propertyModel.getLocation().getId() != null) {
+                locationIds.add(propertyModel.getLocation().getId());
+            }
         }
+        Set<Long> existingCategoryIds = categoryPersistencePort.getExistingCategoryIds(categoryIds);
+        Set<Long> existingLocationIds = locationPersistencePort.getExistingLocationIds(locationIds);
 
-        if (propertyModel.getCategory() == null || propertyModel.getCategory().getId() == null) {
-            throw new ValidationException(PROPERTY_CATEGORY_ID_REQUIRED);
+        LocalDate today = LocalDate.now();
+        PropertyImportResultModel[] results = new PropertyImportResultModel[propertyModels.size()];
+        List<PropertyModel> validProperties = new ArrayList<>(propertyModels.size());
+        List<Integer> validRows = new ArrayList<>(propertyModels.size());
+        for (int row = 0; row < propertyModels.size(); row++) {
+            PropertyModel propertyModel = propertyModels.get(row);
+            try {
+                validateNewProperty(propertyModel, today);
+                validateCategoryId(propertyModel);
+                if (!existingCategoryIds.contains(propertyModel.getCategory().getId())) {
+                    throw new ModelNotFoundException(String.format(CATEGORY_NOT_FOUND_BY_ID, propertyModel.getCategory().getId()));
+                }
+                validateLocationId(propertyModel);
+                if (!existingLocationIds.contains(propertyModel.getLocation().getId())) {
+                    throw new ModelNotFoundException(String.format(LOCATION_NOT_FOUND_BY_ID, propertyModel.getLocation().getId()));
+                }
+                validProperties.add(propertyModel);
+                validRows.add(row);
+            } catch (ValidationException | ModelNotFoundException e) {
+                results[row] = PropertyImportResultModel.rejected(e.getMessage());
+            }
         }
-        categoryPersistencePort.getCategoryById(propertyModel.getCategory().getId())
-                .orElseThrow(() -> new ModelNotFoundException(String.format(CATEGORY_NOT_FOUND_BY_ID, propertyModel.getCategory().getId())));
 
-        if (propertyModel.getLocation() == null || propertyModel.getLocation().getId() == null) {
-            throw new ValidationException(PROPERTY_LOCATION_ID_REQUIRED);
+        List<Long> ids = validProperties.isEmpty() ? List.of() : propertyPersistencePort.saveProperties(validProperties);
+        for (int i = 0; i < validRows.size(); i++) {
+            results[validRows.get(i)] = PropertyImportResultModel.imported(ids.get(i));
         }
-        locationPersistencePort.getLocationById(propertyModel.getLocation().getId())
-                .orElseThrow(() -> new ModelNotFoundException(String.format(LOCATION_NOT_FOUND_BY_ID, propertyModel.getLocation().getId())));
 
-        return propertyPersistencePort.saveProperty(propertyModel);
+        int rejected = propertyModels.size() - validProperties.size();
+        log.info(PROPERTY_IMPORT_LOG_COMPLETED, validProperties.size(), rejected);
+        return new PropertyImportReportModel(validProperties.size(), rejected, List.of(results));
     }
 
     @Override
@@ -88,23 +139,101 @@ public class PropertyUseCase implements PropertyServicePort {
                 .orElseThrow(() -> new ModelNotFoundException(String.format(PROPERTY_NOT_FOUND_BY_ID, id)));
     }
 
+    @Override
+    public PropertyModel reloadPropertyById(Long id) {
+        return propertyPersistencePort.reloadPropertyById(id)
+                .orElseThrow(() -> new ModelNotFoundException(String.format(PROPERTY_NOT_FOUND_BY_ID, id)));
+    }
+
+    /**
+     * Los ids repetidos se consultan una vez y se devuelven en la posición de su primera aparición.
+     */
+    @Override
+    public PropertyBatchModel getPropertiesByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new ValidationException(PROPERTY_BATCH_IDS_REQUIRED);
+        }
+        Set<Long> requestedIds = new LinkedHashSet<>(ids);
+        if (requestedIds.size() > PROPERTY_BATCH_MAX_IDS) {
+            throw new ValidationException(PROPERTY_BATCH_MAX_IDS_EXCEEDED);
+        }
+        for (Long id : requestedIds) {
+            if (id == null || id <= 0) {
+                throw new ValidationException(PROPERTY_BATCH_ID_INVALID);
+            }
+        }
+
+        Map<Long, PropertyModel> byId = propertyPersistencePort.getPropertiesByIds(requestedIds).stream()
+                .collect(Collectors.toMap(PropertyModel::getId, Function.identity()));
+        List<PropertyModel> properties = new ArrayList<>(byId.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            PropertyModel property = byId.get(id);
+            if (property != null) {
+                properties.add(property);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new PropertyBatchModel(properties, missingIds);
+    }
+
     @Override
     public PagedResult<PropertyModel> getAllProperties(PropertyFilterModel propertyFilterModel) {
-        validateCustom(p -> p >= INITIAL_PAGE, propertyFilterModel.page(), PAGINATION_PAGE_NEGATIVE, ValidationException.class.getName());
-        validateCustom(s -> s >= MIN_PAGE_SIZE && s <= MAX_PAGE_SIZE, propertyFilterModel.size(), PAGINATION_SIZE_BETWEEN, ValidationException.class.getName());
-        validateCustom(p -> (long) p * propertyFilterModel.size() <= MAX_PAGINATION_OFFSET, propertyFilterModel.page(), PAGINATION_MAX_OFFSET, ValidationException.class.getName());
+        validateListing(propertyFilterModel);
 
-        String searchTerm = propertyFilterModel.searchTerm();
-        String normalizedSearchTerm = (searchTerm != null && !searchTerm.isBlank()) ? normalizeText(searchTerm) : null;
+        return propertyPersistencePort.getAllProperties(withNormalizedSearchTerm(propertyFilterModel));
+    }
+
+    @Override
+    public Optional<PropertyVersionModel> getPropertyVersion(Long id) {
+        return propertyPersistencePort.getPropertyVersion(id);
+    }
+
+    @Override
+    public PagedResult<PropertyCardModel> getPropertyCards(PropertyFilterModel propertyFilterModel) {
+        validateListing(propertyFilterModel);
+
+        return propertyPersistencePort.getPropertyCards(withNormalizedSearchTerm(propertyFilterModel));
+    }
+
+    @Override
+    public PropertyFacetsModel getPropertyFacets(PropertyFilterModel propertyFilterModel) {
+        validateCriteria(propertyFilterModel.criteria());
 
-        PropertyFilterModel validatedFilter = new PropertyFilterModel(
-                propertyFilterModel.page(),
-                propertyFilterModel.size(),
-                propertyFilterModel.sortField(),
-                propertyFilterModel.direction(),
-                normalizedSearchTerm
-        );
-        return propertyPersistencePort.getAllProperties(validatedFilter);
+        return propertyPersistencePort.getPropertyFacets(withNormalizedSearchTerm(propertyFilterModel));
+    }
+
+    @Override
+    public List<NearestPropertyModel> getNearestProperties(double latitude, double longitude, int limit) {
+        validateCoordinates(latitude, longitude);
+        validateNearestLimit(limit);
+
+        return propertyPersistencePort.getNearestProperties(latitude, longitude, limit, null);
+    }
+
+    @Override
+    public List<NearestPropertyModel> getPropertiesNearestTo(Long propertyId, int limit) {
+        validateNearestLimit(limit);
+        PropertyModel property = getPropertyById(propertyId);
+        LocationModel location = property.getLocation();
+        if (location == null || location.getLatitude() == null || location.getLongitude() == null) {
+            throw new ValidationException(String.format(PROPERTY_LOCATION_WITHOUT_COORDINATES, propertyId));
+        }
+
+        return propertyPersistencePort.getNearestProperties(location.getLatitude(), location.getLongitude(), limit, propertyId);
+    }
+
+    @Override
+    public List<PropertyClusterModel> getPropertyClusters(MapViewportModel viewport) {
+        validateViewport(viewport);
+
+        return propertyPersistencePort.getPropertyClusters(viewport);
+    }
+
+    @Override
+    public void exportPublishedProperties(Consumer<PropertyExportModel> consumer) {
+        propertyPersistencePort.forEachPublishedProperty(consumer);
     }
 
     @Override
@@ -181,39 +310,178 @@ public class PropertyUseCase implements PropertyServicePort {
         return propertyPersistencePort.existsPropertyById(id);
     }
 
+    /**
+     * Publica las propiedades pendientes por bloques de {@code PROPERTY_PUBLICATION_CHUNK_SIZE},
+     * cada uno confirmado por separado, hasta que un bloque sale incompleto. Un fallo a mitad de
+     * ejecución deja publicados los bloques anteriores y la siguiente ejecución sigue con el resto.
+     */
     @Override
-    public void processPendingPropertiesToPublish() {
+    public PropertyPublicationRunModel processPendingPropertiesToPublish() {
         LocalDate today = LocalDate.now();
         log.info(PROPERTY_LOG_PROCESSING_PENDING, today);
 
-        List<PropertyModel> propertiesToPublish = propertyPersistencePort.findByPublicationStatusAndActiveDateLessThanEqual(
-                PropertyPublicationStatus.PUBLICATION_PENDING,
-                today
-        );
+        int published = 0;
+        int chunks = 0;
+        List<Long> publishedIds;
+        do {
+            publishedIds = propertyPersistencePort.publishPendingProperties(today, PROPERTY_PUBLICATION_CHUNK_SIZE);
+            if (!publishedIds.isEmpty()) {
+                chunks++;
+                published += publishedIds.size();
+                log.debug(PROPERTY_LOG_PUBLISHED_CHUNK, publishedIds.size(), publishedIds);
+            }
+        } while (publishedIds.size() == PROPERTY_PUBLICATION_CHUNK_SIZE);
 
-        if (propertiesToPublish.isEmpty()) {
+        if (published == 0) {
             log.info(PROPERTY_LOG_NO_PENDING_TO_UPDATE);
-            return;
+        } else {
+            log.info(PROPERTY_LOG_UPDATED_COUNT, published, chunks);
+        }
+        return new PropertyPublicationRunModel(published, chunks);
+    }
+
+    @Override
+    public Optional<LocalDate> getNextPendingPublicationDate() {
+        return propertyPersistencePort.findNextPendingPublicationDate();
+    }
+
+    /**
+     * Reglas de una propiedad nueva que no requieren consultar otras tablas. Además fija el estado de
+     * publicación según la fecha de publicación activa.
+     * <p>
+     * Al compartirlas con la importación se agregaron dos reglas que {@link #saveProperty} no tenía: la
+     * longitud máxima de la descripción y la fecha de publicación activa obligatoria. Antes, una descripción
+     * demasiado larga fallaba al escribir la columna y una fecha nula con un {@link NullPointerException},
+     * ambos como error interno; ahora se rechazan con {@link ValidationException}.
+     */
+    private static void validateNewProperty(PropertyModel propertyModel, LocalDate today) {
+        validateNotEmpty(propertyModel.getName(), PROPERTY_NAME_CANNOT_BE_EMPTY);
+        validateMaxLength(propertyModel.getName(), PROPERTY_NAME_MAX_LENGTH, String.format(PROPERTY_NAME_MAX_LENGTH_EXCEEDED, PROPERTY_NAME_MAX_LENGTH));
+        validateMaxLength(propertyModel.getDescription(), PROPERTY_DESCRIPTION_MAX_LENGTH, String.format(PROPERTY_DESCRIPTION_MAX_LENGTH_EXCEEDED, PROPERTY_DESCRIPTION_MAX_LENGTH));
+
+        if (propertyModel.getPrice() == null || propertyModel.getPrice().signum() <= 0) {
+            throw new ValidationException(PROPERTY_PRICE_MUST_BE_POSITIVE);
+        }
+        if (propertyModel.getNumberOfRooms() == null || propertyModel.getNumberOfRooms() <= 0) {
+            throw new ValidationException(PROPERTY_ROOMS_MUST_BE_POSITIVE);
+        }
+        if (propertyModel.getNumberOfBathrooms() == null || propertyModel.getNumberOfBathrooms() <= 0) {
+            throw new ValidationException(PROPERTY_BATHROOMS_MUST_BE_POSITIVE);
         }
 
-        log.info(PROPERTY_LOG_FOUND_TO_UPDATE, propertiesToPublish.size());
+        LocalDate activeDate = propertyModel.getActivePublicationDate();
+        if (activeDate == null) {
+            throw new ValidationException(PROPERTY_ACTIVE_DATE_REQUIRED);
+        }
+        if (activeDate.isBefore(today)) {
+            throw new ValidationException(PROPERTY_ACTIVE_DATE_IN_PAST);
+        }
+        if (activeDate.isAfter(today.plusMonths(1))) {
+            throw new ValidationException(PROPERTY_ACTIVE_DATE_EXCEEDS_LIMIT);
+        }
 
-        List<PropertyModel> updatedProperties = propertiesToPublish.stream()
-                .peek(property -> {
-                    log.debug(PROPERTY_LOG_UPDATING_TO_PUBLISHED, property.getId());
-                    property.setPublicationStatus(PropertyPublicationStatus.PUBLISHED);
-                })
-                .collect(Collectors.toList());
+        if (activeDate.isAfter(today)) {
+            propertyModel.setPublicationStatus(PropertyPublicationStatus.PUBLICATION_PENDING);
+        } else {
+            propertyModel.setPublicationStatus(PropertyPublicationStatus.PUBLISHED);
+        }
+    }
+
+    /**
+     * Se comprueba justo antes de buscar la categoría, como antes de compartir las reglas con la importación:
+     * una categoría inexistente se informa aunque además falte la ubicación.
+     */
+    private static void validateCategoryId(PropertyModel propertyModel) {
+        if (propertyModel.getCategory() == null || propertyModel.getCategory().getId() == null) {
+            throw new ValidationException(PROPERTY_CATEGORY_ID_REQUIRED);
+        }
+    }
+
+    private static void validateLocationId(PropertyModel propertyModel) {
+        if (propertyModel.getLocation() == null || propertyModel.getLocation().getId() == null) {
+            throw new ValidationException(PROPERTY_LOCATION_ID_REQUIRED);
+        }
+    }
+
+    private static PropertyFilterModel withNormalizedSearchTerm(PropertyFilterModel propertyFilterModel) {
+        String searchTerm = propertyFilterModel.searchTerm();
+        String normalizedSearchTerm = (searchTerm != null && !searchTerm.isBlank()) ? TextNormalizer.normalize(searchTerm) : null;
+        return propertyFilterModel.withSearchTerm(normalizedSearchTerm);
+    }
+
+    private static void validateCriteria(PropertyCriteriaModel criteria) {
+        if (isNegative(criteria.minPrice()) || isNegative(criteria.maxPrice())
+                || (criteria.minRooms() != null && criteria.minRooms() < 0)
+                || (criteria.minBathrooms() != null && criteria.minBathrooms() < 0)) {
+            throw new ValidationException(PROPERTY_FILTER_VALUE_NEGATIVE);
+        }
+        if (criteria.minPrice() != null && criteria.maxPrice() != null && criteria.minPrice().compareTo(criteria.maxPrice()) > 0) {
+            throw new ValidationException(PROPERTY_FILTER_PRICE_RANGE_INVALID);
+        }
+        if (criteria.near() != null) {
+            validateNear(criteria.near());
+        }
+    }
+
+    private static void validateNear(GeoRadiusModel near) {
+        validateCoordinates(near.latitude(), near.longitude());
+        if (!(near.radiusKm() > 0) || near.radiusKm() > PROPERTY_NEAR_MAX_RADIUS_KM) {
+            throw new ValidationException(PROPERTY_NEAR_RADIUS_INVALID);
+        }
+    }
+
+    private static void validateCoordinates(double latitude, double longitude) {
+        if (!(Math.abs(latitude) <= 90) || !(Math.abs(longitude) <= 180)) {
+            throw new ValidationException(PROPERTY_NEAR_COORDINATES_INVALID);
+        }
+    }
+
+    private static void validateListing(PropertyFilterModel propertyFilterModel) {
+        validateCustom(p -> p >= INITIAL_PAGE, propertyFilterModel.page(), PAGINATION_PAGE_NEGATIVE, ValidationException.class.getName());
+        validateCustom(s -> s >= MIN_PAGE_SIZE && s <= MAX_PAGE_SIZE, propertyFilterModel.size(), PAGINATION_SIZE_BETWEEN, ValidationException.class.getName());
+        validateCustom(sf -> sf == null || sf.isBlank() || PROPERTY_ALLOWED_SORT_FIELDS.contains(sf),
+                propertyFilterModel.sortField(), PROPERTY_SORT_FIELD_INVALID, ValidationException.class.getName());
+
+        if (propertyFilterModel.isCursorMode()) {
+            validateCursor(propertyFilterModel);
+        } else {
+            validateCustom(p -> (long) p * propertyFilterModel.size() <= MAX_PAGINATION_OFFSET, propertyFilterModel.page(), PAGINATION_MAX_OFFSET, ValidationException.class.getName());
+        }
+        validateCriteria(propertyFilterModel.criteria());
+    }
+
+    private static void validateViewport(MapViewportModel viewport) {
+        validateCoordinates(viewport.minLatitude(), viewport.minLongitude());
+        validateCoordinates(viewport.maxLatitude(), viewport.maxLongitude());
+        if (viewport.minLatitude() > viewport.maxLatitude()) {
+            throw new ValidationException(PROPERTY_CLUSTER_VIEWPORT_INVALID);
+        }
+        if (viewport.zoom() < 0 || viewport.zoom() > PROPERTY_CLUSTER_MAX_ZOOM) {
+            throw new ValidationException(PROPERTY_CLUSTER_ZOOM_INVALID);
+        }
+    }
+
+    private static void validateNearestLimit(int limit) {
+        if (limit < 1 || limit > PROPERTY_NEAREST_MAX_LIMIT) {
+            throw new ValidationException(PROPERTY_NEAREST_LIMIT_INVALID);
+        }
+    }
 
-        propertyPersistencePort.updateProperties(updatedProperties);
-        log.info(PROPERTY_LOG_UPDATED_COUNT, updatedProperties.size());
+    private static boolean isNegative(BigDecimal value) {
+        return value != null && value.signum() < 0;
     }
 
-    private String normalizeText(String text) {
-        if (text == null || text.isEmpty()) {
-            return "";
+    /**
+     * El orden por relevancia no tiene clave de keyset: con cursor, o sin término de búsqueda, el listado
+     * se ordena por id y devuelve cursores de id, así que un cursor de id también es válido para relevancia.
+     */
+    private static void validateCursor(PropertyFilterModel filter) {
+        KeysetCursor cursor = KeysetCursor.decode(filter.cursor());
+        String sortField = (filter.sortField() == null || filter.sortField().isBlank()
+                || PROPERTY_SORT_RELEVANCE.equals(filter.sortField())) ? "id" : filter.sortField();
+        String direction = (filter.direction() == null || filter.direction().isBlank()) ? "ASC" : filter.direction();
+        if (!cursor.sortField().equals(sortField) || !cursor.direction().equalsIgnoreCase(direction)) {
+            throw new ValidationException(String.format(PAGINATION_CURSOR_SORT_MISMATCH, cursor.sortField() + " " + cursor.direction()));
         }
-        return Normalizer.normalize(text.toLowerCase(), Normalizer.Form.NFD)
-                .replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
     }
 }
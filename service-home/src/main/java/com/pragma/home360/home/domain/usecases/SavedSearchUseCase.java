@@ -0,0 +1,103 @@
+package com.pragma.home360.home.domain.usecases;
+
+import com.pragma.home360.home.domain.exceptions.ModelNotFoundException;
+import com.pragma.home360.home.domain.exceptions.ValidationException;
+import com.pragma.home360.home.domain.model.SavedSearchModel;
+import com.pragma.home360.home.domain.ports.in.SavedSearchServicePort;
+import com.pragma.home360.home.domain.ports.out.CategoryPersistencePort;
+import com.pragma.home360.home.domain.ports.out.CityPersistencePort;
+import com.pragma.home360.home.domain.ports.out.DepartmentPersistencePort;
+import com.pragma.home360.home.domain.ports.out.NeighborhoodPersistencePort;
+import com.pragma.home360.home.domain.ports.out.SavedSearchPersistencePort;
+
+import java.math.BigDecimal;
+
+import static com.pragma.home360.home.domain.utils.constants.DomainConstants.*;
+import static com.pragma.home360.home.domain.utils.constants.Validator.validateMaxLength;
+import static com.pragma.home360.home.domain.utils.constants.Validator.validateNotEmpty;
+
+public class SavedSearchUseCase implements SavedSearchServicePort {
+
+    private final SavedSearchPersistencePort savedSearchPersistencePort;
+    private final CategoryPersistencePort categoryPersistencePort;
+    private final DepartmentPersistencePort departmentPersistencePort;
+    private final CityPersistencePort cityPersistencePort;
+    private final NeighborhoodPersistencePort neighborhoodPersistencePort;
+
+    public SavedSearchUseCase(SavedSearchPersistencePort savedSearchPersistencePort,
+                              CategoryPersistencePort categoryPersistencePort,
+                              DepartmentPersistencePort departmentPersistencePort,
+                              CityPersistencePort cityPersistencePort,
+                              NeighborhoodPersistencePort neighborhoodPersistencePort) {
+        this.savedSearchPersistencePort = savedSearchPersistencePort;
+        this.categoryPersistencePort = categoryPersistencePort;
+        this.departmentPersistencePort = departmentPersistencePort;
+        this.cityPersistencePort = cityPersistencePort;
+        this.neighborhoodPersistencePort = neighborhoodPersistencePort;
+    }
+
+    @Override
+    public SavedSearchModel saveSavedSearch(SavedSearchModel savedSearchModel) {
+        validateNotEmpty(savedSearchModel.email(), SAVED_SEARCH_EMAIL_CANNOT_BE_EMPTY);
+        validateMaxLength(savedSearchModel.email(), SAVED_SEARCH_EMAIL_MAX_LENGTH, SAVED_SEARCH_EMAIL_MAX_LENGTH_EXCEEDED);
+        if (!savedSearchModel.email().trim().matches(SAVED_SEARCH_EMAIL_PATTERN)) {
+            throw new ValidationException(SAVED_SEARCH_EMAIL_INVALID);
+        }
+        validateMaxLength(savedSearchModel.name(), SAVED_SEARCH_NAME_MAX_LENGTH, SAVED_SEARCH_NAME_MAX_LENGTH_EXCEEDED);
+        validateRanges(savedSearchModel);
+        validateReferences(savedSearchModel);
+
+        return savedSearchPersistencePort.saveSavedSearch(savedSearchModel);
+    }
+
+    @Override
+    public SavedSearchModel getSavedSearchById(Long id) {
+        return savedSearchPersistencePort.getSavedSearchById(id)
+                .orElseThrow(() -> new ModelNotFoundException(String.format(SAVED_SEARCH_NOT_FOUND, id)));
+    }
+
+    @Override
+    public void deleteSavedSearch(Long id) {
+        getSavedSearchById(id);
+        savedSearchPersistencePort.deleteSavedSearch(id);
+    }
+
+    private static void validateRanges(SavedSearchModel savedSearch) {
+        if (isNegative(savedSearch.minPrice()) || isNegative(savedSearch.maxPrice())
+                || isNegative(savedSearch.minRooms()) || isNegative(savedSearch.maxRooms())
+                || isNegative(savedSearch.minBathrooms())) {
+            throw new ValidationException(PROPERTY_FILTER_VALUE_NEGATIVE);
+        }
+        if (savedSearch.minPrice() != null && savedSearch.maxPrice() != null
+                && savedSearch.minPrice().compareTo(savedSearch.maxPrice()) > 0) {
+            throw new ValidationException(PROPERTY_FILTER_PRICE_RANGE_INVALID);
+        }
+        if (savedSearch.minRooms() != null && savedSearch.maxRooms() != null
+                && savedSearch.minRooms() > savedSearch.maxRooms()) {
+            throw new ValidationException(SAVED_SEARCH_ROOMS_RANGE_INVALID);
+        }
+    }
+
+    private void validateReferences(SavedSearchModel savedSearch) {
+        if (savedSearch.categoryId() != null && categoryPersistencePort.getCategoryById(savedSearch.categoryId()).isEmpty()) {
+            throw new ModelNotFoundException(String.format(CATEGORY_NOT_FOUND_BY_ID, savedSearch.categoryId()));
+        }
+        if (savedSearch.departmentId() != null && departmentPersistencePort.getDepartmentById(savedSearch.departmentId()).isEmpty()) {
+            throw new ModelNotFoundException(String.format(DEPARTMENT_NOT_FOUND, savedSearch.departmentId()));
+        }
+        if (savedSearch.cityId() != null && cityPersistencePort.getCityById(savedSearch.cityId()).isEmpty()) {
+            throw new ModelNotFoundException(String.format(CITY_NOT_FOUND, savedSearch.cityId()));
+        }
+        if (savedSearch.neighborhoodId() != null && neighborhoodPersistencePort.getNeighborhoodById(savedSearch.neighborhoodId()).isEmpty()) {
+            throw new ModelNotFoundException(String.format(NEIGHBORHOOD_NOT_FOUND, savedSearch.neighborhoodId()));
+        }
+    }
+
+    private static boolean isNegative(BigDecimal value) {
+        return value != null && value.signum() < 0;
+    }
+
+    private static boolean isNegative(Integer value) {
+        return value != null && value < 0;
+    }
+}
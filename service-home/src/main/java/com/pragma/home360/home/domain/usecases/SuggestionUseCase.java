@@ -0,0 +1,37 @@
+package com.pragma.home360.home.domain.usecases;
+
+import com.pragma.home360.home.domain.exceptions.ValidationException;
+import com.pragma.home360.home.domain.model.SuggestionModel;
+import com.pragma.home360.home.domain.ports.in.SuggestionServicePort;
+import com.pragma.home360.home.domain.ports.out.SuggestionIndexPort;
+import com.pragma.home360.home.domain.utils.text.TextNormalizer;
+
+import java.util.List;
+
+import static com.pragma.home360.home.domain.utils.constants.DomainConstants.*;
+import static com.pragma.home360.home.domain.utils.constants.Validator.validateMaxLength;
+import static com.pragma.home360.home.domain.utils.constants.Validator.validateNotEmpty;
+
+public class SuggestionUseCase implements SuggestionServicePort {
+
+    private final SuggestionIndexPort suggestionIndexPort;
+
+    public SuggestionUseCase(SuggestionIndexPort suggestionIndexPort) {
+        this.suggestionIndexPort = suggestionIndexPort;
+    }
+
+    @Override
+    public List<SuggestionModel> suggest(String query, int limit) {
+        validateNotEmpty(query, SUGGESTION_QUERY_CANNOT_BE_EMPTY);
+        validateMaxLength(query, SUGGESTION_QUERY_MAX_LENGTH, SUGGESTION_QUERY_MAX_LENGTH_EXCEEDED);
+        if (limit < 1 || limit > SUGGESTION_MAX_LIMIT) {
+            throw new ValidationException(SUGGESTION_LIMIT_INVALID);
+        }
+
+        String prefix = String.join(" ", TextNormalizer.tokenize(query));
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        return suggestionIndexPort.suggest(prefix, limit);
+    }
+}
@@ -1,5 +1,7 @@
 package com.pragma.home360.home.domain.utils.constants;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Set;
 
 public final class DomainConstants {
@@ -45,6 +47,8 @@ public final class DomainConstants {
     public static final String PAGINATION_PAGE_NEGATIVE = "El número de página no puede ser negativo.";
     public static final String PAGINATION_SIZE_BETWEEN = "El tamaño de página debe estar entre 1 y 50.";
     public static final String PAGINATION_MAX_OFFSET = "page * size no puede exceder 10000 registros.";
+    public static final String PAGINATION_CURSOR_INVALID = "El cursor de paginación es inválido.";
+    public static final String PAGINATION_CURSOR_SORT_MISMATCH = "El cursor de paginación no corresponde al ordenamiento solicitado (%s).";
     public static final Set<String> CATEGORY_ALLOWED_SORT_FIELDS = Set.of("id", "name", "createdAt");
     public static final String SORT_FIELD_INVALID = "sortField debe ser uno de: " + CATEGORY_ALLOWED_SORT_FIELDS + ".";
     public static final String SORT_DIRECTION_NULL = "La dirección de ordenamiento no puede ser nula.";
@@ -82,10 +86,82 @@ public final class DomainConstants {
     public static final String PROPERTY_NOT_FOUND_FOR_DELETE = "Propiedad no encontrada con ID: %s para eliminar.";
     public static final String PROPERTY_LOG_PROCESSING_PENDING = "Procesando propiedades pendientes de publicación para la fecha: {}";
     public static final String PROPERTY_LOG_NO_PENDING_TO_UPDATE = "No hay propiedades pendientes para actualizar a PUBLICADA hoy.";
-    public static final String PROPERTY_LOG_FOUND_TO_UPDATE = "Se encontraron {} propiedades para actualizar a PUBLICADA.";
-    public static final String PROPERTY_LOG_UPDATING_TO_PUBLISHED = "Actualizando propiedad ID: {} de PENDING a PUBLISHED.";
-    public static final String PROPERTY_LOG_UPDATED_COUNT = "Se actualizaron {} propiedades a PUBLICADA.";
+    public static final int PROPERTY_PUBLICATION_CHUNK_SIZE = 1000;
+    public static final String PROPERTY_LOG_PUBLISHED_CHUNK = "Se publicó un bloque de {} propiedades: {}";
+    public static final String PROPERTY_LOG_UPDATED_COUNT = "Se actualizaron {} propiedades a PUBLICADA en {} bloques.";
     public static final String LOCATION_NOT_FOUND_BY_ID = "Ubicación no encontrada con ID: %s";
+    public static final String PROPERTY_FILTER_VALUE_NEGATIVE = "Los filtros de precio, habitaciones y baños no pueden ser negativos.";
+    public static final String PROPERTY_FILTER_PRICE_RANGE_INVALID = "El precio mínimo no puede ser mayor que el precio máximo.";
+    public static final double PROPERTY_NEAR_MAX_RADIUS_KM = 100;
+    public static final String PROPERTY_NEAR_COORDINATES_INVALID = "La latitud debe estar entre -90 y 90 y la longitud entre -180 y 180.";
+    public static final String PROPERTY_NEAR_RADIUS_INVALID = "El radio de búsqueda debe ser mayor que 0 y no superar " + (int) PROPERTY_NEAR_MAX_RADIUS_KM + " km.";
+    public static final int PROPERTY_NEAREST_MAX_LIMIT = 50;
+    public static final String PROPERTY_NEAREST_LIMIT_INVALID = "La cantidad de propiedades cercanas debe estar entre 1 y " + PROPERTY_NEAREST_MAX_LIMIT + ".";
+    public static final int PROPERTY_BATCH_MAX_IDS = 200;
+    public static final String PROPERTY_BATCH_IDS_REQUIRED = "Debe indicar al menos un ID de propiedad.";
+    public static final String PROPERTY_BATCH_MAX_IDS_EXCEEDED = "No se pueden consultar más de " + PROPERTY_BATCH_MAX_IDS + " propiedades a la vez.";
+    public static final String PROPERTY_BATCH_ID_INVALID = "Los IDs de propiedad deben ser números positivos.";
+    public static final int PROPERTY_CLUSTER_MAX_ZOOM = 22;
+    public static final String PROPERTY_CLUSTER_VIEWPORT_INVALID = "El área del mapa no es válida: la latitud mínima no puede superar a la máxima.";
+    public static final String PROPERTY_CLUSTER_ZOOM_INVALID = "El nivel de zoom debe estar entre 0 y " + PROPERTY_CLUSTER_MAX_ZOOM + ".";
+    public static final String PROPERTY_LOCATION_WITHOUT_COORDINATES = "La propiedad con ID: %s no tiene coordenadas registradas.";
+    public static final String PROPERTY_SORT_RELEVANCE = "relevance";
+    /**
+     * Campos por los que se puede ordenar el listado de propiedades. Cada uno tiene un índice compuesto
+     * {@code (campo, id)} en {@code properties}, de modo que tanto la página como el cursor se resuelven
+     * recorriendo el índice en lugar de ordenar toda la tabla.
+     */
+    public static final Set<String> PROPERTY_ALLOWED_SORT_FIELDS = Set.of(
+            "id", "price", "createdAt", "activePublicationDate", "numberOfRooms", "name", PROPERTY_SORT_RELEVANCE);
+    public static final String PROPERTY_SORT_FIELD_INVALID = "sortField debe ser uno de: " + PROPERTY_ALLOWED_SORT_FIELDS + ".";
+    public static final int PROPERTY_SEARCH_MAX_RESULTS = 1000;
+    public static final List<BigDecimal> PROPERTY_FACET_PRICE_BOUNDARIES = List.of(
+            new BigDecimal("100000000"),
+            new BigDecimal("200000000"),
+            new BigDecimal("300000000"),
+            new BigDecimal("500000000"),
+            new BigDecimal("1000000000")
+    );
+    public static final String PROPERTY_SEARCH_LOG_REBUILT = "Índice de búsqueda de propiedades reconstruido con {} documentos en {} ms.";
+    public static final String PROPERTY_SPATIAL_LOG_REBUILT = "Índice espacial de propiedades reconstruido con {} ubicaciones en {} ms.";
+    public static final String PROPERTY_LISTING_CACHE_LOG_REFRESH_FAILED = "No se pudo recargar en segundo plano la página en caché del filtro {}: {}";
+    public static final String PROPERTY_LISTING_CACHE_LOG_REFRESH_REJECTED = "Recarga de la página en caché del filtro {} omitida: la cola de recargas está llena.";
+    public static final String PROPERTY_TILES_LOG_REBUILT = "Pirámide de teselas de propiedades reconstruida con {} ubicaciones en {} niveles en {} ms.";
+    public static final String PROPERTY_INDEX_SYNC_LOG_APPLIED = "Índices de propiedades sincronizados con {} cambios y {} borrados de otras réplicas.";
+    public static final String PROPERTY_INDEX_SYNC_LOG_PURGED = "Se purgaron {} registros de propiedades borradas.";
+    public static final String SCHEDULED_TASK_PROPERTY_INDEX_SYNC_ERROR = "Error al sincronizar los índices de propiedades: {}";
+    public static final String PROPERTY_READ_MODEL_LOG_BACKFILLED = "Modelo de lectura de propiedades reconciliado con {} filas faltantes, {} desactualizadas y {} huérfanas en {} ms.";
+    public static final int PROPERTY_DESCRIPTION_MAX_LENGTH = 2000;
+    public static final String PROPERTY_DESCRIPTION_MAX_LENGTH_EXCEEDED = "La descripción de la propiedad no puede exceder los %d caracteres.";
+    public static final int PROPERTY_IMPORT_MAX_ROWS = 10_000;
+    public static final String PROPERTY_IMPORT_EMPTY = "La importación debe incluir al menos una propiedad.";
+    public static final String PROPERTY_IMPORT_MAX_ROWS_EXCEEDED = "La importación no puede superar las " + PROPERTY_IMPORT_MAX_ROWS + " propiedades.";
+    public static final String PROPERTY_IMPORT_FILE_EMPTY = "El archivo de importación no puede estar vacío.";
+    public static final String PROPERTY_IMPORT_FILE_READ_FAILED = "No se pudo leer el archivo de importación: %s";
+    public static final String PROPERTY_IMPORT_CSV_HEADER_INVALID = "El archivo CSV debe comenzar con el encabezado: %s";
+    public static final String PROPERTY_IMPORT_CSV_COLUMN_COUNT_INVALID = "La fila tiene %d columnas y se esperaban %d.";
+    public static final String PROPERTY_IMPORT_CSV_VALUE_INVALID = "El valor '%s' de la columna %s no es válido.";
+    public static final String PROPERTY_IMPORT_ROW_EMPTY = "La fila está vacía.";
+    public static final String PROPERTY_IMPORT_LOG_COMPLETED = "Importación de propiedades: {} importadas y {} rechazadas.";
+
+    public static final int SUGGESTION_MAX_LIMIT = 10;
+    public static final int SUGGESTION_QUERY_MAX_LENGTH = 100;
+    public static final String SUGGESTION_QUERY_CANNOT_BE_EMPTY = "El texto a buscar no puede estar vacío.";
+    public static final String SUGGESTION_QUERY_MAX_LENGTH_EXCEEDED = "El texto a buscar no puede exceder los %d caracteres.";
+    public static final String SUGGESTION_LIMIT_INVALID = "La cantidad de sugerencias debe estar entre 1 y " + SUGGESTION_MAX_LIMIT + ".";
+    public static final String SUGGESTION_LOG_REBUILT = "Índice de sugerencias reconstruido con {} entradas en {} ms.";
+
+    public static final int SAVED_SEARCH_EMAIL_MAX_LENGTH = 120;
+    public static final int SAVED_SEARCH_NAME_MAX_LENGTH = 80;
+    public static final String SAVED_SEARCH_EMAIL_PATTERN = "^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$";
+    public static final String SAVED_SEARCH_EMAIL_CANNOT_BE_EMPTY = "El correo de la búsqueda guardada no puede estar vacío.";
+    public static final String SAVED_SEARCH_EMAIL_INVALID = "El correo de la búsqueda guardada no es válido.";
+    public static final String SAVED_SEARCH_EMAIL_MAX_LENGTH_EXCEEDED = "El correo de la búsqueda guardada no puede exceder los %d caracteres.";
+    public static final String SAVED_SEARCH_NAME_MAX_LENGTH_EXCEEDED = "El nombre de la búsqueda guardada no puede exceder los %d caracteres.";
+    public static final String SAVED_SEARCH_ROOMS_RANGE_INVALID = "El mínimo de habitaciones no puede ser mayor que el máximo.";
+    public static final String SAVED_SEARCH_NOT_FOUND = "Búsqueda guardada no encontrada con ID: %s.";
+    public static final String SAVED_SEARCH_LOG_REBUILT = "Percolador de búsquedas guardadas reconstruido con {} búsquedas en {} ms.";
+    public static final String SAVED_SEARCH_LOG_MATCHED = "La propiedad {} coincide con {} búsquedas guardadas nuevas.";
 
     public static final String PROPERTY_IMAGE_PROPERTY_NOT_FOUND = "Propiedad no encontrada con ID: %s para asociar imagen.";
     public static final String PROPERTY_IMAGE_FILE_EMPTY = "El archivo de imagen no puede ser nulo o vacío.";
@@ -94,10 +170,15 @@ public final class DomainConstants {
     public static final String PROPERTY_IMAGE_NOT_FOUND_FOR_DELETE = "Imagen de propiedad no encontrada con ID: %s para eliminar.";
     public static final String PROPERTY_IMAGE_LOG_DELETE_FAILED = "Falló al eliminar el archivo de imagen del almacenamiento: %s - %s";
     public static final String PROPERTY_IMAGE_DOES_NOT_BELONG_TO_PROPERTY = "La imagen con ID %s no pertenece a la propiedad con ID %s";
+    public static final String STORED_FILE_NOT_FOUND = "No se encontró el archivo %s de la propiedad con ID: %s";
 
     public static final String SCHEDULED_TASK_PROPERTY_UPDATE_STARTED = "Iniciando tarea programada: Actualizar propiedades pendientes a publicadas.";
     public static final String SCHEDULED_TASK_PROPERTY_UPDATE_SUCCESS = "Tarea programada: Actualización de propiedades pendientes finalizada exitosamente.";
     public static final String SCHEDULED_TASK_PROPERTY_UPDATE_ERROR = "Error durante la ejecución de la tarea programada para actualizar propiedades: {}";
+    public static final String SCHEDULED_TASK_PROPERTY_UPDATE_NEXT_RUN = "Próxima publicación de propiedades pendientes programada para: {}";
+    public static final String SCHEDULED_TASK_PROPERTY_UPDATE_SKIPPED = "No hay propiedades pendientes con fecha de publicación vencida; no se ejecuta la publicación.";
+    public static final String SCHEDULER_LEASE_LOG_HELD_BY_OTHER = "La concesión de la tarea {} la tiene otra réplica; se omite la ejecución.";
+    public static final String SCHEDULER_LEASE_LOST = "Se perdió la concesión de la tarea %s con token %s.";
     public static final String EXCEPTION_NOT_FOUND = "Clase de excepción no encontrada.";
 
     // Constantes para mensajes internos de Validator.java
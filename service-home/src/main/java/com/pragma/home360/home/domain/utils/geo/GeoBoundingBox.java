@@ -0,0 +1,14 @@
+package com.pragma.home360.home.domain.utils.geo;
+
+/**
+ * Rectángulo en grados que contiene un círculo de búsqueda. Cuando el círculo toca un polo o
+ * cruza el antimeridiano no se acota la longitud ({@code boundsLongitude} en false).
+ */
+public record GeoBoundingBox(
+        double minLatitude,
+        double maxLatitude,
+        double minLongitude,
+        double maxLongitude,
+        boolean boundsLongitude
+) {
+}
@@ -0,0 +1,56 @@
+package com.pragma.home360.home.domain.utils.geo;
+
+import com.pragma.home360.home.domain.model.GeoRadiusModel;
+
+/**
+ * Cálculos sobre la esfera terrestre para la búsqueda por radio: el rectángulo que sirve de
+ * prefiltro sobre columnas indexadas y la distancia exacta por Haversine.
+ */
+public final class GeoUtils {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private GeoUtils() {
+    }
+
+    public static double haversineKm(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude) {
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(
+                haversine(fromLatitude, fromLongitude, toLatitude, toLongitude)));
+    }
+
+    /**
+     * Término {@code a} de Haversine. Crece con la distancia, así que comparar contra
+     * {@link #haversineThreshold(double)} equivale a comparar distancias sin {@code asin} ni raíz.
+     */
+    public static double haversine(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude) {
+        double halfDeltaLatitude = Math.sin(Math.toRadians(toLatitude - fromLatitude) / 2);
+        double halfDeltaLongitude = Math.sin(Math.toRadians(toLongitude - fromLongitude) / 2);
+        return halfDeltaLatitude * halfDeltaLatitude
+                + Math.cos(Math.toRadians(fromLatitude)) * Math.cos(Math.toRadians(toLatitude))
+                * halfDeltaLongitude * halfDeltaLongitude;
+    }
+
+    public static double haversineThreshold(double radiusKm) {
+        double halfAngle = Math.sin(Math.min(radiusKm / EARTH_RADIUS_KM, Math.PI) / 2);
+        return halfAngle * halfAngle;
+    }
+
+    public static GeoBoundingBox boundingBox(GeoRadiusModel near) {
+        double angularRadius = near.radiusKm() / EARTH_RADIUS_KM;
+        double deltaLatitude = Math.toDegrees(angularRadius);
+        double minLatitude = near.latitude() - deltaLatitude;
+        double maxLatitude = near.latitude() + deltaLatitude;
+
+        if (minLatitude <= -90 || maxLatitude >= 90) {
+            return new GeoBoundingBox(Math.max(minLatitude, -90), Math.min(maxLatitude, 90), -180, 180, false);
+        }
+
+        double deltaLongitude = Math.toDegrees(Math.asin(
+                Math.sin(angularRadius) / Math.cos(Math.toRadians(near.latitude()))));
+        double minLongitude = near.longitude() - deltaLongitude;
+        double maxLongitude = near.longitude() + deltaLongitude;
+        boolean boundsLongitude = minLongitude >= -180 && maxLongitude <= 180;
+        return new GeoBoundingBox(minLatitude, maxLatitude,
+                boundsLongitude ? minLongitude : -180, boundsLongitude ? maxLongitude : 180, boundsLongitude);
+    }
+}
@@ -0,0 +1,49 @@
+package com.pragma.home360.home.domain.utils.pagination;
+
+import com.pragma.home360.home.domain.exceptions.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static com.pragma.home360.home.domain.utils.constants.DomainConstants.PAGINATION_CURSOR_INVALID;
+
+/**
+ * Cursor opaco para paginación por keyset: guarda el valor de la clave de ordenamiento
+ * y el id del último elemento entregado, de modo que la siguiente página se obtiene con
+ * {@code WHERE (sortKey, id) > (value, id)} en lugar de un OFFSET.
+ */
+public record KeysetCursor(
+        String sortField,
+        String direction,
+        Long id,
+        String value
+) {
+
+    private static final String SEPARATOR = "\n";
+    private static final String NULL_VALUE = "N";
+    private static final String VALUE_PREFIX = "V";
+
+    public String encode() {
+        String raw = sortField + SEPARATOR + direction + SEPARATOR + id + SEPARATOR
+                + (value == null ? NULL_VALUE : VALUE_PREFIX + value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 4);
+            if (parts.length != 4 || parts[0].isBlank() || parts[3].isEmpty()) {
+                throw new ValidationException(PAGINATION_CURSOR_INVALID);
+            }
+            String value = parts[3].startsWith(VALUE_PREFIX) ? parts[3].substring(1) : null;
+            return new KeysetCursor(parts[0], parts[1], Long.parseLong(parts[2]), value);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(PAGINATION_CURSOR_INVALID);
+        }
+    }
+
+    public boolean isAscending() {
+        return !"DESC".equalsIgnoreCase(direction);
+    }
+}
@@ -1,12 +1,47 @@
 package com.pragma.home360.home.domain.utils.pagination;
 
 import java.util.List;
+import java.util.function.Function;
 
 public record PagedResult<T>(
         List<T> content,
         int page,
         int size,
         long totalElements,
-        int totalPages
+        int totalPages,
+        String nextCursor,
+        boolean hasNext
 ) {
+
+    /**
+     * Valor de {@code totalElements} y {@code totalPages} cuando la consulta no calculó totales.
+     */
+    public static final int UNKNOWN_TOTAL = -1;
+
+    public PagedResult(List<T> content, int page, int size, long totalElements, int totalPages, String nextCursor) {
+        this(content, page, size, totalElements, totalPages, nextCursor, nextCursor != null || page + 1 < totalPages);
+    }
+
+    public PagedResult(List<T> content, int page, int size, long totalElements, int totalPages) {
+        this(content, page, size, totalElements, totalPages, null);
+    }
+
+    /**
+     * Página sin totales: solo se sabe si existe una página siguiente.
+     */
+    public static <T> PagedResult<T> slice(List<T> content, int page, int size, boolean hasNext, String nextCursor) {
+        return new PagedResult<>(content, page, size, UNKNOWN_TOTAL, UNKNOWN_TOTAL, nextCursor, hasNext);
+    }
+
+    public boolean hasTotal() {
+        return totalElements != UNKNOWN_TOTAL;
+    }
+
+    /**
+     * Convierte el contenido conservando los datos de paginación.
+     */
+    public <R> PagedResult<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new PagedResult<>(mapped, page, size, totalElements, totalPages, nextCursor, hasNext);
+    }
 }
@@ -3,7 +3,11 @@ package com.pragma.home360.home.domain.utils.pagination;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.function.LongSupplier;
 
 public class PaginationUtils {
     
@@ -22,6 +26,49 @@ public class PaginationUtils {
         );
     }
 
+    public static Pageable createPageable(Integer page, Integer size, Sort sort) {
+        return PageRequest.of(
+            page != null ? page : 0,
+            size != null ? size : 10,
+            sort
+        );
+    }
+
+    public static <T> PagedResult<T> toPagedResult(Page<T> page, String nextCursor) {
+        return new PagedResult<>(
+            page.getContent(),
+            page.getNumber(),
+            page.getSize(),
+            page.getTotalElements(),
+            page.getTotalPages(),
+            nextCursor
+        );
+    }
+
+    /**
+     * Convierte un {@link Slice} en resultado paginado. Solo si se piden totales se invoca
+     * {@code totalSupplier}, y se omite cuando la propia ventana ya revela el total.
+     */
+    public static <T> PagedResult<T> toPagedResult(Slice<T> slice, boolean withTotal, LongSupplier totalSupplier) {
+        if (!withTotal) {
+            return PagedResult.slice(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(), null);
+        }
+        Page<T> page = PageableExecutionUtils.getPage(slice.getContent(), slice.getPageable(), totalSupplier);
+        return new PagedResult<>(
+            page.getContent(),
+            page.getNumber(),
+            page.getSize(),
+            page.getTotalElements(),
+            page.getTotalPages(),
+            null,
+            slice.hasNext()
+        );
+    }
+
+    public static int totalPages(long totalElements, int size) {
+        return size == 0 ? 1 : (int) Math.ceil((double) totalElements / (double) size);
+    }
+
     public static <T> PagedResult<T> toPagedResult(Page<T> page) {
         return new PagedResult<>(
             page.getContent(),
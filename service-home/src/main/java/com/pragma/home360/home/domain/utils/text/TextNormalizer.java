@@ -0,0 +1,35 @@
+package com.pragma.home360.home.domain.utils.text;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class TextNormalizer {
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * Pasa el texto a minúsculas y elimina tildes y diacríticos.
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        return Normalizer.normalize(text.toLowerCase(), Normalizer.Form.NFD)
+                .replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
+    }
+
+    /**
+     * Normaliza el texto y lo divide en términos alfanuméricos.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : normalize(text).split("[^\\p{Alnum}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
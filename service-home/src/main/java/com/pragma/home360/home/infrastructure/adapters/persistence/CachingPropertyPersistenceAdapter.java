@@ -0,0 +1,142 @@
+package com.pragma.home360.home.infrastructure.adapters.persistence;
+
+import com.pragma.home360.home.domain.model.MapViewportModel;
+import com.pragma.home360.home.domain.model.NearestPropertyModel;
+import com.pragma.home360.home.domain.model.PropertyCardModel;
+import com.pragma.home360.home.domain.model.PropertyExportModel;
+import com.pragma.home360.home.domain.model.PropertyClusterModel;
+import com.pragma.home360.home.domain.model.PropertyFacetsModel;
+import com.pragma.home360.home.domain.model.PropertyFilterModel;
+import com.pragma.home360.home.domain.model.PropertyModel;
+import com.pragma.home360.home.domain.model.PropertyVersionModel;
+import com.pragma.home360.home.domain.ports.out.PropertyPersistencePort;
+import com.pragma.home360.home.domain.utils.pagination.PagedResult;
+import com.pragma.home360.home.infrastructure.cache.PropertyDetailCache;
+import com.pragma.home360.home.infrastructure.cache.PropertyListingCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Puerto de persistencia de propiedades con el listado en {@link PropertyListingCache} y el detalle en
+ * {@link PropertyDetailCache}. Las lecturas pasan por las cachés y todas las escrituras las invalidan
+ * antes de devolver el control: el listado completo y, en el detalle, solo los ids escritos.
+ */
+@Repository
+@Primary
+@RequiredArgsConstructor
+public class CachingPropertyPersistenceAdapter implements PropertyPersistencePort {
+
+    private final PropertyPersistenceAdapter delegate;
+    private final PropertyListingCache propertyListingCache;
+    private final PropertyDetailCache propertyDetailCache;
+
+    @Override
+    public PropertyModel saveProperty(PropertyModel propertyModel) {
+        PropertyModel savedProperty = delegate.saveProperty(propertyModel);
+        propertyListingCache.invalidate();
+        return savedProperty;
+    }
+
+    @Override
+    public List<Long> saveProperties(List<PropertyModel> propertyModels) {
+        List<Long> ids = delegate.saveProperties(propertyModels);
+        propertyListingCache.invalidate();
+        return ids;
+    }
+
+    @Override
+    public Optional<LocalDate> findNextPendingPublicationDate() {
+        return delegate.findNextPendingPublicationDate();
+    }
+
+    @Override
+    public Optional<PropertyModel> getPropertyById(Long id) {
+        return propertyDetailCache.get(id, delegate::getPropertyById);
+    }
+
+    @Override
+    public Optional<PropertyModel> reloadPropertyById(Long id) {
+        return propertyDetailCache.reload(id, delegate::getPropertyById);
+    }
+
+    @Override
+    public List<PropertyModel> getPropertiesByIds(Collection<Long> ids) {
+        return delegate.getPropertiesByIds(ids);
+    }
+
+    @Override
+    public Optional<PropertyVersionModel> getPropertyVersion(Long id) {
+        return delegate.getPropertyVersion(id);
+    }
+
+    @Override
+    public PagedResult<PropertyModel> getAllProperties(PropertyFilterModel propertyFilterModel) {
+        return propertyListingCache.get(propertyFilterModel, delegate::getAllProperties);
+    }
+
+    @Override
+    public PagedResult<PropertyCardModel> getPropertyCards(PropertyFilterModel propertyFilterModel) {
+        return delegate.getPropertyCards(propertyFilterModel);
+    }
+
+    @Override
+    public PropertyFacetsModel getPropertyFacets(PropertyFilterModel propertyFilterModel) {
+        return delegate.getPropertyFacets(propertyFilterModel);
+    }
+
+    @Override
+    public List<NearestPropertyModel> getNearestProperties(double latitude, double longitude, int limit, Long excludedPropertyId) {
+        return delegate.getNearestProperties(latitude, longitude, limit, excludedPropertyId);
+    }
+
+    @Override
+    public List<PropertyClusterModel> getPropertyClusters(MapViewportModel viewport) {
+        return delegate.getPropertyClusters(viewport);
+    }
+
+    @Override
+    public void updateProperty(Long id, PropertyModel propertyModel) {
+        delegate.updateProperty(id, propertyModel);
+        propertyListingCache.invalidate();
+        propertyDetailCache.invalidate(id);
+    }
+
+    @Override
+    public void deleteProperty(Long id) {
+        delegate.deleteProperty(id);
+        propertyListingCache.invalidate();
+        propertyDetailCache.invalidate(id);
+    }
+
+    @Override
+    public boolean existsPropertyById(Long id) {
+        return delegate.existsPropertyById(id);
+    }
+
+    @Override
+    public boolean existsPropertyByName(String name) {
+        return delegate.existsPropertyByName(name);
+    }
+
+    @Override
+    public List<Long> publishPendingProperties(LocalDate date, int limit) {
+        List<Long> ids = delegate.publishPendingProperties(date, limit);
+        if (!ids.isEmpty()) {
+            propertyListingCache.invalidate();
+            propertyDetailCache.invalidate(ids);
+        }
+        return ids;
+    }
+
+    @Override
+    public void forEachPublishedProperty(Consumer<PropertyExportModel> consumer) {
+        delegate.forEachPublishedProperty(consumer);
+    }
+}
@@ -2,30 +2,42 @@ package com.pragma.home360.home.infrastructure.adapters.persistence;
 
 import com.pragma.home360.home.domain.model.CategoryFilterModel;
 import com.pragma.home360.home.domain.model.CategoryModel;
+import com.pragma.home360.home.domain.model.SuggestionType;
 import com.pragma.home360.home.domain.ports.out.CategoryPersistencePort;
 import com.pragma.home360.home.domain.utils.pagination.PagedResult;
 import com.pragma.home360.home.domain.utils.pagination.PaginationUtils;
+import com.pragma.home360.home.infrastructure.cache.CountCache;
 import com.pragma.home360.home.infrastructure.entities.CategoryEntity;
+import com.pragma.home360.home.infrastructure.events.CatalogEntryChangedEvent;
 import com.pragma.home360.home.infrastructure.mappers.CategoryEntityMapper;
 import com.pragma.home360.home.infrastructure.repositories.mysql.CategoryRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class CategoryPersistenceAdapter implements CategoryPersistencePort {
 
+    private static final String CATEGORY_COUNT_KEY = "category";
+
     private final CategoryRepository categoryRepository;
     private final CategoryEntityMapper categoryEntityMapper;
+    private final CountCache countCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public CategoryModel save(CategoryModel categoryModel) {
         CategoryEntity categoryEntity = categoryEntityMapper.toEntity(categoryModel);
         CategoryEntity savedCategory = categoryRepository.save(categoryEntity);
+        countCache.invalidate(CATEGORY_COUNT_KEY);
+        eventPublisher.publishEvent(new CatalogEntryChangedEvent(SuggestionType.CATEGORY, savedCategory.getId(), savedCategory.getName()));
         return categoryEntityMapper.toModel(savedCategory);
     }
 
@@ -44,8 +56,9 @@ public class CategoryPersistenceAdapter implements CategoryPersistencePort {
                 categoryFilterModel.direction()
         );
 
-        var page = categoryRepository.findAll(pageable);
-        return PaginationUtils.toPagedResult(page.map(categoryEntityMapper::toModel));
+        var slice = categoryRepository.findSliceBy(pageable).map(categoryEntityMapper::toModel);
+        return PaginationUtils.toPagedResult(slice, categoryFilterModel.withTotal(),
+                () -> countCache.get(CATEGORY_COUNT_KEY, categoryRepository::count));
     }
 
     @Override
@@ -53,4 +66,9 @@ public class CategoryPersistenceAdapter implements CategoryPersistencePort {
         return categoryRepository.findById(id)
                 .map(categoryEntityMapper::toModel);
     }
+
+    @Override
+    public Set<Long> getExistingCategoryIds(Collection<Long> ids) {
+        return ids.isEmpty() ? Set.of() : categoryRepository.findExistingIds(ids);
+    }
 }
@@ -2,13 +2,17 @@ package com.pragma.home360.home.infrastructure.adapters.persistence;
 
 import com.pragma.home360.home.domain.model.CityModel;
 import com.pragma.home360.home.domain.model.FilterModel;
+import com.pragma.home360.home.domain.model.SuggestionType;
 import com.pragma.home360.home.domain.ports.out.CityPersistencePort;
 import com.pragma.home360.home.domain.utils.pagination.PagedResult;
 import com.pragma.home360.home.domain.utils.pagination.PaginationUtils;
+import com.pragma.home360.home.infrastructure.cache.CountCache;
 import com.pragma.home360.home.infrastructure.entities.CityEntity;
+import com.pragma.home360.home.infrastructure.events.CatalogEntryChangedEvent;
 import com.pragma.home360.home.infrastructure.mappers.CityEntityMapper;
 import com.pragma.home360.home.infrastructure.repositories.mysql.CityRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,13 +22,19 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class CityPersistenceAdapter implements CityPersistencePort {
 
+    private static final String CITY_COUNT_KEY = "city";
+
     private final CityRepository cityRepository;
     private final CityEntityMapper cityEntityMapper;
+    private final CountCache countCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public CityModel saveCity(CityModel cityModel) {
         CityEntity cityEntity = cityEntityMapper.toEntity(cityModel);
         CityEntity savedCity = cityRepository.save(cityEntity);
+        countCache.invalidate(CITY_COUNT_KEY);
+        eventPublisher.publishEvent(new CatalogEntryChangedEvent(SuggestionType.CITY, savedCity.getId(), savedCity.getName()));
         return cityEntityMapper.toModel(savedCity);
     }
 
@@ -47,9 +57,17 @@ public class CityPersistenceAdapter implements CityPersistencePort {
         return PaginationUtils.toPagedResult(cityRepository.findAll(pageable).map(cityEntityMapper::toModel));
     }
 
+    @Override
+    public PagedResult<CityModel> getAllCities(int page, int size, boolean withTotal) {
+        var pageable = PaginationUtils.createPageable(page, size, "id", null);
+
+        var slice = cityRepository.findSliceBy(pageable).map(cityEntityMapper::toModel);
+        return PaginationUtils.toPagedResult(slice, withTotal, this::getCityCount);
+    }
+
     @Override
     public long getCityCount() {
-        return cityRepository.count();
+        return countCache.get(CITY_COUNT_KEY, cityRepository::count);
     }
 
     @Override
@@ -1,10 +1,13 @@
 package com.pragma.home360.home.infrastructure.adapters.persistence;
 
 import com.pragma.home360.home.domain.model.DepartmentModel;
+import com.pragma.home360.home.domain.model.SuggestionType;
 import com.pragma.home360.home.domain.ports.out.DepartmentPersistencePort;
 import com.pragma.home360.home.infrastructure.entities.DepartmentEntity;
+import com.pragma.home360.home.infrastructure.events.CatalogEntryChangedEvent;
 import com.pragma.home360.home.infrastructure.mappers.DepartmentEntityMapper;
 import com.pragma.home360.home.infrastructure.repositories.mysql.DepartmentRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
@@ -16,16 +19,20 @@ public class DepartmentPersistenceAdapter implements DepartmentPersistencePort {
 
     private final DepartmentRepository departmentRepository;
     private final DepartmentEntityMapper departmentEntityMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public DepartmentPersistenceAdapter(DepartmentRepository departmentRepository, DepartmentEntityMapper departmentEntityMapper) {
+    public DepartmentPersistenceAdapter(DepartmentRepository departmentRepository, DepartmentEntityMapper departmentEntityMapper,
+                                        ApplicationEventPublisher eventPublisher) {
         this.departmentRepository = departmentRepository;
         this.departmentEntityMapper = departmentEntityMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public DepartmentModel saveDepartment(DepartmentModel departmentModel) {
         DepartmentEntity departmentEntity = departmentEntityMapper.toEntity(departmentModel);
         departmentEntity = departmentRepository.save(departmentEntity);
+        eventPublisher.publishEvent(new CatalogEntryChangedEvent(SuggestionType.DEPARTMENT, departmentEntity.getId(), departmentEntity.getName()));
         return departmentEntityMapper.toModel(departmentEntity);
     }
 
@@ -5,33 +5,41 @@ import com.pragma.home360.home.domain.model.LocationModel;
 import com.pragma.home360.home.domain.ports.out.LocationPersistencePort;
 import com.pragma.home360.home.domain.utils.pagination.PagedResult;
 import com.pragma.home360.home.infrastructure.entities.LocationEntity;
+import com.pragma.home360.home.infrastructure.events.LocationChangedEvent;
 import com.pragma.home360.home.infrastructure.mappers.LocationEntityMapper;
 import com.pragma.home360.home.infrastructure.repositories.mysql.LocationRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public class LocationPersistenceAdapter implements LocationPersistencePort {
 
     private final LocationRepository locationRepository;
     private final LocationEntityMapper locationEntityMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
 
-    public LocationPersistenceAdapter(LocationRepository locationRepository, LocationEntityMapper locationEntityMapper) {
+    public LocationPersistenceAdapter(LocationRepository locationRepository, LocationEntityMapper locationEntityMapper,
+                                      ApplicationEventPublisher eventPublisher) {
         this.locationRepository = locationRepository;
         this.locationEntityMapper = locationEntityMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public LocationModel saveLocation(LocationModel location) {
         LocationEntity entity = locationEntityMapper.toEntity(location);
         entity = locationRepository.save(entity);
+        eventPublisher.publishEvent(new LocationChangedEvent(entity.getId()));
         return locationEntityMapper.toModel(entity);
     }
 
@@ -41,6 +49,11 @@ public class LocationPersistenceAdapter implements LocationPersistencePort {
                 .map(locationEntityMapper::toModel);
     }
 
+    @Override
+    public Set<Long> getExistingLocationIds(Collection<Long> ids) {
+        return ids.isEmpty() ? Set.of() : locationRepository.findExistingIds(ids);
+    }
+
     @Override
     public PagedResult<LocationModel> searchLocations(String normalizedText, int page, int size, String sortBy, String sortDirection) {
         Sort.Direction direction = Sort.Direction.fromString(sortDirection);
@@ -2,13 +2,17 @@ package com.pragma.home360.home.infrastructure.adapters.persistence;
 
 import com.pragma.home360.home.domain.model.FilterModel;
 import com.pragma.home360.home.domain.model.NeighborhoodModel;
+import com.pragma.home360.home.domain.model.SuggestionType;
 import com.pragma.home360.home.domain.ports.out.NeighborhoodPersistencePort;
 import com.pragma.home360.home.domain.utils.pagination.PagedResult;
 import com.pragma.home360.home.domain.utils.pagination.PaginationUtils;
+import com.pragma.home360.home.infrastructure.cache.CountCache;
 import com.pragma.home360.home.infrastructure.entities.NeighborHoodEntity;
+import com.pragma.home360.home.infrastructure.events.CatalogEntryChangedEvent;
 import com.pragma.home360.home.infrastructure.mappers.NeighborhoodEntityMapper;
 import com.pragma.home360.home.infrastructure.repositories.mysql.NeighborhoodRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,13 +22,19 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class NeighborhoodPersistenceAdapter implements NeighborhoodPersistencePort {
 
+    private static final String NEIGHBORHOOD_COUNT_KEY = "neighborhood";
+
     private final NeighborhoodRepository neighborhoodRepository;
     private final NeighborhoodEntityMapper neighborhoodEntityMapper;
+    private final CountCache countCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public NeighborhoodModel saveNeighborhood(NeighborhoodModel neighborhoodModel) {
         NeighborHoodEntity neighborhoodEntity = neighborhoodEntityMapper.toEntity(neighborhoodModel);
         NeighborHoodEntity savedNeighborhood = neighborhoodRepository.save(neighborhoodEntity);
+        countCache.invalidate(NEIGHBORHOOD_COUNT_KEY);
+        eventPublisher.publishEvent(new CatalogEntryChangedEvent(SuggestionType.NEIGHBORHOOD, savedNeighborhood.getId(), savedNeighborhood.getName()));
         return neighborhoodEntityMapper.toModel(savedNeighborhood);
     }
 
@@ -59,8 +69,9 @@ public class NeighborhoodPersistenceAdapter implements NeighborhoodPersistencePo
             filter.direction()
         );
 
-        var page = neighborhoodRepository.findAll(pageable);
-        return PaginationUtils.toPagedResult(page.map(neighborhoodEntityMapper::toModel));
+        var slice = neighborhoodRepository.findSliceBy(pageable).map(neighborhoodEntityMapper::toModel);
+        return PaginationUtils.toPagedResult(slice, filter.withTotal(),
+                () -> countCache.get(NEIGHBORHOOD_COUNT_KEY, neighborhoodRepository::count));
     }
 
     @Override
@@ -72,7 +83,9 @@ public class NeighborhoodPersistenceAdapter implements NeighborhoodPersistencePo
             filter.direction()
         );
 
-        var page = neighborhoodRepository.findByCityId(cityId, pageable);
-        return PaginationUtils.toPagedResult(page.map(neighborhoodEntityMapper::toModel));
+        var slice = neighborhoodRepository.findSliceByCityId(cityId, pageable).map(neighborhoodEntityMapper::toModel);
+        return PaginationUtils.toPagedResult(slice, filter.withTotal(),
+                () -> countCache.get(NEIGHBORHOOD_COUNT_KEY + "|city=" + cityId,
+                        () -> neighborhoodRepository.countByCityId(cityId)));
     }
 }
\ No newline at end of file
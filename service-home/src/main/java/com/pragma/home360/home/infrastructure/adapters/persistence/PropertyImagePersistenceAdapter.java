@@ -2,6 +2,8 @@ package com.pragma.home360.home.infrastructure.adapters.persistence;
 
 import com.pragma.home360.home.domain.model.PropertyImageModel;
 import com.pragma.home360.home.domain.ports.out.PropertyImagePersistencePort;
+import com.pragma.home360.home.infrastructure.cache.PropertyDetailCache;
+import com.pragma.home360.home.infrastructure.cache.PropertyListingCache;
 import com.pragma.home360.home.infrastructure.entities.PropertyEntity;
 import com.pragma.home360.home.infrastructure.entities.PropertyImageEntity;
 import com.pragma.home360.home.infrastructure.mappers.PropertyImageEntityMapper;
@@ -11,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -22,6 +25,9 @@ public class PropertyImagePersistenceAdapter implements PropertyImagePersistence
     private final PropertyImageRepository propertyImageRepository;
     private final PropertyRepository propertyRepository;
     private final PropertyImageEntityMapper mapper;
+    private final PropertyListingCache propertyListingCache;
+    private final PropertyDetailCache propertyDetailCache;
+    private final PropertyReadModelProjector propertyReadModelProjector;
 
     @Override
     @Transactional
@@ -38,6 +44,7 @@ public class PropertyImagePersistenceAdapter implements PropertyImagePersistence
         }
 
         PropertyImageEntity savedEntity = propertyImageRepository.save(entity);
+        touchProperty(property.getId());
         return mapper.toModel(savedEntity);
     }
 
@@ -59,7 +66,10 @@ public class PropertyImagePersistenceAdapter implements PropertyImagePersistence
     @Override
     @Transactional
     public void deleteById(Long id) {
-        propertyImageRepository.deleteById(id);
+        propertyImageRepository.findById(id).ifPresent(image -> {
+            propertyImageRepository.delete(image);
+            touchProperty(image.getProperty().getId());
+        });
     }
 
     @Override
@@ -79,5 +89,18 @@ public class PropertyImagePersistenceAdapter implements PropertyImagePersistence
     @Transactional
     public void clearMainImageFlag(Long propertyId) {
         propertyImageRepository.clearMainImageFlagForProperty(propertyId);
+        touchProperty(propertyId);
+    }
+
+    /**
+     * Las imágenes se publican con la propiedad: cambiarlas cambia su fecha de modificación, y con ella
+     * sus validadores HTTP, actualiza su imagen principal y su cantidad de imágenes en el modelo de
+     * lectura e invalida los listados y su detalle en caché.
+     */
+    private void touchProperty(Long propertyId) {
+        propertyRepository.touch(propertyId, LocalDateTime.now());
+        propertyReadModelProjector.refresh(propertyId);
+        propertyListingCache.invalidate();
+        propertyDetailCache.invalidate(propertyId);
     }
 }
\ No newline at end of file
@@ -1,44 +1,109 @@
 package com.pragma.home360.home.infrastructure.adapters.persistence;
 
+import com.pragma.home360.home.domain.model.FacetCountModel;
+import com.pragma.home360.home.domain.model.MapViewportModel;
+import com.pragma.home360.home.domain.model.NearestPropertyModel;
+import com.pragma.home360.home.domain.model.PropertyCriteriaModel;
+import com.pragma.home360.home.domain.model.PriceRangeFacetModel;
+import com.pragma.home360.home.domain.model.PropertyCardModel;
+import com.pragma.home360.home.domain.model.PropertyExportModel;
+import com.pragma.home360.home.domain.model.PropertyClusterModel;
+import com.pragma.home360.home.domain.model.PropertyFacetsModel;
 import com.pragma.home360.home.domain.model.PropertyFilterModel;
 import com.pragma.home360.home.domain.model.PropertyModel;
+import com.pragma.home360.home.domain.model.PropertyVersionModel;
 import com.pragma.home360.home.domain.ports.out.PropertyPersistencePort;
+import com.pragma.home360.home.domain.utils.pagination.KeysetCursor;
 import com.pragma.home360.home.domain.utils.pagination.PagedResult;
 import com.pragma.home360.home.domain.utils.pagination.PaginationUtils;
+import com.pragma.home360.home.infrastructure.cache.CountCache;
 import com.pragma.home360.home.infrastructure.entities.CategoryEntity;
 import com.pragma.home360.home.infrastructure.entities.LocationEntity;
 import com.pragma.home360.home.infrastructure.entities.PropertyEntity;
+import com.pragma.home360.home.infrastructure.entities.PropertyReadModelEntity;
+import com.pragma.home360.home.infrastructure.entities.PropertyTombstoneEntity;
 import com.pragma.home360.home.infrastructure.entities.enums.PropertyPublicationStatus;
+import com.pragma.home360.home.infrastructure.events.PropertyChangedEvent;
+import com.pragma.home360.home.infrastructure.events.PropertyDeletedEvent;
 import com.pragma.home360.home.infrastructure.mappers.PropertyEntityMapper;
 import com.pragma.home360.home.infrastructure.repositories.mysql.CategoryRepository;
 import com.pragma.home360.home.infrastructure.repositories.mysql.LocationRepository;
+import com.pragma.home360.home.infrastructure.repositories.mysql.PropertyCardRow;
+import com.pragma.home360.home.infrastructure.repositories.mysql.PropertyExportRow;
+import com.pragma.home360.home.infrastructure.repositories.mysql.PropertyFacetRow;
+import com.pragma.home360.home.infrastructure.repositories.mysql.PropertyFacetSourceRow;
+import com.pragma.home360.home.infrastructure.repositories.mysql.PropertyKeyRow;
+import com.pragma.home360.home.infrastructure.repositories.mysql.PropertyReadModelRepository;
 import com.pragma.home360.home.infrastructure.repositories.mysql.PropertyRepository;
-import jakarta.persistence.criteria.JoinType;
-import jakarta.persistence.criteria.Predicate;
+import com.pragma.home360.home.infrastructure.repositories.mysql.PropertyTombstoneRepository;
+import com.pragma.home360.home.infrastructure.repositories.mysql.specifications.PropertyReadModelSpecifications;
+import com.pragma.home360.home.infrastructure.repositories.mysql.specifications.PropertySpecifications;
+import com.pragma.home360.home.infrastructure.search.PropertySearchIndex;
+import com.pragma.home360.home.infrastructure.search.PropertySpatialIndex;
+import com.pragma.home360.home.infrastructure.search.PropertyTilePyramid;
+import com.pragma.home360.home.infrastructure.tasks.SchedulerLeaseRegistry;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils; // Para StringUtils.hasText
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.pragma.home360.home.domain.utils.constants.DomainConstants.PROPERTY_FACET_PRICE_BOUNDARIES;
+import static com.pragma.home360.home.domain.utils.constants.DomainConstants.PROPERTY_SEARCH_MAX_RESULTS;
+import static com.pragma.home360.home.domain.utils.constants.DomainConstants.PROPERTY_SORT_RELEVANCE;
 
 @Repository
 @RequiredArgsConstructor
 public class PropertyPersistenceAdapter implements PropertyPersistencePort {
     private static final Logger log = LoggerFactory.getLogger(PropertyPersistenceAdapter.class);
+    private static final String PROPERTY_COUNT_KEY = "property";
+
+    /**
+     * Filas por sentencia de inserción masiva y por consulta de hidratación posterior.
+     */
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    /**
+     * Coincidencias de búsqueda que todavía se filtran en la base de datos con {@code id IN (...)}. Con más,
+     * se recorren por keyset las filas que cumplen los filtros estructurados y se cruzan en memoria.
+     */
+    private static final int SEARCH_ID_FILTER_MAX = 1000;
+
+    /**
+     * Filas por consulta al recorrer por keyset el modelo de lectura durante una búsqueda.
+     */
+    private static final int SEARCH_SCAN_BATCH_SIZE = 2000;
     private final PropertyEntityMapper propertyEntityMapper;
     private final PropertyRepository propertyRepository;
     private final LocationRepository locationRepository;
     private final CategoryRepository categoryRepository;
+    private final PropertySearchIndex propertySearchIndex;
+    private final PropertySpatialIndex propertySpatialIndex;
+    private final PropertyTilePyramid propertyTilePyramid;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CountCache countCache;
+    private final PropertyReadModelRepository propertyReadModelRepository;
+    private final PropertyReadModelProjector propertyReadModelProjector;
+    private final PropertyTombstoneRepository propertyTombstoneRepository;
+    private final SchedulerLeaseRegistry schedulerLeaseRegistry;
 
 
     @Override
@@ -58,19 +123,218 @@ public class PropertyPersistenceAdapter implements PropertyPersistencePort {
         }
 
         PropertyEntity savedPropertyEntity = propertyRepository.save(propertyEntity);
-        return propertyEntityMapper.toModel(savedPropertyEntity);
+        PropertyModel savedProperty = propertyEntityMapper.toModel(savedPropertyEntity);
+        propertyReadModelProjector.refresh(savedPropertyEntity.getId());
+        countCache.invalidate(PROPERTY_COUNT_KEY);
+        eventPublisher.publishEvent(new PropertyChangedEvent(savedProperty));
+        return savedProperty;
+    }
+
+    /**
+     * Tras insertar por lotes, hidrata las propiedades nuevas por bloques para publicar sus eventos
+     * con la ubicación completa que necesitan los índices.
+     */
+    @Override
+    @Transactional
+    public List<Long> saveProperties(List<PropertyModel> propertyModels) {
+        List<PropertyEntity> entities = propertyModels.stream()
+                .map(propertyEntityMapper::toEntity)
+                .toList();
+        List<Long> ids = propertyRepository.insertAll(entities, INSERT_BATCH_SIZE);
+        propertyReadModelProjector.refresh(ids);
+        countCache.invalidate(PROPERTY_COUNT_KEY);
+
+        for (int start = 0; start < ids.size(); start += INSERT_BATCH_SIZE) {
+            propertyRepository.findAllWithDetailsByIdIn(ids.subList(start, Math.min(start + INSERT_BATCH_SIZE, ids.size())))
+                    .forEach(entity -> eventPublisher.publishEvent(new PropertyChangedEvent(propertyEntityMapper.toModel(entity))));
+        }
+        return ids;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<PropertyModel> getPropertyById(Long id) {
-        return propertyRepository.findById(id)
+        return propertyRepository.findAllWithDetailsByIdIn(List.of(id)).stream()
+                .findFirst()
                 .map(propertyEntityMapper::toModel);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PropertyModel> reloadPropertyById(Long id) {
+        return getPropertyById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PropertyModel> getPropertiesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return propertyRepository.findAllWithDetailsByIdIn(ids).stream()
+                .map(propertyEntityMapper::toModel)
+                .toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PagedResult<PropertyModel> getAllProperties(PropertyFilterModel filterModel) {
+        return list(filterModel, new EntityReader()).map(propertyEntityMapper::toModel);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResult<PropertyCardModel> getPropertyCards(PropertyFilterModel filterModel) {
+        return list(filterModel, new CardReader()).map(PropertyPersistenceAdapter::toCardModel);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PropertyVersionModel> getPropertyVersion(Long id) {
+        return propertyRepository.findUpdatedAtById(id)
+                .map(updatedAt -> new PropertyVersionModel(id, updatedAt));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PropertyFacetsModel getPropertyFacets(PropertyFilterModel filterModel) {
+        Specification<PropertyEntity> spec = PropertySpecifications.matches(filterModel.criteria());
+        if (StringUtils.hasText(filterModel.searchTerm())) {
+            Map<Long, Float> matches = propertySearchIndex.match(filterModel.searchTerm());
+            if (matches.isEmpty()) {
+                return toFacetsModel(Collections.emptyList());
+            }
+            if (matches.size() > SEARCH_ID_FILTER_MAX) {
+                return toFacetsModel(scanFacets(PropertyReadModelSpecifications.matches(filterModel.criteria()), matches.keySet()));
+            }
+            spec = spec.and(PropertySpecifications.idIn(matches.keySet()));
+        }
+        return toFacetsModel(propertyRepository.countFacets(spec, PROPERTY_FACET_PRICE_BOUNDARIES));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<NearestPropertyModel> getNearestProperties(double latitude, double longitude, int limit, Long excludedPropertyId) {
+        List<PropertySpatialIndex.SpatialNeighbor> neighbors =
+                propertySpatialIndex.nearest(latitude, longitude, limit, excludedPropertyId);
+        if (neighbors.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, PropertyEntity> byId = hydrate(neighbors.stream().map(PropertySpatialIndex.SpatialNeighbor::propertyId).toList())
+                .stream()
+                .collect(Collectors.toMap(PropertyEntity::getId, Function.identity()));
+        return neighbors.stream()
+                .filter(neighbor -> byId.containsKey(neighbor.propertyId()))
+                .map(neighbor -> new NearestPropertyModel(
+                        propertyEntityMapper.toModel(byId.get(neighbor.propertyId())), neighbor.distanceKm()))
+                .toList();
+    }
+
+    @Override
+    public List<PropertyClusterModel> getPropertyClusters(MapViewportModel viewport) {
+        return propertyTilePyramid.clusters(viewport);
+    }
+
+    /**
+     * Consolida las filas categoría/ciudad de la agregación en las tres facetas.
+     */
+    private static PropertyFacetsModel toFacetsModel(List<PropertyFacetRow> rows) {
+        Map<Long, FacetCountModel> categories = new HashMap<>();
+        Map<Long, FacetCountModel> cities = new HashMap<>();
+        long[] priceBucketCounts = new long[PROPERTY_FACET_PRICE_BOUNDARIES.size() + 1];
+        long total = 0;
+
+        for (PropertyFacetRow row : rows) {
+            total += row.count();
+            categories.merge(row.categoryId(), new FacetCountModel(row.categoryId(), row.categoryName(), row.count()),
+                    PropertyPersistenceAdapter::sumCounts);
+            if (row.cityId() != null) {
+                cities.merge(row.cityId(), new FacetCountModel(row.cityId(), row.cityName(), row.count()),
+                        PropertyPersistenceAdapter::sumCounts);
+            }
+            for (int bucket = 0; bucket < priceBucketCounts.length; bucket++) {
+                priceBucketCounts[bucket] += row.priceBucketCounts()[bucket];
+            }
+        }
+
+        List<PriceRangeFacetModel> priceRanges = new ArrayList<>();
+        for (int bucket = 0; bucket < priceBucketCounts.length; bucket++) {
+            priceRanges.add(new PriceRangeFacetModel(
+                    bucket == 0 ? null : PROPERTY_FACET_PRICE_BOUNDARIES.get(bucket - 1),
+                    bucket == PROPERTY_FACET_PRICE_BOUNDARIES.size() ? null : PROPERTY_FACET_PRICE_BOUNDARIES.get(bucket),
+                    priceBucketCounts[bucket]
+            ));
+        }
+        return new PropertyFacetsModel(total, sortByCount(categories.values()), sortByCount(cities.values()), priceRanges);
+    }
+
+    /**
+     * Facetas de una búsqueda con muchas coincidencias: recorre por id las filas del modelo de lectura que
+     * cumplen los filtros y agrega en memoria las que están entre las coincidencias.
+     */
+    private List<PropertyFacetRow> scanFacets(Specification<PropertyReadModelEntity> criteriaSpec, Set<Long> matchIds) {
+        Map<List<Long>, PropertyFacetRow> rows = new HashMap<>();
+        Specification<PropertyReadModelEntity> batchSpec = criteriaSpec;
+        List<PropertyFacetSourceRow> batch;
+        do {
+            batch = propertyReadModelRepository.findFacetSources(batchSpec, SEARCH_SCAN_BATCH_SIZE);
+            for (PropertyFacetSourceRow source : batch) {
+                if (matchIds.contains(source.id())) {
+                    rows.merge(Arrays.asList(source.categoryId(), source.cityId()), toFacetRow(source),
+                            PropertyPersistenceAdapter::sumFacetRows);
+                }
+            }
+            if (!batch.isEmpty()) {
+                KeysetCursor last = new KeysetCursor("id", Sort.Direction.ASC.name(), batch.get(batch.size() - 1).id(), null);
+                batchSpec = criteriaSpec.and(PropertySpecifications.after(last));
+            }
+        } while (batch.size() == SEARCH_SCAN_BATCH_SIZE);
+        return new ArrayList<>(rows.values());
+    }
+
+    /**
+     * Una propiedad como fila de facetas, en el mismo rango de precio que le asigna la agregación en SQL.
+     */
+    private static PropertyFacetRow toFacetRow(PropertyFacetSourceRow source) {
+        long[] priceBucketCounts = new long[PROPERTY_FACET_PRICE_BOUNDARIES.size() + 1];
+        if (source.price() != null) {
+            int bucket = 0;
+            while (bucket < PROPERTY_FACET_PRICE_BOUNDARIES.size()
+                    && source.price().compareTo(PROPERTY_FACET_PRICE_BOUNDARIES.get(bucket)) >= 0) {
+                bucket++;
+            }
+            priceBucketCounts[bucket] = 1;
+        }
+        return new PropertyFacetRow(source.categoryId(), source.categoryName(), source.cityId(), source.cityName(),
+                1, priceBucketCounts);
+    }
+
+    private static PropertyFacetRow sumFacetRows(PropertyFacetRow current, PropertyFacetRow other) {
+        long[] priceBucketCounts = current.priceBucketCounts().clone();
+        for (int bucket = 0; bucket < priceBucketCounts.length; bucket++) {
+            priceBucketCounts[bucket] += other.priceBucketCounts()[bucket];
+        }
+        return new PropertyFacetRow(current.categoryId(), current.categoryName(), current.cityId(), current.cityName(),
+                current.count() + other.count(), priceBucketCounts);
+    }
+
+    private static FacetCountModel sumCounts(FacetCountModel current, FacetCountModel other) {
+        return new FacetCountModel(current.id(), current.name(), current.count() + other.count());
+    }
+
+    private static List<FacetCountModel> sortByCount(Collection<FacetCountModel> facets) {
+        return facets.stream()
+                .sorted(Comparator.comparingLong(FacetCountModel::count).reversed()
+                        .thenComparing(FacetCountModel::name, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+    }
+
+    /**
+     * Resuelve el listado común a propiedades completas y tarjetas: búsqueda por texto, orden por
+     * relevancia, cursor, página sin totales o página con total. Filtra, ordena, pagina y cuenta sobre
+     * {@code property_read_model}, sin joins; solo cambia cómo {@code reader} lee las filas de la ventana.
+     */
+    private <T> PagedResult<T> list(PropertyFilterModel filterModel, ListingReader<T> reader) {
         Sort.Direction direction = StringUtils.hasText(filterModel.direction()) ?
                 Sort.Direction.fromString(filterModel.direction()) :
                 Sort.Direction.ASC;
@@ -79,40 +343,347 @@ public class PropertyPersistenceAdapter implements PropertyPersistencePort {
                 filterModel.sortField() :
                 "id";
 
-        Pageable pageable = PaginationUtils.createPageable(
+        Specification<PropertyReadModelEntity> criteriaSpec = PropertyReadModelSpecifications.matches(filterModel.criteria());
+
+        Map<Long, Float> matches = null;
+        if (StringUtils.hasText(filterModel.searchTerm())) {
+            matches = propertySearchIndex.match(filterModel.searchTerm());
+            if (matches.isEmpty()) {
+                return new PagedResult<>(Collections.emptyList(), filterModel.page(), filterModel.size(), 0, 0);
+            }
+            if (PROPERTY_SORT_RELEVANCE.equals(sortField) && !filterModel.isCursorMode()) {
+                return getPropertiesByRelevance(filterModel, criteriaSpec, matches, reader);
+            }
+        }
+        if (PROPERTY_SORT_RELEVANCE.equals(sortField)) {
+            sortField = "id";
+        }
+        if (matches != null && matches.size() > SEARCH_ID_FILTER_MAX) {
+            return getSearchMatchesByScan(filterModel, criteriaSpec, matches.keySet(), sortField, direction, reader);
+        }
+        Specification<PropertyReadModelEntity> spec = matches != null
+                ? criteriaSpec.and(PropertySpecifications.idIn(matches.keySet()))
+                : criteriaSpec;
+
+        Sort sort = PropertySpecifications.keysetSort(sortField, direction);
+
+        if (filterModel.isCursorMode()) {
+            return getPropertiesAfterCursor(filterModel, spec, sort, sortField, direction, reader);
+        }
+
+        Pageable pageable = PaginationUtils.createPageable(filterModel.page(), filterModel.size(), sort);
+        if (!filterModel.withTotal()) {
+            return getPropertiesSlice(filterModel, spec, sort, pageable, sortField, direction, reader);
+        }
+        Page<T> page = PageableExecutionUtils.getPage(
+                reader.window(spec, sort, sortField, pageable.getOffset(), pageable.getPageSize()),
+                pageable,
+                () -> countProperties(filterModel, () -> propertyReadModelRepository.count(spec))
+        );
+
+        String nextCursor = page.hasNext() && page.hasContent()
+                ? buildCursor(reader, page.getContent().get(page.getNumberOfElements() - 1), sortField, direction)
+                : null;
+        return PaginationUtils.toPagedResult(page, nextCursor);
+    }
+
+    private <T> PagedResult<T> getPropertiesAfterCursor(PropertyFilterModel filterModel,
+                                                        Specification<PropertyReadModelEntity> spec,
+                                                        Sort sort,
+                                                        String sortField,
+                                                        Sort.Direction direction,
+                                                        ListingReader<T> reader) {
+        int size = filterModel.size();
+        KeysetCursor cursor = KeysetCursor.decode(filterModel.cursor());
+
+        List<T> window = reader.window(spec.and(PropertySpecifications.after(cursor)), sort, sortField, 0, size + 1);
+        boolean hasNext = window.size() > size;
+        List<T> content = hasNext ? window.subList(0, size) : window;
+
+        String nextCursor = hasNext ? buildCursor(reader, content.get(content.size() - 1), sortField, direction) : null;
+
+        if (!filterModel.withTotal()) {
+            return PagedResult.slice(content, filterModel.page(), size, hasNext, nextCursor);
+        }
+        long totalElements = countProperties(filterModel, () -> propertyReadModelRepository.count(spec));
+        return new PagedResult<>(
+                content,
+                filterModel.page(),
+                size,
+                totalElements,
+                PaginationUtils.totalPages(totalElements, size),
+                nextCursor,
+                hasNext
+        );
+    }
+
+    /**
+     * Modo sin totales: se pide una fila de más para saber si hay página siguiente y se evita el
+     * {@code COUNT(*)}.
+     */
+    private <T> PagedResult<T> getPropertiesSlice(PropertyFilterModel filterModel,
+                                                  Specification<PropertyReadModelEntity> spec,
+                                                  Sort sort,
+                                                  Pageable pageable,
+                                                  String sortField,
+                                                  Sort.Direction direction,
+                                                  ListingReader<T> reader) {
+        int size = pageable.getPageSize();
+        List<T> window = reader.window(spec, sort, sortField, pageable.getOffset(), size + 1);
+        boolean hasNext = window.size() > size;
+        List<T> content = hasNext ? window.subList(0, size) : window;
+
+        String nextCursor = hasNext ? buildCursor(reader, content.get(content.size() - 1), sortField, direction) : null;
+        return PagedResult.slice(content, filterModel.page(), size, hasNext, nextCursor);
+    }
+
+    /**
+     * Total aproximado: se reutiliza el conteo del mismo filtro normalizado mientras siga vigente en caché.
+     */
+    private long countProperties(PropertyFilterModel filterModel, LongSupplier counter) {
+        String key = PROPERTY_COUNT_KEY + "|" + filterModel.criteria() + "|" + filterModel.searchTerm();
+        return countCache.get(key, counter::getAsLong);
+    }
+
+    /**
+     * Listado de una búsqueda con más de {@code SEARCH_ID_FILTER_MAX} coincidencias, sin enviarlas a la base
+     * de datos: recorre por keyset, en el orden pedido, las filas que cumplen los filtros estructurados y
+     * se queda con las que coinciden hasta completar la página. Con tantas coincidencias la mayoría de las
+     * filas recorridas son de la búsqueda, así que el recorrido se detiene pronto.
+     */
+    private <T> PagedResult<T> getSearchMatchesByScan(PropertyFilterModel filterModel,
+                                                      Specification<PropertyReadModelEntity> criteriaSpec,
+                                                      Set<Long> matchIds,
+                                                      String sortField,
+                                                      Sort.Direction direction,
+                                                      ListingReader<T> reader) {
+        int size = filterModel.size();
+        long offset = (long) filterModel.page() * size;
+        Specification<PropertyReadModelEntity> spec = criteriaSpec;
+        if (filterModel.isCursorMode()) {
+            offset = 0;
+            spec = spec.and(PropertySpecifications.after(KeysetCursor.decode(filterModel.cursor())));
+        }
+
+        List<PropertyKeyRow> keys = scanMatches(spec, sortField, direction, matchIds, offset + size + 1);
+        List<PropertyKeyRow> window = keys.subList((int) Math.min(offset, keys.size()), (int) Math.min(offset + size, keys.size()));
+        boolean hasNext = keys.size() > offset + size;
+        List<T> content = reader.byIds(window.stream().map(PropertyKeyRow::id).toList());
+        String nextCursor = hasNext && !window.isEmpty()
+                ? toCursor(window.get(window.size() - 1), sortField, direction).encode()
+                : null;
+
+        if (!filterModel.withTotal()) {
+            return PagedResult.slice(content, filterModel.page(), size, hasNext, nextCursor);
+        }
+        long totalElements = countProperties(filterModel,
+                () -> filterMatches(filterModel.criteria(), criteriaSpec, matchIds).size());
+        return new PagedResult<>(
+                content,
                 filterModel.page(),
-                filterModel.size(),
-                sortField,
-                direction
+                size,
+                totalElements,
+                PaginationUtils.totalPages(totalElements, size),
+                nextCursor,
+                hasNext
         );
+    }
 
-        Specification<PropertyEntity> spec = (root, query, criteriaBuilder) -> {
-            List<Predicate> predicates = new ArrayList<>();
-            assert query != null;
-            if (query.getResultType() != Long.class && query.getResultType() != long.class) { // No aplicar fetch para count queries
-                root.fetch("location", JoinType.LEFT);
-                root.fetch("category", JoinType.LEFT);
-                root.fetch("images", JoinType.LEFT);
+    /**
+     * Coincidencias de la búsqueda que además cumplen los filtros estructurados. Hasta
+     * {@code SEARCH_ID_FILTER_MAX} se resuelve con {@code id IN (...)}; con más, recorriendo por id las
+     * filas que cumplen los filtros.
+     */
+    private Set<Long> filterMatches(PropertyCriteriaModel criteria,
+                                    Specification<PropertyReadModelEntity> criteriaSpec,
+                                    Set<Long> matchIds) {
+        if (criteria.isEmpty()) {
+            return matchIds;
+        }
+        if (matchIds.size() <= SEARCH_ID_FILTER_MAX) {
+            return new HashSet<>(propertyReadModelRepository.findIds(
+                    criteriaSpec.and(PropertySpecifications.idIn(matchIds)), Sort.unsorted(), 0, matchIds.size()));
+        }
+        return scanMatches(criteriaSpec, "id", Sort.Direction.ASC, matchIds, Long.MAX_VALUE).stream()
+                .map(PropertyKeyRow::id)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Recorre por keyset las filas de {@code spec} en el orden pedido, en lotes de
+     * {@code SEARCH_SCAN_BATCH_SIZE}, y devuelve en ese orden las que están en {@code matchIds}, hasta
+     * {@code limit}.
+     */
+    private List<PropertyKeyRow> scanMatches(Specification<PropertyReadModelEntity> spec,
+                                             String sortField,
+                                             Sort.Direction direction,
+                                             Set<Long> matchIds,
+                                             long limit) {
+        Sort sort = PropertySpecifications.keysetSort(sortField, direction);
+        List<PropertyKeyRow> matched = new ArrayList<>();
+        Specification<PropertyReadModelEntity> batchSpec = spec;
+        List<PropertyKeyRow> batch;
+        do {
+            batch = propertyReadModelRepository.findKeys(batchSpec, sort, sortField, SEARCH_SCAN_BATCH_SIZE);
+            for (PropertyKeyRow key : batch) {
+                if (matchIds.contains(key.id())) {
+                    matched.add(key);
+                    if (matched.size() >= limit) {
+                        return matched;
+                    }
+                }
             }
+            if (!batch.isEmpty()) {
+                batchSpec = spec.and(PropertySpecifications.after(toCursor(batch.get(batch.size() - 1), sortField, direction)));
+            }
+        } while (batch.size() == SEARCH_SCAN_BATCH_SIZE);
+        return matched;
+    }
+
+    private static KeysetCursor toCursor(PropertyKeyRow key, String sortField, Sort.Direction direction) {
+        return new KeysetCursor(sortField, direction.name(), key.id(), PropertySpecifications.toCursorValue(key.sortValue()));
+    }
+
+    /**
+     * Pagina en memoria sobre todas las coincidencias del índice de búsqueda, descartando antes las que no
+     * cumplen los filtros estructurados (ver {@link #filterMatches}). Solo las {@code PROPERTY_SEARCH_MAX_RESULTS}
+     * más relevantes se ordenan por puntaje; el resto sigue por id, así que el total y las páginas
+     * posteriores cubren todas las coincidencias.
+     */
+    private <T> PagedResult<T> getPropertiesByRelevance(PropertyFilterModel filterModel,
+                                                        Specification<PropertyReadModelEntity> criteriaSpec,
+                                                        Map<Long, Float> matches,
+                                                        ListingReader<T> reader) {
+        Set<Long> candidateIds = filterMatches(filterModel.criteria(), criteriaSpec, matches.keySet());
+        int total = candidateIds.size();
+        int size = filterModel.size();
+        int from = (int) Math.min((long) filterModel.page() * size, total);
+        int to = Math.min(from + size, total);
+
+        List<Long> orderedIds = PropertySearchIndex.rank(matches, candidateIds, PROPERTY_SEARCH_MAX_RESULTS);
+        if (to > orderedIds.size()) {
+            Set<Long> rankedIds = new HashSet<>(orderedIds);
+            orderedIds = Stream.concat(orderedIds.stream(), candidateIds.stream()
+                            .filter(id -> !rankedIds.contains(id))
+                            .sorted())
+                    .toList();
+        }
+        List<T> content = reader.byIds(orderedIds.subList(from, to));
+
+        return new PagedResult<>(
+                content,
+                filterModel.page(),
+                size,
+                total,
+                PaginationUtils.totalPages(total, size)
+        );
+    }
+
+    /**
+     * Carga las entidades de la ventana en una sola consulta y restaura el orden de la primera fase.
+     */
+    private List<PropertyEntity> hydrate(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, PropertyEntity> byId = propertyRepository.findAllWithDetailsByIdIn(ids).stream()
+                .collect(Collectors.toMap(PropertyEntity::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private static <T> String buildCursor(ListingReader<T> reader, T last, String sortField, Sort.Direction direction) {
+        return new KeysetCursor(sortField, direction.name(), reader.id(last),
+                PropertySpecifications.toCursorValue(reader.sortValue(last, sortField))).encode();
+    }
+
+    private static PropertyCardModel toCardModel(PropertyCardRow row) {
+        return new PropertyCardModel(row.id(), row.name(), row.price(), row.numberOfRooms(), row.numberOfBathrooms(),
+                row.cityName(), row.neighborhoodName(), row.mainImageUrl(), row.imageCount());
+    }
+
+    /**
+     * Lectura de las filas de una ventana del listado.
+     */
+    private interface ListingReader<T> {
+
+        /**
+         * Filas que cumplen {@code spec} en el orden y rango indicados.
+         */
+        List<T> window(Specification<PropertyReadModelEntity> spec, Sort sort, String sortField, long offset, int limit);
 
+        /**
+         * Filas de los ids indicados, en ese mismo orden.
+         */
+        List<T> byIds(List<Long> ids);
 
-            if (StringUtils.hasText(filterModel.searchTerm())) {
-                String likePattern = "%" + filterModel.searchTerm().toLowerCase() + "%";
-                predicates.add(criteriaBuilder.or(
-                        criteriaBuilder.like(criteriaBuilder.lower(root.get("name")), likePattern),
-                        criteriaBuilder.like(criteriaBuilder.lower(root.get("description")), likePattern),
-                        criteriaBuilder.like(criteriaBuilder.lower(root.get("category").get("name")), likePattern),
-                        criteriaBuilder.like(criteriaBuilder.lower(root.get("location").get("address")), likePattern),
-                        criteriaBuilder.like(criteriaBuilder.lower(root.get("location").get("neighborhood").get("name")), likePattern),
-                        criteriaBuilder.like(criteriaBuilder.lower(root.get("location").get("neighborhood").get("city").get("name")), likePattern)
-                ));
+        Long id(T row);
+
+        Object sortValue(T row, String sortField);
+    }
+
+    /**
+     * Propiedad completa: primero los ids de la ventana y luego las entidades con sus relaciones.
+     */
+    private class EntityReader implements ListingReader<PropertyEntity> {
+
+        @Override
+        public List<PropertyEntity> window(Specification<PropertyReadModelEntity> spec, Sort sort, String sortField, long offset, int limit) {
+            return hydrate(propertyReadModelRepository.findIds(spec, sort, offset, limit));
+        }
+
+        @Override
+        public List<PropertyEntity> byIds(List<Long> ids) {
+            return hydrate(ids);
+        }
+
+        @Override
+        public Long id(PropertyEntity row) {
+            return row.getId();
+        }
+
+        @Override
+        public Object sortValue(PropertyEntity row, String sortField) {
+            return new BeanWrapperImpl(row).getPropertyValue(sortField);
+        }
+    }
+
+    /**
+     * Tarjeta: una sola consulta de proyección sobre el modelo de lectura, sin entidades ni joins.
+     */
+    private class CardReader implements ListingReader<PropertyCardRow> {
+
+        @Override
+        public List<PropertyCardRow> window(Specification<PropertyReadModelEntity> spec, Sort sort, String sortField, long offset, int limit) {
+            return propertyReadModelRepository.findCards(spec, sort, sortField, offset, limit);
+        }
+
+        @Override
+        public List<PropertyCardRow> byIds(List<Long> ids) {
+            if (ids.isEmpty()) {
+                return Collections.emptyList();
             }
+            Map<Long, PropertyCardRow> byId = propertyReadModelRepository.findCards(
+                            PropertySpecifications.idIn(ids), Sort.unsorted(), "id", 0, ids.size())
+                    .stream()
+                    .collect(Collectors.toMap(PropertyCardRow::id, Function.identity()));
+            return ids.stream()
+                    .map(byId::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        }
 
-            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
-        };
+        @Override
+        public Long id(PropertyCardRow row) {
+            return row.id();
+        }
 
-        Page<PropertyEntity> propertyEntityPage = propertyRepository.findAll(spec, pageable);
-        return PaginationUtils.toPagedResult(propertyEntityPage.map(propertyEntityMapper::toModel));
+        @Override
+        public Object sortValue(PropertyCardRow row, String sortField) {
+            return row.sortValue();
+        }
     }
 
     @Override
@@ -140,7 +711,10 @@ public class PropertyPersistenceAdapter implements PropertyPersistencePort {
             existingEntity.setLocation(location);
         }
 
-        propertyRepository.save(existingEntity);
+        PropertyEntity savedEntity = propertyRepository.save(existingEntity);
+        propertyReadModelProjector.refresh(id);
+        countCache.invalidate(PROPERTY_COUNT_KEY);
+        eventPublisher.publishEvent(new PropertyChangedEvent(propertyEntityMapper.toModel(savedEntity)));
     }
 
     @Override
@@ -150,6 +724,13 @@ public class PropertyPersistenceAdapter implements PropertyPersistencePort {
             throw new com.pragma.home360.home.domain.exceptions.ModelNotFoundException("Property not found with id: " + id);
         }
         propertyRepository.deleteById(id);
+        propertyReadModelProjector.remove(id);
+        PropertyTombstoneEntity tombstone = new PropertyTombstoneEntity();
+        tombstone.setPropertyId(id);
+        tombstone.setDeletedAt(LocalDateTime.now());
+        propertyTombstoneRepository.save(tombstone);
+        countCache.invalidate(PROPERTY_COUNT_KEY);
+        eventPublisher.publishEvent(new PropertyDeletedEvent(id));
     }
 
     @Override
@@ -164,50 +745,52 @@ public class PropertyPersistenceAdapter implements PropertyPersistencePort {
         return propertyRepository.existsByName(name);
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public List<PropertyModel> findByPublicationStatusAndActiveDateLessThanEqual(PropertyPublicationStatus status, LocalDate date) {
-        List<PropertyEntity> entities = propertyRepository.findAllByPublicationStatusAndActivePublicationDateLessThanEqual(status, date);
-        return entities.stream()
-                .map(propertyEntityMapper::toModel)
-                .collect(Collectors.toList());
-    }
-
+    /**
+     * Bloquea los ids del bloque y los actualiza en una sola sentencia, sin cargar ni guardar entidades.
+     * MySQL no devuelve las filas afectadas por un {@code UPDATE ... LIMIT}, por eso los ids se leen
+     * antes con {@code FOR UPDATE}; ambas sentencias recorren el índice por estado y fecha activa. Si lo
+     * ejecuta una tarea programada, antes comprueba en la misma transacción que su concesión sigue vigente.
+     */
     @Override
     @Transactional
-    public void updateProperties(List<PropertyModel> propertyModels) {
-        if (propertyModels == null || propertyModels.isEmpty()) {
-            return;
+    public List<Long> publishPendingProperties(LocalDate date, int limit) {
+        schedulerLeaseRegistry.fence();
+        List<Long> ids = propertyRepository.findIdsForUpdateByPublicationStatusDueBy(
+                PropertyPublicationStatus.PUBLICATION_PENDING, date, PageRequest.ofSize(limit));
+        if (ids.isEmpty()) {
+            return ids;
         }
+        propertyRepository.updatePublicationStatus(ids, PropertyPublicationStatus.PUBLICATION_PENDING,
+                PropertyPublicationStatus.PUBLISHED, LocalDateTime.now());
+        propertyReadModelProjector.refresh(ids);
+        countCache.invalidate(PROPERTY_COUNT_KEY);
+        propertyRepository.findAllWithDetailsByIdIn(ids)
+                .forEach(entity -> eventPublisher.publishEvent(new PropertyChangedEvent(propertyEntityMapper.toModel(entity))));
+        return ids;
+    }
 
-        List<Long> propertyIds = propertyModels.stream()
-                .map(PropertyModel::getId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-
-        if (propertyIds.isEmpty()) {
-            return;
-        }
-
-        Map<Long, PropertyEntity> entityMap = propertyRepository.findAllById(propertyIds).stream()
-                .collect(Collectors.toMap(PropertyEntity::getId, Function.identity()));
-
-        List<PropertyEntity> entitiesToSave = new ArrayList<>();
-        for (PropertyModel model : propertyModels) {
-            if (model.getId() == null) {
-                continue;
-            }
-            PropertyEntity entity = entityMap.get(model.getId());
-            if (entity != null) {
-                entity.setPublicationStatus(model.getPublicationStatus());
-                entitiesToSave.add(entity);
-            } else {
-            }
-        }
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LocalDate> findNextPendingPublicationDate() {
+        return propertyRepository.findMinActivePublicationDateByPublicationStatus(PropertyPublicationStatus.PUBLICATION_PENDING);
+    }
 
-        if (!entitiesToSave.isEmpty()) {
-            propertyRepository.saveAll(entitiesToSave);
+    /**
+     * Las filas se proyectan sin pasar por entidades, así que el contexto de persistencia no crece
+     * durante el recorrido y no hace falta limpiarlo.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachPublishedProperty(Consumer<PropertyExportModel> consumer) {
+        try (Stream<PropertyExportRow> rows = propertyRepository.streamExportRows(PropertyPublicationStatus.PUBLISHED)) {
+            rows.map(PropertyPersistenceAdapter::toExportModel).forEach(consumer);
         }
     }
 
+    private static PropertyExportModel toExportModel(PropertyExportRow row) {
+        return new PropertyExportModel(row.id(), row.name(), row.description(), row.price(), row.numberOfRooms(),
+                row.numberOfBathrooms(), row.categoryName(), row.address(), row.latitude(), row.longitude(),
+                row.neighborhoodName(), row.cityName(), row.departmentName(), row.activePublicationDate(),
+                row.mainImageUrl());
+    }
 }
@@ -0,0 +1,182 @@
+package com.pragma.home360.home.infrastructure.adapters.persistence;
+
+import com.pragma.home360.home.domain.utils.text.TextNormalizer;
+import com.pragma.home360.home.infrastructure.entities.PropertyReadModelEntity;
+import com.pragma.home360.home.infrastructure.events.CatalogEntryChangedEvent;
+import com.pragma.home360.home.infrastructure.events.LocationChangedEvent;
+import com.pragma.home360.home.infrastructure.repositories.mysql.PropertyReadModelRepository;
+import com.pragma.home360.home.infrastructure.repositories.mysql.PropertyReadModelSourceRow;
+import com.pragma.home360.home.infrastructure.repositories.mysql.PropertyRepository;
+import com.pragma.home360.home.infrastructure.repositories.mysql.specifications.PropertyReadModelSpecifications;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.pragma.home360.home.domain.utils.constants.DomainConstants.PROPERTY_READ_MODEL_LOG_BACKFILLED;
+
+/**
+ * Mantiene {@code property_read_model} a partir de las tablas normalizadas. Las escrituras de
+ * propiedades e imágenes lo llaman dentro de su propia transacción, así que el modelo de lectura se
+ * confirma o se revierte junto con ellas. Los cambios de catálogos y ubicaciones llegan por eventos y
+ * reescriben las filas que los referencian.
+ */
+@Component
+@RequiredArgsConstructor
+public class PropertyReadModelProjector {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertyReadModelProjector.class);
+    private static final int BATCH_SIZE = 500;
+
+    private final PropertyRepository propertyRepository;
+    private final PropertyReadModelRepository propertyReadModelRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Reconcilia la tabla al arrancar: crea las filas de las propiedades que aún no tienen, como las
+     * creadas antes de existir la tabla; reescribe las que quedaron desactualizadas, comparando su
+     * {@code updated_at} con el de la propiedad; y elimina las de propiedades que ya no existen. Cada
+     * bloque se confirma en su propia transacción, así que el primer arranque sobre una tabla grande no
+     * mantiene una sola transacción abierta durante todo el recorrido.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long start = System.currentTimeMillis();
+        PageRequest page = PageRequest.ofSize(BATCH_SIZE);
+        int missing = refreshInBatches(afterId -> propertyReadModelRepository.findPropertyIdsWithoutReadModelAfter(afterId, page));
+        int stale = refreshInBatches(afterId -> propertyReadModelRepository.findPropertyIdsWithStaleReadModelAfter(afterId, page));
+        int orphaned = refreshInBatches(afterId -> propertyReadModelRepository.findReadModelIdsWithoutPropertyAfter(afterId, page));
+        log.info(PROPERTY_READ_MODEL_LOG_BACKFILLED, missing, stale, orphaned, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Reescribe las filas que muestran el nombre de la categoría, barrio, ciudad o departamento guardado.
+     */
+    @EventListener
+    public void onCatalogEntryChanged(CatalogEntryChangedEvent event) {
+        String field = switch (event.type()) {
+            case CATEGORY -> "categoryId";
+            case NEIGHBORHOOD -> "neighborhoodId";
+            case CITY -> "cityId";
+            case DEPARTMENT -> "departmentId";
+            case PROPERTY -> null;
+        };
+        if (field != null) {
+            refreshReferencing(field, event.id());
+        }
+    }
+
+    /**
+     * Reescribe las filas que muestran la dirección, coordenadas y catálogos de la ubicación guardada.
+     */
+    @EventListener
+    public void onLocationChanged(LocationChangedEvent event) {
+        refreshReferencing("locationId", event.locationId());
+    }
+
+    /**
+     * Reescribe las filas de las propiedades indicadas con su estado actual; las que ya no existen
+     * quedan eliminadas. Por cada bloque se lee una consulta con los joins resueltos, se borra con una
+     * sentencia y se inserta por lotes JDBC.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refresh(Collection<Long> propertyIds) {
+        List<Long> ids = List.copyOf(propertyIds);
+        for (int start = 0; start < ids.size(); start += BATCH_SIZE) {
+            List<Long> chunk = ids.subList(start, Math.min(start + BATCH_SIZE, ids.size()));
+            List<PropertyReadModelEntity> rows = propertyRepository.findReadModelSourceRows(chunk).stream()
+                    .map(PropertyReadModelProjector::toEntity)
+                    .toList();
+            propertyReadModelRepository.deleteAllByIds(chunk);
+            propertyReadModelRepository.insertAll(rows, BATCH_SIZE);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refresh(Long propertyId) {
+        refresh(List.of(propertyId));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void remove(Long propertyId) {
+        propertyReadModelRepository.deleteAllByIds(List.of(propertyId));
+    }
+
+    private static PropertyReadModelEntity toEntity(PropertyReadModelSourceRow source) {
+        PropertyReadModelEntity row = new PropertyReadModelEntity();
+        row.setId(source.id());
+        row.setName(source.name());
+        row.setPrice(source.price());
+        row.setNumberOfRooms(source.numberOfRooms());
+        row.setNumberOfBathrooms(source.numberOfBathrooms());
+        row.setActivePublicationDate(source.activePublicationDate());
+        row.setPublicationStatus(source.publicationStatus());
+        row.setCategoryId(source.categoryId());
+        row.setCategoryName(source.categoryName());
+        row.setLocationId(source.locationId());
+        row.setAddress(source.address());
+        row.setLatitude(source.latitude());
+        row.setLongitude(source.longitude());
+        row.setNeighborhoodId(source.neighborhoodId());
+        row.setNeighborhoodName(source.neighborhoodName());
+        row.setCityId(source.cityId());
+        row.setCityName(source.cityName());
+        row.setDepartmentId(source.departmentId());
+        row.setDepartmentName(source.departmentName());
+        row.setMainImageUrl(source.mainImageUrl());
+        row.setImageCount(source.imageCount() != null ? source.imageCount().intValue() : 0);
+        row.setSearchText(searchText(source));
+        row.setCreatedAt(source.createdAt());
+        row.setUpdatedAt(source.updatedAt());
+        return row;
+    }
+
+    private void refreshReferencing(String field, Long id) {
+        Sort byId = Sort.by("id");
+        refreshInBatches(afterId -> propertyReadModelRepository.findIds(
+                PropertyReadModelSpecifications.referencingAfter(field, id, afterId), byId, 0, BATCH_SIZE));
+    }
+
+    /**
+     * Recorre por id los lotes que devuelve {@code nextBatch} y reescribe cada uno en su propia
+     * transacción, o en la del llamador si ya hay una.
+     *
+     * @return Cantidad de filas reescritas
+     */
+    private int refreshInBatches(LongFunction<List<Long>> nextBatch) {
+        long afterId = 0;
+        int total = 0;
+        List<Long> ids;
+        do {
+            ids = nextBatch.apply(afterId);
+            if (!ids.isEmpty()) {
+                List<Long> batch = ids;
+                transactionTemplate.executeWithoutResult(status -> refresh(batch));
+                afterId = ids.get(ids.size() - 1);
+                total += ids.size();
+            }
+        } while (ids.size() == BATCH_SIZE);
+        return total;
+    }
+
+    private static String searchText(PropertyReadModelSourceRow source) {
+        return TextNormalizer.normalize(Stream.of(source.name(), source.description(), source.address(),
+                        source.categoryName(), source.neighborhoodName(), source.cityName(), source.departmentName())
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(" ")));
+    }
+}
@@ -0,0 +1,53 @@
+package com.pragma.home360.home.infrastructure.adapters.persistence;
+
+import com.pragma.home360.home.domain.model.SavedSearchModel;
+import com.pragma.home360.home.domain.ports.out.SavedSearchPersistencePort;
+import com.pragma.home360.home.infrastructure.entities.SavedSearchEntity;
+import com.pragma.home360.home.infrastructure.events.SavedSearchChangedEvent;
+import com.pragma.home360.home.infrastructure.events.SavedSearchDeletedEvent;
+import com.pragma.home360.home.infrastructure.mappers.SavedSearchEntityMapper;
+import com.pragma.home360.home.infrastructure.repositories.mysql.SavedSearchMatchRepository;
+import com.pragma.home360.home.infrastructure.repositories.mysql.SavedSearchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class SavedSearchPersistenceAdapter implements SavedSearchPersistencePort {
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final SavedSearchMatchRepository savedSearchMatchRepository;
+    private final SavedSearchEntityMapper savedSearchEntityMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public SavedSearchModel saveSavedSearch(SavedSearchModel savedSearchModel) {
+        SavedSearchEntity savedEntity = savedSearchRepository.save(savedSearchEntityMapper.toEntity(savedSearchModel));
+        SavedSearchModel savedSearch = savedSearchEntityMapper.toModel(savedEntity);
+        eventPublisher.publishEvent(new SavedSearchChangedEvent(savedSearch));
+        return savedSearch;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<SavedSearchModel> getSavedSearchById(Long id) {
+        return savedSearchRepository.findById(id)
+                .map(savedSearchEntityMapper::toModel);
+    }
+
+    /**
+     * Borra también las coincidencias pendientes de la búsqueda para que no se envíen alertas huérfanas.
+     */
+    @Override
+    @Transactional
+    public void deleteSavedSearch(Long id) {
+        savedSearchMatchRepository.deleteBySavedSearchId(id);
+        savedSearchRepository.deleteById(id);
+        eventPublisher.publishEvent(new SavedSearchDeletedEvent(id));
+    }
+}
@@ -0,0 +1,63 @@
+package com.pragma.home360.home.infrastructure.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Caché de conteos totales por filtro normalizado. Los listados que piden totales reutilizan el
+ * último {@code COUNT(*)} durante un TTL corto, así que el total es aproximado: puede ir unos
+ * segundos por detrás de las escrituras que no invalidan explícitamente la clave.
+ */
+@Component
+public class CountCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Clock clock;
+
+    public CountCache(@Value("${home360.cache.count.ttl:30s}") Duration ttl,
+                      @Value("${home360.cache.count.max-entries:1000}") int maxEntries) {
+        this(ttl, maxEntries, Clock.systemUTC());
+    }
+
+    CountCache(Duration ttl, int maxEntries, Clock clock) {
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    public long get(String key, LongSupplier loader) {
+        long now = clock.millis();
+        Entry cached = entries.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.count();
+        }
+        long count = loader.getAsLong();
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+        }
+        entries.put(key, new Entry(count, now + ttlMillis));
+        return count;
+    }
+
+    public void invalidate(String keyPrefix) {
+        entries.keySet().removeIf(key -> key.startsWith(keyPrefix));
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    private record Entry(long count, long expiresAt) {
+    }
+}
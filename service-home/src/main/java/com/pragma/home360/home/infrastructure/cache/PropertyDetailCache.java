@@ -0,0 +1,101 @@
+package com.pragma.home360.home.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pragma.home360.home.domain.model.PropertyModel;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Caché del detalle de propiedades por id, con la propiedad ya armada junto con su categoría,
+ * ubicación e imágenes. Solo se guardan propiedades existentes; los ids desconocidos siempre consultan.
+ * <p>
+ * Las escrituras invalidan los ids que tocan. Una carga que empezó antes de cualquier invalidación no
+ * se guarda, porque pudo leer la versión anterior. Los modelos en caché se comparten entre peticiones
+ * y no se deben modificar.
+ * <p>
+ * Las invalidaciones solo llegan a esta réplica: lo que escribe otra sigue en caché hasta que vence. Quien
+ * necesita la versión vigente la compara con la de la base de datos y pide {@link #reload}.
+ */
+@Component
+public class PropertyDetailCache implements MeterBinder {
+
+    public static final String CACHE_NAME = "property.detail";
+
+    private final Cache<Long, PropertyModel> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PropertyDetailCache(@Value("${home360.cache.detail.ttl:10m}") Duration ttl,
+                               @Value("${home360.cache.detail.max-entries:10000}") long maxEntries) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<PropertyModel> get(Long id, Function<Long, Optional<PropertyModel>> loader) {
+        PropertyModel cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long invalidationsBeforeLoad = invalidations.get();
+        Optional<PropertyModel> loaded = loader.apply(id);
+        if (loaded.isPresent() && invalidationsBeforeLoad == invalidations.get()) {
+            cache.asMap().putIfAbsent(id, loaded.get());
+        }
+        return loaded;
+    }
+
+    /**
+     * Descarta la entrada del id y la vuelve a cargar, por ejemplo cuando la que había no coincide con la
+     * versión de la base de datos porque la escribió otra réplica.
+     */
+    public Optional<PropertyModel> reload(Long id, Function<Long, Optional<PropertyModel>> loader) {
+        evict(List.of(id));
+        return get(id, loader);
+    }
+
+    public void invalidate(Long id) {
+        invalidate(List.of(id));
+    }
+
+    /**
+     * Descarta los ids. Si hay una transacción en curso se vuelven a descartar al confirmarla, para
+     * quitar lo que otra petición haya cargado antes de que la escritura fuera visible.
+     */
+    public void invalidate(Collection<Long> ids) {
+        evict(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<Long> pending = List.copyOf(ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(pending);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    private void evict(Collection<Long> ids) {
+        invalidations.incrementAndGet();
+        cache.invalidateAll(ids);
+    }
+}
@@ -0,0 +1,168 @@
+package com.pragma.home360.home.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pragma.home360.home.domain.model.PropertyFilterModel;
+import com.pragma.home360.home.domain.model.PropertyModel;
+import com.pragma.home360.home.domain.utils.pagination.PagedResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static com.pragma.home360.home.domain.utils.constants.DomainConstants.PROPERTY_LISTING_CACHE_LOG_REFRESH_FAILED;
+import static com.pragma.home360.home.domain.utils.constants.DomainConstants.PROPERTY_LISTING_CACHE_LOG_REFRESH_REJECTED;
+
+/**
+ * Caché de páginas del listado de propiedades por filtro normalizado, acotada por la cantidad total
+ * de propiedades guardadas y con desalojo W-TinyLFU de Caffeine.
+ * <p>
+ * Las claves llevan la generación vigente: cada escritura la incrementa y las páginas anteriores dejan
+ * de ser alcanzables sin recorrer la caché. Pasado {@code fresh-for}, una página se sigue sirviendo
+ * mientras se recarga en segundo plano, así que una base de datos lenta no frena las búsquedas
+ * repetidas; después de {@code max-stale} se descarta.
+ * <p>
+ * Las recargas corren en un pool propio de {@code refresh-threads} hilos con una cola de
+ * {@code refresh-queue} tareas, para no ocupar el pool común de la JVM con consultas a la base de datos.
+ * Si la cola está llena la recarga se omite: la página vencida se sigue sirviendo y la próxima petición
+ * del mismo filtro vuelve a intentarla.
+ * <p>
+ * La generación es de cada réplica. Una escritura hecha en otra réplica no la incrementa, así que esta
+ * sigue sirviendo las páginas anteriores a esa escritura hasta que pasa {@code fresh-for} y la recarga
+ * en segundo plano las reemplaza, y como máximo hasta {@code max-stale} (30 s y 5 min por defecto).
+ */
+@Component
+public class PropertyListingCache implements MeterBinder, DisposableBean {
+
+    public static final String CACHE_NAME = "property.listing";
+
+    private static final Logger log = LoggerFactory.getLogger(PropertyListingCache.class);
+
+    private final Cache<Key, Entry> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final Set<Key> refreshing = ConcurrentHashMap.newKeySet();
+    private final long freshMillis;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+
+    public PropertyListingCache(@Value("${home360.cache.listing.fresh-for:30s}") Duration freshFor,
+                                @Value("${home360.cache.listing.max-stale:5m}") Duration maxStale,
+                                @Value("${home360.cache.listing.max-properties:20000}") long maxProperties,
+                                @Value("${home360.cache.listing.refresh-threads:2}") int refreshThreads,
+                                @Value("${home360.cache.listing.refresh-queue:100}") int refreshQueue) {
+        this(freshFor, maxStale, maxProperties, newRefreshExecutor(refreshThreads, refreshQueue), Clock.systemUTC());
+    }
+
+    PropertyListingCache(Duration freshFor, Duration maxStale, long maxProperties, Executor refreshExecutor, Clock clock) {
+        this.freshMillis = freshFor.toMillis();
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxProperties)
+                .weigher((Key key, Entry entry) -> 1 + entry.result().content().size())
+                .expireAfterWrite(maxStale)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Devuelve la página en caché o la carga con {@code loader}. Las cargas concurrentes de un mismo
+     * filtro se resuelven una sola vez.
+     */
+    public PagedResult<PropertyModel> get(PropertyFilterModel filter,
+                                          Function<PropertyFilterModel, PagedResult<PropertyModel>> loader) {
+        Key key = new Key(generation.get(), filter);
+        Entry entry = cache.get(key, missing -> new Entry(loader.apply(filter), clock.millis()));
+        if (clock.millis() - entry.loadedAt() > freshMillis && refreshing.add(key)) {
+            try {
+                refreshExecutor.execute(() -> refresh(key, loader));
+            } catch (RejectedExecutionException e) {
+                refreshing.remove(key);
+                log.debug(PROPERTY_LISTING_CACHE_LOG_REFRESH_REJECTED, key.filter());
+            }
+        }
+        return entry.result();
+    }
+
+    /**
+     * Invalida todas las páginas. Si hay una transacción en curso se vuelve a invalidar al confirmarla,
+     * para descartar lo que otra petición haya cargado antes de que la escritura fuera visible.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    generation.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public void destroy() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Pool acotado con {@link ThreadPoolExecutor.AbortPolicy}: una recarga que no cabe en la cola se
+     * rechaza en {@link #get} en lugar de correr en el hilo de la petición.
+     */
+    private static ExecutorService newRefreshExecutor(int threads, int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "listing-cache-refresh-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private void refresh(Key key, Function<PropertyFilterModel, PagedResult<PropertyModel>> loader) {
+        try {
+            if (key.generation() == generation.get()) {
+                cache.put(key, new Entry(loader.apply(key.filter()), clock.millis()));
+            }
+        } catch (RuntimeException e) {
+            log.warn(PROPERTY_LISTING_CACHE_LOG_REFRESH_FAILED, key.filter(), e.getMessage());
+        } finally {
+            refreshing.remove(key);
+        }
+    }
+
+    private record Key(long generation, PropertyFilterModel filter) {
+    }
+
+    private record Entry(PagedResult<PropertyModel> result, long loadedAt) {
+    }
+}
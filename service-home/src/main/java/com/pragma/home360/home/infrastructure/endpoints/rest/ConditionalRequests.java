@@ -0,0 +1,45 @@
+package com.pragma.home360.home.infrastructure.endpoints.rest;
+
+import com.pragma.home360.home.application.dto.response.ResourceVersionResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Peticiones condicionales con {@code If-None-Match} e {@code If-Modified-Since}. Los validadores del
+ * detalle se obtienen con una consulta liviana antes de cargar el recurso, y los que acompañan al cuerpo
+ * se calculan sobre el detalle cargado; los de un listado se calculan sobre la página cargada, que suele
+ * venir de caché. Si el cliente ya tiene la versión vigente se
+ * responde 304 sin cuerpo.
+ */
+final class ConditionalRequests {
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * Si el cliente tiene la versión vigente deja la respuesta en 304 con sus validadores; el
+     * controlador debe devolver {@code null} para no escribir cuerpo.
+     *
+     * @param version Validadores del recurso, o {@code null} si no existe
+     */
+    static boolean isNotModified(WebRequest webRequest, ResourceVersionResponse version) {
+        if (version == null) {
+            return false;
+        }
+        if (version.lastModified() == null) {
+            return webRequest.checkNotModified(version.eTag());
+        }
+        return webRequest.checkNotModified(version.eTag(), version.lastModified().toEpochMilli());
+    }
+
+    static <T> ResponseEntity<T> ok(T body, ResourceVersionResponse version) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (version != null) {
+            builder.eTag(version.eTag());
+            if (version.lastModified() != null) {
+                builder.lastModified(version.lastModified());
+            }
+        }
+        return builder.body(body);
+    }
+}
@@ -0,0 +1,99 @@
+package com.pragma.home360.home.infrastructure.endpoints.rest;
+
+import com.pragma.home360.home.application.dto.response.ResourceVersionResponse;
+import com.pragma.home360.home.application.dto.response.StoredFileResponse;
+import com.pragma.home360.home.application.services.FileStorageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Sirve los archivos guardados por {@code FileStorageService} en las mismas URL que devuelve al subirlos.
+ * Los nombres son UUID y un archivo nunca cambia de contenido, así que se pueden guardar en caché sin
+ * revalidar. El archivo no se carga en memoria: sin {@code Range}, y si el conector de Tomcat lo permite,
+ * el contenido lo envía el sistema operativo con sendfile; si no, se escribe por partes desde disco,
+ * incluidos los rangos pedidos con {@code Range}, que responden 206.
+ */
+@RestController
+@RequestMapping("${home360.file.base-url:/media/properties}")
+@Tag(name = "Archivos multimedia", description = "Descarga de las imágenes guardadas de las propiedades")
+@RequiredArgsConstructor
+public class MediaController {
+
+    static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private final FileStorageService fileStorageService;
+
+    @Operation(summary = "Descargar un archivo de una propiedad",
+            description = "Devuelve el archivo con una etiqueta fuerte calculada de su contenido y admite rangos de bytes.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Archivo completo"),
+                    @ApiResponse(responseCode = "206", description = "Rango de bytes solicitado"),
+                    @ApiResponse(responseCode = "304", description = "La copia en caché del cliente sigue vigente"),
+                    @ApiResponse(responseCode = "404", description = "Archivo no encontrado"),
+                    @ApiResponse(responseCode = "416", description = "Rango no satisfacible")
+            })
+    @GetMapping("/{propertyId}/{fileName:.+}")
+    public ResponseEntity<Resource> getFile(
+            @Parameter(description = "ID de la propiedad", required = true) @PathVariable Long propertyId,
+            @Parameter(description = "Nombre del archivo", required = true) @PathVariable String fileName,
+            WebRequest webRequest, HttpServletRequest request) throws IOException {
+        StoredFileResponse file = fileStorageService.getStoredFile(propertyId, fileName);
+        if (ConditionalRequests.isNotModified(webRequest, new ResourceVersionResponse(file.eTag(), file.lastModified()))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(IMMUTABLE)
+                    .eTag(file.eTag())
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .cacheControl(IMMUTABLE)
+                .eTag(file.eTag())
+                .lastModified(file.lastModified())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .contentType(MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM));
+        if (canSendfile(request)) {
+            // Tomcat envía el archivo después de escribir las cabeceras; la respuesta no debe llevar cuerpo.
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.path().toString());
+            request.setAttribute(SENDFILE_START_ATTR, 0L);
+            request.setAttribute(SENDFILE_END_ATTR, file.size());
+            return builder.contentLength(file.size()).build();
+        }
+        return builder.body(new FileSystemResource(file.path()));
+    }
+
+    /**
+     * Tomcat envía con sendfile el archivo indicado en los atributos de la petición incluso en un HEAD, así
+     * que solo se usa para un GET completo.
+     */
+    private static boolean canSendfile(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod())
+                && request.getHeader(HttpHeaders.RANGE) == null
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR));
+    }
+}
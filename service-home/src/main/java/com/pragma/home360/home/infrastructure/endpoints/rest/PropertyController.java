@@ -1,11 +1,24 @@
 package com.pragma.home360.home.infrastructure.endpoints.rest;
 
+import com.pragma.home360.home.application.dto.request.PropertyExportFormat;
 import com.pragma.home360.home.application.dto.request.SavePropertyRequest;
 import com.pragma.home360.home.application.dto.request.filters.PropertyFilterRequest;
+import com.pragma.home360.home.application.dto.response.NearestPropertyResponse;
 import com.pragma.home360.home.application.dto.response.PaginatedResponse;
+import com.pragma.home360.home.application.dto.response.PropertyBatchResponse;
+import com.pragma.home360.home.application.dto.response.PropertyCardResponse;
+import com.pragma.home360.home.application.dto.response.PropertyClusterResponse;
+import com.pragma.home360.home.application.dto.response.PropertyExportResponse;
+import com.pragma.home360.home.application.dto.response.PropertyFacetsResponse;
+import com.pragma.home360.home.application.dto.response.PropertyImportReportResponse;
 import com.pragma.home360.home.application.dto.response.PropertyResponse;
+import com.pragma.home360.home.application.dto.response.ResourceVersionResponse;
+import com.pragma.home360.home.application.services.PropertyExportService;
+import com.pragma.home360.home.application.services.PropertyImportService;
 import com.pragma.home360.home.application.services.PropertyService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,9 +26,17 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/properties")
@@ -24,6 +45,8 @@ import org.springframework.web.bind.annotation.*;
 public class PropertyController {
 
     private final PropertyService propertyService;
+    private final PropertyExportService propertyExportService;
+    private final PropertyImportService propertyImportService;
 
     @Operation(summary = "Crear una nueva propiedad",
             description = "Crea una nueva propiedad en el sistema.",
@@ -39,19 +62,66 @@ public class PropertyController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(summary = "Importar propiedades en bloque",
+            description = "Crea hasta 10000 propiedades enviadas como arreglo JSON. Cada fila se valida con las mismas reglas que la creación individual; las inválidas se rechazan sin detener la importación y el reporte indica el resultado de cada una.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Importación procesada",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = PropertyImportReportResponse.class))),
+                    @ApiResponse(responseCode = "422", description = "Importación vacía o con demasiadas filas")
+            })
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PropertyImportReportResponse> importProperties(@RequestBody List<SavePropertyRequest> requests) {
+        return ResponseEntity.ok(propertyImportService.importProperties(requests));
+    }
+
+    @Operation(summary = "Importar propiedades desde un CSV",
+            description = "Crea hasta 10000 propiedades desde un archivo CSV con el encabezado name,description,numberOfRooms,numberOfBathrooms,price,activePublicationDate,categoryId,locationId. Las filas que no se pueden interpretar o no pasan las validaciones se rechazan sin detener la importación.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Importación procesada",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = PropertyImportReportResponse.class))),
+                    @ApiResponse(responseCode = "422", description = "Archivo vacío, encabezado inválido o demasiadas filas")
+            })
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<PropertyImportReportResponse> importPropertiesCsv(
+            @Parameter(description = "Archivo CSV codificado en UTF-8") @RequestParam("file") MultipartFile file) {
+        return ResponseEntity.ok(propertyImportService.importPropertiesCsv(file));
+    }
+
+    @Operation(summary = "Obtener varias propiedades por sus IDs",
+            description = "Recupera hasta 200 propiedades con sus relaciones en una sola consulta. Las propiedades se devuelven en el orden de los IDs solicitados y los IDs inexistentes se informan en 'missingIds'.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Propiedades encontradas",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = PropertyBatchResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "IDs con formato inválido"),
+                    @ApiResponse(responseCode = "422", description = "Sin IDs, IDs no positivos o demasiados IDs")
+            })
+    @GetMapping("/batch")
+    public ResponseEntity<PropertyBatchResponse> getPropertiesByIds(
+            @Parameter(description = "IDs de las propiedades separados por comas", example = "31,7,12") @RequestParam List<Long> ids) {
+        return ResponseEntity.ok(propertyService.getPropertiesByIds(ids));
+    }
+
     @Operation(summary = "Obtener una propiedad por su ID",
             description = "Recupera los detalles de una propiedad específica usando su ID.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Propiedad encontrada",
                             content = @Content(mediaType = "application/json",
                                     schema = @Schema(implementation = PropertyResponse.class))),
+                    @ApiResponse(responseCode = "304", description = "La versión en caché del cliente sigue vigente"),
                     @ApiResponse(responseCode = "404", description = "Propiedad no encontrada")
             })
     @GetMapping("/{id}")
-    public ResponseEntity<PropertyResponse> getPropertyById(@PathVariable Long id) {
-        PropertyResponse response = propertyService.getPropertyById(id);
+    public ResponseEntity<PropertyResponse> getPropertyById(@PathVariable Long id, WebRequest webRequest) {
+        ResourceVersionResponse version = propertyService.getPropertyVersion(id);
+        if (ConditionalRequests.isNotModified(webRequest, version)) {
+            return null;
+        }
+        PropertyResponse response = propertyService.getPropertyById(id, version);
         if (response != null) {
-            return ResponseEntity.ok(response);
+            return ConditionalRequests.ok(response, propertyService.getPropertyVersion(response));
         } else {
             return ResponseEntity.notFound().build();
         }
@@ -62,12 +132,144 @@ public class PropertyController {
             responses = {
                     @ApiResponse(responseCode = "200", description = "Propiedades listadas exitosamente",
                             content = @Content(mediaType = "application/json",
-                                    schema = @Schema(implementation = PaginatedResponse.class)))
+                                    schema = @Schema(implementation = PaginatedResponse.class))),
+                    @ApiResponse(responseCode = "304", description = "La página en caché del cliente sigue vigente")
             })
     @GetMapping
     public ResponseEntity<PaginatedResponse<PropertyResponse>> getAllProperties(
-            @ParameterObject @Valid PropertyFilterRequest propertyFilterRequest) {
+            @ParameterObject @Valid PropertyFilterRequest propertyFilterRequest, WebRequest webRequest) {
         PaginatedResponse<PropertyResponse> response = propertyService.getAllProperties(propertyFilterRequest);
-        return ResponseEntity.ok(response);
+        ResourceVersionResponse version = propertyService.getPropertyListingVersion(response);
+        if (ConditionalRequests.isNotModified(webRequest, version)) {
+            return null;
+        }
+        return ConditionalRequests.ok(response, version);
+    }
+
+    @Operation(summary = "Listar propiedades como tarjetas",
+            description = "Variante liviana del listado para la página de exploración: devuelve solo id, nombre, precio, habitaciones, baños, ciudad, barrio e imagen principal. Admite los mismos filtros, ordenamiento, cursor y modo sin totales que el listado general.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Tarjetas listadas exitosamente",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = PaginatedResponse.class))),
+                    @ApiResponse(responseCode = "304", description = "La página en caché del cliente sigue vigente"),
+                    @ApiResponse(responseCode = "422", description = "Paginación o filtros inválidos")
+            })
+    @GetMapping("/cards")
+    public ResponseEntity<PaginatedResponse<PropertyCardResponse>> getPropertyCards(
+            @ParameterObject @Valid PropertyFilterRequest propertyFilterRequest, WebRequest webRequest) {
+        PaginatedResponse<PropertyCardResponse> response = propertyService.getPropertyCards(propertyFilterRequest);
+        ResourceVersionResponse version = propertyService.getPropertyCardsVersion(response);
+        if (ConditionalRequests.isNotModified(webRequest, version)) {
+            return null;
+        }
+        return ConditionalRequests.ok(response, version);
+    }
+
+    @Operation(summary = "Exportar el catálogo de propiedades publicadas",
+            description = "Descarga todas las propiedades publicadas, ordenadas por id, como NDJSON (un objeto por línea) o CSV. La respuesta se escribe a medida que se lee la base de datos, sin paginar ni cargar el catálogo en memoria.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Catálogo exportado",
+                            content = {
+                                    @Content(mediaType = "application/x-ndjson",
+                                            schema = @Schema(implementation = PropertyExportResponse.class)),
+                                    @Content(mediaType = "text/csv")
+                            }),
+                    @ApiResponse(responseCode = "400", description = "Formato no soportado")
+            })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProperties(
+            @Parameter(description = "Formato del archivo", example = "NDJSON") @RequestParam(defaultValue = "NDJSON") PropertyExportFormat format) {
+        StreamingResponseBody body = outputStream -> propertyExportService.exportPublishedProperties(format, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("properties." + format.getFileExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @Operation(summary = "Listar las propiedades dentro de un radio",
+            description = "Obtiene una lista paginada de las propiedades cuya ubicación está a menos de 'radiusKm' kilómetros del punto indicado. Admite los mismos filtros, ordenamiento y cursor que el listado general.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Propiedades listadas exitosamente",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = PaginatedResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Faltan las coordenadas o el radio"),
+                    @ApiResponse(responseCode = "422", description = "Coordenadas o radio fuera de rango")
+            })
+    @GetMapping("/near")
+    public ResponseEntity<PaginatedResponse<PropertyResponse>> getPropertiesNear(
+            @Parameter(description = "Latitud del centro en grados decimales", example = "6.2088") @RequestParam double lat,
+            @Parameter(description = "Longitud del centro en grados decimales", example = "-75.5678") @RequestParam double lng,
+            @Parameter(description = "Radio de búsqueda en kilómetros", example = "2.5") @RequestParam double radiusKm,
+            @ParameterObject @Valid PropertyFilterRequest propertyFilterRequest) {
+        return ResponseEntity.ok(propertyService.getPropertiesNear(lat, lng, radiusKm, propertyFilterRequest));
+    }
+
+    @Operation(summary = "Listar las propiedades publicadas más cercanas a un punto",
+            description = "Devuelve las 'limit' propiedades publicadas más cercanas a la coordenada, de la más cercana a la más lejana, con su distancia en kilómetros.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Propiedades cercanas encontradas",
+                            content = @Content(mediaType = "application/json",
+                                    array = @ArraySchema(schema = @Schema(implementation = NearestPropertyResponse.class)))),
+                    @ApiResponse(responseCode = "422", description = "Coordenadas o cantidad fuera de rango")
+            })
+    @GetMapping("/nearest")
+    public ResponseEntity<List<NearestPropertyResponse>> getNearestProperties(
+            @Parameter(description = "Latitud en grados decimales", example = "6.2088") @RequestParam double lat,
+            @Parameter(description = "Longitud en grados decimales", example = "-75.5678") @RequestParam double lng,
+            @Parameter(description = "Cantidad de propiedades a devolver", example = "10") @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(propertyService.getNearestProperties(lat, lng, limit));
+    }
+
+    @Operation(summary = "Listar las propiedades publicadas más cercanas a otra propiedad",
+            description = "Devuelve las 'limit' propiedades publicadas más cercanas a la ubicación de la propiedad indicada, excluyéndola.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Propiedades cercanas encontradas",
+                            content = @Content(mediaType = "application/json",
+                                    array = @ArraySchema(schema = @Schema(implementation = NearestPropertyResponse.class)))),
+                    @ApiResponse(responseCode = "404", description = "Propiedad no encontrada"),
+                    @ApiResponse(responseCode = "422", description = "La propiedad no tiene coordenadas o la cantidad está fuera de rango")
+            })
+    @GetMapping("/{id}/nearest")
+    public ResponseEntity<List<NearestPropertyResponse>> getPropertiesNearestTo(
+            @PathVariable Long id,
+            @Parameter(description = "Cantidad de propiedades a devolver", example = "10") @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(propertyService.getPropertiesNearestTo(id, limit));
+    }
+
+    @Operation(summary = "Agrupar las propiedades publicadas visibles en el mapa",
+            description = "Devuelve, para el área visible y el nivel de zoom, las celdas de la cuadrícula que contienen propiedades publicadas con su cantidad, centroide y rango de precios. Si 'minLng' es mayor que 'maxLng', el área cruza el antimeridiano.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Grupos calculados exitosamente",
+                            content = @Content(mediaType = "application/json",
+                                    array = @ArraySchema(schema = @Schema(implementation = PropertyClusterResponse.class)))),
+                    @ApiResponse(responseCode = "400", description = "Faltan los límites del área o el zoom"),
+                    @ApiResponse(responseCode = "422", description = "Área o zoom fuera de rango")
+            })
+    @GetMapping("/clusters")
+    public ResponseEntity<List<PropertyClusterResponse>> getPropertyClusters(
+            @Parameter(description = "Latitud del borde sur", example = "6.15") @RequestParam double minLat,
+            @Parameter(description = "Longitud del borde oeste", example = "-75.65") @RequestParam double minLng,
+            @Parameter(description = "Latitud del borde norte", example = "6.35") @RequestParam double maxLat,
+            @Parameter(description = "Longitud del borde este", example = "-75.50") @RequestParam double maxLng,
+            @Parameter(description = "Nivel de zoom del mapa (0 a 22)", example = "13") @RequestParam int zoom) {
+        return ResponseEntity.ok(propertyService.getPropertyClusters(minLat, minLng, maxLat, maxLng, zoom));
+    }
+
+    @Operation(summary = "Obtener los conteos por faceta de las propiedades",
+            description = "Devuelve, en una sola consulta, cuántas propiedades que cumplen los filtros hay por categoría, por ciudad y por rango de precio. Ignora los parámetros de paginación y ordenamiento.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Facetas calculadas exitosamente",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = PropertyFacetsResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Filtros inválidos")
+            })
+    @GetMapping("/facets")
+    public ResponseEntity<PropertyFacetsResponse> getPropertyFacets(
+            @ParameterObject @Valid PropertyFilterRequest propertyFilterRequest) {
+        return ResponseEntity.ok(propertyService.getPropertyFacets(propertyFilterRequest));
     }
 }
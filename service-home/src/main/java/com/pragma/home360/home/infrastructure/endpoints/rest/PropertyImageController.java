@@ -3,6 +3,7 @@ package com.pragma.home360.home.infrastructure.endpoints.rest;
 
 import com.pragma.home360.home.application.dto.request.PropertyImageUploadRequest;
 import com.pragma.home360.home.application.dto.response.PropertyImageResponse;
+import com.pragma.home360.home.application.dto.response.ResourceVersionResponse;
 import com.pragma.home360.home.application.services.PropertyImageService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,6 +17,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -57,14 +59,19 @@ public class PropertyImageController {
             description = "Recupera una lista de todas las imágenes asociadas a una propiedad específica.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Imágenes recuperadas exitosamente"),
+                    @ApiResponse(responseCode = "304", description = "La lista en caché del cliente sigue vigente"),
                     @ApiResponse(responseCode = "404", description = "Propiedad no encontrada")
             })
     @GetMapping
     public ResponseEntity<List<PropertyImageResponse>> getPropertyImages(
             @Parameter(description = "ID de la propiedad", required = true)
-            @PathVariable Long propertyId) {
+            @PathVariable Long propertyId, WebRequest webRequest) {
+        ResourceVersionResponse version = propertyImageService.getImagesVersion(propertyId);
+        if (ConditionalRequests.isNotModified(webRequest, version)) {
+            return null;
+        }
         List<PropertyImageResponse> responses = propertyImageService.getImagesForProperty(propertyId);
-        return ResponseEntity.ok(responses);
+        return ConditionalRequests.ok(responses, version);
     }
 
     @Operation(summary = "Obtener una imagen específica por su ID",
@@ -0,0 +1,64 @@
+package com.pragma.home360.home.infrastructure.endpoints.rest;
+
+import com.pragma.home360.home.application.dto.request.SaveSavedSearchRequest;
+import com.pragma.home360.home.application.dto.response.SavedSearchResponse;
+import com.pragma.home360.home.application.services.SavedSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/saved-searches")
+@Tag(name = "Búsquedas guardadas", description = "Alertas de propiedades nuevas que cumplen una búsqueda")
+@RequiredArgsConstructor
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+
+    @Operation(summary = "Guardar una búsqueda",
+            description = "Guarda los criterios de búsqueda de un comprador. Cada propiedad que se publique y los cumpla queda registrada para enviarle una alerta.",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Búsqueda guardada exitosamente",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = SavedSearchResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "Categoría o ubicación no encontrada"),
+                    @ApiResponse(responseCode = "422", description = "Correo o rangos inválidos")
+            })
+    @PostMapping
+    public ResponseEntity<SavedSearchResponse> createSavedSearch(@RequestBody SaveSavedSearchRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(savedSearchService.save(request));
+    }
+
+    @Operation(summary = "Obtener una búsqueda guardada por su ID",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Búsqueda guardada encontrada",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = SavedSearchResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "Búsqueda guardada no encontrada")
+            })
+    @GetMapping("/{id}")
+    public ResponseEntity<SavedSearchResponse> getSavedSearchById(
+            @Parameter(description = "ID de la búsqueda guardada", required = true) @PathVariable Long id) {
+        return ResponseEntity.ok(savedSearchService.getSavedSearchById(id));
+    }
+
+    @Operation(summary = "Eliminar una búsqueda guardada",
+            description = "Elimina la búsqueda y las alertas que tenía pendientes de envío.",
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "Búsqueda guardada eliminada exitosamente"),
+                    @ApiResponse(responseCode = "404", description = "Búsqueda guardada no encontrada")
+            })
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteSavedSearch(
+            @Parameter(description = "ID de la búsqueda guardada", required = true) @PathVariable Long id) {
+        savedSearchService.deleteSavedSearch(id);
+        return ResponseEntity.noContent().build();
+    }
+}
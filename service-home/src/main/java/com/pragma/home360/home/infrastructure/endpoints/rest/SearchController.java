@@ -0,0 +1,44 @@
+package com.pragma.home360.home.infrastructure.endpoints.rest;
+
+import com.pragma.home360.home.application.dto.response.SuggestionResponse;
+import com.pragma.home360.home.application.services.SuggestionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/search")
+@Tag(name = "Búsqueda", description = "Autocompletado del buscador")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SuggestionService suggestionService;
+
+    @Operation(summary = "Sugerir términos de búsqueda",
+            description = "Devuelve propiedades publicadas, barrios, ciudades, departamentos y categorías cuyo nombre tiene una palabra que empieza por el texto escrito, sin distinguir mayúsculas ni tildes, de la más a la menos popular. Se resuelve desde un índice en memoria.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Sugerencias encontradas",
+                            content = @Content(mediaType = "application/json",
+                                    array = @ArraySchema(schema = @Schema(implementation = SuggestionResponse.class)))),
+                    @ApiResponse(responseCode = "422", description = "Texto vacío o demasiado largo, o cantidad fuera de rango")
+            })
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionResponse>> suggest(
+            @Parameter(description = "Texto escrito en el buscador", example = "pobl") @RequestParam String q,
+            @Parameter(description = "Cantidad máxima de sugerencias (1 a 10)", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(suggestionService.suggest(q, limit));
+    }
+}
@@ -7,7 +7,11 @@ import lombok.*;
 
 @Entity
 @Data
-@Table(name = "locations")
+@Table(name = "locations", indexes = {
+        @Index(name = "idx_locations_city", columnList = "city_id"),
+        @Index(name = "idx_locations_neighborhood", columnList = "neighborhood_id"),
+        @Index(name = "idx_locations_lat_lng", columnList = "latitude, longitude")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
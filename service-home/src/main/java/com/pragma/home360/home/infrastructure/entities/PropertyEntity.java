@@ -13,7 +13,12 @@ import java.util.List;
 
 @Entity
 @Data
-@Table(name = "properties")
+@Table(name = "properties", indexes = {
+        @Index(name = "idx_properties_category_price", columnList = "category_id, price"),
+        @Index(name = "idx_properties_status_price", columnList = "publication_status, price"),
+        @Index(name = "idx_properties_status_active_date", columnList = "publication_status, active_publication_date"),
+        @Index(name = "idx_properties_updated_at", columnList = "updated_at, id")
+})
 public class PropertyEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
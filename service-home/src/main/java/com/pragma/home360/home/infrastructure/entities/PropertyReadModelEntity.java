@@ -0,0 +1,114 @@
+package com.pragma.home360.home.infrastructure.entities;
+
+import com.pragma.home360.home.infrastructure.entities.enums.PropertyPublicationStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Modelo de lectura del listado: una fila plana por propiedad con los nombres de su categoría y
+ * ubicación, la imagen principal, la cantidad de imágenes y un texto de búsqueda normalizado ya
+ * resueltos. Lo mantienen en la misma
+ * transacción las escrituras de propiedades e imágenes, así que los listados filtran, ordenan y
+ * paginan sobre una sola tabla. No se escribe a través de Hibernate: ver
+ * {@code PropertyReadModelRepositoryCustom#insertAll}.
+ */
+@Entity
+@Data
+@Table(name = "property_read_model", indexes = {
+        @Index(name = "idx_property_read_model_status_price", columnList = "publication_status, price"),
+        @Index(name = "idx_property_read_model_category_price", columnList = "category_id, price"),
+        @Index(name = "idx_property_read_model_neighborhood_price", columnList = "neighborhood_id, price"),
+        @Index(name = "idx_property_read_model_city_price", columnList = "city_id, price"),
+        @Index(name = "idx_property_read_model_department_price", columnList = "department_id, price"),
+        @Index(name = "idx_property_read_model_location", columnList = "location_id"),
+        @Index(name = "idx_property_read_model_lat_lng", columnList = "latitude, longitude"),
+        @Index(name = "idx_property_read_model_sort_price", columnList = "price, id"),
+        @Index(name = "idx_property_read_model_sort_created_at", columnList = "created_at, id"),
+        @Index(name = "idx_property_read_model_sort_active_date", columnList = "active_publication_date, id"),
+        @Index(name = "idx_property_read_model_sort_rooms", columnList = "number_of_rooms, id"),
+        @Index(name = "idx_property_read_model_sort_name", columnList = "name, id")
+})
+public class PropertyReadModelEntity {
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "price", precision = 12, scale = 2)
+    private BigDecimal price;
+
+    @Column(name = "number_of_rooms", nullable = false)
+    private Integer numberOfRooms;
+
+    @Column(name = "number_of_bathrooms", nullable = false)
+    private Integer numberOfBathrooms;
+
+    @Column(name = "active_publication_date")
+    private LocalDate activePublicationDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "publication_status", nullable = false, length = 50)
+    private PropertyPublicationStatus publicationStatus;
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(name = "category_name")
+    private String categoryName;
+
+    @Column(name = "location_id")
+    private Long locationId;
+
+    @Column(name = "address")
+    private String address;
+
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    @Column(name = "neighborhood_id")
+    private Long neighborhoodId;
+
+    @Column(name = "neighborhood_name")
+    private String neighborhoodName;
+
+    @Column(name = "city_id")
+    private Long cityId;
+
+    @Column(name = "city_name")
+    private String cityName;
+
+    @Column(name = "department_id")
+    private Long departmentId;
+
+    @Column(name = "department_name")
+    private String departmentName;
+
+    @Column(name = "main_image_url")
+    private String mainImageUrl;
+
+    @Column(name = "image_count", nullable = false)
+    private Integer imageCount;
+
+    /**
+     * Nombre, descripción, dirección y nombres de catálogo en minúsculas y sin tildes
+     * ({@code TextNormalizer}), para filtrar por texto en SQL sin joins. La búsqueda con relevancia por
+     * campo sigue en el índice en memoria.
+     */
+    @Column(name = "search_text", length = 4000)
+    private String searchText;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,29 @@
+package com.pragma.home360.home.infrastructure.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro de una propiedad borrada. Se escribe en la misma transacción que el borrado para que las demás
+ * réplicas la quiten de sus índices en memoria, ver {@code PropertyIndexSynchronizer}. Los ids no se
+ * reutilizan, así que basta con el id y la fecha; los registros se purgan pasado un tiempo.
+ */
+@Entity
+@Data
+@Table(name = "property_tombstones", indexes = {
+        @Index(name = "idx_property_tombstones_deleted_at", columnList = "deleted_at, property_id")
+})
+public class PropertyTombstoneEntity {
+    @Id
+    @Column(name = "property_id")
+    private Long propertyId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,55 @@
+package com.pragma.home360.home.infrastructure.entities;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Data
+@Table(name = "saved_searches", indexes = {
+        @Index(name = "idx_saved_searches_email", columnList = "email"),
+        @Index(name = "idx_saved_searches_updated_at", columnList = "updated_at, id")
+})
+public class SavedSearchEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 120)
+    private String email;
+
+    @Column(length = 80)
+    private String name;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal minPrice;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal maxPrice;
+
+    private Integer minRooms;
+
+    private Integer maxRooms;
+
+    private Integer minBathrooms;
+
+    private Long categoryId;
+
+    private Long departmentId;
+
+    private Long cityId;
+
+    private Long neighborhoodId;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,39 @@
+package com.pragma.home360.home.infrastructure.entities;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Bandeja de salida de alertas: una fila por búsqueda guardada y propiedad que la cumple. Se escribe en
+ * la misma transacción que publica la propiedad; quien envíe las alertas toma las filas sin
+ * {@code dispatchedAt} en orden de id y las marca al despacharlas.
+ */
+@Entity
+@Data
+@Table(name = "saved_search_matches", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_saved_search_matches_search_property", columnNames = {"saved_search_id", "property_id"})
+}, indexes = {
+        @Index(name = "idx_saved_search_matches_property", columnList = "property_id"),
+        @Index(name = "idx_saved_search_matches_pending", columnList = "dispatched_at, id")
+})
+public class SavedSearchMatchEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "saved_search_id", nullable = false)
+    private Long savedSearchId;
+
+    @Column(name = "property_id", nullable = false)
+    private Long propertyId;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "dispatched_at")
+    private LocalDateTime dispatchedAt;
+}
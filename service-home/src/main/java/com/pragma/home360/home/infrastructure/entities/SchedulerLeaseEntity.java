@@ -0,0 +1,37 @@
+package com.pragma.home360.home.infrastructure.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Concesión de una tarea programada: la réplica que la tiene hasta {@code leaseUntil} es la única que
+ * ejecuta la tarea. El token de exclusión aumenta con cada nueva concesión, así que una réplica que la
+ * perdió no puede seguir escribiendo con el token anterior. Las fechas son las de la base de datos, para
+ * no depender del reloj de cada réplica. Se escribe con sentencias nativas, ver
+ * {@code SchedulerLeaseRepository}.
+ */
+@Entity
+@Data
+@Table(name = "scheduler_leases")
+public class SchedulerLeaseEntity {
+    @Id
+    @Column(name = "name", length = 64)
+    private String name;
+
+    @Column(name = "owner", nullable = false)
+    private String owner;
+
+    @Column(name = "fencing_token", nullable = false)
+    private Long fencingToken;
+
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "acquired_at", nullable = false)
+    private LocalDateTime acquiredAt;
+}
@@ -0,0 +1,9 @@
+package com.pragma.home360.home.infrastructure.events;
+
+import com.pragma.home360.home.domain.model.SuggestionType;
+
+/**
+ * Se publica al guardar una categoría, departamento, ciudad o barrio.
+ */
+public record CatalogEntryChangedEvent(SuggestionType type, Long id, String name) {
+}
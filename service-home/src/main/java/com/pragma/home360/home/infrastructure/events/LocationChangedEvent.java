@@ -0,0 +1,7 @@
+package com.pragma.home360.home.infrastructure.events;
+
+/**
+ * Se publica al guardar una ubicación.
+ */
+public record LocationChangedEvent(Long locationId) {
+}
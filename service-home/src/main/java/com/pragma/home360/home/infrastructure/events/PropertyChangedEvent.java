@@ -0,0 +1,9 @@
+package com.pragma.home360.home.infrastructure.events;
+
+import com.pragma.home360.home.domain.model.PropertyModel;
+
+/**
+ * Se publica al crear o actualizar una propiedad, con su estado ya mapeado dentro de la transacción.
+ */
+public record PropertyChangedEvent(PropertyModel property) {
+}
@@ -0,0 +1,7 @@
+package com.pragma.home360.home.infrastructure.events;
+
+/**
+ * Se publica al eliminar una propiedad.
+ */
+public record PropertyDeletedEvent(Long propertyId) {
+}
@@ -0,0 +1,9 @@
+package com.pragma.home360.home.infrastructure.events;
+
+import com.pragma.home360.home.domain.model.SavedSearchModel;
+
+/**
+ * Se publica al crear o actualizar una búsqueda guardada.
+ */
+public record SavedSearchChangedEvent(SavedSearchModel savedSearch) {
+}
@@ -0,0 +1,7 @@
+package com.pragma.home360.home.infrastructure.events;
+
+/**
+ * Se publica al eliminar una búsqueda guardada.
+ */
+public record SavedSearchDeletedEvent(Long savedSearchId) {
+}
@@ -5,6 +5,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
@@ -72,6 +73,22 @@ public class ControllerAdvisor {
         );
     }
 
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<ExceptionResponse> handleMissingServletRequestParameterException(
+            MissingServletRequestParameterException exception) {
+
+        ApiErrorCode errorCode = ApiErrorCode.MISSING_REQUIRED_PARAMETER;
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                new ExceptionResponse(
+                        false,
+                        errorCode.getCode(),
+                        errorCode.getFormattedMessage(exception.getParameterName()),
+                        LocalDateTime.now(),
+                        exception.getMessage()
+                )
+        );
+    }
+
     @ExceptionHandler(ValidationException.class)
     public ResponseEntity<ExceptionResponse> handleValidationException(ValidationException exception) {
         ApiErrorCode errorCode = ApiErrorCode.VALIDATION_ERROR;
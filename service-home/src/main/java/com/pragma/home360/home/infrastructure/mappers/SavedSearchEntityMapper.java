@@ -0,0 +1,17 @@
+package com.pragma.home360.home.infrastructure.mappers;
+
+import com.pragma.home360.home.domain.model.SavedSearchModel;
+import com.pragma.home360.home.infrastructure.entities.SavedSearchEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface SavedSearchEntityMapper {
+
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    SavedSearchEntity toEntity(SavedSearchModel model);
+
+    SavedSearchModel toModel(SavedSearchEntity entity);
+}
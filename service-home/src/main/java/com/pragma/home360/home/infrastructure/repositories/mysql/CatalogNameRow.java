@@ -0,0 +1,11 @@
+package com.pragma.home360.home.infrastructure.repositories.mysql;
+
+/**
+ * Id y nombre de una entrada de catálogo (categoría, departamento, ciudad o barrio), usados para cargar
+ * el índice de sugerencias sin hidratar las entidades ni sus relaciones.
+ */
+public record CatalogNameRow(
+        Long id,
+        String name
+) {
+}
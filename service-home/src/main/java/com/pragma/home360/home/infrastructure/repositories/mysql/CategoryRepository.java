@@ -3,11 +3,15 @@ package com.pragma.home360.home.infrastructure.repositories.mysql;
 import com.pragma.home360.home.infrastructure.entities.CategoryEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface CategoryRepository extends JpaRepository<CategoryEntity, Long> {
 
@@ -15,6 +19,14 @@ public interface CategoryRepository extends JpaRepository<CategoryEntity, Long>
 
     Page<CategoryEntity> findAll(Pageable pageable);
 
+    Slice<CategoryEntity> findSliceBy(Pageable pageable);
+
     @Query("SELECT c FROM CategoryEntity c WHERE (:name IS NULL OR c.name LIKE %:name%)")
     Page<CategoryEntity> findByNameContaining(@Param("name") String name, Pageable pageable);
+
+    @Query("SELECT new com.pragma.home360.home.infrastructure.repositories.mysql.CatalogNameRow(e.id, e.name) FROM CategoryEntity e")
+    List<CatalogNameRow> findAllNames();
+
+    @Query("SELECT c.id FROM CategoryEntity c WHERE c.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
@@ -3,17 +3,24 @@ package com.pragma.home360.home.infrastructure.repositories.mysql;
 import com.pragma.home360.home.infrastructure.entities.CityEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CityRepository extends JpaRepository<CityEntity, Long> {
     Page<CityEntity> findAll(Pageable pageable);
 
+    Slice<CityEntity> findSliceBy(Pageable pageable);
+
     boolean existsByName(String name);
 
     Optional<CityEntity> findByName(String name);
-}
 
+    @Query("SELECT new com.pragma.home360.home.infrastructure.repositories.mysql.CatalogNameRow(e.id, e.name) FROM CityEntity e")
+    List<CatalogNameRow> findAllNames();
+}
@@ -5,8 +5,10 @@ import com.pragma.home360.home.infrastructure.entities.DepartmentEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,4 +18,7 @@ public interface DepartmentRepository extends JpaRepository<DepartmentEntity, Lo
     Page<DepartmentEntity> findAll(Pageable pageable);
 
     Optional<DepartmentEntity> findByNameIgnoreCase(String departmentName);
-}
\ No newline at end of file
+
+    @Query("SELECT new com.pragma.home360.home.infrastructure.repositories.mysql.CatalogNameRow(e.id, e.name) FROM DepartmentEntity e")
+    List<CatalogNameRow> findAllNames();
+}
@@ -8,6 +8,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Set;
+
 @Repository
 public interface LocationRepository extends JpaRepository<LocationEntity, Long> {
 
@@ -41,4 +44,7 @@ public interface LocationRepository extends JpaRepository<LocationEntity, Long>
 
     boolean existsByAddressAndNeighborhoodId(String address, Long id);
 
+    @Query("SELECT l.id FROM LocationEntity l WHERE l.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
 }
\ No newline at end of file
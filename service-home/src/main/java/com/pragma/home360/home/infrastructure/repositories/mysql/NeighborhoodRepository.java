@@ -3,9 +3,12 @@ package com.pragma.home360.home.infrastructure.repositories.mysql;
 import com.pragma.home360.home.infrastructure.entities.NeighborHoodEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,9 +18,18 @@ public interface NeighborhoodRepository extends JpaRepository<NeighborHoodEntity
 
     Page<NeighborHoodEntity> findByCityId(Long cityId, Pageable pageable);
 
+    Slice<NeighborHoodEntity> findSliceBy(Pageable pageable);
+
+    Slice<NeighborHoodEntity> findSliceByCityId(Long cityId, Pageable pageable);
+
+    long countByCityId(Long cityId);
+
     boolean existsByNameIgnoreCase(String name);
 
     boolean existsByNameIgnoreCaseAndCityId(String name, Long cityId);
 
     Optional<NeighborHoodEntity> findByNameAndCityId(String name, Long id);
-}
\ No newline at end of file
+
+    @Query("SELECT new com.pragma.home360.home.infrastructure.repositories.mysql.CatalogNameRow(e.id, e.name) FROM NeighborHoodEntity e")
+    List<CatalogNameRow> findAllNames();
+}
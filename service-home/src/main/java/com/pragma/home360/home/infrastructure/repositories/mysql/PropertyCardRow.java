@@ -0,0 +1,21 @@
+package com.pragma.home360.home.infrastructure.repositories.mysql;
+
+import java.math.BigDecimal;
+
+/**
+ * Fila plana de la proyección de tarjetas. {@code sortValue} es el valor del campo de ordenamiento
+ * de la consulta y solo se usa para construir el cursor de la página siguiente.
+ */
+public record PropertyCardRow(
+        Long id,
+        String name,
+        BigDecimal price,
+        Integer numberOfRooms,
+        Integer numberOfBathrooms,
+        String cityName,
+        String neighborhoodName,
+        String mainImageUrl,
+        Integer imageCount,
+        Object sortValue
+) {
+}
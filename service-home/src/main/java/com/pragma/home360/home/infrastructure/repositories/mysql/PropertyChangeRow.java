@@ -0,0 +1,13 @@
+package com.pragma.home360.home.infrastructure.repositories.mysql;
+
+import java.time.LocalDateTime;
+
+/**
+ * Id y fecha de modificación de una propiedad, usados para llevar a los índices en memoria los cambios
+ * hechos en otras réplicas.
+ */
+public record PropertyChangeRow(
+        Long propertyId,
+        LocalDateTime updatedAt
+) {
+}
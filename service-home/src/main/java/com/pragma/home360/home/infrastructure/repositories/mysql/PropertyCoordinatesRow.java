@@ -0,0 +1,14 @@
+package com.pragma.home360.home.infrastructure.repositories.mysql;
+
+import java.math.BigDecimal;
+
+/**
+ * Coordenadas de la ubicación de una propiedad y su precio, usados para cargar los índices geográficos en memoria.
+ */
+public record PropertyCoordinatesRow(
+        Long propertyId,
+        Double latitude,
+        Double longitude,
+        BigDecimal price
+) {
+}
@@ -0,0 +1,26 @@
+package com.pragma.home360.home.infrastructure.repositories.mysql;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Fila plana de la exportación del catálogo; se lee sin hidratar entidades.
+ */
+public record PropertyExportRow(
+        Long id,
+        String name,
+        String description,
+        BigDecimal price,
+        Integer numberOfRooms,
+        Integer numberOfBathrooms,
+        String categoryName,
+        String address,
+        Double latitude,
+        Double longitude,
+        String neighborhoodName,
+        String cityName,
+        String departmentName,
+        LocalDate activePublicationDate,
+        String mainImageUrl
+) {
+}
@@ -0,0 +1,15 @@
+package com.pragma.home360.home.infrastructure.repositories.mysql;
+
+/**
+ * Fila de la agregación de facetas: una combinación categoría/ciudad con su total y el
+ * desglose por rango de precio.
+ */
+public record PropertyFacetRow(
+        Long categoryId,
+        String categoryName,
+        Long cityId,
+        String cityName,
+        long count,
+        long[] priceBucketCounts
+) {
+}
@@ -0,0 +1,17 @@
+package com.pragma.home360.home.infrastructure.repositories.mysql;
+
+import java.math.BigDecimal;
+
+/**
+ * Columnas de una propiedad que alimentan las facetas, leídas del modelo de lectura cuando la
+ * agregación se hace en memoria.
+ */
+public record PropertyFacetSourceRow(
+        Long id,
+        Long categoryId,
+        String categoryName,
+        Long cityId,
+        String cityName,
+        BigDecimal price
+) {
+}
@@ -0,0 +1,11 @@
+package com.pragma.home360.home.infrastructure.repositories.mysql;
+
+/**
+ * Clave de una fila del listado: su id y el valor del campo de ordenamiento, suficientes para seguir
+ * recorriendo por keyset sin leer el resto de la fila.
+ */
+public record PropertyKeyRow(
+        Long id,
+        Object sortValue
+) {
+}
@@ -0,0 +1,54 @@
+package com.pragma.home360.home.infrastructure.repositories.mysql;
+
+import com.pragma.home360.home.infrastructure.entities.PropertyReadModelEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PropertyReadModelRepository extends JpaRepository<PropertyReadModelEntity, Long>,
+        JpaSpecificationExecutor<PropertyReadModelEntity>, PropertyReadModelRepositoryCustom {
+
+    @Modifying
+    @Query("DELETE FROM PropertyReadModelEntity r WHERE r.id IN :ids")
+    int deleteAllByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Lote de ids de propiedades que aún no tienen fila en el modelo de lectura, ordenado por id.
+     *
+     * @param afterId  Último id del lote anterior (0 para empezar)
+     * @param pageable Tamaño del lote; la página siempre es la primera
+     */
+    @Query("SELECT p.id FROM PropertyEntity p " +
+            "WHERE p.id > :afterId AND NOT EXISTS (SELECT r.id FROM PropertyReadModelEntity r WHERE r.id = p.id) " +
+            "ORDER BY p.id")
+    List<Long> findPropertyIdsWithoutReadModelAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Lote de ids de propiedades cuya fila quedó desactualizada: su {@code updated_at} ya no coincide
+     * con el de la propiedad, por ejemplo porque otra versión del servicio la modificó sin proyectar.
+     *
+     * @param afterId  Último id del lote anterior (0 para empezar)
+     * @param pageable Tamaño del lote; la página siempre es la primera
+     */
+    @Query("SELECT p.id FROM PropertyEntity p, PropertyReadModelEntity r " +
+            "WHERE r.id = p.id AND p.id > :afterId AND r.updatedAt <> p.updatedAt " +
+            "ORDER BY p.id")
+    List<Long> findPropertyIdsWithStaleReadModelAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Lote de ids de filas cuya propiedad ya no existe, ordenado por id.
+     *
+     * @param afterId  Último id del lote anterior (0 para empezar)
+     * @param pageable Tamaño del lote; la página siempre es la primera
+     */
+    @Query("SELECT r.id FROM PropertyReadModelEntity r " +
+            "WHERE r.id > :afterId AND NOT EXISTS (SELECT p.id FROM PropertyEntity p WHERE p.id = r.id) " +
+            "ORDER BY r.id")
+    List<Long> findReadModelIdsWithoutPropertyAfter(@Param("afterId") Long afterId, Pageable pageable);
+}
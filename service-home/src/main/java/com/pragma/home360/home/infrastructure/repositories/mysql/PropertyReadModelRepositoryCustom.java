@@ -0,0 +1,54 @@
+package com.pragma.home360.home.infrastructure.repositories.mysql;
+
+import com.pragma.home360.home.infrastructure.entities.PropertyReadModelEntity;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface PropertyReadModelRepositoryCustom {
+
+    /**
+     * Primera fase del paginado del listado: filtra, ordena y pagina sobre la tabla plana y devuelve
+     * solo los ids de la ventana.
+     *
+     * @param spec   Filtro a aplicar
+     * @param sort   Ordenamiento de la ventana
+     * @param offset Posición del primer registro
+     * @param limit  Cantidad máxima de ids a devolver
+     * @return Ids en el orden solicitado
+     */
+    List<Long> findIds(Specification<PropertyReadModelEntity> spec, Sort sort, long offset, int limit);
+
+    /**
+     * Ventana de tarjetas en una sola consulta sobre la tabla plana, sin joins ni subconsultas.
+     * Filtra, ordena y pagina como {@link #findIds}.
+     *
+     * @param sortField Campo de ordenamiento cuyo valor se devuelve en cada fila para el cursor
+     * @return Filas en el orden solicitado
+     */
+    List<PropertyCardRow> findCards(Specification<PropertyReadModelEntity> spec, Sort sort, String sortField, long offset, int limit);
+
+    /**
+     * Claves de las primeras filas que cumplen {@code spec} en el orden indicado. Sirve para recorrer el
+     * listado por lotes: el siguiente lote se pide con el cursor de la última clave.
+     *
+     * @param sortField Campo de ordenamiento cuyo valor se devuelve en cada clave
+     */
+    List<PropertyKeyRow> findKeys(Specification<PropertyReadModelEntity> spec, Sort sort, String sortField, int limit);
+
+    /**
+     * Columnas de las facetas de las primeras filas que cumplen {@code spec}, ordenadas por id.
+     */
+    List<PropertyFacetSourceRow> findFacetSources(Specification<PropertyReadModelEntity> spec, int limit);
+
+    /**
+     * Inserta las filas con sentencias JDBC por lotes sobre la conexión de la transacción actual. Las
+     * filas nunca se cargan como entidades administradas, así que escribir por fuera de Hibernate no
+     * deja copias desactualizadas en el contexto de persistencia.
+     *
+     * @param rows      Filas completas, con el id de su propiedad
+     * @param batchSize Filas por lote
+     */
+    void insertAll(List<PropertyReadModelEntity> rows, int batchSize);
+}
@@ -0,0 +1,183 @@
+package com.pragma.home360.home.infrastructure.repositories.mysql;
+
+import com.pragma.home360.home.infrastructure.entities.PropertyReadModelEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.Session;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.function.Function;
+
+public class PropertyReadModelRepositoryCustomImpl implements PropertyReadModelRepositoryCustom {
+
+    private static final String INSERT_ROW_SQL = "INSERT INTO property_read_model (id, name, price, number_of_rooms, "
+            + "number_of_bathrooms, active_publication_date, publication_status, category_id, category_name, location_id, "
+            + "address, latitude, longitude, neighborhood_id, neighborhood_name, city_id, city_name, department_id, "
+            + "department_name, main_image_url, image_count, search_text, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Long> findIds(Specification<PropertyReadModelEntity> spec, Sort sort, long offset, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<PropertyReadModelEntity> root = query.from(PropertyReadModelEntity.class);
+
+        where(query, root, criteriaBuilder, spec);
+        query.select(root.get("id"));
+        query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<PropertyCardRow> findCards(Specification<PropertyReadModelEntity> spec, Sort sort, String sortField, long offset, int limit) {
+        return findTuples(spec, sort, offset, limit, root -> List.of(
+                        root.get("id"),
+                        root.get("name"),
+                        root.get("price"),
+                        root.get("numberOfRooms"),
+                        root.get("numberOfBathrooms"),
+                        root.get("cityName"),
+                        root.get("neighborhoodName"),
+                        root.get("mainImageUrl"),
+                        root.get("imageCount"),
+                        root.get(sortField)))
+                .stream()
+                .map(tuple -> new PropertyCardRow(
+                        tuple.get(0, Long.class),
+                        tuple.get(1, String.class),
+                        tuple.get(2, BigDecimal.class),
+                        tuple.get(3, Integer.class),
+                        tuple.get(4, Integer.class),
+                        tuple.get(5, String.class),
+                        tuple.get(6, String.class),
+                        tuple.get(7, String.class),
+                        tuple.get(8, Integer.class),
+                        tuple.get(9)
+                ))
+                .toList();
+    }
+
+    @Override
+    public List<PropertyKeyRow> findKeys(Specification<PropertyReadModelEntity> spec, Sort sort, String sortField, int limit) {
+        return findTuples(spec, sort, 0, limit, root -> List.of(root.get("id"), root.get(sortField)))
+                .stream()
+                .map(tuple -> new PropertyKeyRow(tuple.get(0, Long.class), tuple.get(1)))
+                .toList();
+    }
+
+    @Override
+    public List<PropertyFacetSourceRow> findFacetSources(Specification<PropertyReadModelEntity> spec, int limit) {
+        return findTuples(spec, Sort.by("id"), 0, limit, root -> List.of(
+                        root.get("id"),
+                        root.get("categoryId"),
+                        root.get("categoryName"),
+                        root.get("cityId"),
+                        root.get("cityName"),
+                        root.get("price")))
+                .stream()
+                .map(tuple -> new PropertyFacetSourceRow(
+                        tuple.get(0, Long.class),
+                        tuple.get(1, Long.class),
+                        tuple.get(2, String.class),
+                        tuple.get(3, Long.class),
+                        tuple.get(4, String.class),
+                        tuple.get(5, BigDecimal.class)
+                ))
+                .toList();
+    }
+
+    @Override
+    public void insertAll(List<PropertyReadModelEntity> rows, int batchSize) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_ROW_SQL)) {
+                for (int start = 0; start < rows.size(); start += batchSize) {
+                    for (PropertyReadModelEntity row : rows.subList(start, Math.min(start + batchSize, rows.size()))) {
+                        bind(statement, row);
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+            }
+        });
+    }
+
+    private static void bind(PreparedStatement statement, PropertyReadModelEntity row) throws SQLException {
+        statement.setLong(1, row.getId());
+        statement.setString(2, row.getName());
+        statement.setBigDecimal(3, row.getPrice());
+        statement.setInt(4, row.getNumberOfRooms());
+        statement.setInt(5, row.getNumberOfBathrooms());
+        if (row.getActivePublicationDate() != null) {
+            statement.setDate(6, Date.valueOf(row.getActivePublicationDate()));
+        } else {
+            statement.setNull(6, Types.DATE);
+        }
+        statement.setString(7, row.getPublicationStatus().name());
+        statement.setObject(8, row.getCategoryId(), Types.BIGINT);
+        statement.setString(9, row.getCategoryName());
+        statement.setObject(10, row.getLocationId(), Types.BIGINT);
+        statement.setString(11, row.getAddress());
+        statement.setObject(12, row.getLatitude(), Types.DOUBLE);
+        statement.setObject(13, row.getLongitude(), Types.DOUBLE);
+        statement.setObject(14, row.getNeighborhoodId(), Types.BIGINT);
+        statement.setString(15, row.getNeighborhoodName());
+        statement.setObject(16, row.getCityId(), Types.BIGINT);
+        statement.setString(17, row.getCityName());
+        statement.setObject(18, row.getDepartmentId(), Types.BIGINT);
+        statement.setString(19, row.getDepartmentName());
+        statement.setString(20, row.getMainImageUrl());
+        statement.setInt(21, row.getImageCount());
+        statement.setString(22, row.getSearchText());
+        statement.setTimestamp(23, Timestamp.valueOf(row.getCreatedAt()));
+        statement.setTimestamp(24, Timestamp.valueOf(row.getUpdatedAt()));
+    }
+
+    private List<Tuple> findTuples(Specification<PropertyReadModelEntity> spec, Sort sort, long offset, int limit,
+                                   Function<Root<PropertyReadModelEntity>, List<Selection<?>>> selections) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<PropertyReadModelEntity> root = query.from(PropertyReadModelEntity.class);
+
+        where(query, root, criteriaBuilder, spec);
+        query.multiselect(selections.apply(root));
+        query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private static void where(CriteriaQuery<?> query, Root<PropertyReadModelEntity> root, CriteriaBuilder criteriaBuilder,
+                              Specification<PropertyReadModelEntity> spec) {
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
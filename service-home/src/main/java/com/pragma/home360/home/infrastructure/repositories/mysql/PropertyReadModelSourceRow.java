@@ -0,0 +1,38 @@
+package com.pragma.home360.home.infrastructure.repositories.mysql;
+
+import com.pragma.home360.home.infrastructure.entities.enums.PropertyPublicationStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Fila del modelo de lectura leída de las tablas normalizadas, con los joins ya resueltos.
+ */
+public record PropertyReadModelSourceRow(
+        Long id,
+        String name,
+        String description,
+        BigDecimal price,
+        Integer numberOfRooms,
+        Integer numberOfBathrooms,
+        LocalDate activePublicationDate,
+        PropertyPublicationStatus publicationStatus,
+        Long categoryId,
+        String categoryName,
+        Long locationId,
+        String address,
+        Double latitude,
+        Double longitude,
+        Long neighborhoodId,
+        String neighborhoodName,
+        Long cityId,
+        String cityName,
+        Long departmentId,
+        String departmentName,
+        String mainImageUrl,
+        Long imageCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
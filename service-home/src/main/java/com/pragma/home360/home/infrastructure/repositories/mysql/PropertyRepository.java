@@ -2,18 +2,157 @@ package com.pragma.home360.home.infrastructure.repositories.mysql;
 
 import com.pragma.home360.home.infrastructure.entities.PropertyEntity;
 import com.pragma.home360.home.infrastructure.entities.enums.PropertyPublicationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+
+public interface PropertyRepository extends JpaRepository<PropertyEntity, Long>, JpaSpecificationExecutor<PropertyEntity>, PropertyRepositoryCustom {
 
-public interface PropertyRepository extends JpaRepository<PropertyEntity, Long>, JpaSpecificationExecutor<PropertyEntity> {
     boolean existsByName(String name);
 
-    List<PropertyEntity> findAllByPublicationStatusAndActivePublicationDateLessThanEqual(
-            PropertyPublicationStatus publicationStatus,
-            LocalDate activePublicationDate
-    );
+    /**
+     * Fecha de modificación por clave primaria, sin cargar la entidad ni sus relaciones.
+     */
+    @Query("SELECT p.updatedAt FROM PropertyEntity p WHERE p.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    /**
+     * Marca la propiedad como modificada cuando cambia algo que se publica con ella, como sus imágenes.
+     */
+    @Modifying
+    @Query("UPDATE PropertyEntity p SET p.updatedAt = :updatedAt WHERE p.id = :id")
+    int touch(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Ids de las propiedades en el estado dado cuya fecha de publicación activa ya llegó, en el orden del
+     * índice {@code (publication_status, active_publication_date)}. Las filas quedan bloqueadas hasta el
+     * final de la transacción, así que dos ejecuciones concurrentes no toman el mismo bloque.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p.id FROM PropertyEntity p " +
+            "WHERE p.publicationStatus = :status AND p.activePublicationDate <= :date " +
+            "ORDER BY p.activePublicationDate, p.id")
+    List<Long> findIdsForUpdateByPublicationStatusDueBy(@Param("status") PropertyPublicationStatus status,
+                                                        @Param("date") LocalDate date,
+                                                        Pageable pageable);
+
+    /**
+     * Fecha de publicación activa más antigua entre las propiedades en el estado dado; se resuelve con el
+     * primer registro del índice {@code (publication_status, active_publication_date)}.
+     */
+    @Query("SELECT MIN(p.activePublicationDate) FROM PropertyEntity p WHERE p.publicationStatus = :status")
+    Optional<LocalDate> findMinActivePublicationDateByPublicationStatus(@Param("status") PropertyPublicationStatus status);
+
+    /**
+     * Cambia en una sola sentencia el estado de las propiedades que siguen en {@code from}. Limpia el
+     * contexto de persistencia para que las lecturas posteriores no devuelvan entidades con el estado anterior.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PropertyEntity p SET p.publicationStatus = :to, p.updatedAt = :updatedAt " +
+            "WHERE p.id IN :ids AND p.publicationStatus = :from")
+    int updatePublicationStatus(@Param("ids") Collection<Long> ids,
+                                @Param("from") PropertyPublicationStatus from,
+                                @Param("to") PropertyPublicationStatus to,
+                                @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Segunda fase del paginado: hidrata en una sola consulta las propiedades de la ventana
+     * con su ubicación completa, categoría e imágenes. No garantiza el orden de los ids recibidos.
+     *
+     * @param ids Ids obtenidos en la primera fase
+     * @return Propiedades con sus relaciones inicializadas
+     */
+    @Query("SELECT DISTINCT p FROM PropertyEntity p " +
+            "LEFT JOIN FETCH p.location l " +
+            "LEFT JOIN FETCH l.neighborhood n " +
+            "LEFT JOIN FETCH n.city nc " +
+            "LEFT JOIN FETCH nc.department " +
+            "LEFT JOIN FETCH l.city c " +
+            "LEFT JOIN FETCH c.department " +
+            "LEFT JOIN FETCH p.category " +
+            "LEFT JOIN FETCH p.images " +
+            "WHERE p.id IN :ids")
+    List<PropertyEntity> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Lote de ids de todas las propiedades, ordenado por id para recorrer la tabla por keyset.
+     *
+     * @param afterId  Último id del lote anterior (0 para empezar)
+     * @param pageable Tamaño del lote; la página siempre es la primera
+     */
+    @Query("SELECT p.id FROM PropertyEntity p WHERE p.id > :afterId ORDER BY p.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Lote de ids de las propiedades modificadas después de {@code since}, en el orden del índice
+     * {@code (updated_at, id)} para continuar desde la última leída.
+     *
+     * @param since    Fecha de modificación desde la que se leen cambios
+     * @param afterId  Último id leído con fecha {@code since} en el lote anterior (0 para empezar)
+     * @param pageable Tamaño del lote; la página siempre es la primera
+     */
+    @Query("SELECT new com.pragma.home360.home.infrastructure.repositories.mysql.PropertyChangeRow(p.id, p.updatedAt) " +
+            "FROM PropertyEntity p " +
+            "WHERE p.updatedAt > :since OR (p.updatedAt = :since AND p.id > :afterId) " +
+            "ORDER BY p.updatedAt, p.id")
+    List<PropertyChangeRow> findChangedAfter(@Param("since") LocalDateTime since,
+                                             @Param("afterId") Long afterId,
+                                             Pageable pageable);
+
+    /**
+     * Lote de coordenadas y precios de las propiedades en un estado, ordenado por id para recorrer la tabla por keyset.
+     *
+     * @param afterId  Último id del lote anterior (0 para empezar)
+     * @param pageable Tamaño del lote; la página siempre es la primera
+     */
+    @Query("SELECT new com.pragma.home360.home.infrastructure.repositories.mysql.PropertyCoordinatesRow(p.id, l.latitude, l.longitude, p.price) " +
+            "FROM PropertyEntity p JOIN p.location l " +
+            "WHERE p.publicationStatus = :status AND p.id > :afterId " +
+            "AND l.latitude IS NOT NULL AND l.longitude IS NOT NULL " +
+            "ORDER BY p.id")
+    List<PropertyCoordinatesRow> findCoordinatesAfter(@Param("status") PropertyPublicationStatus status,
+                                                      @Param("afterId") Long afterId,
+                                                      Pageable pageable);
+
+    /**
+     * Lote de nombres de propiedades en un estado con los catálogos que referencian, ordenado por id.
+     *
+     * @param afterId  Último id del lote anterior (0 para empezar)
+     * @param pageable Tamaño del lote; la página siempre es la primera
+     */
+    @Query("SELECT new com.pragma.home360.home.infrastructure.repositories.mysql.PropertySuggestionRow(" +
+            "p.id, p.name, c.id, n.id, ci.id, d.id) " +
+            "FROM PropertyEntity p JOIN p.category c JOIN p.location l " +
+            "LEFT JOIN l.neighborhood n LEFT JOIN l.city ci LEFT JOIN ci.department d " +
+            "WHERE p.publicationStatus = :status AND p.id > :afterId " +
+            "ORDER BY p.id")
+    List<PropertySuggestionRow> findSuggestionRowsAfter(@Param("status") PropertyPublicationStatus status,
+                                                        @Param("afterId") Long afterId,
+                                                        Pageable pageable);
 
+    /**
+     * Filas del modelo de lectura de las propiedades indicadas, con sus catálogos, imagen principal y
+     * cantidad de imágenes resueltos en una sola consulta.
+     */
+    @Query("SELECT new com.pragma.home360.home.infrastructure.repositories.mysql.PropertyReadModelSourceRow(" +
+            "p.id, p.name, p.description, p.price, p.numberOfRooms, p.numberOfBathrooms, p.activePublicationDate, p.publicationStatus, " +
+            "c.id, c.name, l.id, l.address, l.latitude, l.longitude, n.id, n.name, ci.id, ci.name, d.id, d.name, " +
+            "(SELECT MIN(i.imageUrl) FROM PropertyImageEntity i WHERE i.property = p AND i.isMainImage = true), " +
+            "(SELECT COUNT(i) FROM PropertyImageEntity i WHERE i.property = p), " +
+            "p.createdAt, p.updatedAt) " +
+            "FROM PropertyEntity p LEFT JOIN p.category c LEFT JOIN p.location l " +
+            "LEFT JOIN l.neighborhood n LEFT JOIN l.city ci LEFT JOIN ci.department d " +
+            "WHERE p.id IN :ids")
+    List<PropertyReadModelSourceRow> findReadModelSourceRows(@Param("ids") Collection<Long> ids);
 }
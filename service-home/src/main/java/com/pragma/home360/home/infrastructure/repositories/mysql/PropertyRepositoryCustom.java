@@ -0,0 +1,59 @@
+package com.pragma.home360.home.infrastructure.repositories.mysql;
+
+import com.pragma.home360.home.infrastructure.entities.PropertyEntity;
+import com.pragma.home360.home.infrastructure.entities.enums.PropertyPublicationStatus;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface PropertyRepositoryCustom {
+
+    /**
+     * Primera fase del paginado: selecciona únicamente los ids de la ventana solicitada,
+     * aplicando filtro y ordenamiento en la base de datos, sin joins de colecciones.
+     *
+     * @param spec   Filtro a aplicar
+     * @param sort   Ordenamiento de la ventana
+     * @param offset Posición del primer registro
+     * @param limit  Cantidad máxima de ids a devolver
+     * @return Ids en el orden solicitado
+     */
+    List<Long> findIds(Specification<PropertyEntity> spec, Sort sort, long offset, int limit);
+
+    /**
+     * Cuenta en una sola pasada agrupada las propiedades que cumplen el filtro por categoría y ciudad,
+     * sumando además cuántas caen en cada rango de precio delimitado por {@code priceBoundaries}.
+     *
+     * @param spec            Filtro a aplicar
+     * @param priceBoundaries Límites ascendentes de los rangos de precio
+     * @return Una fila por combinación categoría/ciudad con al menos una propiedad
+     */
+    List<PropertyFacetRow> countFacets(Specification<PropertyEntity> spec, List<BigDecimal> priceBoundaries);
+
+    /**
+     * Inserta las propiedades con sentencias JDBC por lotes sobre la conexión de la transacción actual.
+     * Hibernate no agrupa inserciones de entidades con id {@code IDENTITY}, así que se evita el
+     * {@code persist}; las entidades no quedan administradas.
+     * <p>
+     * El id sigue siendo {@code IDENTITY}: MySQL no tiene secuencias, y un generador por tabla exigiría
+     * sembrarlo por encima del id máximo en cada base existente, que aquí se crean con {@code ddl-auto}, y
+     * además serializaría todas las altas en su fila. {@code created_at} y {@code updated_at} reciben el mismo
+     * valor que les daría {@code @CreationTimestamp} y {@code @UpdateTimestamp} en un {@code save}: la hora
+     * de la réplica truncada a microsegundos, la precisión de las columnas.
+     *
+     * @param properties Propiedades con categoría y ubicación asignadas por id
+     * @param batchSize  Filas por lote
+     * @return Ids generados, en el mismo orden de las propiedades recibidas
+     */
+    List<Long> insertAll(List<PropertyEntity> properties, int batchSize);
+
+    /**
+     * Recorre en una sola consulta, de id en id, todas las propiedades en un estado como filas planas.
+     * El resultado se consume con un cursor de solo avance, por lo que debe leerse y cerrarse dentro
+     * de la transacción que lo abrió, sin otras consultas en la misma conexión mientras esté abierto.
+     */
+    Stream<PropertyExportRow> streamExportRows(PropertyPublicationStatus status);
+}
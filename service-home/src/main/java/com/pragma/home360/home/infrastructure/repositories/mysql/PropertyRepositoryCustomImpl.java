@@ -0,0 +1,190 @@
+package com.pragma.home360.home.infrastructure.repositories.mysql;
+
+import com.pragma.home360.home.infrastructure.entities.CategoryEntity;
+import com.pragma.home360.home.infrastructure.entities.CityEntity;
+import com.pragma.home360.home.infrastructure.entities.LocationEntity;
+import com.pragma.home360.home.infrastructure.entities.PropertyEntity;
+import com.pragma.home360.home.infrastructure.entities.enums.PropertyPublicationStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import org.hibernate.Session;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class PropertyRepositoryCustomImpl implements PropertyRepositoryCustom {
+
+    private static final String INSERT_PROPERTY_SQL = "INSERT INTO properties (name, description, number_of_rooms, "
+            + "number_of_bathrooms, price, active_publication_date, publication_status, location_id, category_id, "
+            + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String EXPORT_ROWS_JPQL = "SELECT new com.pragma.home360.home.infrastructure.repositories.mysql.PropertyExportRow(" +
+            "p.id, p.name, p.description, p.price, p.numberOfRooms, p.numberOfBathrooms, c.name, " +
+            "l.address, l.latitude, l.longitude, n.name, ci.name, d.name, p.activePublicationDate, " +
+            "(SELECT MIN(i.imageUrl) FROM PropertyImageEntity i WHERE i.property = p AND i.isMainImage = true)) " +
+            "FROM PropertyEntity p LEFT JOIN p.category c LEFT JOIN p.location l " +
+            "LEFT JOIN l.neighborhood n LEFT JOIN l.city ci LEFT JOIN ci.department d " +
+            "WHERE p.publicationStatus = :status " +
+            "ORDER BY p.id";
+
+    /**
+     * Con Connector/J, {@code Integer.MIN_VALUE} hace que la sentencia entregue las filas una a una a medida
+     * que llegan, sin cargar el resultado completo ni activar {@code useCursorFetch} para toda la conexión.
+     * Otras bases de datos rechazan un tamaño negativo, así que reciben uno normal.
+     */
+    private static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Long> findIds(Specification<PropertyEntity> spec, Sort sort, long offset, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<PropertyEntity> root = query.from(PropertyEntity.class);
+
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root.get("id"));
+        query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<PropertyFacetRow> countFacets(Specification<PropertyEntity> spec, List<BigDecimal> priceBoundaries) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<PropertyEntity> root = query.from(PropertyEntity.class);
+        Join<PropertyEntity, CategoryEntity> category = root.join("category");
+        Join<PropertyEntity, LocationEntity> location = root.join("location");
+        Join<LocationEntity, CityEntity> city = location.join("city", JoinType.LEFT);
+
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        // Los rangos de precio se suman dentro de agregados para no agrupar por expresiones con
+        // parámetros, que MySQL rechaza con ONLY_FULL_GROUP_BY.
+        Path<BigDecimal> price = root.get("price");
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(category.get("id"));
+        selections.add(category.get("name"));
+        selections.add(city.get("id"));
+        selections.add(city.get("name"));
+        selections.add(criteriaBuilder.count(root));
+        for (int bucket = 0; bucket <= priceBoundaries.size(); bucket++) {
+            List<Predicate> bounds = new ArrayList<>();
+            if (bucket > 0) {
+                bounds.add(criteriaBuilder.greaterThanOrEqualTo(price, priceBoundaries.get(bucket - 1)));
+            }
+            if (bucket < priceBoundaries.size()) {
+                bounds.add(criteriaBuilder.lessThan(price, priceBoundaries.get(bucket)));
+            }
+            selections.add(criteriaBuilder.sum(criteriaBuilder.<Long>selectCase()
+                    .when(criteriaBuilder.and(bounds.toArray(new Predicate[0])), 1L)
+                    .otherwise(0L)));
+        }
+        query.multiselect(selections);
+        query.groupBy(category.get("id"), category.get("name"), city.get("id"), city.get("name"));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(tuple -> toFacetRow(tuple, priceBoundaries.size() + 1))
+                .toList();
+    }
+
+    private static PropertyFacetRow toFacetRow(Tuple tuple, int buckets) {
+        long[] priceBucketCounts = new long[buckets];
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            Number value = tuple.get(5 + bucket, Number.class);
+            priceBucketCounts[bucket] = value == null ? 0 : value.longValue();
+        }
+        return new PropertyFacetRow(
+                tuple.get(0, Long.class),
+                tuple.get(1, String.class),
+                tuple.get(2, Long.class),
+                tuple.get(3, String.class),
+                tuple.get(4, Long.class),
+                priceBucketCounts
+        );
+    }
+
+    @Override
+    public Stream<PropertyExportRow> streamExportRows(PropertyPublicationStatus status) {
+        Dialect dialect = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect();
+        return entityManager.createQuery(EXPORT_ROWS_JPQL, PropertyExportRow.class)
+                .setParameter("status", status)
+                .setHint(HibernateHints.HINT_FETCH_SIZE,
+                        dialect instanceof MySQLDialect ? MYSQL_STREAMING_FETCH_SIZE : EXPORT_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    @Override
+    public List<Long> insertAll(List<PropertyEntity> properties, int batchSize) {
+        entityManager.flush();
+        List<Long> ids = new ArrayList<>(properties.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_PROPERTY_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (int start = 0; start < properties.size(); start += batchSize) {
+                    for (PropertyEntity property : properties.subList(start, Math.min(start + batchSize, properties.size()))) {
+                        statement.setString(1, property.getName());
+                        statement.setString(2, property.getDescription());
+                        statement.setInt(3, property.getNumberOfRooms());
+                        statement.setInt(4, property.getNumberOfBathrooms());
+                        statement.setBigDecimal(5, property.getPrice());
+                        if (property.getActivePublicationDate() != null) {
+                            statement.setDate(6, Date.valueOf(property.getActivePublicationDate()));
+                        } else {
+                            statement.setNull(6, Types.DATE);
+                        }
+                        statement.setString(7, property.getPublicationStatus().name());
+                        statement.setLong(8, property.getLocation().getId());
+                        statement.setLong(9, property.getCategory().getId());
+                        statement.setTimestamp(10, now);
+                        statement.setTimestamp(11, now);
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                    try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                        while (generatedKeys.next()) {
+                            ids.add(generatedKeys.getLong(1));
+                        }
+                    }
+                }
+            }
+        });
+        if (ids.size() != properties.size()) {
+            throw new IllegalStateException("Se insertaron " + properties.size() + " propiedades pero el driver devolvió "
+                    + ids.size() + " ids generados.");
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,14 @@
+package com.pragma.home360.home.infrastructure.repositories.mysql;
+
+/**
+ * Nombre de una propiedad y los ids de los catálogos que referencia, usados para cargar el índice de sugerencias.
+ */
+public record PropertySuggestionRow(
+        Long propertyId,
+        String name,
+        Long categoryId,
+        Long neighborhoodId,
+        Long cityId,
+        Long departmentId
+) {
+}
@@ -0,0 +1,40 @@
+package com.pragma.home360.home.infrastructure.repositories.mysql;
+
+import com.pragma.home360.home.infrastructure.entities.PropertyTombstoneEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PropertyTombstoneRepository extends JpaRepository<PropertyTombstoneEntity, Long> {
+
+    /**
+     * Lote de borrados posteriores a {@code since}, en el orden del índice {@code (deleted_at, property_id)}
+     * para continuar desde el último leído.
+     *
+     * @param since    Fecha de borrado desde la que se leen
+     * @param afterId  Último id leído con fecha {@code since} en el lote anterior (0 para empezar)
+     * @param pageable Tamaño del lote; la página siempre es la primera
+     */
+    @Query("SELECT t FROM PropertyTombstoneEntity t " +
+            "WHERE t.deletedAt > :since OR (t.deletedAt = :since AND t.propertyId > :afterId) " +
+            "ORDER BY t.deletedAt, t.propertyId")
+    List<PropertyTombstoneEntity> findDeletedAfter(@Param("since") LocalDateTime since,
+                                                   @Param("afterId") Long afterId,
+                                                   Pageable pageable);
+
+    /**
+     * Purga los borrados anteriores a la fecha dada. Lo puede ejecutar cualquier réplica.
+     *
+     * @return Cantidad de registros purgados
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PropertyTombstoneEntity t WHERE t.deletedAt < :before")
+    int deleteDeletedBefore(@Param("before") LocalDateTime before);
+}
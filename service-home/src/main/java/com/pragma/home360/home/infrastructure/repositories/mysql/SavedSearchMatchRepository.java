@@ -0,0 +1,21 @@
+package com.pragma.home360.home.infrastructure.repositories.mysql;
+
+import com.pragma.home360.home.infrastructure.entities.SavedSearchMatchEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SavedSearchMatchRepository extends JpaRepository<SavedSearchMatchEntity, Long> {
+
+    @Query("SELECT m.savedSearchId FROM SavedSearchMatchEntity m WHERE m.propertyId = :propertyId")
+    List<Long> findSavedSearchIdsByPropertyId(@Param("propertyId") Long propertyId);
+
+    @Modifying
+    @Query("DELETE FROM SavedSearchMatchEntity m WHERE m.savedSearchId = :savedSearchId")
+    void deleteBySavedSearchId(@Param("savedSearchId") Long savedSearchId);
+}
@@ -0,0 +1,43 @@
+package com.pragma.home360.home.infrastructure.repositories.mysql;
+
+import com.pragma.home360.home.infrastructure.entities.SavedSearchEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearchEntity, Long> {
+
+    /**
+     * Lote de búsquedas guardadas ordenado por id para recorrer la tabla por keyset.
+     *
+     * @param afterId  Último id del lote anterior (0 para empezar)
+     * @param pageable Tamaño del lote; la página siempre es la primera
+     */
+    @Query("SELECT s FROM SavedSearchEntity s WHERE s.id > :afterId ORDER BY s.id")
+    List<SavedSearchEntity> findBatchAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Lote de búsquedas guardadas modificadas desde {@code since}, ordenado por {@code (updatedAt, id)}
+     * para recorrer los cambios por keyset con el índice {@code idx_saved_searches_updated_at}.
+     *
+     * @param since    Fecha de modificación desde la que se leen cambios
+     * @param afterId  Último id leído con fecha {@code since} en el lote anterior (0 para empezar)
+     * @param pageable Tamaño del lote; la página siempre es la primera
+     */
+    @Query("SELECT s FROM SavedSearchEntity s " +
+            "WHERE s.updatedAt > :since OR (s.updatedAt = :since AND s.id > :afterId) " +
+            "ORDER BY s.updatedAt, s.id")
+    List<SavedSearchEntity> findChangedAfter(@Param("since") LocalDateTime since,
+                                             @Param("afterId") Long afterId,
+                                             Pageable pageable);
+
+    @Query("SELECT s.id FROM SavedSearchEntity s WHERE s.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,63 @@
+package com.pragma.home360.home.infrastructure.repositories.mysql;
+
+import com.pragma.home360.home.infrastructure.entities.SchedulerLeaseEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Sentencias de las concesiones de tareas programadas. Cada una es atómica por sí sola y compara contra
+ * {@code CURRENT_TIMESTAMP} de la base de datos. {@code TIMESTAMPADD} existe en MySQL y en H2.
+ */
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLeaseEntity, String> {
+
+    /**
+     * Toma una concesión vencida y aumenta su token.
+     *
+     * @return 1 si la concesión pasó a {@code owner}; 0 si no existe o sigue vigente
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE scheduler_leases SET owner = :owner, fencing_token = fencing_token + 1, " +
+            "lease_until = TIMESTAMPADD(SECOND, :seconds, CURRENT_TIMESTAMP), acquired_at = CURRENT_TIMESTAMP " +
+            "WHERE name = :name AND lease_until <= CURRENT_TIMESTAMP", nativeQuery = true)
+    int takeOverExpired(@Param("name") String name, @Param("owner") String owner, @Param("seconds") long seconds);
+
+    /**
+     * Crea la concesión la primera vez que se pide. Solo falla por clave duplicada si otra réplica la crea
+     * al mismo tiempo.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_leases (name, owner, fencing_token, lease_until, acquired_at) " +
+            "VALUES (:name, :owner, 1, TIMESTAMPADD(SECOND, :seconds, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP)",
+            nativeQuery = true)
+    int insertLease(@Param("name") String name, @Param("owner") String owner, @Param("seconds") long seconds);
+
+    @Query("SELECT l.fencingToken FROM SchedulerLeaseEntity l WHERE l.name = :name AND l.owner = :owner")
+    Optional<Long> findFencingToken(@Param("name") String name, @Param("owner") String owner);
+
+    /**
+     * Extiende la concesión solo si sigue vigente con el mismo dueño y token. Dentro de una transacción la
+     * fila queda bloqueada hasta confirmarla, así que nadie la toma mientras esa transacción escribe.
+     *
+     * @return 1 si se extendió; 0 si la concesión se perdió
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE scheduler_leases SET lease_until = TIMESTAMPADD(SECOND, :seconds, CURRENT_TIMESTAMP) " +
+            "WHERE name = :name AND owner = :owner AND fencing_token = :token AND lease_until > CURRENT_TIMESTAMP",
+            nativeQuery = true)
+    int extend(@Param("name") String name, @Param("owner") String owner, @Param("token") long token,
+               @Param("seconds") long seconds);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE scheduler_leases SET lease_until = CURRENT_TIMESTAMP " +
+            "WHERE name = :name AND owner = :owner AND fencing_token = :token", nativeQuery = true)
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("token") long token);
+}
@@ -0,0 +1,71 @@
+package com.pragma.home360.home.infrastructure.repositories.mysql.specifications;
+
+import com.pragma.home360.home.domain.model.PropertyCriteriaModel;
+import com.pragma.home360.home.infrastructure.entities.PropertyReadModelEntity;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filtros del listado sobre {@code property_read_model}. Equivalen a
+ * {@link PropertySpecifications#matches}, pero la categoría y la ubicación son columnas de la misma
+ * tabla en lugar de joins. El cursor y los ids se filtran con los predicados genéricos de
+ * {@link PropertySpecifications}.
+ */
+public final class PropertyReadModelSpecifications {
+
+    private PropertyReadModelSpecifications() {
+    }
+
+    public static Specification<PropertyReadModelEntity> matches(PropertyCriteriaModel criteria) {
+        return (root, query, criteriaBuilder) -> {
+            if (criteria == null || criteria.isEmpty()) {
+                return null;
+            }
+            List<Predicate> predicates = new ArrayList<>();
+            if (criteria.minPrice() != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("price"), criteria.minPrice()));
+            }
+            if (criteria.maxPrice() != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("price"), criteria.maxPrice()));
+            }
+            if (criteria.minRooms() != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("numberOfRooms"), criteria.minRooms()));
+            }
+            if (criteria.minBathrooms() != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("numberOfBathrooms"), criteria.minBathrooms()));
+            }
+            if (criteria.categoryId() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("categoryId"), criteria.categoryId()));
+            }
+            if (criteria.publicationStatus() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("publicationStatus"), criteria.publicationStatus()));
+            }
+            if (criteria.cityId() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("cityId"), criteria.cityId()));
+            }
+            if (criteria.neighborhoodId() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("neighborhoodId"), criteria.neighborhoodId()));
+            }
+            if (criteria.departmentId() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("departmentId"), criteria.departmentId()));
+            }
+            if (criteria.near() != null) {
+                predicates.add(PropertySpecifications.withinRadius(criteriaBuilder, root, criteria.near()));
+            }
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Filas cuyo {@code field} (id de categoría, ubicación o catálogo) vale {@code value}, con id mayor
+     * que {@code afterId}. Sirve para recorrer por lotes las filas afectadas por un cambio de catálogo.
+     */
+    public static Specification<PropertyReadModelEntity> referencingAfter(String field, Long value, Long afterId) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.and(
+                criteriaBuilder.equal(root.get(field), value),
+                criteriaBuilder.greaterThan(root.get("id"), afterId));
+    }
+}
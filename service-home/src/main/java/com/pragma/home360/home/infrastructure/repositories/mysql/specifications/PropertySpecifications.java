@@ -0,0 +1,217 @@
+package com.pragma.home360.home.infrastructure.repositories.mysql.specifications;
+
+import com.pragma.home360.home.domain.exceptions.ValidationException;
+import com.pragma.home360.home.domain.model.GeoRadiusModel;
+import com.pragma.home360.home.domain.model.PropertyCriteriaModel;
+import com.pragma.home360.home.domain.utils.geo.GeoBoundingBox;
+import com.pragma.home360.home.domain.utils.geo.GeoUtils;
+import com.pragma.home360.home.domain.utils.pagination.KeysetCursor;
+import com.pragma.home360.home.infrastructure.entities.LocationEntity;
+import com.pragma.home360.home.infrastructure.entities.PropertyEntity;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.pragma.home360.home.domain.utils.constants.DomainConstants.PAGINATION_CURSOR_INVALID;
+
+public final class PropertySpecifications {
+
+    private static final String ID_FIELD = "id";
+    private static final double DEGREES_TO_RADIANS = Math.PI / 180;
+
+    private PropertySpecifications() {
+    }
+
+    public static <T> Specification<T> idIn(Collection<Long> ids) {
+        return (root, query, criteriaBuilder) -> root.get(ID_FIELD).in(ids);
+    }
+
+    /**
+     * Traduce los filtros estructurados a predicados sobre columnas cubiertas por los índices
+     * compuestos de {@code properties} y {@code locations}.
+     */
+    public static Specification<PropertyEntity> matches(PropertyCriteriaModel criteria) {
+        return (root, query, criteriaBuilder) -> {
+            if (criteria == null || criteria.isEmpty()) {
+                return null;
+            }
+            List<Predicate> predicates = new ArrayList<>();
+            if (criteria.minPrice() != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("price"), criteria.minPrice()));
+            }
+            if (criteria.maxPrice() != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("price"), criteria.maxPrice()));
+            }
+            if (criteria.minRooms() != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("numberOfRooms"), criteria.minRooms()));
+            }
+            if (criteria.minBathrooms() != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("numberOfBathrooms"), criteria.minBathrooms()));
+            }
+            if (criteria.categoryId() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("category").get(ID_FIELD), criteria.categoryId()));
+            }
+            if (criteria.publicationStatus() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("publicationStatus"), criteria.publicationStatus()));
+            }
+            if (criteria.cityId() != null || criteria.neighborhoodId() != null || criteria.departmentId() != null
+                    || criteria.near() != null) {
+                Join<PropertyEntity, LocationEntity> location = root.join("location");
+                if (criteria.cityId() != null) {
+                    predicates.add(criteriaBuilder.equal(location.get("city").get(ID_FIELD), criteria.cityId()));
+                }
+                if (criteria.neighborhoodId() != null) {
+                    predicates.add(criteriaBuilder.equal(location.get("neighborhood").get(ID_FIELD), criteria.neighborhoodId()));
+                }
+                if (criteria.departmentId() != null) {
+                    predicates.add(criteriaBuilder.equal(location.join("city").get("department").get(ID_FIELD), criteria.departmentId()));
+                }
+                if (criteria.near() != null) {
+                    predicates.add(withinRadius(criteriaBuilder, location, criteria.near()));
+                }
+            }
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Prefiltro por rectángulo sobre {@code (latitude, longitude)}, que resuelve el índice
+     * {@code idx_locations_lat_lng}, seguido de la comprobación exacta de Haversine sobre las filas
+     * que sobreviven. Se compara el término {@code a} contra el umbral del radio, sin {@code asin}.
+     *
+     * @param location Origen con las columnas {@code latitude} y {@code longitude}
+     */
+    static Predicate withinRadius(CriteriaBuilder criteriaBuilder, From<?, ?> location, GeoRadiusModel near) {
+        Path<Double> latitude = location.get("latitude");
+        Path<Double> longitude = location.get("longitude");
+        GeoBoundingBox box = GeoUtils.boundingBox(near);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(criteriaBuilder.between(latitude, box.minLatitude(), box.maxLatitude()));
+        if (box.boundsLongitude()) {
+            predicates.add(criteriaBuilder.between(longitude, box.minLongitude(), box.maxLongitude()));
+        }
+
+        Expression<Double> latitudeRadians = criteriaBuilder.prod(latitude, DEGREES_TO_RADIANS);
+        Expression<Double> halfDeltaLatitude = sin(criteriaBuilder, criteriaBuilder.prod(
+                criteriaBuilder.diff(latitudeRadians, Math.toRadians(near.latitude())), 0.5));
+        Expression<Double> halfDeltaLongitude = sin(criteriaBuilder, criteriaBuilder.prod(
+                criteriaBuilder.diff(criteriaBuilder.prod(longitude, DEGREES_TO_RADIANS), Math.toRadians(near.longitude())), 0.5));
+        Expression<Double> haversine = criteriaBuilder.sum(
+                criteriaBuilder.prod(halfDeltaLatitude, halfDeltaLatitude),
+                criteriaBuilder.prod(
+                        criteriaBuilder.prod(criteriaBuilder.function("cos", Double.class, latitudeRadians),
+                                Math.cos(Math.toRadians(near.latitude()))),
+                        criteriaBuilder.prod(halfDeltaLongitude, halfDeltaLongitude)));
+        predicates.add(criteriaBuilder.lessThanOrEqualTo(haversine, GeoUtils.haversineThreshold(near.radiusKm())));
+
+        return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+    }
+
+    private static Expression<Double> sin(CriteriaBuilder criteriaBuilder, Expression<Double> radians) {
+        return criteriaBuilder.function("sin", Double.class, radians);
+    }
+
+    /**
+     * Ordenamiento estable para keyset: la clave solicitada y el id como desempate,
+     * ambos en la misma dirección.
+     */
+    public static Sort keysetSort(String sortField, Sort.Direction direction) {
+        Sort sort = Sort.by(direction, sortField);
+        return ID_FIELD.equals(sortField) ? sort : sort.and(Sort.by(direction, ID_FIELD));
+    }
+
+    /**
+     * Equivalente a {@code WHERE (sortKey, id) > (?, ?)} expresado con Criteria, que no soporta
+     * comparación de tuplas. Asume el orden de NULL de MySQL: primero en ASC y al final en DESC.
+     */
+    public static <T> Specification<T> after(KeysetCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            boolean ascending = cursor.isAscending();
+            Path<Long> id = root.get(ID_FIELD);
+            Predicate idBeyond = ascending
+                    ? criteriaBuilder.greaterThan(id, cursor.id())
+                    : criteriaBuilder.lessThan(id, cursor.id());
+
+            if (ID_FIELD.equals(cursor.sortField())) {
+                return idBeyond;
+            }
+
+            Path<?> sortKey = root.get(cursor.sortField());
+            if (cursor.value() == null) {
+                Predicate nullTie = criteriaBuilder.and(criteriaBuilder.isNull(sortKey), idBeyond);
+                return ascending ? criteriaBuilder.or(nullTie, criteriaBuilder.isNotNull(sortKey)) : nullTie;
+            }
+
+            Comparable<?> value = fromCursorValue(sortKey.getJavaType(), cursor.value());
+            Predicate keyBeyond = compare(criteriaBuilder, sortKey, value, ascending);
+            Predicate keyTie = criteriaBuilder.and(criteriaBuilder.equal(sortKey, value), idBeyond);
+            Predicate strictlyAfter = criteriaBuilder.or(keyBeyond, keyTie);
+            return ascending ? strictlyAfter : criteriaBuilder.or(strictlyAfter, criteriaBuilder.isNull(sortKey));
+        };
+    }
+
+    public static String toCursorValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (value instanceof Enum<?> enumValue) {
+            return enumValue.name();
+        }
+        return value.toString();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate compare(CriteriaBuilder criteriaBuilder, Expression key, Comparable value, boolean ascending) {
+        return ascending ? criteriaBuilder.greaterThan(key, value) : criteriaBuilder.lessThan(key, value);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparable<?> fromCursorValue(Class<?> type, String value) {
+        try {
+            if (type == String.class) {
+                return value;
+            }
+            if (type == Long.class || type == long.class) {
+                return Long.valueOf(value);
+            }
+            if (type == Integer.class || type == int.class) {
+                return Integer.valueOf(value);
+            }
+            if (type == Double.class || type == double.class) {
+                return Double.valueOf(value);
+            }
+            if (type == BigDecimal.class) {
+                return new BigDecimal(value);
+            }
+            if (type == LocalDate.class) {
+                return LocalDate.parse(value);
+            }
+            if (type == LocalDateTime.class) {
+                return LocalDateTime.parse(value);
+            }
+            if (type.isEnum()) {
+                return Enum.valueOf((Class) type, value);
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException(PAGINATION_CURSOR_INVALID);
+        }
+        throw new ValidationException(PAGINATION_CURSOR_INVALID);
+    }
+}
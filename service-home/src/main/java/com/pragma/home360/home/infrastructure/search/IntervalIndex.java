@@ -0,0 +1,137 @@
+package com.pragma.home360.home.infrastructure.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * Índice de intervalos cerrados {@code [start, end]} para consultas de punto: qué intervalos contienen
+ * un valor. Los intervalos se guardan ordenados por inicio en arreglos primitivos y forman un árbol
+ * implícito: el nodo de un rango {@code [lo, hi)} es su posición central y guarda el mayor fin de su
+ * subárbol, lo que permite descartar ramas completas. Las altas se acumulan en un búfer que se recorre
+ * linealmente y se fusiona con el árbol cuando crece. Los intervalos sin ningún límite se guardan aparte
+ * como conjunto de bits. Las bajas no se aplican aquí: el llamador filtra los ordinales vigentes.
+ * No es seguro para hilos.
+ */
+final class IntervalIndex {
+
+    private static final int MIN_PENDING_BEFORE_MERGE = 1_024;
+    private static final int MERGE_SIZE_DIVISOR = 8;
+
+    private final BitSet unbounded = new BitSet();
+    private double[] starts = new double[0];
+    private double[] ends = new double[0];
+    private double[] maxEnds = new double[0];
+    private int[] ordinals = new int[0];
+    private double[] pendingStarts = new double[16];
+    private double[] pendingEnds = new double[16];
+    private int[] pendingOrdinals = new int[16];
+    private int pendingSize;
+
+    /**
+     * @param start Límite inferior, o {@link Double#NEGATIVE_INFINITY} si no tiene
+     * @param end   Límite superior, o {@link Double#POSITIVE_INFINITY} si no tiene
+     */
+    void add(int ordinal, double start, double end) {
+        if (start == Double.NEGATIVE_INFINITY && end == Double.POSITIVE_INFINITY) {
+            unbounded.set(ordinal);
+            return;
+        }
+        if (pendingSize == pendingOrdinals.length) {
+            int capacity = pendingOrdinals.length * 2;
+            pendingStarts = Arrays.copyOf(pendingStarts, capacity);
+            pendingEnds = Arrays.copyOf(pendingEnds, capacity);
+            pendingOrdinals = Arrays.copyOf(pendingOrdinals, capacity);
+        }
+        pendingStarts[pendingSize] = start;
+        pendingEnds[pendingSize] = end;
+        pendingOrdinals[pendingSize] = ordinal;
+        pendingSize++;
+        if (pendingSize >= Math.max(MIN_PENDING_BEFORE_MERGE, ordinals.length / MERGE_SIZE_DIVISOR)) {
+            merge();
+        }
+    }
+
+    /**
+     * Marca en {@code target} los ordinales cuyos intervalos contienen {@code value}. Un valor
+     * desconocido ({@link Double#NaN}) solo lo aceptan los intervalos sin límites.
+     */
+    void stab(double value, BitSet target) {
+        target.or(unbounded);
+        if (Double.isNaN(value)) {
+            return;
+        }
+        stab(0, ordinals.length, value, target);
+        for (int i = 0; i < pendingSize; i++) {
+            if (pendingStarts[i] <= value && value <= pendingEnds[i]) {
+                target.set(pendingOrdinals[i]);
+            }
+        }
+    }
+
+    private void stab(int lo, int hi, double value, BitSet target) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (maxEnds[mid] < value) {
+                return;
+            }
+            stab(lo, mid, value, target);
+            if (starts[mid] > value) {
+                return;
+            }
+            if (ends[mid] >= value) {
+                target.set(ordinals[mid]);
+            }
+            lo = mid + 1;
+        }
+    }
+
+    /**
+     * Mezcla el búfer ordenado con los arreglos del árbol, que ya están ordenados por inicio, y
+     * recalcula los máximos de cada subárbol.
+     */
+    private void merge() {
+        int[] pendingOrder = IntStream.range(0, pendingSize).boxed()
+                .sorted(Comparator.comparingDouble(position -> pendingStarts[position]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        int total = ordinals.length + pendingSize;
+        double[] mergedStarts = new double[total];
+        double[] mergedEnds = new double[total];
+        int[] mergedOrdinals = new int[total];
+        int tree = 0;
+        int pending = 0;
+        for (int i = 0; i < total; i++) {
+            boolean takeTree = pending == pendingSize
+                    || (tree < ordinals.length && starts[tree] <= pendingStarts[pendingOrder[pending]]);
+            if (takeTree) {
+                mergedStarts[i] = starts[tree];
+                mergedEnds[i] = ends[tree];
+                mergedOrdinals[i] = ordinals[tree];
+                tree++;
+            } else {
+                int position = pendingOrder[pending++];
+                mergedStarts[i] = pendingStarts[position];
+                mergedEnds[i] = pendingEnds[position];
+                mergedOrdinals[i] = pendingOrdinals[position];
+            }
+        }
+        starts = mergedStarts;
+        ends = mergedEnds;
+        ordinals = mergedOrdinals;
+        maxEnds = new double[total];
+        computeMaxEnds(0, total);
+        pendingSize = 0;
+    }
+
+    private double computeMaxEnds(int lo, int hi) {
+        if (lo >= hi) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        int mid = (lo + hi) >>> 1;
+        double max = Math.max(ends[mid], Math.max(computeMaxEnds(lo, mid), computeMaxEnds(mid + 1, hi)));
+        maxEnds[mid] = max;
+        return max;
+    }
+}
@@ -0,0 +1,296 @@
+package com.pragma.home360.home.infrastructure.search;
+
+import com.pragma.home360.home.domain.utils.geo.GeoUtils;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * KD-tree inmutable de tres dimensiones sobre coordenadas geográficas. Cada punto se guarda como
+ * vector unitario {@code (x, y, z)} en arreglos primitivos, de modo que la distancia euclidiana
+ * (cuerda) crece igual que la distancia sobre la esfera y no hay casos especiales en el antimeridiano.
+ * El árbol es implícito: el nodo de un rango {@code [lo, hi)} es su posición central.
+ */
+public final class KdTree {
+
+    public static final KdTree EMPTY = new KdTree(new long[0], new double[0], new double[0], new double[0]);
+
+    private static final int DIMENSIONS = 3;
+
+    private final long[] ids;
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] zs;
+    private final long[] sortedIds;
+
+    private KdTree(long[] ids, double[] xs, double[] ys, double[] zs) {
+        this.ids = ids;
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+        arrange(0, ids.length, 0);
+        this.sortedIds = ids.clone();
+        Arrays.sort(this.sortedIds);
+    }
+
+    /**
+     * Construye el árbol con los primeros {@code count} puntos. Los arreglos recibidos no se modifican.
+     */
+    public static KdTree build(long[] ids, double[] latitudes, double[] longitudes, int count) {
+        double[] xs = new double[count];
+        double[] ys = new double[count];
+        double[] zs = new double[count];
+        for (int i = 0; i < count; i++) {
+            double[] vector = toUnitVector(latitudes[i], longitudes[i]);
+            xs[i] = vector[0];
+            ys[i] = vector[1];
+            zs[i] = vector[2];
+        }
+        return ofUnitVectors(ids, xs, ys, zs, count);
+    }
+
+    /**
+     * Construye el árbol a partir de vectores unitarios ya calculados, copiando los primeros {@code count}.
+     */
+    public static KdTree ofUnitVectors(long[] ids, double[] xs, double[] ys, double[] zs, int count) {
+        if (count == 0) {
+            return EMPTY;
+        }
+        return new KdTree(Arrays.copyOf(ids, count), Arrays.copyOf(xs, count),
+                Arrays.copyOf(ys, count), Arrays.copyOf(zs, count));
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean contains(long id) {
+        return Arrays.binarySearch(sortedIds, id) >= 0;
+    }
+
+    /**
+     * Copia a partir de {@code offset} los puntos cuyo id acepta {@code keep}.
+     *
+     * @return Cantidad de puntos copiados
+     */
+    public int copyTo(LongPredicate keep, long[] targetIds, double[] targetXs, double[] targetYs, double[] targetZs, int offset) {
+        int copied = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (keep.test(ids[i])) {
+                targetIds[offset + copied] = ids[i];
+                targetXs[offset + copied] = xs[i];
+                targetYs[offset + copied] = ys[i];
+                targetZs[offset + copied] = zs[i];
+                copied++;
+            }
+        }
+        return copied;
+    }
+
+    /**
+     * Agrega a {@code neighbors} los puntos más cercanos a la coordenada que acepte {@code accept}.
+     */
+    public void nearest(double latitude, double longitude, LongPredicate accept, Neighbors neighbors) {
+        if (ids.length == 0) {
+            return;
+        }
+        double[] query = toUnitVector(latitude, longitude);
+        search(0, ids.length, 0, query[0], query[1], query[2], accept, neighbors);
+    }
+
+    public static double[] toUnitVector(double latitude, double longitude) {
+        double latitudeRadians = Math.toRadians(latitude);
+        double longitudeRadians = Math.toRadians(longitude);
+        return new double[]{
+                Math.cos(latitudeRadians) * Math.cos(longitudeRadians),
+                Math.cos(latitudeRadians) * Math.sin(longitudeRadians),
+                Math.sin(latitudeRadians)
+        };
+    }
+
+    /**
+     * Convierte el cuadrado de la cuerda entre dos vectores unitarios en kilómetros sobre la esfera.
+     */
+    public static double squaredChordToKm(double squaredChord) {
+        return 2 * GeoUtils.EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(squaredChord) / 2));
+    }
+
+    private void search(int lo, int hi, int depth, double qx, double qy, double qz,
+                        LongPredicate accept, Neighbors neighbors) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        double dx = xs[mid] - qx;
+        double dy = ys[mid] - qy;
+        double dz = zs[mid] - qz;
+        if (accept.test(ids[mid])) {
+            neighbors.offer(ids[mid], dx * dx + dy * dy + dz * dz);
+        }
+
+        int axis = depth % DIMENSIONS;
+        double delta = axis == 0 ? -dx : axis == 1 ? -dy : -dz;
+        if (delta < 0) {
+            search(lo, mid, depth + 1, qx, qy, qz, accept, neighbors);
+            if (delta * delta < neighbors.bound()) {
+                search(mid + 1, hi, depth + 1, qx, qy, qz, accept, neighbors);
+            }
+        } else {
+            search(mid + 1, hi, depth + 1, qx, qy, qz, accept, neighbors);
+            if (delta * delta < neighbors.bound()) {
+                search(lo, mid, depth + 1, qx, qy, qz, accept, neighbors);
+            }
+        }
+    }
+
+    private void arrange(int lo, int hi, int depth) {
+        if (hi - lo <= 1) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        select(lo, hi - 1, mid, depth % DIMENSIONS);
+        arrange(lo, mid, depth + 1);
+        arrange(mid + 1, hi, depth + 1);
+    }
+
+    /**
+     * Quickselect: deja en {@code target} el punto que ocuparía esa posición ordenando por {@code axis}.
+     */
+    private void select(int left, int right, int target, int axis) {
+        while (right > left) {
+            double pivot = coordinate(axis, (left + right) >>> 1);
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (coordinate(axis, i) < pivot) {
+                    i++;
+                }
+                while (coordinate(axis, j) > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(i++, j--);
+                }
+            }
+            if (target <= j) {
+                right = j;
+            } else if (target >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private double coordinate(int axis, int position) {
+        return axis == 0 ? xs[position] : axis == 1 ? ys[position] : zs[position];
+    }
+
+    private void swap(int a, int b) {
+        long id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+        double x = xs[a];
+        xs[a] = xs[b];
+        xs[b] = x;
+        double y = ys[a];
+        ys[a] = ys[b];
+        ys[b] = y;
+        double z = zs[a];
+        zs[a] = zs[b];
+        zs[b] = z;
+    }
+
+    /**
+     * Montículo de máximos acotado a {@code k} elementos con las distancias al cuadrado más pequeñas vistas.
+     */
+    public static final class Neighbors {
+
+        private final long[] ids;
+        private final double[] distances;
+        private int size;
+
+        public Neighbors(int k) {
+            this.ids = new long[k];
+            this.distances = new double[k];
+        }
+
+        public void offer(long id, double squaredDistance) {
+            if (size < ids.length) {
+                ids[size] = id;
+                distances[size] = squaredDistance;
+                siftUp(size++);
+            } else if (squaredDistance < distances[0]) {
+                ids[0] = id;
+                distances[0] = squaredDistance;
+                siftDown(0);
+            }
+        }
+
+        /**
+         * Distancia al cuadrado que debe superar un candidato para entrar; infinita mientras no esté lleno.
+         */
+        public double bound() {
+            return size < ids.length ? Double.POSITIVE_INFINITY : distances[0];
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Vacía el montículo dejando ids y distancias al cuadrado ordenados de menor a mayor distancia.
+         */
+        public int drainInto(long[] sortedIds, double[] sortedDistances) {
+            int count = size;
+            for (int position = count - 1; position >= 0; position--) {
+                sortedIds[position] = ids[0];
+                sortedDistances[position] = distances[0];
+                size--;
+                ids[0] = ids[size];
+                distances[0] = distances[size];
+                siftDown(0);
+            }
+            return count;
+        }
+
+        private void siftUp(int position) {
+            while (position > 0) {
+                int parent = (position - 1) >>> 1;
+                if (distances[parent] >= distances[position]) {
+                    return;
+                }
+                swap(parent, position);
+                position = parent;
+            }
+        }
+
+        private void siftDown(int position) {
+            while (true) {
+                int largest = position;
+                int left = 2 * position + 1;
+                int right = left + 1;
+                if (left < size && distances[left] > distances[largest]) {
+                    largest = left;
+                }
+                if (right < size && distances[right] > distances[largest]) {
+                    largest = right;
+                }
+                if (largest == position) {
+                    return;
+                }
+                swap(largest, position);
+                position = largest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long id = ids[a];
+            ids[a] = ids[b];
+            ids[b] = id;
+            double distance = distances[a];
+            distances[a] = distances[b];
+            distances[b] = distance;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.pragma.home360.home.infrastructure.search;
+
+import com.pragma.home360.home.domain.model.PropertyModel;
+import com.pragma.home360.home.infrastructure.entities.PropertyTombstoneEntity;
+import com.pragma.home360.home.infrastructure.mappers.PropertyEntityMapper;
+import com.pragma.home360.home.infrastructure.repositories.mysql.PropertyChangeRow;
+import com.pragma.home360.home.infrastructure.repositories.mysql.PropertyRepository;
+import com.pragma.home360.home.infrastructure.repositories.mysql.PropertyTombstoneRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.pragma.home360.home.domain.utils.constants.DomainConstants.PROPERTY_INDEX_SYNC_LOG_APPLIED;
+import static com.pragma.home360.home.domain.utils.constants.DomainConstants.PROPERTY_INDEX_SYNC_LOG_PURGED;
+
+/**
+ * Lleva a los índices en memoria de esta réplica ({@link PropertySearchIndex}, {@link PropertySpatialIndex},
+ * {@link PropertyTilePyramid} y {@link SuggestionIndex}) las propiedades guardadas o borradas en otras
+ * réplicas, que solo publican sus eventos localmente.
+ * <p>
+ * Cada sincronización lee de {@code properties} las filas modificadas desde la última, por el índice
+ * {@code (updated_at, id)}, y las vuelve a indexar; después lee de {@code property_tombstones} los borrados
+ * posteriores y los quita. Los borrados se aplican después de los cambios, así que una propiedad leída justo
+ * antes de borrarse no queda en los índices. Indexar de nuevo lo que esta réplica ya recibió por evento
+ * no cambia nada.
+ * <p>
+ * La primera lectura parte del momento en que se crea el componente, antes de que los índices se carguen al
+ * arrancar, así que no se pierde lo confirmado mientras se cargan.
+ */
+@Component
+public class PropertyIndexSynchronizer {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertyIndexSynchronizer.class);
+    private static final int SYNC_BATCH_SIZE = 1_000;
+
+    /**
+     * Margen con el que se vuelven a leer los cambios ya vistos. {@code updated_at} se asigna al guardar y
+     * no al confirmar, así que una fila confirmada después de la última lectura puede tener una fecha
+     * anterior a la más reciente leída; el margen también cubre la diferencia de reloj entre réplicas.
+     */
+    static final Duration SYNC_OVERLAP = Duration.ofSeconds(10);
+
+    /**
+     * Tiempo que se conservan los borrados. Una réplica que no sincroniza durante más tiempo debe
+     * reconstruir sus índices, como al arrancar.
+     */
+    static final Duration TOMBSTONE_RETENTION = Duration.ofDays(1);
+
+    private final PropertyRepository propertyRepository;
+    private final PropertyTombstoneRepository propertyTombstoneRepository;
+    private final PropertyEntityMapper propertyEntityMapper;
+    private final PropertySearchIndex propertySearchIndex;
+    private final PropertySpatialIndex propertySpatialIndex;
+    private final PropertyTilePyramid propertyTilePyramid;
+    private final SuggestionIndex suggestionIndex;
+
+    private LocalDateTime changesSyncedUpTo;
+    private LocalDateTime deletionsSyncedUpTo;
+
+    public PropertyIndexSynchronizer(PropertyRepository propertyRepository,
+                                     PropertyTombstoneRepository propertyTombstoneRepository,
+                                     PropertyEntityMapper propertyEntityMapper,
+                                     PropertySearchIndex propertySearchIndex,
+                                     PropertySpatialIndex propertySpatialIndex,
+                                     PropertyTilePyramid propertyTilePyramid,
+                                     SuggestionIndex suggestionIndex) {
+        this.propertyRepository = propertyRepository;
+        this.propertyTombstoneRepository = propertyTombstoneRepository;
+        this.propertyEntityMapper = propertyEntityMapper;
+        this.propertySearchIndex = propertySearchIndex;
+        this.propertySpatialIndex = propertySpatialIndex;
+        this.propertyTilePyramid = propertyTilePyramid;
+        this.suggestionIndex = suggestionIndex;
+        this.changesSyncedUpTo = LocalDateTime.now();
+        this.deletionsSyncedUpTo = changesSyncedUpTo;
+    }
+
+    /**
+     * Aplica los cambios y borrados confirmados desde la última sincronización.
+     */
+    public synchronized void sync() {
+        int changed = syncChanges();
+        int deleted = syncDeletions();
+        if (changed > 0 || deleted > 0) {
+            log.debug(PROPERTY_INDEX_SYNC_LOG_APPLIED, changed, deleted);
+        }
+    }
+
+    /**
+     * Purga los borrados que ya superaron {@link #TOMBSTONE_RETENTION}.
+     */
+    public void purgeTombstones() {
+        int purged = propertyTombstoneRepository.deleteDeletedBefore(LocalDateTime.now().minus(TOMBSTONE_RETENTION));
+        if (purged > 0) {
+            log.debug(PROPERTY_INDEX_SYNC_LOG_PURGED, purged);
+        }
+    }
+
+    private int syncChanges() {
+        LocalDateTime since = changesSyncedUpTo.minus(SYNC_OVERLAP);
+        long afterId = 0;
+        int count = 0;
+        List<PropertyChangeRow> batch;
+        do {
+            batch = propertyRepository.findChangedAfter(since, afterId, PageRequest.ofSize(SYNC_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            List<Long> ids = batch.stream().map(PropertyChangeRow::propertyId).toList();
+            propertyRepository.findAllWithDetailsByIdIn(ids).stream()
+                    .map(propertyEntityMapper::toModel)
+                    .forEach(this::index);
+            count += batch.size();
+            PropertyChangeRow last = batch.get(batch.size() - 1);
+            if (last.updatedAt().isAfter(changesSyncedUpTo)) {
+                changesSyncedUpTo = last.updatedAt();
+            }
+            since = last.updatedAt();
+            afterId = last.propertyId();
+        } while (batch.size() == SYNC_BATCH_SIZE);
+        return count;
+    }
+
+    private int syncDeletions() {
+        LocalDateTime since = deletionsSyncedUpTo.minus(SYNC_OVERLAP);
+        long afterId = 0;
+        int count = 0;
+        List<PropertyTombstoneEntity> batch;
+        do {
+            batch = propertyTombstoneRepository.findDeletedAfter(since, afterId, PageRequest.ofSize(SYNC_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            batch.forEach(tombstone -> remove(tombstone.getPropertyId()));
+            count += batch.size();
+            PropertyTombstoneEntity last = batch.get(batch.size() - 1);
+            if (last.getDeletedAt().isAfter(deletionsSyncedUpTo)) {
+                deletionsSyncedUpTo = last.getDeletedAt();
+            }
+            since = last.getDeletedAt();
+            afterId = last.getPropertyId();
+        } while (batch.size() == SYNC_BATCH_SIZE);
+        return count;
+    }
+
+    private void index(PropertyModel property) {
+        propertySearchIndex.index(property);
+        propertySpatialIndex.index(property);
+        propertyTilePyramid.index(property);
+        suggestionIndex.index(property);
+    }
+
+    private void remove(long propertyId) {
+        propertySearchIndex.remove(propertyId);
+        propertySpatialIndex.remove(propertyId);
+        propertyTilePyramid.remove(propertyId);
+        suggestionIndex.remove(propertyId);
+    }
+}
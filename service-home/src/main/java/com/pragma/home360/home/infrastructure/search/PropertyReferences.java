@@ -0,0 +1,34 @@
+package com.pragma.home360.home.infrastructure.search;
+
+import com.pragma.home360.home.domain.model.CityModel;
+import com.pragma.home360.home.domain.model.LocationModel;
+import com.pragma.home360.home.domain.model.PropertyModel;
+
+/**
+ * Ids de los catálogos que referencia una propiedad. La ciudad se toma del barrio y el departamento
+ * de la ciudad cuando la ubicación no los trae directamente.
+ */
+public record PropertyReferences(Long categoryId, Long neighborhoodId, Long cityId, Long departmentId) {
+
+    public static PropertyReferences of(PropertyModel property) {
+        Long categoryId = property.getCategory() != null ? property.getCategory().getId() : null;
+        LocationModel location = property.getLocation();
+        if (location == null) {
+            return new PropertyReferences(categoryId, null, null, null);
+        }
+        Long neighborhoodId = location.getNeighborhood() != null ? location.getNeighborhood().getId() : null;
+        CityModel city = location.getCity();
+        if (city == null && location.getNeighborhood() != null) {
+            city = location.getNeighborhood().getCity();
+        }
+        Long cityId = city != null ? city.getId() : null;
+        Long departmentId = null;
+        if (city != null) {
+            departmentId = city.getDepartment() != null ? city.getDepartment().getId() : city.getDepartmentId();
+        }
+        if (departmentId == null && location.getDepartment() != null) {
+            departmentId = location.getDepartment().getId();
+        }
+        return new PropertyReferences(categoryId, neighborhoodId, cityId, departmentId);
+    }
+}
@@ -0,0 +1,241 @@
+package com.pragma.home360.home.infrastructure.search;
+
+import com.pragma.home360.home.domain.model.CategoryModel;
+import com.pragma.home360.home.domain.model.LocationModel;
+import com.pragma.home360.home.domain.model.PropertyModel;
+import com.pragma.home360.home.domain.utils.text.TextNormalizer;
+import com.pragma.home360.home.infrastructure.events.PropertyChangedEvent;
+import com.pragma.home360.home.infrastructure.events.PropertyDeletedEvent;
+import com.pragma.home360.home.infrastructure.mappers.PropertyEntityMapper;
+import com.pragma.home360.home.infrastructure.repositories.mysql.PropertyRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.pragma.home360.home.domain.utils.constants.DomainConstants.PROPERTY_SEARCH_LOG_REBUILT;
+
+/**
+ * Índice invertido en memoria sobre nombre, descripción, categoría y ubicación de las propiedades.
+ * Cada término apunta a los ids que lo contienen con un peso según el campo; la consulta exige
+ * todos los términos, aceptando también coincidencias por prefijo, y ordena por peso ponderado con IDF.
+ * <p>
+ * Cada réplica tiene su propio índice y lo actualiza con sus eventos. Lo creado, editado o borrado en otra
+ * réplica llega con {@link PropertyIndexSynchronizer}, con el retraso de su intervalo.
+ */
+@Component
+@RequiredArgsConstructor
+public class PropertySearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertySearchIndex.class);
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private static final float NAME_WEIGHT = 3.0f;
+    private static final float CATEGORY_WEIGHT = 2.0f;
+    private static final float PLACE_WEIGHT = 2.0f;
+    private static final float ADDRESS_WEIGHT = 1.5f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+    private static final float PREFIX_MATCH_FACTOR = 0.5f;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "al", "con", "de", "del", "el", "en", "la", "las", "los", "para", "por", "un", "una", "y"
+    );
+
+    private final PropertyRepository propertyRepository;
+    private final PropertyEntityMapper propertyEntityMapper;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final Map<Long, Set<String>> termsByProperty = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        long afterId = 0;
+        List<Long> ids;
+        do {
+            ids = propertyRepository.findIdsAfter(afterId, PageRequest.ofSize(REBUILD_BATCH_SIZE));
+            if (!ids.isEmpty()) {
+                propertyRepository.findAllWithDetailsByIdIn(ids).stream()
+                        .map(propertyEntityMapper::toModel)
+                        .forEach(this::index);
+                afterId = ids.get(ids.size() - 1);
+            }
+        } while (ids.size() == REBUILD_BATCH_SIZE);
+        log.info(PROPERTY_SEARCH_LOG_REBUILT, size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        index(event.property());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyDeleted(PropertyDeletedEvent event) {
+        remove(event.propertyId());
+    }
+
+    public void index(PropertyModel property) {
+        if (property == null || property.getId() == null) {
+            return;
+        }
+        Map<String, Float> weights = new HashMap<>();
+        addField(weights, property.getName(), NAME_WEIGHT);
+        addField(weights, property.getDescription(), DESCRIPTION_WEIGHT);
+
+        CategoryModel category = property.getCategory();
+        if (category != null) {
+            addField(weights, category.getName(), CATEGORY_WEIGHT);
+        }
+        LocationModel location = property.getLocation();
+        if (location != null) {
+            addField(weights, location.getAddress(), ADDRESS_WEIGHT);
+            if (location.getNeighborhood() != null) {
+                addField(weights, location.getNeighborhood().getName(), PLACE_WEIGHT);
+                if (location.getNeighborhood().getCity() != null) {
+                    addField(weights, location.getNeighborhood().getCity().getName(), PLACE_WEIGHT);
+                }
+            }
+            if (location.getCity() != null) {
+                addField(weights, location.getCity().getName(), PLACE_WEIGHT);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeTerms(property.getId());
+            weights.forEach((term, weight) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(property.getId(), weight));
+            termsByProperty.put(property.getId(), weights.keySet());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long propertyId) {
+        lock.writeLock().lock();
+        try {
+            removeTerms(propertyId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Resuelve un texto de búsqueda a todos los ids que contienen todos sus términos, sin límite, para que
+     * los filtros, el orden y los conteos trabajen sobre el conjunto completo.
+     *
+     * @param text Texto de búsqueda
+     * @return Puntaje de relevancia de cada id que coincide; vacío si no hay coincidencias
+     */
+    public Map<Long, Float> match(String text) {
+        List<String> terms = queryTerms(text);
+        if (terms.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Float> scores = null;
+            for (String term : terms) {
+                Map<Long, Float> termScores = matchPrefix(term);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((id, score) -> score + termScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return Collections.emptyMap();
+                }
+            }
+            return scores;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ordena por relevancia los ids indicados, tomados de un resultado de {@link #match(String)}.
+     *
+     * @param scores Puntajes devueltos por {@link #match(String)}
+     * @param ids    Ids a ordenar, por ejemplo los que además cumplen los filtros estructurados
+     * @param limit  Cantidad máxima de ids a devolver
+     * @return Ids ordenados por relevancia y, en empate, por id
+     */
+    public static List<Long> rank(Map<Long, Float> scores, Collection<Long> ids, int limit) {
+        Comparator<Long> byRelevance = Comparator.<Long, Float>comparing(scores::get).reversed()
+                .thenComparing(Comparator.naturalOrder());
+        return ids.stream()
+                .sorted(byRelevance)
+                .limit(limit)
+                .toList();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return termsByProperty.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Float> matchPrefix(String prefix) {
+        Map<Long, Float> matches = new HashMap<>();
+        int documents = termsByProperty.size();
+        SortedMap<String, Map<Long, Float>> expansions = postings.subMap(prefix, prefix + Character.MAX_VALUE);
+        for (Map.Entry<String, Map<Long, Float>> expansion : expansions.entrySet()) {
+            Map<Long, Float> posting = expansion.getValue();
+            float idf = (float) Math.log(1.0 + (double) documents / posting.size());
+            float factor = expansion.getKey().length() == prefix.length() ? 1.0f : PREFIX_MATCH_FACTOR;
+            posting.forEach((id, weight) -> matches.merge(id, weight * idf * factor, Math::max));
+        }
+        return matches;
+    }
+
+    private void removeTerms(Long propertyId) {
+        Set<String> terms = termsByProperty.remove(propertyId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Float> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(propertyId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static void addField(Map<String, Float> weights, String text, float weight) {
+        for (String token : TextNormalizer.tokenize(text)) {
+            if (!STOP_WORDS.contains(token)) {
+                weights.merge(token, weight, Float::sum);
+            }
+        }
+    }
+
+    private static List<String> queryTerms(String text) {
+        List<String> tokens = TextNormalizer.tokenize(text);
+        Set<String> terms = new LinkedHashSet<>();
+        for (String token : tokens) {
+            if (!STOP_WORDS.contains(token)) {
+                terms.add(token);
+            }
+        }
+        if (terms.isEmpty()) {
+            terms.addAll(tokens);
+        }
+        return new ArrayList<>(terms);
+    }
+}
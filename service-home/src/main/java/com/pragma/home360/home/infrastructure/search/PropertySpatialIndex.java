@@ -0,0 +1,260 @@
+package com.pragma.home360.home.infrastructure.search;
+
+import com.pragma.home360.home.domain.model.LocationModel;
+import com.pragma.home360.home.domain.model.PropertyModel;
+import com.pragma.home360.home.infrastructure.entities.enums.PropertyPublicationStatus;
+import com.pragma.home360.home.infrastructure.events.PropertyChangedEvent;
+import com.pragma.home360.home.infrastructure.events.PropertyDeletedEvent;
+import com.pragma.home360.home.infrastructure.repositories.mysql.PropertyCoordinatesRow;
+import com.pragma.home360.home.infrastructure.repositories.mysql.PropertyRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+import static com.pragma.home360.home.domain.utils.constants.DomainConstants.PROPERTY_SPATIAL_LOG_REBUILT;
+
+/**
+ * Índice espacial en memoria de las propiedades publicadas para consultas de k vecinos más cercanos.
+ * Las coordenadas viven en un {@link KdTree} inmutable; los cambios posteriores se acumulan en un
+ * búfer pequeño de altas y en un conjunto de ids del árbol que quedaron obsoletos, y el árbol se
+ * reconstruye cuando ese volumen supera una fracción de su tamaño.
+ * <p>
+ * El árbol se carga al arrancar y después recibe los eventos de esta réplica; lo publicado, movido o
+ * borrado en las demás llega con {@link PropertyIndexSynchronizer}, con el retraso de su intervalo.
+ */
+@Component
+@RequiredArgsConstructor
+public class PropertySpatialIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertySpatialIndex.class);
+    private static final int REBUILD_BATCH_SIZE = 10_000;
+    private static final int MIN_CHANGES_BEFORE_REBUILD = 1_024;
+    private static final int REBUILD_SIZE_DIVISOR = 8;
+
+    private final PropertyRepository propertyRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private KdTree tree = KdTree.EMPTY;
+    private final Set<Long> staleTreeIds = new HashSet<>();
+    private final Map<Long, Integer> pendingPositions = new HashMap<>();
+    private long[] pendingIds = new long[16];
+    private double[] pendingXs = new double[16];
+    private double[] pendingYs = new double[16];
+    private double[] pendingZs = new double[16];
+    private int pendingSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        long[] ids = new long[REBUILD_BATCH_SIZE];
+        double[] latitudes = new double[REBUILD_BATCH_SIZE];
+        double[] longitudes = new double[REBUILD_BATCH_SIZE];
+        int count = 0;
+        long afterId = 0;
+        List<PropertyCoordinatesRow> rows;
+        do {
+            rows = propertyRepository.findCoordinatesAfter(PropertyPublicationStatus.PUBLISHED, afterId,
+                    PageRequest.ofSize(REBUILD_BATCH_SIZE));
+            if (count + rows.size() > ids.length) {
+                int capacity = Math.max(ids.length * 2, count + rows.size());
+                ids = Arrays.copyOf(ids, capacity);
+                latitudes = Arrays.copyOf(latitudes, capacity);
+                longitudes = Arrays.copyOf(longitudes, capacity);
+            }
+            for (PropertyCoordinatesRow row : rows) {
+                ids[count] = row.propertyId();
+                latitudes[count] = row.latitude();
+                longitudes[count] = row.longitude();
+                count++;
+                afterId = row.propertyId();
+            }
+        } while (rows.size() == REBUILD_BATCH_SIZE);
+
+        KdTree rebuilt = KdTree.build(ids, latitudes, longitudes, count);
+        lock.writeLock().lock();
+        try {
+            tree = rebuilt;
+            staleTreeIds.clear();
+            pendingPositions.clear();
+            pendingSize = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info(PROPERTY_SPATIAL_LOG_REBUILT, count, System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        index(event.property());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyDeleted(PropertyDeletedEvent event) {
+        remove(event.propertyId());
+    }
+
+    /**
+     * Solo se indexan las propiedades publicadas con coordenadas; cualquier otro estado la retira.
+     */
+    public void index(PropertyModel property) {
+        if (property == null || property.getId() == null) {
+            return;
+        }
+        LocationModel location = property.getLocation();
+        if (property.getPublicationStatus() != PropertyPublicationStatus.PUBLISHED
+                || location == null || location.getLatitude() == null || location.getLongitude() == null) {
+            remove(property.getId());
+            return;
+        }
+        put(property.getId(), location.getLatitude(), location.getLongitude());
+    }
+
+    public void put(long propertyId, double latitude, double longitude) {
+        double[] vector = KdTree.toUnitVector(latitude, longitude);
+        lock.writeLock().lock();
+        try {
+            if (tree.contains(propertyId)) {
+                staleTreeIds.add(propertyId);
+            }
+            Integer position = pendingPositions.get(propertyId);
+            if (position == null) {
+                ensurePendingCapacity();
+                position = pendingSize++;
+                pendingPositions.put(propertyId, position);
+            }
+            pendingIds[position] = propertyId;
+            pendingXs[position] = vector[0];
+            pendingYs[position] = vector[1];
+            pendingZs[position] = vector[2];
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long propertyId) {
+        lock.writeLock().lock();
+        try {
+            if (tree.contains(propertyId)) {
+                staleTreeIds.add(propertyId);
+            }
+            Integer position = pendingPositions.remove(propertyId);
+            if (position != null) {
+                int last = --pendingSize;
+                if (position != last) {
+                    pendingIds[position] = pendingIds[last];
+                    pendingXs[position] = pendingXs[last];
+                    pendingYs[position] = pendingYs[last];
+                    pendingZs[position] = pendingZs[last];
+                    pendingPositions.put(pendingIds[position], position);
+                }
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Busca las propiedades publicadas más cercanas a una coordenada.
+     *
+     * @param excludedPropertyId Id a omitir, por ejemplo la propiedad de referencia; puede ser null
+     * @return Vecinos ordenados del más cercano al más lejano
+     */
+    public List<SpatialNeighbor> nearest(double latitude, double longitude, int k, Long excludedPropertyId) {
+        KdTree.Neighbors neighbors = new KdTree.Neighbors(k);
+        long excluded = excludedPropertyId != null ? excludedPropertyId : Long.MIN_VALUE;
+
+        lock.readLock().lock();
+        try {
+            LongPredicate accept = staleTreeIds.isEmpty()
+                    ? id -> id != excluded
+                    : id -> id != excluded && !staleTreeIds.contains(id);
+            tree.nearest(latitude, longitude, accept, neighbors);
+
+            double[] query = KdTree.toUnitVector(latitude, longitude);
+            for (int i = 0; i < pendingSize; i++) {
+                if (pendingIds[i] != excluded) {
+                    double dx = pendingXs[i] - query[0];
+                    double dy = pendingYs[i] - query[1];
+                    double dz = pendingZs[i] - query[2];
+                    neighbors.offer(pendingIds[i], dx * dx + dy * dy + dz * dz);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        long[] ids = new long[neighbors.size()];
+        double[] squaredChords = new double[neighbors.size()];
+        int count = neighbors.drainInto(ids, squaredChords);
+        List<SpatialNeighbor> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(new SpatialNeighbor(ids[i], KdTree.squaredChordToKm(squaredChords[i])));
+        }
+        return result;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tree.size() - staleTreeIds.size() + pendingSize;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensurePendingCapacity() {
+        if (pendingSize == pendingIds.length) {
+            int capacity = pendingIds.length * 2;
+            pendingIds = Arrays.copyOf(pendingIds, capacity);
+            pendingXs = Arrays.copyOf(pendingXs, capacity);
+            pendingYs = Arrays.copyOf(pendingYs, capacity);
+            pendingZs = Arrays.copyOf(pendingZs, capacity);
+        }
+    }
+
+    /**
+     * Fusiona el búfer en un árbol nuevo cuando los cambios superan {@code max(1024, tamaño / 8)},
+     * lo que acota el recorrido lineal del búfer y amortiza el costo de la reconstrucción.
+     */
+    private void compactIfNeeded() {
+        int changes = pendingSize + staleTreeIds.size();
+        if (changes < Math.max(MIN_CHANGES_BEFORE_REBUILD, tree.size() / REBUILD_SIZE_DIVISOR)) {
+            return;
+        }
+        int capacity = tree.size() + pendingSize;
+        long[] ids = new long[capacity];
+        double[] xs = new double[capacity];
+        double[] ys = new double[capacity];
+        double[] zs = new double[capacity];
+        int count = tree.copyTo(id -> !staleTreeIds.contains(id), ids, xs, ys, zs, 0);
+        System.arraycopy(pendingIds, 0, ids, count, pendingSize);
+        System.arraycopy(pendingXs, 0, xs, count, pendingSize);
+        System.arraycopy(pendingYs, 0, ys, count, pendingSize);
+        System.arraycopy(pendingZs, 0, zs, count, pendingSize);
+
+        tree = KdTree.ofUnitVectors(ids, xs, ys, zs, count + pendingSize);
+        staleTreeIds.clear();
+        pendingPositions.clear();
+        pendingSize = 0;
+    }
+
+    public record SpatialNeighbor(long propertyId, double distanceKm) {
+    }
+}
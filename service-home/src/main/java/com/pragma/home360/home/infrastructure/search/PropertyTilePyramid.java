@@ -0,0 +1,332 @@
+package com.pragma.home360.home.infrastructure.search;
+
+import com.pragma.home360.home.domain.model.LocationModel;
+import com.pragma.home360.home.domain.model.MapViewportModel;
+import com.pragma.home360.home.domain.model.PropertyClusterModel;
+import com.pragma.home360.home.domain.model.PropertyModel;
+import com.pragma.home360.home.infrastructure.entities.enums.PropertyPublicationStatus;
+import com.pragma.home360.home.infrastructure.events.PropertyChangedEvent;
+import com.pragma.home360.home.infrastructure.events.PropertyDeletedEvent;
+import com.pragma.home360.home.infrastructure.repositories.mysql.PropertyCoordinatesRow;
+import com.pragma.home360.home.infrastructure.repositories.mysql.PropertyRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.pragma.home360.home.domain.utils.constants.DomainConstants.PROPERTY_TILES_LOG_REBUILT;
+
+/**
+ * Pirámide de teselas Web Mercator con agregados por celda de las propiedades publicadas: cantidad,
+ * suma de coordenadas para el centroide y precio mínimo y máximo. Cada propiedad suma en una celda
+ * por nivel, así que consultar un área cuesta lo mismo sin importar cuántas propiedades contenga.
+ * Cuando una baja se lleva el mínimo o el máximo de una celda, se recalcula desde sus cuatro hijas
+ * y, en el nivel más fino, desde las propiedades de la celda.
+ * <p>
+ * Los agregados son locales a la réplica. Las altas y bajas hechas en otra réplica llegan a estos conteos
+ * con {@link PropertyIndexSynchronizer}, con el retraso de su intervalo.
+ */
+@Component
+@RequiredArgsConstructor
+public class PropertyTilePyramid {
+
+    /**
+     * Nivel más fino. Una celda de este nivel mide unos 600 m de lado en el ecuador.
+     */
+    public static final int MAX_LEVEL = 16;
+
+    /**
+     * Cada tesela de 256 px del zoom pedido se divide en 4 x 4 celdas de 64 px.
+     */
+    public static final int CELL_ZOOM_OFFSET = 2;
+
+    private static final Logger log = LoggerFactory.getLogger(PropertyTilePyramid.class);
+    private static final int REBUILD_BATCH_SIZE = 10_000;
+    private static final double MAX_MERCATOR_LATITUDE = 85.05112878;
+
+    private final PropertyRepository propertyRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, Member> members = new HashMap<>();
+    private List<Map<Long, Cell>> levels = emptyLevels();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Map<Long, Member> rebuiltMembers = new HashMap<>();
+        List<Map<Long, Cell>> rebuiltLevels = emptyLevels();
+        long afterId = 0;
+        List<PropertyCoordinatesRow> rows;
+        do {
+            rows = propertyRepository.findCoordinatesAfter(PropertyPublicationStatus.PUBLISHED, afterId,
+                    PageRequest.ofSize(REBUILD_BATCH_SIZE));
+            for (PropertyCoordinatesRow row : rows) {
+                add(rebuiltMembers, rebuiltLevels, row.propertyId(), row.latitude(), row.longitude(), row.price());
+                afterId = row.propertyId();
+            }
+        } while (rows.size() == REBUILD_BATCH_SIZE);
+
+        lock.writeLock().lock();
+        try {
+            members = rebuiltMembers;
+            levels = rebuiltLevels;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info(PROPERTY_TILES_LOG_REBUILT, rebuiltMembers.size(), MAX_LEVEL + 1, System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        index(event.property());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyDeleted(PropertyDeletedEvent event) {
+        remove(event.propertyId());
+    }
+
+    public void index(PropertyModel property) {
+        if (property == null || property.getId() == null) {
+            return;
+        }
+        LocationModel location = property.getLocation();
+        if (property.getPublicationStatus() != PropertyPublicationStatus.PUBLISHED
+                || location == null || location.getLatitude() == null || location.getLongitude() == null) {
+            remove(property.getId());
+            return;
+        }
+        put(property.getId(), location.getLatitude(), location.getLongitude(), property.getPrice());
+    }
+
+    public void put(long propertyId, double latitude, double longitude, BigDecimal price) {
+        lock.writeLock().lock();
+        try {
+            subtract(propertyId);
+            add(members, levels, propertyId, latitude, longitude, price);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long propertyId) {
+        lock.writeLock().lock();
+        try {
+            subtract(propertyId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Devuelve las celdas no vacías que tocan el área visible, al nivel que corresponde al zoom.
+     */
+    public List<PropertyClusterModel> clusters(MapViewportModel viewport) {
+        int level = Math.max(0, Math.min(viewport.zoom() + CELL_ZOOM_OFFSET, MAX_LEVEL));
+        int shift = MAX_LEVEL - level;
+        int minY = cellY(viewport.maxLatitude()) >> shift;
+        int maxY = cellY(viewport.minLatitude()) >> shift;
+        int minX = cellX(viewport.minLongitude()) >> shift;
+        int maxX = cellX(viewport.maxLongitude()) >> shift;
+
+        lock.readLock().lock();
+        try {
+            List<PropertyClusterModel> clusters = new ArrayList<>();
+            if (minX <= maxX) {
+                collect(level, minX, maxX, minY, maxY, clusters);
+            } else {
+                collect(level, minX, (1 << level) - 1, minY, maxY, clusters);
+                collect(level, 0, maxX, minY, maxY, clusters);
+            }
+            return clusters;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return members.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collect(int level, int minX, int maxX, int minY, int maxY, List<PropertyClusterModel> clusters) {
+        Map<Long, Cell> cells = levels.get(level);
+        long rangeSize = (long) (maxX - minX + 1) * (maxY - minY + 1);
+        if (rangeSize > cells.size()) {
+            cells.forEach((key, cell) -> {
+                int x = (int) (key >>> 32);
+                int y = (int) (long) key;
+                if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                    clusters.add(cell.toModel());
+                }
+            });
+            return;
+        }
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                Cell cell = cells.get(key(x, y));
+                if (cell != null) {
+                    clusters.add(cell.toModel());
+                }
+            }
+        }
+    }
+
+    private static void add(Map<Long, Member> members, List<Map<Long, Cell>> levels,
+                            long propertyId, double latitude, double longitude, BigDecimal price) {
+        Member member = new Member(latitude, longitude, price, cellX(longitude), cellY(latitude));
+        members.put(propertyId, member);
+        for (int level = MAX_LEVEL; level >= 0; level--) {
+            int shift = MAX_LEVEL - level;
+            Cell cell = levels.get(level).computeIfAbsent(key(member.x() >> shift, member.y() >> shift), key -> new Cell());
+            cell.add(member);
+            if (level == MAX_LEVEL) {
+                cell.memberIds().add(propertyId);
+            }
+        }
+    }
+
+    private void subtract(long propertyId) {
+        Member member = members.remove(propertyId);
+        if (member == null) {
+            return;
+        }
+        for (int level = MAX_LEVEL; level >= 0; level--) {
+            int shift = MAX_LEVEL - level;
+            int x = member.x() >> shift;
+            int y = member.y() >> shift;
+            Map<Long, Cell> cells = levels.get(level);
+            Cell cell = cells.get(key(x, y));
+            if (level == MAX_LEVEL) {
+                cell.memberIds().remove(propertyId);
+            }
+            if (cell.subtract(member)) {
+                cells.remove(key(x, y));
+            } else if (cell.isPriceBound(member.price())) {
+                recomputePrices(level, x, y, cell);
+            }
+        }
+    }
+
+    private void recomputePrices(int level, int x, int y, Cell cell) {
+        cell.resetPrices();
+        if (level == MAX_LEVEL) {
+            for (Long memberId : cell.memberIds()) {
+                cell.includePrices(members.get(memberId).price(), members.get(memberId).price());
+            }
+            return;
+        }
+        Map<Long, Cell> children = levels.get(level + 1);
+        for (int dx = 0; dx <= 1; dx++) {
+            for (int dy = 0; dy <= 1; dy++) {
+                Cell child = children.get(key(2 * x + dx, 2 * y + dy));
+                if (child != null) {
+                    cell.includePrices(child.minPrice, child.maxPrice);
+                }
+            }
+        }
+    }
+
+    private static int cellX(double longitude) {
+        double normalized = (longitude + 180.0) / 360.0;
+        return clampCell(normalized);
+    }
+
+    private static int cellY(double latitude) {
+        double radians = Math.toRadians(Math.max(-MAX_MERCATOR_LATITUDE, Math.min(MAX_MERCATOR_LATITUDE, latitude)));
+        double normalized = (1 - Math.log(Math.tan(radians) + 1 / Math.cos(radians)) / Math.PI) / 2;
+        return clampCell(normalized);
+    }
+
+    private static int clampCell(double normalized) {
+        int cells = 1 << MAX_LEVEL;
+        return (int) Math.max(0, Math.min(cells - 1, Math.floor(normalized * cells)));
+    }
+
+    private static long key(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    private static List<Map<Long, Cell>> emptyLevels() {
+        List<Map<Long, Cell>> emptyLevels = new ArrayList<>(MAX_LEVEL + 1);
+        for (int level = 0; level <= MAX_LEVEL; level++) {
+            emptyLevels.add(new HashMap<>());
+        }
+        return emptyLevels;
+    }
+
+    private record Member(double latitude, double longitude, BigDecimal price, int x, int y) {
+    }
+
+    private static final class Cell {
+        private long count;
+        private double latitudeSum;
+        private double longitudeSum;
+        private BigDecimal minPrice;
+        private BigDecimal maxPrice;
+        private Set<Long> memberIds;
+
+        void add(Member member) {
+            count++;
+            latitudeSum += member.latitude();
+            longitudeSum += member.longitude();
+            includePrices(member.price(), member.price());
+        }
+
+        /**
+         * @return true si la celda quedó vacía
+         */
+        boolean subtract(Member member) {
+            count--;
+            latitudeSum -= member.latitude();
+            longitudeSum -= member.longitude();
+            return count == 0;
+        }
+
+        boolean isPriceBound(BigDecimal price) {
+            return price != null && (price.compareTo(minPrice) == 0 || price.compareTo(maxPrice) == 0);
+        }
+
+        void resetPrices() {
+            minPrice = null;
+            maxPrice = null;
+        }
+
+        void includePrices(BigDecimal min, BigDecimal max) {
+            if (min != null && (minPrice == null || min.compareTo(minPrice) < 0)) {
+                minPrice = min;
+            }
+            if (max != null && (maxPrice == null || max.compareTo(maxPrice) > 0)) {
+                maxPrice = max;
+            }
+        }
+
+        Set<Long> memberIds() {
+            if (memberIds == null) {
+                memberIds = new HashSet<>();
+            }
+            return memberIds;
+        }
+
+        PropertyClusterModel toModel() {
+            return new PropertyClusterModel(count, latitudeSum / count, longitudeSum / count, minPrice, maxPrice);
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.pragma.home360.home.infrastructure.search;
+
+import com.pragma.home360.home.domain.model.SavedSearchModel;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Percolador de búsquedas guardadas: en lugar de ejecutar cada búsqueda contra las propiedades, indexa
+ * las búsquedas y resuelve en una pasada cuáles cumple una propiedad. Cada búsqueda recibe un ordinal;
+ * la categoría y la ubicación se resuelven con conjuntos de bits por id y los rangos de precio,
+ * habitaciones y baños con un {@link IntervalIndex} por dimensión. Cuando los candidatos que dejan los
+ * términos son pocos, los rangos se comprueban directamente en lugar de consultar los índices.
+ * No es seguro para hilos.
+ */
+public final class SavedSearchMatcher {
+
+    private static final long[] NO_MATCHES = new long[0];
+    private static final int MIN_REMOVED_BEFORE_COMPACT = 1_024;
+    private static final int COMPACT_SIZE_DIVISOR = 8;
+
+    /**
+     * Con menos candidatos que esto, recorrerlos cuesta menos que consultar un índice de intervalos y
+     * cruzar su resultado.
+     */
+    private static final int DIRECT_CHECK_MAX_CANDIDATES = 256;
+
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private SavedSearchModel[] searches;
+    private double[] bounds;
+    private int nextOrdinal;
+    private int removedSinceCompact;
+
+    private final Map<Long, BitSet> byCategory = new HashMap<>();
+    private final Map<Long, BitSet> byNeighborhood = new HashMap<>();
+    private final Map<Long, BitSet> byCity = new HashMap<>();
+    private final Map<Long, BitSet> byDepartment = new HashMap<>();
+    private BitSet anyCategory;
+    private BitSet anyLocation;
+    private IntervalIndex prices;
+    private IntervalIndex rooms;
+    private IntervalIndex bathrooms;
+
+    public SavedSearchMatcher() {
+        reset();
+    }
+
+    /**
+     * Agrega la búsqueda o reemplaza la que tenga el mismo id.
+     */
+    public void add(SavedSearchModel search) {
+        if (ordinals.containsKey(search.id())) {
+            remove(search.id());
+        }
+        int ordinal = nextOrdinal++;
+        ensureCapacity(ordinal);
+        ordinals.put(search.id(), ordinal);
+        searches[ordinal] = search;
+
+        if (search.categoryId() != null) {
+            byCategory.computeIfAbsent(search.categoryId(), id -> new BitSet()).set(ordinal);
+        } else {
+            anyCategory.set(ordinal);
+        }
+        Map<Long, BitSet> locationTerms = locationTerms(search);
+        if (locationTerms != null) {
+            locationTerms.computeIfAbsent(locationTerm(search), id -> new BitSet()).set(ordinal);
+        } else {
+            anyLocation.set(ordinal);
+        }
+
+        double[] range = ranges(search);
+        System.arraycopy(range, 0, bounds, ordinal * Dimension.COUNT, Dimension.COUNT);
+        prices.add(ordinal, range[Dimension.MIN_PRICE], range[Dimension.MAX_PRICE]);
+        rooms.add(ordinal, range[Dimension.MIN_ROOMS], range[Dimension.MAX_ROOMS]);
+        bathrooms.add(ordinal, range[Dimension.MIN_BATHROOMS], Double.POSITIVE_INFINITY);
+    }
+
+    public void remove(long searchId) {
+        Integer ordinal = ordinals.remove(searchId);
+        if (ordinal == null) {
+            return;
+        }
+        SavedSearchModel search = searches[ordinal];
+        searches[ordinal] = null;
+        if (search.categoryId() != null) {
+            clear(byCategory, search.categoryId(), ordinal);
+        } else {
+            anyCategory.clear(ordinal);
+        }
+        Map<Long, BitSet> locationTerms = locationTerms(search);
+        if (locationTerms != null) {
+            clear(locationTerms, locationTerm(search), ordinal);
+        } else {
+            anyLocation.clear(ordinal);
+        }
+        removedSinceCompact++;
+        if (removedSinceCompact >= Math.max(MIN_REMOVED_BEFORE_COMPACT, ordinals.size() / COMPACT_SIZE_DIVISOR)) {
+            compact();
+        }
+    }
+
+    /**
+     * Devuelve los ids de las búsquedas guardadas que cumple una propiedad. Los valores nulos solo los
+     * aceptan las búsquedas que no filtran por ellos.
+     */
+    public long[] match(PropertyReferences references, BigDecimal price, Integer roomCount, Integer bathroomCount) {
+        BitSet candidates = new BitSet(nextOrdinal);
+        candidates.or(anyLocation);
+        orInto(byNeighborhood, references.neighborhoodId(), candidates);
+        orInto(byCity, references.cityId(), candidates);
+        orInto(byDepartment, references.departmentId(), candidates);
+        BitSet category = (BitSet) anyCategory.clone();
+        orInto(byCategory, references.categoryId(), category);
+        candidates.and(category);
+
+        double[] values = {
+                price != null ? price.doubleValue() : Double.NaN,
+                roomCount != null ? roomCount : Double.NaN,
+                bathroomCount != null ? bathroomCount : Double.NaN
+        };
+        IntervalIndex[] indexes = {prices, rooms, bathrooms};
+        int cardinality = candidates.cardinality();
+        for (int dimension = 0; dimension < indexes.length && cardinality > DIRECT_CHECK_MAX_CANDIDATES; dimension++) {
+            BitSet hits = new BitSet(nextOrdinal);
+            indexes[dimension].stab(values[dimension], hits);
+            candidates.and(hits);
+            cardinality = candidates.cardinality();
+        }
+        if (cardinality == 0) {
+            return NO_MATCHES;
+        }
+
+        long[] matches = new long[cardinality];
+        int count = 0;
+        for (int ordinal = candidates.nextSetBit(0); ordinal >= 0; ordinal = candidates.nextSetBit(ordinal + 1)) {
+            if (withinRanges(ordinal, values)) {
+                matches[count++] = searches[ordinal].id();
+            }
+        }
+        return count == matches.length ? matches : Arrays.copyOf(matches, count);
+    }
+
+    public int size() {
+        return ordinals.size();
+    }
+
+    /**
+     * Comprobación directa de los rangos. Para los candidatos que ya pasaron por los índices es
+     * redundante pero barata, y evita distinguir qué dimensiones se cruzaron.
+     */
+    private boolean withinRanges(int ordinal, double[] values) {
+        int offset = ordinal * Dimension.COUNT;
+        return within(values[0], bounds[offset + Dimension.MIN_PRICE], bounds[offset + Dimension.MAX_PRICE])
+                && within(values[1], bounds[offset + Dimension.MIN_ROOMS], bounds[offset + Dimension.MAX_ROOMS])
+                && within(values[2], bounds[offset + Dimension.MIN_BATHROOMS], Double.POSITIVE_INFINITY);
+    }
+
+    private static boolean within(double value, double min, double max) {
+        if (min == Double.NEGATIVE_INFINITY && max == Double.POSITIVE_INFINITY) {
+            return true;
+        }
+        return min <= value && value <= max;
+    }
+
+    /**
+     * Reasigna ordinales consecutivos a las búsquedas vigentes y reconstruye los índices de intervalos,
+     * que conservan los intervalos de las bajas hasta este momento.
+     */
+    private void compact() {
+        List<SavedSearchModel> live = new ArrayList<>(ordinals.size());
+        for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+            if (searches[ordinal] != null) {
+                live.add(searches[ordinal]);
+            }
+        }
+        reset();
+        live.forEach(this::add);
+    }
+
+    private void reset() {
+        ordinals.clear();
+        byCategory.clear();
+        byNeighborhood.clear();
+        byCity.clear();
+        byDepartment.clear();
+        searches = new SavedSearchModel[16];
+        bounds = new double[16 * Dimension.COUNT];
+        nextOrdinal = 0;
+        removedSinceCompact = 0;
+        anyCategory = new BitSet();
+        anyLocation = new BitSet();
+        prices = new IntervalIndex();
+        rooms = new IntervalIndex();
+        bathrooms = new IntervalIndex();
+    }
+
+    private void ensureCapacity(int ordinal) {
+        if (ordinal == searches.length) {
+            searches = Arrays.copyOf(searches, searches.length * 2);
+            bounds = Arrays.copyOf(bounds, searches.length * Dimension.COUNT);
+        }
+    }
+
+    /**
+     * Una búsqueda se indexa solo por su ubicación más específica: el barrio ya implica su ciudad y la
+     * ciudad su departamento.
+     */
+    private Map<Long, BitSet> locationTerms(SavedSearchModel search) {
+        if (search.neighborhoodId() != null) {
+            return byNeighborhood;
+        }
+        if (search.cityId() != null) {
+            return byCity;
+        }
+        return search.departmentId() != null ? byDepartment : null;
+    }
+
+    private static Long locationTerm(SavedSearchModel search) {
+        if (search.neighborhoodId() != null) {
+            return search.neighborhoodId();
+        }
+        return search.cityId() != null ? search.cityId() : search.departmentId();
+    }
+
+    private static double[] ranges(SavedSearchModel search) {
+        double[] range = new double[Dimension.COUNT];
+        range[Dimension.MIN_PRICE] = search.minPrice() != null ? search.minPrice().doubleValue() : Double.NEGATIVE_INFINITY;
+        range[Dimension.MAX_PRICE] = search.maxPrice() != null ? search.maxPrice().doubleValue() : Double.POSITIVE_INFINITY;
+        range[Dimension.MIN_ROOMS] = search.minRooms() != null ? search.minRooms() : Double.NEGATIVE_INFINITY;
+        range[Dimension.MAX_ROOMS] = search.maxRooms() != null ? search.maxRooms() : Double.POSITIVE_INFINITY;
+        range[Dimension.MIN_BATHROOMS] = search.minBathrooms() != null ? search.minBathrooms() : Double.NEGATIVE_INFINITY;
+        return range;
+    }
+
+    private static void orInto(Map<Long, BitSet> terms, Long term, BitSet target) {
+        if (term == null) {
+            return;
+        }
+        BitSet ordinalsForTerm = terms.get(term);
+        if (ordinalsForTerm != null) {
+            target.or(ordinalsForTerm);
+        }
+    }
+
+    private static void clear(Map<Long, BitSet> terms, Long term, int ordinal) {
+        BitSet ordinalsForTerm = terms.get(term);
+        if (ordinalsForTerm != null) {
+            ordinalsForTerm.clear(ordinal);
+            if (ordinalsForTerm.isEmpty()) {
+                terms.remove(term);
+            }
+        }
+    }
+
+    /**
+     * Posición de cada límite dentro del bloque de {@code bounds} de un ordinal.
+     */
+    private static final class Dimension {
+        static final int MIN_PRICE = 0;
+        static final int MAX_PRICE = 1;
+        static final int MIN_ROOMS = 2;
+        static final int MAX_ROOMS = 3;
+        static final int MIN_BATHROOMS = 4;
+        static final int COUNT = 5;
+
+        private Dimension() {
+        }
+    }
+}
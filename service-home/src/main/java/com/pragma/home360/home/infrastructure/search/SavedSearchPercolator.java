@@ -0,0 +1,230 @@
+package com.pragma.home360.home.infrastructure.search;
+
+import com.pragma.home360.home.domain.model.PropertyModel;
+import com.pragma.home360.home.infrastructure.entities.SavedSearchEntity;
+import com.pragma.home360.home.infrastructure.entities.SavedSearchMatchEntity;
+import com.pragma.home360.home.infrastructure.entities.enums.PropertyPublicationStatus;
+import com.pragma.home360.home.infrastructure.events.PropertyChangedEvent;
+import com.pragma.home360.home.infrastructure.events.SavedSearchChangedEvent;
+import com.pragma.home360.home.infrastructure.events.SavedSearchDeletedEvent;
+import com.pragma.home360.home.infrastructure.mappers.SavedSearchEntityMapper;
+import com.pragma.home360.home.infrastructure.repositories.mysql.SavedSearchMatchRepository;
+import com.pragma.home360.home.infrastructure.repositories.mysql.SavedSearchRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.pragma.home360.home.domain.utils.constants.DomainConstants.SAVED_SEARCH_LOG_MATCHED;
+import static com.pragma.home360.home.domain.utils.constants.DomainConstants.SAVED_SEARCH_LOG_REBUILT;
+
+/**
+ * Mantiene en memoria un {@link SavedSearchMatcher} con todas las búsquedas guardadas y, cada vez que
+ * se guarda una propiedad publicada, escribe en {@code saved_search_matches} las búsquedas que cumple
+ * y que aún no la habían recibido.
+ * <p>
+ * Con varias réplicas, una búsqueda se puede crear, editar o borrar en otra réplica, que solo publica el
+ * evento localmente. Por eso, antes de cada coincidencia se leen de {@code saved_searches} las búsquedas
+ * modificadas desde la última lectura, y las coincidencias se comprueban contra la tabla antes de
+ * escribirlas para descartar las búsquedas borradas en otra réplica.
+ */
+@Component
+@RequiredArgsConstructor
+public class SavedSearchPercolator {
+
+    private static final Logger log = LoggerFactory.getLogger(SavedSearchPercolator.class);
+    private static final int REBUILD_BATCH_SIZE = 10_000;
+    private static final int SYNC_BATCH_SIZE = 1_000;
+
+    /**
+     * Margen con el que se vuelven a leer los cambios ya vistos. {@code updated_at} se asigna al guardar y
+     * no al confirmar, así que una búsqueda confirmada después de la última lectura puede tener una fecha
+     * anterior a la más reciente leída; el margen también cubre la diferencia de reloj entre réplicas.
+     */
+    static final Duration SYNC_OVERLAP = Duration.ofSeconds(10);
+    private static final LocalDateTime NEVER_SYNCED = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final SavedSearchMatchRepository savedSearchMatchRepository;
+    private final SavedSearchEntityMapper savedSearchEntityMapper;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private SavedSearchMatcher matcher = new SavedSearchMatcher();
+    private LocalDateTime syncedUpTo = NEVER_SYNCED;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        SavedSearchMatcher rebuilt = new SavedSearchMatcher();
+        LocalDateTime latestUpdate = NEVER_SYNCED;
+        long afterId = 0;
+        List<SavedSearchEntity> batch;
+        do {
+            batch = savedSearchRepository.findBatchAfter(afterId, PageRequest.ofSize(REBUILD_BATCH_SIZE));
+            for (SavedSearchEntity entity : batch) {
+                rebuilt.add(savedSearchEntityMapper.toModel(entity));
+                afterId = entity.getId();
+                if (entity.getUpdatedAt() != null && entity.getUpdatedAt().isAfter(latestUpdate)) {
+                    latestUpdate = entity.getUpdatedAt();
+                }
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        lock.writeLock().lock();
+        try {
+            matcher = rebuilt;
+            syncedUpTo = latestUpdate;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info(SAVED_SEARCH_LOG_REBUILT, rebuilt.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSavedSearchChanged(SavedSearchChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            matcher.add(event.savedSearch());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSavedSearchDeleted(SavedSearchDeletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            matcher.remove(event.savedSearchId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * A diferencia de los índices, se atiende dentro de la transacción que guarda la propiedad: las
+     * coincidencias se confirman o se revierten junto con ella.
+     */
+    @EventListener
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        percolate(event.property());
+    }
+
+    /**
+     * Busca las búsquedas guardadas que cumple la propiedad y registra las nuevas en la bandeja de salida.
+     * Una propiedad editada puede empezar a cumplir otras búsquedas; las que ya la recibieron se omiten.
+     *
+     * @return Cantidad de coincidencias registradas
+     */
+    public int percolate(PropertyModel property) {
+        if (property == null || property.getId() == null
+                || property.getPublicationStatus() != PropertyPublicationStatus.PUBLISHED) {
+            return 0;
+        }
+        sync();
+        PropertyReferences references = PropertyReferences.of(property);
+        long[] matchedIds;
+        lock.readLock().lock();
+        try {
+            matchedIds = matcher.match(references, property.getPrice(), property.getNumberOfRooms(),
+                    property.getNumberOfBathrooms());
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (matchedIds.length == 0) {
+            return 0;
+        }
+
+        Set<Long> existing = existing(matchedIds);
+        Set<Long> alreadyMatched = new HashSet<>(savedSearchMatchRepository.findSavedSearchIdsByPropertyId(property.getId()));
+        List<SavedSearchMatchEntity> matches = new ArrayList<>(matchedIds.length);
+        for (long savedSearchId : matchedIds) {
+            if (existing.contains(savedSearchId) && !alreadyMatched.contains(savedSearchId)) {
+                SavedSearchMatchEntity match = new SavedSearchMatchEntity();
+                match.setSavedSearchId(savedSearchId);
+                match.setPropertyId(property.getId());
+                matches.add(match);
+            }
+        }
+        if (!matches.isEmpty()) {
+            savedSearchMatchRepository.saveAll(matches);
+            log.debug(SAVED_SEARCH_LOG_MATCHED, property.getId(), matches.size());
+        }
+        return matches.size();
+    }
+
+    /**
+     * Incorpora al matcher las búsquedas creadas o editadas desde la última lectura, en esta o en otra
+     * réplica. Volver a agregar una búsqueda que no cambió la deja igual.
+     */
+    void sync() {
+        LocalDateTime since;
+        lock.readLock().lock();
+        try {
+            since = syncedUpTo.minus(SYNC_OVERLAP);
+        } finally {
+            lock.readLock().unlock();
+        }
+        long afterId = 0;
+        List<SavedSearchEntity> batch;
+        do {
+            batch = savedSearchRepository.findChangedAfter(since, afterId, PageRequest.ofSize(SYNC_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                return;
+            }
+            lock.writeLock().lock();
+            try {
+                for (SavedSearchEntity entity : batch) {
+                    matcher.add(savedSearchEntityMapper.toModel(entity));
+                    if (entity.getUpdatedAt().isAfter(syncedUpTo)) {
+                        syncedUpTo = entity.getUpdatedAt();
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            SavedSearchEntity last = batch.get(batch.size() - 1);
+            since = last.getUpdatedAt();
+            afterId = last.getId();
+        } while (batch.size() == SYNC_BATCH_SIZE);
+    }
+
+    /**
+     * Ids coincidentes que siguen en {@code saved_searches}. Las búsquedas borradas en otra réplica se
+     * quitan del matcher.
+     */
+    private Set<Long> existing(long[] matchedIds) {
+        List<Long> ids = Arrays.stream(matchedIds).boxed().toList();
+        Set<Long> existing = new HashSet<>(savedSearchRepository.findExistingIds(ids));
+        if (existing.size() < ids.size()) {
+            lock.writeLock().lock();
+            try {
+                ids.stream().filter(id -> !existing.contains(id)).forEach(matcher::remove);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        return existing;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return matcher.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
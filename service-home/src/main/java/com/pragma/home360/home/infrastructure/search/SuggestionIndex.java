@@ -0,0 +1,285 @@
+package com.pragma.home360.home.infrastructure.search;
+
+import com.pragma.home360.home.domain.model.PropertyModel;
+import com.pragma.home360.home.domain.model.SuggestionModel;
+import com.pragma.home360.home.domain.model.SuggestionType;
+import com.pragma.home360.home.domain.ports.out.SuggestionIndexPort;
+import com.pragma.home360.home.domain.utils.text.TextNormalizer;
+import com.pragma.home360.home.infrastructure.entities.enums.PropertyPublicationStatus;
+import com.pragma.home360.home.infrastructure.events.CatalogEntryChangedEvent;
+import com.pragma.home360.home.infrastructure.events.PropertyChangedEvent;
+import com.pragma.home360.home.infrastructure.events.PropertyDeletedEvent;
+import com.pragma.home360.home.infrastructure.repositories.mysql.CatalogNameRow;
+import com.pragma.home360.home.infrastructure.repositories.mysql.CategoryRepository;
+import com.pragma.home360.home.infrastructure.repositories.mysql.CityRepository;
+import com.pragma.home360.home.infrastructure.repositories.mysql.DepartmentRepository;
+import com.pragma.home360.home.infrastructure.repositories.mysql.NeighborhoodRepository;
+import com.pragma.home360.home.infrastructure.repositories.mysql.PropertyRepository;
+import com.pragma.home360.home.infrastructure.repositories.mysql.PropertySuggestionRow;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.pragma.home360.home.domain.utils.constants.DomainConstants.SUGGESTION_LOG_REBUILT;
+import static com.pragma.home360.home.domain.utils.constants.DomainConstants.SUGGESTION_MAX_LIMIT;
+
+/**
+ * Índice en memoria para el autocompletado del buscador con los nombres de las propiedades publicadas
+ * y de las categorías, departamentos, ciudades y barrios. Cada nombre se indexa normalizado en un
+ * {@link SuggestionTrie} una vez por palabra, desde esa palabra hasta el final, para que "pob" encuentre
+ * "El Poblado". La popularidad de un catálogo es la cantidad de propiedades publicadas que lo
+ * referencian y se ajusta con cada alta o baja de una propiedad; las propiedades valen 1.
+ * <p>
+ * Con varias réplicas, las propiedades guardadas o borradas en otra réplica, y con ellas la popularidad de
+ * sus catálogos, llegan con {@link PropertyIndexSynchronizer}. Los nombres de catálogo renombrados en otra
+ * réplica siguen sin llegar a este trie hasta reconstruirlo al arrancar.
+ */
+@Component
+@RequiredArgsConstructor
+public class SuggestionIndex implements SuggestionIndexPort {
+
+    private static final Logger log = LoggerFactory.getLogger(SuggestionIndex.class);
+    private static final int REBUILD_BATCH_SIZE = 10_000;
+    private static final int PROPERTY_POPULARITY = 1;
+
+    /**
+     * Palabras de un nombre desde las que se puede empezar a escribir; acota las claves de nombres largos.
+     */
+    private static final int MAX_KEYS_PER_ENTRY = 6;
+
+    private final PropertyRepository propertyRepository;
+    private final CategoryRepository categoryRepository;
+    private final DepartmentRepository departmentRepository;
+    private final CityRepository cityRepository;
+    private final NeighborhoodRepository neighborhoodRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        State rebuilt = new State();
+        long afterId = 0;
+        List<PropertySuggestionRow> rows;
+        do {
+            rows = propertyRepository.findSuggestionRowsAfter(PropertyPublicationStatus.PUBLISHED, afterId,
+                    PageRequest.ofSize(REBUILD_BATCH_SIZE));
+            for (PropertySuggestionRow row : rows) {
+                rebuilt.putProperty(row.propertyId(), row.name(),
+                        new PropertyReferences(row.categoryId(), row.neighborhoodId(), row.cityId(), row.departmentId()));
+                afterId = row.propertyId();
+            }
+        } while (rows.size() == REBUILD_BATCH_SIZE);
+        putCatalog(rebuilt, SuggestionType.CATEGORY, categoryRepository.findAllNames());
+        putCatalog(rebuilt, SuggestionType.DEPARTMENT, departmentRepository.findAllNames());
+        putCatalog(rebuilt, SuggestionType.CITY, cityRepository.findAllNames());
+        putCatalog(rebuilt, SuggestionType.NEIGHBORHOOD, neighborhoodRepository.findAllNames());
+
+        lock.writeLock().lock();
+        try {
+            state = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info(SUGGESTION_LOG_REBUILT, rebuilt.entries.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        index(event.property());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyDeleted(PropertyDeletedEvent event) {
+        remove(event.propertyId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogEntryChanged(CatalogEntryChangedEvent event) {
+        if (event.id() == null || event.name() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            state.putCatalogEntry(event.type(), event.id(), event.name());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Solo se indexan las propiedades publicadas; cualquier otro estado la retira junto con su aporte
+     * a la popularidad de sus catálogos.
+     */
+    public void index(PropertyModel property) {
+        if (property == null || property.getId() == null) {
+            return;
+        }
+        if (property.getPublicationStatus() != PropertyPublicationStatus.PUBLISHED || property.getName() == null) {
+            remove(property.getId());
+            return;
+        }
+        PropertyReferences references = PropertyReferences.of(property);
+        lock.writeLock().lock();
+        try {
+            state.putProperty(property.getId(), property.getName(), references);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long propertyId) {
+        lock.writeLock().lock();
+        try {
+            state.removeProperty(propertyId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<SuggestionModel> suggest(String normalizedPrefix, int limit) {
+        lock.readLock().lock();
+        try {
+            return state.trie.search(normalizedPrefix, limit).stream()
+                    .map(SuggestionTrie.Entry::toModel)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void putCatalog(State target, SuggestionType type, List<CatalogNameRow> rows) {
+        for (CatalogNameRow row : rows) {
+            if (row.name() != null) {
+                target.putCatalogEntry(type, row.id(), row.name());
+            }
+        }
+    }
+
+    /**
+     * Claves con las que se indexa un nombre: el nombre normalizado a partir de cada una de sus palabras.
+     */
+    static List<String> keys(String text) {
+        List<String> tokens = TextNormalizer.tokenize(text);
+        List<String> keys = new ArrayList<>(Math.min(tokens.size(), MAX_KEYS_PER_ENTRY));
+        for (int i = 0; i < tokens.size() && i < MAX_KEYS_PER_ENTRY; i++) {
+            keys.add(String.join(" ", tokens.subList(i, tokens.size())));
+        }
+        return keys;
+    }
+
+    private record EntryKey(SuggestionType type, long id) {
+    }
+
+    /**
+     * Trie más la contabilidad necesaria para mantenerlo incrementalmente. Se reemplaza completo al reconstruir.
+     */
+    private static final class State {
+        private final SuggestionTrie trie = new SuggestionTrie(SUGGESTION_MAX_LIMIT);
+        private final Map<EntryKey, SuggestionTrie.Entry> entries = new HashMap<>();
+        private final Map<Long, PropertyReferences> propertyReferences = new HashMap<>();
+        private final Map<EntryKey, Long> referenceCounts = new HashMap<>();
+
+        void putProperty(long propertyId, String name, PropertyReferences references) {
+            EntryKey key = new EntryKey(SuggestionType.PROPERTY, propertyId);
+            SuggestionTrie.Entry existing = entries.get(key);
+            if (existing == null || !existing.text().equals(name)) {
+                removeEntry(key);
+                insertEntry(key, new SuggestionTrie.Entry(SuggestionType.PROPERTY, propertyId, name, PROPERTY_POPULARITY));
+            }
+            PropertyReferences previous = propertyReferences.put(propertyId, references);
+            if (!references.equals(previous)) {
+                adjustReferences(previous, -1);
+                adjustReferences(references, 1);
+            }
+        }
+
+        void removeProperty(long propertyId) {
+            removeEntry(new EntryKey(SuggestionType.PROPERTY, propertyId));
+            adjustReferences(propertyReferences.remove(propertyId), -1);
+        }
+
+        void putCatalogEntry(SuggestionType type, long id, String name) {
+            EntryKey key = new EntryKey(type, id);
+            SuggestionTrie.Entry existing = entries.get(key);
+            if (existing != null && existing.text().equals(name)) {
+                return;
+            }
+            removeEntry(key);
+            insertEntry(key, new SuggestionTrie.Entry(type, id, name, referenceCounts.getOrDefault(key, 0L)));
+        }
+
+        private void insertEntry(EntryKey key, SuggestionTrie.Entry entry) {
+            entries.put(key, entry);
+            for (String trieKey : keys(entry.text())) {
+                trie.insert(trieKey, entry);
+            }
+        }
+
+        private void removeEntry(EntryKey key) {
+            SuggestionTrie.Entry entry = entries.remove(key);
+            if (entry == null) {
+                return;
+            }
+            for (String trieKey : keys(entry.text())) {
+                trie.remove(trieKey, entry);
+            }
+        }
+
+        private void adjustReferences(PropertyReferences references, int delta) {
+            if (references == null) {
+                return;
+            }
+            adjust(SuggestionType.CATEGORY, references.categoryId(), delta);
+            adjust(SuggestionType.NEIGHBORHOOD, references.neighborhoodId(), delta);
+            adjust(SuggestionType.CITY, references.cityId(), delta);
+            adjust(SuggestionType.DEPARTMENT, references.departmentId(), delta);
+        }
+
+        /**
+         * Los conteos se llevan aunque el catálogo aún no esté indexado, para que al llegar entre con su popularidad.
+         */
+        private void adjust(SuggestionType type, Long id, int delta) {
+            if (id == null) {
+                return;
+            }
+            EntryKey key = new EntryKey(type, id);
+            long count = referenceCounts.getOrDefault(key, 0L) + delta;
+            if (count <= 0) {
+                referenceCounts.remove(key);
+                count = 0;
+            } else {
+                referenceCounts.put(key, count);
+            }
+            SuggestionTrie.Entry entry = entries.get(key);
+            if (entry != null) {
+                entry.setPopularity(count);
+                for (String trieKey : keys(entry.text())) {
+                    trie.reorder(trieKey);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.pragma.home360.home.infrastructure.search;
+
+import com.pragma.home360.home.domain.model.SuggestionModel;
+import com.pragma.home360.home.domain.model.SuggestionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Trie de prefijos comprimido (radix): cada arista guarda un fragmento de texto en lugar de un solo
+ * carácter. Cada nodo mantiene precalculadas las {@code capacity} entradas más populares de su
+ * subárbol, así que responder un prefijo cuesta recorrer sus caracteres y copiar esa lista, sin
+ * importar cuántos nombres lo compartan. Las altas, bajas y cambios de popularidad solo recalculan
+ * los nodos del camino de la clave afectada. No es seguro para hilos.
+ */
+public final class SuggestionTrie {
+
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    /**
+     * Más popular primero; a igual popularidad, el nombre más corto y luego el orden alfabético.
+     */
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingLong((Entry entry) -> entry.popularity).reversed()
+            .thenComparingInt(entry -> entry.text.length())
+            .thenComparing(entry -> entry.text)
+            .thenComparing(entry -> entry.type)
+            .thenComparingLong(entry -> entry.id);
+
+    private final int capacity;
+    private final Node root = new Node("");
+
+    public SuggestionTrie(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public void insert(String key, Entry entry) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            Node child = node.child(key.charAt(position));
+            if (child == null) {
+                child = new Node(key.substring(position));
+                node.putChild(child);
+                node = child;
+                path.add(node);
+                break;
+            }
+            int common = commonPrefixLength(child.label, key, position);
+            if (common < child.label.length()) {
+                Node split = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.putChild(child);
+                node.putChild(split);
+                child = split;
+            }
+            node = child;
+            path.add(node);
+            position += common;
+        }
+        node.addTerminal(entry);
+        for (int depth = path.size() - 1; depth >= 0; depth--) {
+            recomputeTop(path.get(depth));
+        }
+    }
+
+    public void remove(String key, Entry entry) {
+        List<Node> path = find(key);
+        if (path == null || !path.get(path.size() - 1).removeTerminal(entry)) {
+            return;
+        }
+        for (int depth = path.size() - 1; depth >= 1; depth--) {
+            Node node = path.get(depth);
+            Node parent = path.get(depth - 1);
+            if (node.terminals == null && node.children == null) {
+                parent.removeChild(node);
+            } else if (node.terminals == null && node.children.size() == 1) {
+                Node only = node.children.values().iterator().next();
+                only.label = node.label + only.label;
+                parent.putChild(only);
+            } else {
+                recomputeTop(node);
+            }
+        }
+        recomputeTop(root);
+    }
+
+    /**
+     * Vuelve a ordenar los nodos del camino de {@code key} después de cambiar la popularidad de una entrada.
+     */
+    public void reorder(String key) {
+        List<Node> path = find(key);
+        if (path == null) {
+            return;
+        }
+        for (int depth = path.size() - 1; depth >= 0; depth--) {
+            recomputeTop(path.get(depth));
+        }
+    }
+
+    /**
+     * @return Hasta {@code limit} entradas con alguna clave que empiece por {@code prefix}, por ranking
+     */
+    public List<Entry> search(String prefix, int limit) {
+        Node node = root;
+        int position = 0;
+        while (position < prefix.length()) {
+            Node child = node.child(prefix.charAt(position));
+            if (child == null) {
+                return List.of();
+            }
+            int common = commonPrefixLength(child.label, prefix, position);
+            if (position + common == prefix.length()) {
+                node = child;
+                break;
+            }
+            if (common < child.label.length()) {
+                return List.of();
+            }
+            node = child;
+            position += common;
+        }
+        return List.of(node.top).subList(0, Math.min(limit, node.top.length));
+    }
+
+    private List<Node> find(String key) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            Node child = node.child(key.charAt(position));
+            if (child == null || !key.startsWith(child.label, position)) {
+                return null;
+            }
+            node = child;
+            path.add(node);
+            position += child.label.length();
+        }
+        return path;
+    }
+
+    /**
+     * Mezcla las entradas propias del nodo con las listas ya ordenadas de sus hijos. Una entrada puede
+     * llegar por varias claves (una por palabra del nombre), por eso se descartan repetidas.
+     */
+    private void recomputeTop(Node node) {
+        List<Entry> candidates = new ArrayList<>();
+        if (node.terminals != null) {
+            candidates.addAll(node.terminals);
+        }
+        if (node.children != null) {
+            for (Node child : node.children.values()) {
+                candidates.addAll(Arrays.asList(child.top));
+            }
+        }
+        candidates.sort(RANKING);
+        Map<Entry, Boolean> seen = new IdentityHashMap<>();
+        List<Entry> top = new ArrayList<>(Math.min(capacity, candidates.size()));
+        for (Entry candidate : candidates) {
+            if (top.size() == capacity) {
+                break;
+            }
+            if (seen.put(candidate, Boolean.TRUE) == null) {
+                top.add(candidate);
+            }
+        }
+        node.top = top.isEmpty() ? NO_ENTRIES : top.toArray(NO_ENTRIES);
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int length = 0;
+        while (length < max && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Nombre indexado. La popularidad es mutable: tras cambiarla hay que llamar a {@link #reorder}
+     * con cada una de sus claves.
+     */
+    public static final class Entry {
+        private final SuggestionType type;
+        private final long id;
+        private final String text;
+        private long popularity;
+
+        public Entry(SuggestionType type, long id, String text, long popularity) {
+            this.type = type;
+            this.id = id;
+            this.text = text;
+            this.popularity = popularity;
+        }
+
+        public String text() {
+            return text;
+        }
+
+        public long popularity() {
+            return popularity;
+        }
+
+        public void setPopularity(long popularity) {
+            this.popularity = popularity;
+        }
+
+        public SuggestionModel toModel() {
+            return new SuggestionModel(type, id, text, popularity);
+        }
+    }
+
+    private static final class Node {
+        private String label;
+        private Map<Character, Node> children;
+        private List<Entry> terminals;
+        private Entry[] top = NO_ENTRIES;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node child(char first) {
+            return children == null ? null : children.get(first);
+        }
+
+        void putChild(Node child) {
+            if (children == null) {
+                children = new HashMap<>(4);
+            }
+            children.put(child.label.charAt(0), child);
+        }
+
+        void removeChild(Node child) {
+            children.remove(child.label.charAt(0));
+            if (children.isEmpty()) {
+                children = null;
+            }
+        }
+
+        void addTerminal(Entry entry) {
+            if (terminals == null) {
+                terminals = new ArrayList<>(1);
+            }
+            if (!terminals.contains(entry)) {
+                terminals.add(entry);
+            }
+        }
+
+        boolean removeTerminal(Entry entry) {
+            if (terminals == null || !terminals.remove(entry)) {
+                return false;
+            }
+            if (terminals.isEmpty()) {
+                terminals = null;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.pragma.home360.home.infrastructure.tasks;
+
+import com.pragma.home360.home.infrastructure.search.PropertyIndexSynchronizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static com.pragma.home360.home.domain.utils.constants.DomainConstants.SCHEDULED_TASK_PROPERTY_INDEX_SYNC_ERROR;
+
+/**
+ * Sincroniza periódicamente los índices en memoria con lo que guardaron o borraron otras réplicas, ver
+ * {@link PropertyIndexSynchronizer}. A diferencia de la publicación, la ejecutan todas las réplicas, porque
+ * cada una tiene sus propios índices; la purga de borrados antiguos es idempotente y tampoco necesita
+ * concesión.
+ */
+@Component
+public class PropertyIndexSyncTask {
+
+    static final Duration PURGE_INTERVAL = Duration.ofHours(1);
+
+    private static final Logger log = LoggerFactory.getLogger(PropertyIndexSyncTask.class);
+    private final PropertyIndexSynchronizer propertyIndexSynchronizer;
+    private final TaskScheduler taskScheduler;
+    private final Duration syncInterval;
+
+    public PropertyIndexSyncTask(PropertyIndexSynchronizer propertyIndexSynchronizer, TaskScheduler taskScheduler,
+                                 @Value("${home360.search.sync-interval:15s}") Duration syncInterval) {
+        this.propertyIndexSynchronizer = propertyIndexSynchronizer;
+        this.taskScheduler = taskScheduler;
+        this.syncInterval = syncInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Instant now = Instant.now();
+        taskScheduler.scheduleWithFixedDelay(this::syncIndexes, now.plus(syncInterval), syncInterval);
+        taskScheduler.scheduleWithFixedDelay(this::purgeTombstones, now.plus(PURGE_INTERVAL), PURGE_INTERVAL);
+    }
+
+    void syncIndexes() {
+        try {
+            propertyIndexSynchronizer.sync();
+        } catch (Exception e) {
+            log.error(SCHEDULED_TASK_PROPERTY_INDEX_SYNC_ERROR, e.getMessage(), e);
+        }
+    }
+
+    void purgeTombstones() {
+        try {
+            propertyIndexSynchronizer.purgeTombstones();
+        } catch (Exception e) {
+            log.error(SCHEDULED_TASK_PROPERTY_INDEX_SYNC_ERROR, e.getMessage(), e);
+        }
+    }
+}
@@ -1,33 +1,186 @@
 package com.pragma.home360.home.infrastructure.tasks;
 
+import com.pragma.home360.home.domain.model.PropertyModel;
+import com.pragma.home360.home.domain.model.PropertyPublicationRunModel;
 import com.pragma.home360.home.domain.ports.in.PropertyServicePort;
+import com.pragma.home360.home.infrastructure.entities.enums.PropertyPublicationStatus;
+import com.pragma.home360.home.infrastructure.events.PropertyChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
 
 import static com.pragma.home360.home.domain.utils.constants.DomainConstants.*;
 
+/**
+ * Tareas programadas de propiedades. La publicación de pendientes no abre una transacción propia: cada
+ * bloque se confirma por separado en la persistencia. Por ejecución registra su duración, con el
+ * resultado como etiqueta, y suma las propiedades publicadas y los bloques procesados.
+ * <p>
+ * La fecha de publicación activa es un día, así que una pendiente solo vence al empezar ese día en la
+ * zona horaria del servidor, la misma con la que el dominio calcula la fecha actual. En lugar de consultar
+ * cada minuto, la tarea se programa para el inicio del día de la próxima pendiente, y como máximo hasta la
+ * siguiente medianoche para recoger las pendientes que hayan guardado otras réplicas. Al arrancar publica
+ * lo que haya vencido mientras el servicio estaba detenido, y una pendiente guardada con una fecha anterior
+ * a la programada adelanta la siguiente ejecución.
+ * <p>
+ * Todas las réplicas se despiertan, pero solo la que obtiene la concesión {@value #PUBLICATION_LEASE}
+ * consulta y publica. Las demás vuelven a intentarlo cuando esa concesión vencería, para tomar el relevo si
+ * la réplica que la tenía se detuvo.
+ */
 @Component
 public class PropertyScheduledTasks {
 
+    static final String PUBLICATION_LEASE = "property-publication";
+    static final String PUBLICATION_RUN_TIMER = "home360.properties.publication.run";
+    static final String PUBLISHED_COUNTER = "home360.properties.publication.published";
+    static final String CHUNKS_COUNTER = "home360.properties.publication.chunks";
+
+    /**
+     * Espera antes de reintentar si la ejecución falló o dejó pendientes vencidas.
+     */
+    static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
     private static final Logger log = LoggerFactory.getLogger(PropertyScheduledTasks.class);
     private final PropertyServicePort propertyServicePort;
+    private final TaskScheduler taskScheduler;
+    private final SchedulerLeaseRegistry schedulerLeaseRegistry;
+    private final Clock clock = Clock.systemDefaultZone();
+    private final MeterRegistry meterRegistry;
+    private final Counter publishedCounter;
+    private final Counter chunksCounter;
+
+    private ScheduledFuture<?> nextRun;
+    private Instant nextRunAt;
 
-    public PropertyScheduledTasks(PropertyServicePort propertyServicePort) {
+    public PropertyScheduledTasks(PropertyServicePort propertyServicePort, TaskScheduler taskScheduler,
+                                  SchedulerLeaseRegistry schedulerLeaseRegistry, MeterRegistry meterRegistry) {
         this.propertyServicePort = propertyServicePort;
+        this.taskScheduler = taskScheduler;
+        this.schedulerLeaseRegistry = schedulerLeaseRegistry;
+        this.meterRegistry = meterRegistry;
+        this.publishedCounter = Counter.builder(PUBLISHED_COUNTER)
+                .description("Propiedades pendientes publicadas por la tarea programada")
+                .register(meterRegistry);
+        this.chunksCounter = Counter.builder(CHUNKS_COUNTER)
+                .description("Bloques de publicación confirmados por la tarea programada")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduleAt(clock.instant());
+    }
+
+    /**
+     * Adelanta la siguiente ejecución cuando se confirma una pendiente que vence antes de lo programado.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        PropertyModel property = event.property();
+        if (property.getPublicationStatus() == PropertyPublicationStatus.PUBLICATION_PENDING
+                && property.getActivePublicationDate() != null) {
+            scheduleAt(startOf(property.getActivePublicationDate()));
+        }
     }
 
-    @Scheduled(fixedRate = 60000)
-    @Transactional
     public void updatePendingProperties() {
-        log.info(SCHEDULED_TASK_PROPERTY_UPDATE_STARTED);
+        synchronized (this) {
+            nextRun = null;
+            nextRunAt = null;
+        }
+        Instant next;
         try {
-            propertyServicePort.processPendingPropertiesToPublish();
-            log.info(SCHEDULED_TASK_PROPERTY_UPDATE_SUCCESS);
+            next = schedulerLeaseRegistry.callIfLeader(PUBLICATION_LEASE, this::publishDueProperties)
+                    .orElseGet(() -> clock.instant().plus(schedulerLeaseRegistry.leaseDuration()));
         } catch (Exception e) {
             log.error(SCHEDULED_TASK_PROPERTY_UPDATE_ERROR, e.getMessage(), e);
+            next = clock.instant().plus(RETRY_DELAY);
+        }
+        scheduleAt(next);
+    }
+
+    /**
+     * Publica las pendientes vencidas, si hay, y devuelve cuándo volver a ejecutar.
+     */
+    private Instant publishDueProperties() {
+        LocalDate today = LocalDate.now(clock);
+        Optional<LocalDate> nextPendingDate = propertyServicePort.getNextPendingPublicationDate();
+        if (nextPendingDate.isPresent() && !nextPendingDate.get().isAfter(today)) {
+            publishPendingProperties();
+            nextPendingDate = propertyServicePort.getNextPendingPublicationDate();
+        } else {
+            log.debug(SCHEDULED_TASK_PROPERTY_UPDATE_SKIPPED);
         }
+        return nextRunInstant(nextPendingDate, today);
+    }
+
+    private void publishPendingProperties() {
+        log.info(SCHEDULED_TASK_PROPERTY_UPDATE_STARTED);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            PropertyPublicationRunModel run = propertyServicePort.processPendingPropertiesToPublish();
+            publishedCounter.increment(run.published());
+            chunksCounter.increment(run.chunks());
+            log.info(SCHEDULED_TASK_PROPERTY_UPDATE_SUCCESS);
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(PUBLICATION_RUN_TIMER)
+                    .description("Duración de cada ejecución de la publicación de propiedades pendientes")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Inicio del día de la próxima pendiente o la siguiente medianoche, lo que ocurra antes. Si aún quedan
+     * pendientes vencidas, por ejemplo porque otra réplica las está publicando, reintenta más tarde.
+     */
+    private Instant nextRunInstant(Optional<LocalDate> nextPendingDate, LocalDate today) {
+        Instant nextMidnight = startOf(today.plusDays(1));
+        Instant candidate = nextPendingDate
+                .map(date -> date.isAfter(today) ? startOf(date) : clock.instant().plus(RETRY_DELAY))
+                .orElse(nextMidnight);
+        return candidate.isBefore(nextMidnight) ? candidate : nextMidnight;
+    }
+
+    /**
+     * Programa la publicación en el instante dado si es anterior a la ejecución ya programada.
+     */
+    private synchronized void scheduleAt(Instant instant) {
+        if (nextRunAt != null && !instant.isBefore(nextRunAt)) {
+            return;
+        }
+        if (nextRun != null) {
+            nextRun.cancel(false);
+        }
+        nextRunAt = instant;
+        nextRun = taskScheduler.schedule(this::updatePendingProperties, instant);
+        log.debug(SCHEDULED_TASK_PROPERTY_UPDATE_NEXT_RUN, instant.atZone(clock.getZone()));
+    }
+
+    /**
+     * Inicio del día en la zona del reloj. Con cambios de horario la medianoche puede no existir, y
+     * {@link LocalDate#atStartOfDay(ZoneId)} devuelve la primera hora válida del día.
+     */
+    private Instant startOf(LocalDate date) {
+        return date.atStartOfDay(clock.getZone()).toInstant();
     }
 }
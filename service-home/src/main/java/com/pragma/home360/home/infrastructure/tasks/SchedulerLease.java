@@ -0,0 +1,11 @@
+package com.pragma.home360.home.infrastructure.tasks;
+
+/**
+ * Concesión obtenida por esta réplica para ejecutar una tarea programada.
+ */
+public record SchedulerLease(
+        String name,
+        String owner,
+        long fencingToken
+) {
+}
@@ -0,0 +1,11 @@
+package com.pragma.home360.home.infrastructure.tasks;
+
+/**
+ * La réplica perdió la concesión mientras ejecutaba la tarea; la transacción en curso se revierte.
+ */
+public class SchedulerLeaseLostException extends RuntimeException {
+
+    public SchedulerLeaseLostException(String message) {
+        super(message);
+    }
+}
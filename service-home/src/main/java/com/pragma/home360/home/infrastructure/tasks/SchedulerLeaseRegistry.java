@@ -0,0 +1,123 @@
+package com.pragma.home360.home.infrastructure.tasks;
+
+import com.pragma.home360.home.infrastructure.repositories.mysql.SchedulerLeaseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static com.pragma.home360.home.domain.utils.constants.DomainConstants.*;
+
+/**
+ * Concesiones en base de datos para que, con varias réplicas, una sola ejecute cada tarea programada.
+ * Pedir la concesión cuesta una sentencia; la réplica que no la obtiene omite la ejecución. La fila de
+ * cada concesión se crea una sola vez, la primera vez que se pide, y después solo se actualiza. Si la
+ * réplica que la tiene se detiene, otra la toma cuando vence, como máximo una duración de concesión después.
+ * <p>
+ * Mientras la tarea corre, la concesión queda asociada al hilo. Las escrituras de la tarea llaman a
+ * {@link #fence()} dentro de su transacción: extiende la concesión si sigue siendo de esta réplica con el
+ * mismo token y, si no, revierte la escritura. Así una réplica que perdió la concesión, por ejemplo tras
+ * una pausa larga, no confirma nada después de que otra la tomó.
+ */
+@Component
+public class SchedulerLeaseRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(SchedulerLeaseRegistry.class);
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final Duration leaseDuration;
+    private final String owner;
+    private final ThreadLocal<SchedulerLease> currentLease = new ThreadLocal<>();
+    private final Set<String> existingLeases = ConcurrentHashMap.newKeySet();
+
+    public SchedulerLeaseRegistry(SchedulerLeaseRepository schedulerLeaseRepository,
+                                  @Value("${home360.scheduler.lease-duration:60s}") Duration leaseDuration,
+                                  @Value("${spring.application.name:service-home}") String applicationName) {
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.leaseDuration = leaseDuration;
+        this.owner = applicationName + ":" + UUID.randomUUID();
+    }
+
+    public Duration leaseDuration() {
+        return leaseDuration;
+    }
+
+    /**
+     * Ejecuta la tarea si esta réplica obtiene la concesión y la libera al terminar.
+     *
+     * @return Resultado de la tarea, o vacío si otra réplica tiene la concesión vigente
+     */
+    public <T> Optional<T> callIfLeader(String name, Supplier<T> task) {
+        Optional<SchedulerLease> acquired = tryAcquire(name);
+        if (acquired.isEmpty()) {
+            log.debug(SCHEDULER_LEASE_LOG_HELD_BY_OTHER, name);
+            return Optional.empty();
+        }
+        SchedulerLease lease = acquired.get();
+        currentLease.set(lease);
+        try {
+            return Optional.ofNullable(task.get());
+        } finally {
+            currentLease.remove();
+            schedulerLeaseRepository.release(lease.name(), lease.owner(), lease.fencingToken());
+        }
+    }
+
+    /**
+     * Comprueba y extiende la concesión del hilo dentro de la transacción en curso. Sin concesión asociada,
+     * porque la escritura no viene de una tarea programada, no hace nada.
+     *
+     * @throws SchedulerLeaseLostException si la concesión venció o la tomó otra réplica
+     */
+    public void fence() {
+        SchedulerLease lease = currentLease.get();
+        if (lease == null) {
+            return;
+        }
+        if (schedulerLeaseRepository.extend(lease.name(), lease.owner(), lease.fencingToken(), leaseSeconds()) == 0) {
+            throw new SchedulerLeaseLostException(String.format(SCHEDULER_LEASE_LOST, lease.name(), lease.fencingToken()));
+        }
+    }
+
+    Optional<SchedulerLease> tryAcquire(String name) {
+        if (schedulerLeaseRepository.takeOverExpired(name, owner, leaseSeconds()) == 0
+                && !createLease(name)) {
+            return Optional.empty();
+        }
+        return schedulerLeaseRepository.findFencingToken(name, owner)
+                .map(token -> new SchedulerLease(name, owner, token));
+    }
+
+    /**
+     * Crea la fila de la concesión si todavía no existe. Las filas no se borran, así que basta comprobarlo
+     * una vez por réplica: después, la réplica que no obtiene la concesión solo ejecuta la actualización.
+     *
+     * @return true si esta réplica creó la fila y con ella la concesión
+     */
+    private boolean createLease(String name) {
+        if (existingLeases.contains(name) || schedulerLeaseRepository.existsById(name)) {
+            existingLeases.add(name);
+            return false;
+        }
+        try {
+            schedulerLeaseRepository.insertLease(name, owner, leaseSeconds());
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        } finally {
+            existingLeases.add(name);
+        }
+    }
+
+    private long leaseSeconds() {
+        return Math.max(1, leaseDuration.toSeconds());
+    }
+}
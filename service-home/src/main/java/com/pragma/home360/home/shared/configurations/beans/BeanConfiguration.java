@@ -7,10 +7,14 @@ import com.pragma.home360.home.application.services.impl.*;
 import com.pragma.home360.home.domain.ports.in.*;
 import com.pragma.home360.home.domain.ports.out.*;
 import com.pragma.home360.home.domain.usecases.*;
+import com.pragma.home360.home.infrastructure.cache.CountCache;
+import com.pragma.home360.home.infrastructure.cache.PropertyDetailCache;
+import com.pragma.home360.home.infrastructure.cache.PropertyListingCache;
 import com.pragma.home360.home.infrastructure.adapters.persistence.*;
 import com.pragma.home360.home.infrastructure.mappers.*;
 import com.pragma.home360.home.infrastructure.repositories.mysql.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -20,13 +24,17 @@ public class BeanConfiguration {
 
     private final CategoryRepository categoryRepository;
     private final CategoryEntityMapper categoryEntityMapper;
+    private final CountCache countCache;
+    private final PropertyListingCache propertyListingCache;
+    private final PropertyDetailCache propertyDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Bean
     public CityPersistencePort cityPersistencePort(
             CityRepository cityRepository,
             CityEntityMapper cityEntityMapper) {
-        return new CityPersistenceAdapter(cityRepository, cityEntityMapper);
+        return new CityPersistenceAdapter(cityRepository, cityEntityMapper, countCache, eventPublisher);
     }
 
     @Bean
@@ -43,7 +51,7 @@ public class BeanConfiguration {
     public DepartmentPersistencePort departmentPersistencePort(
             DepartmentRepository departmentRepository,
             DepartmentEntityMapper departmentEntityMapper) {
-        return new DepartmentPersistenceAdapter(departmentRepository, departmentEntityMapper);
+        return new DepartmentPersistenceAdapter(departmentRepository, departmentEntityMapper, eventPublisher);
     }
 
     @Bean
@@ -63,7 +71,7 @@ public class BeanConfiguration {
     public LocationPersistencePort locationPersistencePort(
             LocationRepository locationRepository,
             LocationEntityMapper locationEntityMapper) {
-        return new LocationPersistenceAdapter(locationRepository, locationEntityMapper);
+        return new LocationPersistenceAdapter(locationRepository, locationEntityMapper, eventPublisher);
     }
 
 
@@ -96,7 +104,7 @@ public class BeanConfiguration {
 
     @Bean
     CategoryPersistencePort categoryPersistencePort() {
-        return new CategoryPersistenceAdapter(categoryRepository, categoryEntityMapper);
+        return new CategoryPersistenceAdapter(categoryRepository, categoryEntityMapper, countCache, eventPublisher);
     }
 
 
@@ -104,7 +112,7 @@ public class BeanConfiguration {
     public NeighborhoodPersistencePort neighborhoodPersistencePort(
             NeighborhoodRepository neighborhoodRepository,
             NeighborhoodEntityMapper neighborhoodEntityMapper) {
-        return new NeighborhoodPersistenceAdapter(neighborhoodRepository, neighborhoodEntityMapper);
+        return new NeighborhoodPersistenceAdapter(neighborhoodRepository, neighborhoodEntityMapper, countCache, eventPublisher);
     }
 
     @Bean
@@ -147,8 +155,10 @@ public class BeanConfiguration {
     public PropertyImagePersistencePort propertyImagePersistencePort(
             PropertyImageRepository propertyImageRepository,
             PropertyRepository propRepository,
-            PropertyImageEntityMapper propertyImageEntityMapper) {
-        return new PropertyImagePersistenceAdapter(propertyImageRepository, propRepository, propertyImageEntityMapper);
+            PropertyImageEntityMapper propertyImageEntityMapper,
+            PropertyReadModelProjector propertyReadModelProjector) {
+        return new PropertyImagePersistenceAdapter(propertyImageRepository, propRepository, propertyImageEntityMapper, propertyListingCache,
+                propertyDetailCache, propertyReadModelProjector);
     }
 
     @Bean
@@ -162,7 +172,23 @@ public class BeanConfiguration {
     @Bean
     public PropertyImageService propertyImageService(
             PropertyImageServicePort propertyImageServicePort,
-            PropertyImageDtoMapper propertyImageDtoMapper) {
-        return new PropertyImageServiceImpl(propertyImageServicePort, propertyImageDtoMapper);
+            PropertyImageDtoMapper propertyImageDtoMapper,
+            PropertyDtoMapper propertyDtoMapper) {
+        return new PropertyImageServiceImpl(propertyImageServicePort, propertyImageDtoMapper, propertyDtoMapper);
+    }
+
+    @Bean
+    public SuggestionServicePort suggestionServicePort(SuggestionIndexPort suggestionIndexPort) {
+        return new SuggestionUseCase(suggestionIndexPort);
+    }
+
+    @Bean
+    public SavedSearchServicePort savedSearchServicePort(
+            SavedSearchPersistencePort savedSearchPersistencePort,
+            DepartmentPersistencePort departmentPersistencePort,
+            CityPersistencePort cityPersistencePort,
+            NeighborhoodPersistencePort neighborhoodPersistencePort) {
+        return new SavedSearchUseCase(savedSearchPersistencePort, categoryPersistencePort(), departmentPersistencePort,
+                cityPersistencePort, neighborhoodPersistencePort);
     }
 }
@@ -0,0 +1,971 @@
+package com.pragma.home360.home.integration.infrastructure.adapters.persistence;
+
+import com.pragma.home360.home.domain.model.CategoryModel;
+import com.pragma.home360.home.domain.model.FacetCountModel;
+import com.pragma.home360.home.domain.model.GeoRadiusModel;
+import com.pragma.home360.home.domain.model.LocationModel;
+import com.pragma.home360.home.domain.model.MapViewportModel;
+import com.pragma.home360.home.domain.model.NearestPropertyModel;
+import com.pragma.home360.home.domain.model.PriceRangeFacetModel;
+import com.pragma.home360.home.domain.model.PropertyCardModel;
+import com.pragma.home360.home.domain.model.PropertyClusterModel;
+import com.pragma.home360.home.domain.model.PropertyCriteriaModel;
+import com.pragma.home360.home.domain.model.PropertyExportModel;
+import com.pragma.home360.home.domain.model.PropertyFacetsModel;
+import com.pragma.home360.home.domain.model.PropertyFilterModel;
+import com.pragma.home360.home.domain.model.PropertyModel;
+import com.pragma.home360.home.domain.model.PropertyVersionModel;
+import com.pragma.home360.home.domain.model.SuggestionType;
+import com.pragma.home360.home.domain.utils.pagination.PagedResult;
+import com.pragma.home360.home.infrastructure.adapters.persistence.CachingPropertyPersistenceAdapter;
+import com.pragma.home360.home.infrastructure.adapters.persistence.PropertyPersistenceAdapter;
+import com.pragma.home360.home.infrastructure.adapters.persistence.PropertyReadModelProjector;
+import com.pragma.home360.home.infrastructure.cache.CountCache;
+import com.pragma.home360.home.infrastructure.cache.PropertyDetailCache;
+import com.pragma.home360.home.infrastructure.cache.PropertyListingCache;
+import com.pragma.home360.home.infrastructure.entities.*;
+import com.pragma.home360.home.infrastructure.entities.enums.PropertyPublicationStatus;
+import com.pragma.home360.home.infrastructure.events.CatalogEntryChangedEvent;
+import com.pragma.home360.home.infrastructure.mappers.CategoryEntityMapperImpl;
+import com.pragma.home360.home.infrastructure.mappers.LocationEntityMapperImpl;
+import com.pragma.home360.home.infrastructure.mappers.PropertyEntityMapperImpl;
+import com.pragma.home360.home.infrastructure.mappers.SavedSearchEntityMapperImpl;
+import com.pragma.home360.home.infrastructure.repositories.mysql.PropertyReadModelRepository;
+import com.pragma.home360.home.infrastructure.repositories.mysql.SavedSearchMatchRepository;
+import com.pragma.home360.home.infrastructure.search.PropertyIndexSynchronizer;
+import com.pragma.home360.home.infrastructure.search.PropertySearchIndex;
+import com.pragma.home360.home.infrastructure.search.PropertySpatialIndex;
+import com.pragma.home360.home.infrastructure.search.PropertyTilePyramid;
+import com.pragma.home360.home.infrastructure.search.SavedSearchPercolator;
+import com.pragma.home360.home.infrastructure.search.SuggestionIndex;
+import com.pragma.home360.home.infrastructure.tasks.SchedulerLeaseRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.pragma.home360.home.domain.utils.constants.DomainConstants.PROPERTY_FACET_PRICE_BOUNDARIES;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({
+        PropertyPersistenceAdapter.class,
+        PropertyEntityMapperImpl.class,
+        LocationEntityMapperImpl.class,
+        CategoryEntityMapperImpl.class,
+        PropertySearchIndex.class,
+        PropertySpatialIndex.class,
+        PropertyTilePyramid.class,
+        CountCache.class,
+        PropertyListingCache.class,
+        PropertyDetailCache.class,
+        PropertyReadModelProjector.class,
+        SchedulerLeaseRegistry.class,
+        CachingPropertyPersistenceAdapter.class,
+        SavedSearchEntityMapperImpl.class,
+        SavedSearchPercolator.class,
+        SuggestionIndex.class,
+        PropertyIndexSynchronizer.class
+})
+@DisplayName("Pruebas de Integración para PropertyPersistenceAdapter")
+class PropertyPersistenceAdapterTest {
+
+    private static final int TOTAL_PROPERTIES = 30;
+    private static final int IMAGES_PER_PROPERTY = 3;
+
+    @Autowired
+    private PropertyPersistenceAdapter propertyPersistenceAdapter;
+
+    @Autowired
+    private CachingPropertyPersistenceAdapter cachingPropertyPersistenceAdapter;
+
+    @Autowired
+    private PropertySearchIndex propertySearchIndex;
+
+    @Autowired
+    private PropertySpatialIndex propertySpatialIndex;
+
+    @Autowired
+    private PropertyTilePyramid propertyTilePyramid;
+
+    @Autowired
+    private SuggestionIndex suggestionIndex;
+
+    @Autowired
+    private PropertyIndexSynchronizer propertyIndexSynchronizer;
+
+    @Autowired
+    private CountCache countCache;
+
+    @Autowired
+    private PropertyReadModelProjector propertyReadModelProjector;
+
+    @Autowired
+    private PropertyReadModelRepository propertyReadModelRepository;
+
+    @Autowired
+    private SavedSearchPercolator savedSearchPercolator;
+
+    @Autowired
+    private SavedSearchMatchRepository savedSearchMatchRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long cityId;
+    private Long neighborhoodId;
+
+    @BeforeEach
+    void setUp() {
+        DepartmentEntity department = new DepartmentEntity();
+        department.setName("Antioquia");
+        department.setDescription("Departamento de Antioquia");
+        testEntityManager.persist(department);
+
+        CityEntity city = new CityEntity();
+        city.setName("Medellín");
+        city.setDescription("Capital de Antioquia");
+        city.setDepartment(department);
+        testEntityManager.persist(city);
+        cityId = city.getId();
+
+        NeighborHoodEntity neighborhood = new NeighborHoodEntity();
+        neighborhood.setName("El Poblado");
+        neighborhood.setDescription("Barrio residencial");
+        neighborhood.setCity(city);
+        testEntityManager.persist(neighborhood);
+        neighborhoodId = neighborhood.getId();
+
+        CategoryEntity category = new CategoryEntity();
+        category.setName("Apartamento");
+        category.setDescription("Unidad residencial");
+        testEntityManager.persist(category);
+
+        for (int i = 1; i <= TOTAL_PROPERTIES; i++) {
+            LocationEntity location = new LocationEntity();
+            location.setAddress("Calle " + i);
+            location.setLatitude(6.2 + i * 0.01);
+            location.setLongitude(-75.5);
+            location.setNeighborhood(neighborhood);
+            location.setCity(city);
+            testEntityManager.persist(location);
+
+            PropertyEntity property = new PropertyEntity();
+            property.setName("Propiedad " + i);
+            property.setDescription("Descripción " + i);
+            property.setNumberOfRooms(1 + i % 4);
+            property.setNumberOfBathrooms(2);
+            property.setPrice(new BigDecimal(100000 + i));
+            property.setActivePublicationDate(LocalDate.now());
+            property.setPublicationStatus(PropertyPublicationStatus.PUBLISHED);
+            property.setLocation(location);
+            property.setCategory(category);
+            testEntityManager.persist(property);
+
+            for (int j = 1; j <= IMAGES_PER_PROPERTY; j++) {
+                PropertyImageEntity image = new PropertyImageEntity();
+                image.setImageUrl("/media/properties/" + i + "-" + j + ".jpg");
+                image.setIsMainImage(j == 1);
+                image.setProperty(property);
+                testEntityManager.persist(image);
+            }
+        }
+        testEntityManager.flush();
+        propertyReadModelProjector.backfill();
+        testEntityManager.clear();
+        countCache.invalidateAll();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Debe listar una página con sus relaciones y reutilizar el conteo del mismo filtro")
+    void getAllProperties_ShouldUseConstantStatementsPerPage() {
+        PagedResult<PropertyModel> smallPage = propertyPersistenceAdapter.getAllProperties(
+                new PropertyFilterModel(0, 5, "price", "DESC", null));
+        long smallPageStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        testEntityManager.clear();
+
+        PagedResult<PropertyModel> largePage = propertyPersistenceAdapter.getAllProperties(
+                new PropertyFilterModel(1, 10, "price", "DESC", null));
+        long largePageStatements = statistics.getPrepareStatementCount();
+
+        assertEquals(3, smallPageStatements, "ids + hidratación + conteo");
+        assertEquals(2, largePageStatements, "ids + hidratación, conteo en caché");
+
+        assertEquals(5, smallPage.content().size());
+        assertEquals(TOTAL_PROPERTIES, smallPage.totalElements());
+        assertEquals("Propiedad 30", smallPage.content().get(0).getName());
+        assertEquals(IMAGES_PER_PROPERTY, smallPage.content().get(0).getImages().size());
+        assertEquals("Medellín", smallPage.content().get(0).getLocation().getNeighborhood().getCity().getName());
+
+        assertEquals(10, largePage.content().size());
+        assertEquals(TOTAL_PROPERTIES, largePage.totalElements());
+        assertEquals("Propiedad 20", largePage.content().get(0).getName());
+    }
+
+    @Test
+    @DisplayName("Debe servir desde caché los listados repetidos e invalidarlos con las escrituras del puerto")
+    void cachingAdapter_ShouldServeRepeatedListingsFromCacheAndInvalidateOnWrites() {
+        PropertyFilterModel published = new PropertyFilterModel(0, 10, "id", "ASC", null, null,
+                new PropertyCriteriaModel(null, null, null, null, null, null, null, null, PropertyPublicationStatus.PUBLISHED));
+
+        PagedResult<PropertyModel> first = cachingPropertyPersistenceAdapter.getAllProperties(published);
+        statistics.clear();
+        PagedResult<PropertyModel> repeated = cachingPropertyPersistenceAdapter.getAllProperties(published);
+
+        assertSame(first, repeated);
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        Long firstId = first.content().get(0).getId();
+        PropertyModel unpublished = propertyPersistenceAdapter.getPropertyById(firstId).orElseThrow();
+        unpublished.setPublicationStatus(PropertyPublicationStatus.PUBLICATION_PENDING);
+        cachingPropertyPersistenceAdapter.updateProperty(firstId, unpublished);
+        PagedResult<PropertyModel> afterWrite = cachingPropertyPersistenceAdapter.getAllProperties(published);
+
+        assertNotSame(first, afterWrite);
+        assertEquals(TOTAL_PROPERTIES - 1, afterWrite.totalElements());
+        assertEquals("Propiedad 2", afterWrite.content().get(0).getName());
+    }
+
+    @Test
+    @DisplayName("Debe servir el detalle desde caché e invalidar solo las propiedades escritas")
+    void cachingAdapter_ShouldServeRepeatedDetailFromCacheAndInvalidateWrittenIds() {
+        List<Long> ids = testEntityManager.getEntityManager()
+                .createQuery("select p.id from PropertyEntity p where p.name in ('Propiedad 4', 'Propiedad 8') order by p.id", Long.class)
+                .getResultList();
+        testEntityManager.clear();
+        statistics.clear();
+
+        PropertyModel first = cachingPropertyPersistenceAdapter.getPropertyById(ids.get(0)).orElseThrow();
+        PropertyModel other = cachingPropertyPersistenceAdapter.getPropertyById(ids.get(1)).orElseThrow();
+
+        assertEquals(2, statistics.getPrepareStatementCount(), "una consulta por propiedad con sus relaciones");
+        assertEquals(IMAGES_PER_PROPERTY, first.getImages().size());
+        statistics.clear();
+        assertSame(first, cachingPropertyPersistenceAdapter.getPropertyById(ids.get(0)).orElseThrow());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(cachingPropertyPersistenceAdapter.getPropertyById(Long.MAX_VALUE).isEmpty());
+
+        PropertyModel unpublished = propertyPersistenceAdapter.getPropertyById(ids.get(0)).orElseThrow();
+        unpublished.setPublicationStatus(PropertyPublicationStatus.PUBLICATION_PENDING);
+        cachingPropertyPersistenceAdapter.updateProperty(ids.get(0), unpublished);
+
+        PropertyModel reloaded = cachingPropertyPersistenceAdapter.getPropertyById(ids.get(0)).orElseThrow();
+        assertNotSame(first, reloaded);
+        assertEquals(PropertyPublicationStatus.PUBLICATION_PENDING, reloaded.getPublicationStatus());
+        assertSame(other, cachingPropertyPersistenceAdapter.getPropertyById(ids.get(1)).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Debe recargar el detalle en caché cuando otra réplica cambió la fila y su versión ya no coincide")
+    void cachingAdapter_ShouldReloadDetailWhenRowChangedBehindTheCache() {
+        Long id = testEntityManager.getEntityManager()
+                .createQuery("select p.id from PropertyEntity p where p.name = 'Propiedad 6'", Long.class)
+                .getSingleResult();
+        testEntityManager.clear();
+        PropertyModel cached = cachingPropertyPersistenceAdapter.getPropertyById(id).orElseThrow();
+
+        testEntityManager.getEntityManager()
+                .createNativeQuery("UPDATE properties SET name = 'Propiedad 6 renovada', " +
+                        "updated_at = TIMESTAMPADD(SECOND, 60, updated_at) WHERE id = :id")
+                .setParameter("id", id)
+                .executeUpdate();
+        testEntityManager.clear();
+
+        PropertyVersionModel version = cachingPropertyPersistenceAdapter.getPropertyVersion(id).orElseThrow();
+        assertSame(cached, cachingPropertyPersistenceAdapter.getPropertyById(id).orElseThrow());
+        assertNotEquals(version.updatedAt(), cached.getUpdatedAt());
+
+        PropertyModel reloaded = cachingPropertyPersistenceAdapter.reloadPropertyById(id).orElseThrow();
+        assertEquals(version.updatedAt(), reloaded.getUpdatedAt(), "el cuerpo corresponde a la versión de la etiqueta");
+        assertEquals("Propiedad 6 renovada", reloaded.getName());
+        assertSame(reloaded, cachingPropertyPersistenceAdapter.getPropertyById(id).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Debe actualizar el modelo de lectura en la misma transacción que la escritura de la propiedad")
+    void updateProperty_ShouldRefreshReadModelUsedByListings() {
+        Long propertyId = testEntityManager.getEntityManager()
+                .createQuery("select p.id from PropertyEntity p where p.name = 'Propiedad 5'", Long.class)
+                .getSingleResult();
+        PropertyModel property = propertyPersistenceAdapter.getPropertyById(propertyId).orElseThrow();
+        property.setName("Propiedad 5 renovada");
+        property.setPrice(new BigDecimal(999999));
+
+        propertyPersistenceAdapter.updateProperty(propertyId, property);
+        testEntityManager.clear();
+        statistics.clear();
+        PagedResult<PropertyCardModel> cards = propertyPersistenceAdapter.getPropertyCards(
+                new PropertyFilterModel(0, 1, "price", "DESC", null, null, PropertyCriteriaModel.empty(), false));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        PropertyCardModel first = cards.content().get(0);
+        assertEquals(propertyId, first.id());
+        assertEquals("Propiedad 5 renovada", first.name());
+        assertEquals("Medellín", first.cityName());
+        assertEquals(IMAGES_PER_PROPERTY, first.imageCount());
+        assertEquals(0, propertyReadModelRepository.findPropertyIdsWithoutReadModelAfter(0L, PageRequest.ofSize(1)).size());
+    }
+
+    @Test
+    @DisplayName("Debe reconciliar filas desactualizadas y huérfanas y seguir los cambios de catálogo")
+    void readModelProjector_ShouldReconcileStaleAndOrphanRowsAndFollowCatalogChanges() {
+        EntityManager entityManager = testEntityManager.getEntityManager();
+        Long staleId = entityManager
+                .createQuery("select p.id from PropertyEntity p where p.name = 'Propiedad 7'", Long.class)
+                .getSingleResult();
+        Long deletedId = entityManager
+                .createQuery("select p.id from PropertyEntity p where p.name = 'Propiedad 8'", Long.class)
+                .getSingleResult();
+        entityManager.createNativeQuery("UPDATE properties SET name = 'Propiedad 7 Renovada', " +
+                        "updated_at = TIMESTAMPADD(SECOND, 60, updated_at) WHERE id = :id")
+                .setParameter("id", staleId)
+                .executeUpdate();
+        entityManager.createNativeQuery("DELETE FROM property_images WHERE property_id = :id")
+                .setParameter("id", deletedId)
+                .executeUpdate();
+        entityManager.createNativeQuery("DELETE FROM properties WHERE id = :id")
+                .setParameter("id", deletedId)
+                .executeUpdate();
+
+        propertyReadModelProjector.backfill();
+        testEntityManager.clear();
+
+        PropertyReadModelEntity stale = propertyReadModelRepository.findById(staleId).orElseThrow();
+        assertEquals("Propiedad 7 Renovada", stale.getName());
+        assertEquals("propiedad 7 renovada descripcion 7 calle 7 apartamento el poblado medellin antioquia",
+                stale.getSearchText());
+        assertTrue(propertyReadModelRepository.findById(deletedId).isEmpty());
+        assertEquals(TOTAL_PROPERTIES - 1, propertyReadModelRepository.count());
+
+        entityManager.createNativeQuery("UPDATE cities SET name = 'Medellín D.E.' WHERE id = :id")
+                .setParameter("id", cityId)
+                .executeUpdate();
+        propertyReadModelProjector.onCatalogEntryChanged(
+                new CatalogEntryChangedEvent(SuggestionType.CITY, cityId, "Medellín D.E."));
+        testEntityManager.clear();
+
+        assertTrue(propertyReadModelRepository.findAll().stream()
+                .allMatch(row -> "Medellín D.E.".equals(row.getCityName())
+                        && row.getSearchText().contains("medellin d.e.")));
+    }
+
+    @Test
+    @DisplayName("Debe publicar las pendientes vencidas por bloques y devolver los ids de cada bloque")
+    void publishPendingProperties_ShouldPublishDueRowsInBoundedChunks() {
+        EntityManager entityManager = testEntityManager.getEntityManager();
+        entityManager.createQuery("update PropertyEntity p set p.publicationStatus = :pending " +
+                        "where p.name in ('Propiedad 1', 'Propiedad 2', 'Propiedad 3', 'Propiedad 4', 'Propiedad 5')")
+                .setParameter("pending", PropertyPublicationStatus.PUBLICATION_PENDING)
+                .executeUpdate();
+        entityManager.createQuery("update PropertyEntity p set p.publicationStatus = :pending, p.activePublicationDate = :future " +
+                        "where p.name = 'Propiedad 6'")
+                .setParameter("pending", PropertyPublicationStatus.PUBLICATION_PENDING)
+                .setParameter("future", LocalDate.now().plusDays(1))
+                .executeUpdate();
+        propertyReadModelProjector.refresh(entityManager
+                .createQuery("select p.id from PropertyEntity p where p.publicationStatus = :pending", Long.class)
+                .setParameter("pending", PropertyPublicationStatus.PUBLICATION_PENDING)
+                .getResultList());
+        testEntityManager.clear();
+        assertEquals(Optional.of(LocalDate.now()), propertyPersistenceAdapter.findNextPendingPublicationDate());
+
+        List<Long> firstChunk = propertyPersistenceAdapter.publishPendingProperties(LocalDate.now(), 3);
+        List<Long> secondChunk = propertyPersistenceAdapter.publishPendingProperties(LocalDate.now(), 3);
+        List<Long> emptyChunk = propertyPersistenceAdapter.publishPendingProperties(LocalDate.now(), 3);
+        testEntityManager.clear();
+
+        assertEquals(3, firstChunk.size());
+        assertEquals(2, secondChunk.size());
+        assertTrue(emptyChunk.isEmpty());
+        assertTrue(Collections.disjoint(firstChunk, secondChunk));
+        assertEquals(Optional.of(LocalDate.now().plusDays(1)), propertyPersistenceAdapter.findNextPendingPublicationDate());
+        Map<PropertyPublicationStatus, Long> statuses = entityManager
+                .createQuery("select p.publicationStatus, count(p) from PropertyEntity p group by p.publicationStatus", Object[].class)
+                .getResultStream()
+                .collect(Collectors.toMap((Object[] row) -> (PropertyPublicationStatus) row[0], (Object[] row) -> (Long) row[1]));
+        assertEquals(Map.of(PropertyPublicationStatus.PUBLISHED, (long) TOTAL_PROPERTIES - 1,
+                PropertyPublicationStatus.PUBLICATION_PENDING, 1L), statuses);
+        assertEquals(PropertyPublicationStatus.PUBLISHED,
+                propertyReadModelRepository.findById(secondChunk.get(0)).orElseThrow().getPublicationStatus());
+    }
+
+    @Test
+    @DisplayName("Debe listar sin totales y sin consulta de conteo cuando withTotal es false")
+    void getAllProperties_ShouldReturnSliceWithoutCountWhenTotalsAreNotRequested() {
+        PagedResult<PropertyModel> firstSlice = propertyPersistenceAdapter.getAllProperties(
+                new PropertyFilterModel(0, 10, "id", "ASC", null, null, PropertyCriteriaModel.empty(), false));
+
+        assertEquals(2, statistics.getPrepareStatementCount(), "ids + hidratación");
+        assertEquals(10, firstSlice.content().size());
+        assertTrue(firstSlice.hasNext());
+        assertFalse(firstSlice.hasTotal());
+        assertNotNull(firstSlice.nextCursor());
+
+        PagedResult<PropertyModel> lastSlice = propertyPersistenceAdapter.getAllProperties(
+                new PropertyFilterModel(2, 10, "id", "ASC", null, null, PropertyCriteriaModel.empty(), false));
+
+        assertEquals(10, lastSlice.content().size());
+        assertFalse(lastSlice.hasNext());
+        assertNull(lastSlice.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Debe listar tarjetas con una sola consulta de proyección y paginar por cursor")
+    void getPropertyCards_ShouldProjectCardsInOneStatementAndFollowCursor() {
+        PagedResult<PropertyCardModel> firstSlice = propertyPersistenceAdapter.getPropertyCards(
+                new PropertyFilterModel(0, 5, "price", "DESC", null, null, PropertyCriteriaModel.empty(), false));
+
+        assertEquals(1, statistics.getPrepareStatementCount(), "proyección sin hidratación ni conteo");
+        assertEquals(5, firstSlice.content().size());
+        PropertyCardModel first = firstSlice.content().get(0);
+        assertEquals("Propiedad 30", first.name());
+        assertEquals(0, new BigDecimal(100030).compareTo(first.price()));
+        assertEquals("Medellín", first.cityName());
+        assertEquals("El Poblado", first.neighborhoodName());
+        assertEquals("/media/properties/30-1.jpg", first.mainImageUrl());
+        assertEquals(IMAGES_PER_PROPERTY, first.imageCount());
+        assertTrue(firstSlice.hasNext());
+        assertNotNull(firstSlice.nextCursor());
+
+        PagedResult<PropertyCardModel> secondSlice = propertyPersistenceAdapter.getPropertyCards(
+                new PropertyFilterModel(0, 5, "price", "DESC", null, firstSlice.nextCursor(), PropertyCriteriaModel.empty(), false));
+
+        assertEquals("Propiedad 25", secondSlice.content().get(0).name());
+    }
+
+    @Test
+    @DisplayName("Debe omitir la consulta de conteo cuando la primera página no está completa")
+    void getAllProperties_ShouldSkipCountWhenFirstPageIsPartial() {
+        PagedResult<PropertyModel> result = propertyPersistenceAdapter.getAllProperties(
+                new PropertyFilterModel(0, 50, "id", "ASC", null));
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(TOTAL_PROPERTIES, result.content().size());
+        assertEquals(TOTAL_PROPERTIES, result.totalElements());
+        List<Long> ids = result.content().stream().map(PropertyModel::getId).toList();
+        assertEquals(ids.stream().sorted().toList(), ids);
+    }
+
+    @Test
+    @DisplayName("Debe devolver una página vacía sin consultar la base de datos cuando la búsqueda no tiene resultados")
+    void getAllProperties_ShouldReturnEmptyPageWithoutQueryingWhenSearchHasNoHits() {
+        propertySearchIndex.rebuild();
+        statistics.clear();
+
+        PagedResult<PropertyModel> result = propertyPersistenceAdapter.getAllProperties(
+                new PropertyFilterModel(0, 10, "id", "ASC", "inexistente"));
+
+        assertTrue(result.content().isEmpty());
+        assertEquals(0, result.totalElements());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Debe resolver el término de búsqueda con el índice, ignorando tildes y ordenando por relevancia")
+    void getAllProperties_ShouldResolveSearchTermThroughIndex() {
+        propertySearchIndex.rebuild();
+        statistics.clear();
+
+        PagedResult<PropertyModel> byPlace = propertyPersistenceAdapter.getAllProperties(
+                new PropertyFilterModel(0, 5, "id", "ASC", "medellin pobl"));
+        PagedResult<PropertyModel> byRelevance = propertyPersistenceAdapter.getAllProperties(
+                new PropertyFilterModel(0, 5, "relevance", "DESC", "propiedad 7"));
+
+        assertEquals(TOTAL_PROPERTIES, byPlace.totalElements());
+        assertEquals("Propiedad 1", byPlace.content().get(0).getName());
+        assertEquals(1, byRelevance.totalElements());
+        assertEquals("Propiedad 7", byRelevance.content().get(0).getName());
+    }
+
+    @Test
+    @DisplayName("Debe filtrar, ordenar y contar sobre todas las coincidencias de la búsqueda")
+    void getAllProperties_ShouldFilterSortAndCountOverAllSearchMatches() {
+        propertySearchIndex.rebuild();
+        PropertyCriteriaModel fourRooms = new PropertyCriteriaModel(
+                null, null, 4, null, null, null, null, null, null);
+
+        PagedResult<PropertyModel> byPrice = propertyPersistenceAdapter.getAllProperties(
+                new PropertyFilterModel(0, 5, "price", "DESC", "propiedad"));
+        PagedResult<PropertyModel> firstByRelevance = propertyPersistenceAdapter.getAllProperties(
+                new PropertyFilterModel(0, 5, "relevance", "DESC", "propiedad", null, fourRooms));
+        PagedResult<PropertyModel> secondByRelevance = propertyPersistenceAdapter.getAllProperties(
+                new PropertyFilterModel(1, 5, "relevance", "DESC", "propiedad", null, fourRooms));
+
+        assertEquals(TOTAL_PROPERTIES, byPrice.totalElements());
+        assertEquals("Propiedad " + TOTAL_PROPERTIES, byPrice.content().get(0).getName());
+        assertEquals(7, firstByRelevance.totalElements());
+        assertEquals(5, firstByRelevance.content().size());
+        assertEquals(2, secondByRelevance.content().size());
+        assertTrue(secondByRelevance.content().stream().allMatch(property -> property.getNumberOfRooms() == 4));
+    }
+
+    @Test
+    @DisplayName("Debe recorrer por keyset una búsqueda con muchas coincidencias en lugar de enviarlas como lista de ids")
+    void getAllProperties_ShouldScanRowsInsteadOfSendingLargeMatchSets() {
+        int farms = 1200;
+        insertFarms(farms);
+        PropertyCriteriaModel fourRooms = new PropertyCriteriaModel(
+                null, null, 4, null, null, null, null, null, null);
+        statistics.clear();
+
+        PagedResult<PropertyModel> firstPage = propertyPersistenceAdapter.getAllProperties(
+                new PropertyFilterModel(0, 10, "price", "DESC", "finca", null, fourRooms));
+        assertEquals(3, statistics.getPrepareStatementCount(), "recorrido de la página + hidratación + recorrido del conteo");
+
+        PagedResult<PropertyModel> nextPage = propertyPersistenceAdapter.getAllProperties(
+                new PropertyFilterModel(0, 10, "price", "DESC", "finca", firstPage.nextCursor(), fourRooms));
+        PropertyFacetsModel facets = propertyPersistenceAdapter.getPropertyFacets(
+                new PropertyFilterModel(0, 10, "id", "ASC", "finca"));
+
+        assertEquals(farms / 4, firstPage.totalElements());
+        assertEquals("Finca 1199", firstPage.content().get(0).getName());
+        assertEquals(10, firstPage.content().size());
+        assertEquals("Finca 1159", nextPage.content().get(0).getName());
+        assertTrue(nextPage.content().stream().allMatch(property -> property.getNumberOfRooms() == 4));
+        assertEquals(farms, facets.total());
+        assertEquals(farms, facets.priceRanges().stream().mapToLong(PriceRangeFacetModel::count).sum());
+    }
+
+    @Test
+    @DisplayName("Debe seguir el cursor devuelto para un listado por relevancia sin término de búsqueda")
+    void getAllProperties_ShouldFollowCursorReturnedForRelevanceListing() {
+        PagedResult<PropertyModel> firstPage = propertyPersistenceAdapter.getAllProperties(
+                new PropertyFilterModel(0, 10, "relevance", "DESC", null));
+        assertNotNull(firstPage.nextCursor());
+
+        PagedResult<PropertyModel> secondPage = propertyPersistenceAdapter.getAllProperties(
+                new PropertyFilterModel(0, 10, "relevance", "DESC", null, firstPage.nextCursor()));
+
+        List<Long> firstIds = firstPage.content().stream().map(PropertyModel::getId).toList();
+        List<Long> secondIds = secondPage.content().stream().map(PropertyModel::getId).toList();
+        assertEquals(10, secondIds.size());
+        assertTrue(secondIds.get(0) < firstIds.get(firstIds.size() - 1));
+        assertEquals(secondIds.stream().sorted(Comparator.reverseOrder()).toList(), secondIds);
+    }
+
+    @Test
+    @DisplayName("Debe aplicar los filtros estructurados de ciudad, rango de precio y habitaciones")
+    void getAllProperties_ShouldApplyStructuredCriteria() {
+        PropertyCriteriaModel criteria = new PropertyCriteriaModel(
+                new BigDecimal("100011"), new BigDecimal("100020"), 3, null, null, cityId, null, null, PropertyPublicationStatus.PUBLISHED);
+
+        PagedResult<PropertyModel> result = propertyPersistenceAdapter.getAllProperties(
+                new PropertyFilterModel(0, 10, "price", "ASC", null, null, criteria));
+
+        assertEquals(List.of("Propiedad 11", "Propiedad 14", "Propiedad 15", "Propiedad 18", "Propiedad 19"),
+                result.content().stream().map(PropertyModel::getName).toList());
+        assertEquals(5, result.totalElements());
+    }
+
+    @Test
+    @DisplayName("Debe devolver una página vacía cuando ningún registro cumple los filtros")
+    void getAllProperties_ShouldReturnEmptyPageWhenCriteriaMatchNothing() {
+        PropertyCriteriaModel criteria = new PropertyCriteriaModel(
+                null, null, null, null, null, cityId + 1, null, null, null);
+
+        PagedResult<PropertyModel> result = propertyPersistenceAdapter.getAllProperties(
+                new PropertyFilterModel(0, 10, "id", "ASC", null, null, criteria));
+
+        assertTrue(result.content().isEmpty());
+        assertEquals(0, result.totalElements());
+    }
+
+    @Test
+    @DisplayName("Debe filtrar por radio con Haversine y combinarlo con los filtros y la paginación por cursor")
+    void getAllProperties_ShouldFilterByRadiusCombinedWithCriteriaAndCursor() {
+        GeoRadiusModel near = new GeoRadiusModel(6.2, -75.5, 5.5);
+        PagedResult<PropertyModel> withinRadius = propertyPersistenceAdapter.getAllProperties(
+                new PropertyFilterModel(0, 10, "id", "ASC", null).withNear(near));
+
+        assertEquals(List.of("Propiedad 1", "Propiedad 2", "Propiedad 3", "Propiedad 4"),
+                withinRadius.content().stream().map(PropertyModel::getName).toList());
+        assertEquals(4, withinRadius.totalElements());
+
+        PropertyCriteriaModel criteria = new PropertyCriteriaModel(
+                null, null, 2, null, null, cityId, null, null, null, near);
+        PagedResult<PropertyModel> firstPage = propertyPersistenceAdapter.getAllProperties(
+                new PropertyFilterModel(0, 2, "id", "ASC", null, null, criteria));
+        PagedResult<PropertyModel> secondPage = propertyPersistenceAdapter.getAllProperties(
+                new PropertyFilterModel(0, 2, "id", "ASC", null, firstPage.nextCursor(), criteria));
+
+        assertEquals(List.of("Propiedad 1", "Propiedad 2"), firstPage.content().stream().map(PropertyModel::getName).toList());
+        assertEquals(List.of("Propiedad 3"), secondPage.content().stream().map(PropertyModel::getName).toList());
+        assertNull(secondPage.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Debe devolver las propiedades más cercanas ordenadas por distancia y reflejar las bajas del índice")
+    void getNearestProperties_ShouldReturnClosestPropertiesAndHonorIndexUpdates() {
+        propertySpatialIndex.rebuild();
+        assertEquals(TOTAL_PROPERTIES, propertySpatialIndex.size());
+
+        List<NearestPropertyModel> nearest = propertyPersistenceAdapter.getNearestProperties(6.2, -75.5, 3, null);
+
+        assertEquals(List.of("Propiedad 1", "Propiedad 2", "Propiedad 3"),
+                nearest.stream().map(model -> model.property().getName()).toList());
+        assertEquals(1.11, nearest.get(0).distanceKm(), 0.01);
+        assertTrue(nearest.get(0).distanceKm() < nearest.get(1).distanceKm());
+
+        propertySpatialIndex.remove(nearest.get(0).property().getId());
+        propertySpatialIndex.put(nearest.get(2).property().getId(), 6.2, -75.5);
+        List<NearestPropertyModel> afterUpdate = propertyPersistenceAdapter.getNearestProperties(
+                6.2, -75.5, 2, nearest.get(1).property().getId());
+
+        assertEquals(List.of("Propiedad 3", "Propiedad 4"),
+                afterUpdate.stream().map(model -> model.property().getName()).toList());
+        assertEquals(0.0, afterUpdate.get(0).distanceKm(), 1e-6);
+    }
+
+    @Test
+    @DisplayName("Debe agrupar las propiedades por celda según el zoom y recalcular el rango de precios tras una baja")
+    void getPropertyClusters_ShouldAggregateByZoomAndRecomputePriceBoundsOnRemoval() {
+        propertyTilePyramid.rebuild();
+        assertEquals(TOTAL_PROPERTIES, propertyTilePyramid.size());
+
+        List<PropertyClusterModel> world = propertyPersistenceAdapter.getPropertyClusters(
+                new MapViewportModel(-60, -120, 60, -30, 0));
+        assertEquals(1, world.size());
+        assertEquals(TOTAL_PROPERTIES, world.get(0).count());
+        assertEquals(6.355, world.get(0).latitude(), 1e-9);
+        assertEquals(-75.5, world.get(0).longitude(), 1e-9);
+        assertEquals(0, new BigDecimal(100001).compareTo(world.get(0).minPrice()));
+        assertEquals(0, new BigDecimal(100030).compareTo(world.get(0).maxPrice()));
+
+        List<PropertyClusterModel> street = propertyPersistenceAdapter.getPropertyClusters(
+                new MapViewportModel(6.205, -75.6, 6.295, -75.4, 14));
+        assertEquals(9, street.size());
+        assertTrue(street.stream().allMatch(cluster -> cluster.count() == 1));
+
+        assertTrue(propertyPersistenceAdapter.getPropertyClusters(
+                new MapViewportModel(40, 170, 41, -170, 10)).isEmpty());
+
+        Long cheapestId = testEntityManager.getEntityManager()
+                .createQuery("select p.id from PropertyEntity p where p.name = 'Propiedad 1'", Long.class)
+                .getSingleResult();
+        propertyTilePyramid.remove(cheapestId);
+        PropertyClusterModel afterRemoval = propertyPersistenceAdapter.getPropertyClusters(
+                new MapViewportModel(-60, -120, 60, -30, 0)).get(0);
+
+        assertEquals(TOTAL_PROPERTIES - 1, afterRemoval.count());
+        assertEquals(0, new BigDecimal(100002).compareTo(afterRemoval.minPrice()));
+    }
+
+    @Test
+    @DisplayName("Debe calcular todas las facetas en una sola sentencia agrupada")
+    void getPropertyFacets_ShouldAggregateAllFacetsInOneStatement() {
+        PropertyCriteriaModel criteria = new PropertyCriteriaModel(
+                null, null, 3, null, null, null, null, null, null);
+
+        PropertyFacetsModel facets = propertyPersistenceAdapter.getPropertyFacets(
+                new PropertyFilterModel(0, 10, "id", "ASC", null, null, criteria));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(15, facets.total());
+        assertEquals(List.of(new FacetCountModel(facets.categories().get(0).id(), "Apartamento", 15)), facets.categories());
+        assertEquals(List.of(new FacetCountModel(cityId, "Medellín", 15)), facets.cities());
+        assertEquals(PROPERTY_FACET_PRICE_BOUNDARIES.size() + 1, facets.priceRanges().size());
+        assertNull(facets.priceRanges().get(0).minPrice());
+        assertEquals(15, facets.priceRanges().get(0).count());
+        assertEquals(15, facets.priceRanges().stream().mapToLong(PriceRangeFacetModel::count).sum());
+    }
+
+    @Test
+    @DisplayName("Debe recorrer todas las propiedades publicadas en orden de id con una sola sentencia")
+    void forEachPublishedProperty_ShouldStreamFlatRowsInOneStatement() {
+        List<PropertyExportModel> exported = new ArrayList<>();
+
+        propertyPersistenceAdapter.forEachPublishedProperty(exported::add);
+
+        assertEquals(1, statistics.getPrepareStatementCount(), "cursor sin hidratación ni consultas por fila");
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(TOTAL_PROPERTIES, exported.size());
+        for (int i = 1; i < exported.size(); i++) {
+            assertTrue(exported.get(i - 1).id() < exported.get(i).id());
+        }
+        PropertyExportModel first = exported.get(0);
+        assertEquals("Propiedad 1", first.name());
+        assertEquals("Apartamento", first.categoryName());
+        assertEquals("El Poblado", first.neighborhoodName());
+        assertEquals("Medellín", first.cityName());
+        assertEquals("Antioquia", first.departmentName());
+        assertEquals("/media/properties/1-1.jpg", first.mainImageUrl());
+    }
+
+    @Test
+    @DisplayName("Debe cargar varias propiedades con sus relaciones en una sola consulta")
+    void getPropertiesByIds_ShouldLoadDetailsInOneStatement() {
+        List<Long> ids = testEntityManager.getEntityManager()
+                .createQuery("select p.id from PropertyEntity p where p.name in ('Propiedad 3', 'Propiedad 9', 'Propiedad 27')", Long.class)
+                .getResultList();
+        testEntityManager.clear();
+        statistics.clear();
+
+        List<PropertyModel> properties = propertyPersistenceAdapter.getPropertiesByIds(ids);
+
+        assertEquals(3, properties.size());
+        for (PropertyModel property : properties) {
+            assertEquals(IMAGES_PER_PROPERTY, property.getImages().size());
+            assertEquals("Apartamento", property.getCategory().getName());
+            assertEquals("Antioquia", property.getLocation().getNeighborhood().getCity().getDepartment().getName());
+        }
+        assertEquals(1, statistics.getPrepareStatementCount(), "relaciones cargadas con la misma consulta");
+    }
+
+    @Test
+    @DisplayName("Debe obtener la versión de una propiedad con una consulta y sin cargar la entidad")
+    void getPropertyVersion_ShouldReadUpdatedAtWithoutLoadingEntity() {
+        Long id = testEntityManager.getEntityManager()
+                .createQuery("select p.id from PropertyEntity p where p.name = 'Propiedad 5'", Long.class)
+                .getSingleResult();
+        testEntityManager.clear();
+        statistics.clear();
+
+        Optional<PropertyVersionModel> version = propertyPersistenceAdapter.getPropertyVersion(id);
+
+        assertTrue(version.isPresent());
+        assertEquals(id, version.get().id());
+        assertNotNull(version.get().updatedAt());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertTrue(propertyPersistenceAdapter.getPropertyVersion(Long.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe insertar por lotes fuera del contexto de persistencia y devolver los ids en orden")
+    void saveProperties_ShouldBatchInsertAndReturnIdsInOrder() {
+        Long categoryId = testEntityManager.getEntityManager()
+                .createQuery("select c.id from CategoryEntity c", Long.class)
+                .getSingleResult();
+        Long locationId = testEntityManager.getEntityManager()
+                .createQuery("select min(l.id) from LocationEntity l", Long.class)
+                .getSingleResult();
+        List<PropertyModel> models = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            models.add(new PropertyModel(null, "Importada " + i, "Descripción importada " + i, 2, 1,
+                    new BigDecimal(300000 + i), new LocationModel(locationId, null, null, null, null, null, null, null),
+                    new CategoryModel(categoryId, null, null), LocalDate.now(), PropertyPublicationStatus.PUBLISHED,
+                    null, null, null));
+        }
+
+        List<Long> ids = propertyPersistenceAdapter.saveProperties(models);
+
+        assertEquals(0, statistics.getEntityInsertCount(), "las filas se insertan por JDBC, no con persist");
+        assertEquals(1, statistics.getPrepareStatementCount(), "una sola hidratación para publicar los eventos");
+        assertEquals(3, ids.size());
+        assertTrue(ids.get(0) < ids.get(1) && ids.get(1) < ids.get(2));
+        testEntityManager.clear();
+        for (int i = 0; i < ids.size(); i++) {
+            PropertyModel saved = propertyPersistenceAdapter.getPropertyById(ids.get(i)).orElseThrow();
+            assertEquals("Importada " + (i + 1), saved.getName());
+            assertEquals("Apartamento", saved.getCategory().getName());
+            assertNotNull(saved.getCreatedAt());
+        }
+    }
+
+    @Test
+    @DisplayName("Debe escribir en las filas insertadas por lotes las mismas fechas que un guardado individual")
+    void saveProperties_ShouldWriteTimestampsLikeSingleInsert() {
+        Long categoryId = testEntityManager.getEntityManager()
+                .createQuery("select c.id from CategoryEntity c", Long.class)
+                .getSingleResult();
+        Long locationId = testEntityManager.getEntityManager()
+                .createQuery("select min(l.id) from LocationEntity l", Long.class)
+                .getSingleResult();
+        LocalDateTime before = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        Long single = propertyPersistenceAdapter.saveProperty(newProperty("Individual", locationId, categoryId)).getId();
+        Long batched = propertyPersistenceAdapter.saveProperties(
+                List.of(newProperty("Por lote", locationId, categoryId))).get(0);
+        testEntityManager.flush();
+        LocalDateTime after = LocalDateTime.now();
+        testEntityManager.clear();
+
+        for (Long id : List.of(single, batched)) {
+            Object[] inserted = findTimestamps(id);
+            LocalDateTime createdAt = (LocalDateTime) inserted[0];
+            LocalDateTime updatedAt = (LocalDateTime) inserted[1];
+            assertFalse(createdAt.isBefore(before));
+            assertFalse(updatedAt.isAfter(after));
+            assertFalse(createdAt.isAfter(updatedAt));
+            assertEquals(0, createdAt.getNano() % 1_000, "misma precisión que la columna");
+            assertEquals(0, updatedAt.getNano() % 1_000, "misma precisión que la columna");
+
+            PropertyModel property = propertyPersistenceAdapter.getPropertyById(id).orElseThrow();
+            property.setName(property.getName() + " editada");
+            propertyPersistenceAdapter.updateProperty(id, property);
+            testEntityManager.flush();
+            testEntityManager.clear();
+
+            Object[] updated = findTimestamps(id);
+            assertEquals(createdAt, updated[0]);
+            assertFalse(((LocalDateTime) updated[1]).isBefore(updatedAt));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe registrar una sola vez las búsquedas guardadas que cumple una propiedad publicada")
+    void updateProperty_ShouldWriteMatchingSavedSearchesToOutboxOnce() {
+        Long byNeighborhood = persistSavedSearch(new BigDecimal(100000), new BigDecimal(100010), null, neighborhoodId);
+        Long byCityAndRooms = persistSavedSearch(null, null, 2, null);
+        persistSavedSearch(new BigDecimal(200000), null, null, neighborhoodId);
+        testEntityManager.flush();
+        savedSearchPercolator.rebuild();
+        assertEquals(3, savedSearchPercolator.size());
+
+        Long propertyId = testEntityManager.getEntityManager()
+                .createQuery("select p.id from PropertyEntity p where p.name = 'Propiedad 5'", Long.class)
+                .getSingleResult();
+        PropertyModel property = propertyPersistenceAdapter.getPropertyById(propertyId).orElseThrow();
+
+        propertyPersistenceAdapter.updateProperty(propertyId, property);
+        propertyPersistenceAdapter.updateProperty(propertyId, property);
+        testEntityManager.flush();
+
+        List<Long> matched = savedSearchMatchRepository.findSavedSearchIdsByPropertyId(propertyId);
+        assertEquals(2, matched.size());
+        assertTrue(matched.containsAll(List.of(byNeighborhood, byCityAndRooms)));
+    }
+
+    @Test
+    @DisplayName("Debe incorporar las búsquedas guardadas en otra réplica y descartar las borradas antes de registrar coincidencias")
+    void updateProperty_ShouldSyncSavedSearchesChangedOnAnotherReplica() {
+        Long deleted = persistSavedSearch(null, null, 2, null);
+        testEntityManager.flush();
+        savedSearchPercolator.rebuild();
+
+        Long created = persistSavedSearch(new BigDecimal(100000), new BigDecimal(100010), null, neighborhoodId);
+        testEntityManager.getEntityManager()
+                .createQuery("delete from SavedSearchEntity s where s.id = :id")
+                .setParameter("id", deleted)
+                .executeUpdate();
+        testEntityManager.flush();
+
+        Long propertyId = testEntityManager.getEntityManager()
+                .createQuery("select p.id from PropertyEntity p where p.name = 'Propiedad 5'", Long.class)
+                .getSingleResult();
+        PropertyModel property = propertyPersistenceAdapter.getPropertyById(propertyId).orElseThrow();
+
+        propertyPersistenceAdapter.updateProperty(propertyId, property);
+        testEntityManager.flush();
+
+        assertEquals(List.of(created), savedSearchMatchRepository.findSavedSearchIdsByPropertyId(propertyId));
+        assertEquals(1, savedSearchPercolator.size());
+    }
+
+    @Test
+    @DisplayName("Debe llevar a los índices en memoria las propiedades editadas y borradas en otra réplica")
+    void propertyIndexSynchronizer_ShouldApplyChangesAndDeletionsFromAnotherReplica() {
+        propertySearchIndex.rebuild();
+        propertySpatialIndex.rebuild();
+        List<Long> ids = testEntityManager.getEntityManager()
+                .createQuery("select p.id from PropertyEntity p where p.name in ('Propiedad 1', 'Propiedad 2') " +
+                        "order by p.id", Long.class)
+                .getResultList();
+        Long edited = ids.get(0);
+        Long deleted = ids.get(1);
+
+        testEntityManager.getEntityManager()
+                .createQuery("update PropertyEntity p set p.name = 'Cabaña remota', p.updatedAt = :updatedAt where p.id = :id")
+                .setParameter("updatedAt", LocalDateTime.now().plusSeconds(1))
+                .setParameter("id", edited)
+                .executeUpdate();
+        PropertyTombstoneEntity tombstone = new PropertyTombstoneEntity();
+        tombstone.setPropertyId(deleted);
+        tombstone.setDeletedAt(LocalDateTime.now());
+        testEntityManager.persist(tombstone);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        propertyIndexSynchronizer.sync();
+
+        assertEquals(Set.of(edited), propertySearchIndex.match("remota").keySet());
+        assertFalse(propertySearchIndex.match("propiedad").containsKey(deleted));
+        assertEquals(List.of("Cabaña remota", "Propiedad 3"),
+                propertyPersistenceAdapter.getNearestProperties(6.2, -75.5, 2, null).stream()
+                        .map(model -> model.property().getName())
+                        .toList());
+        assertFalse(suggestionIndex.suggest("remota", 5).isEmpty());
+    }
+
+    private static PropertyModel newProperty(String name, Long locationId, Long categoryId) {
+        return new PropertyModel(null, name, "Descripción " + name, 2, 1, new BigDecimal(300000),
+                new LocationModel(locationId, null, null, null, null, null, null, null),
+                new CategoryModel(categoryId, null, null), LocalDate.now(), PropertyPublicationStatus.PUBLISHED,
+                null, null, null);
+    }
+
+    private Object[] findTimestamps(Long propertyId) {
+        return testEntityManager.getEntityManager()
+                .createQuery("select p.createdAt, p.updatedAt from PropertyEntity p where p.id = :id", Object[].class)
+                .setParameter("id", propertyId)
+                .getSingleResult();
+    }
+
+    private Long persistSavedSearch(BigDecimal minPrice, BigDecimal maxPrice, Integer minRooms, Long neighborhood) {
+        SavedSearchEntity savedSearch = new SavedSearchEntity();
+        savedSearch.setEmail("comprador@correo.com");
+        savedSearch.setMinPrice(minPrice);
+        savedSearch.setMaxPrice(maxPrice);
+        savedSearch.setMinRooms(minRooms);
+        savedSearch.setMaxRooms(minRooms);
+        savedSearch.setCityId(neighborhood == null ? cityId : null);
+        savedSearch.setNeighborhoodId(neighborhood);
+        testEntityManager.persist(savedSearch);
+        return savedSearch.getId();
+    }
+
+    /**
+     * Inserta {@code count} propiedades llamadas "Finca N" con una sola sentencia y las deja en el modelo de
+     * lectura y en el índice de búsqueda.
+     */
+    private void insertFarms(int count) {
+        Long categoryId = testEntityManager.getEntityManager()
+                .createQuery("select c.id from CategoryEntity c", Long.class)
+                .getSingleResult();
+        Long locationId = testEntityManager.getEntityManager()
+                .createQuery("select min(l.id) from LocationEntity l", Long.class)
+                .getSingleResult();
+        testEntityManager.getEntityManager()
+                .createNativeQuery("INSERT INTO properties (name, description, number_of_rooms, number_of_bathrooms, price, " +
+                        "active_publication_date, publication_status, location_id, category_id, created_at, updated_at) " +
+                        "SELECT CONCAT('Finca ', X), 'Finca de recreo', MOD(X, 4) + 1, 1, 200000 + X, CURRENT_DATE, " +
+                        "'PUBLISHED', :locationId, :categoryId, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+                        "FROM SYSTEM_RANGE(1, " + count + ")")
+                .setParameter("locationId", locationId)
+                .setParameter("categoryId", categoryId)
+                .executeUpdate();
+        propertyReadModelProjector.backfill();
+        testEntityManager.clear();
+        propertySearchIndex.rebuild();
+    }
+}
@@ -0,0 +1,97 @@
+package com.pragma.home360.home.integration.infrastructure.endpoints.rest;
+
+import com.pragma.home360.home.application.dto.response.StoredFileResponse;
+import com.pragma.home360.home.application.services.FileStorageService;
+import com.pragma.home360.home.domain.exceptions.ModelNotFoundException;
+import com.pragma.home360.home.infrastructure.endpoints.rest.MediaController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(MediaController.class)
+@DisplayName("Pruebas de Integración para MediaController")
+class MediaControllerTest {
+
+    private static final String FILE_NAME = "3f2b.jpg";
+    private static final String ETAG = "\"kq3vX0m1\"";
+    private static final byte[] CONTENT = "contenido de la imagen".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private FileStorageService fileStorageService;
+
+    @TempDir
+    Path uploadDir;
+
+    private final Long samplePropertyId = 1L;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = Files.write(uploadDir.resolve(FILE_NAME), CONTENT);
+        StoredFileResponse storedFile = new StoredFileResponse(file, CONTENT.length, Instant.parse("2026-10-01T10:15:30Z"), ETAG);
+        when(fileStorageService.getStoredFile(samplePropertyId, FILE_NAME)).thenReturn(storedFile);
+    }
+
+    @Test
+    @DisplayName("GET /media/properties/{propertyId}/{fileName} - Debería retornar el archivo con ETag y caché inmutable")
+    void getFile_shouldReturnContentWithETagAndImmutableCacheControl() throws Exception {
+        mockMvc.perform(get("/media/properties/{propertyId}/{fileName}", samplePropertyId, FILE_NAME))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.IMAGE_JPEG))
+                .andExpect(content().bytes(CONTENT))
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @Test
+    @DisplayName("GET /media/properties/{propertyId}/{fileName} - Debería retornar 304 sin cuerpo si la ETag coincide")
+    void getFile_whenETagMatches_shouldReturn304WithoutBody() throws Exception {
+        mockMvc.perform(get("/media/properties/{propertyId}/{fileName}", samplePropertyId, FILE_NAME)
+                        .header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("GET /media/properties/{propertyId}/{fileName} - Debería retornar 206 con el rango de bytes pedido")
+    void getFile_whenRangeRequested_shouldReturn206WithRequestedBytes() throws Exception {
+        mockMvc.perform(get("/media/properties/{propertyId}/{fileName}", samplePropertyId, FILE_NAME)
+                        .header(HttpHeaders.RANGE, "bytes=0-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-3/" + CONTENT.length))
+                .andExpect(content().bytes("cont".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("GET /media/properties/{propertyId}/{fileName} - Debería retornar 404 si el archivo no existe")
+    void getFile_whenFileDoesNotExist_shouldReturn404() throws Exception {
+        when(fileStorageService.getStoredFile(samplePropertyId, "missing.jpg"))
+                .thenThrow(new ModelNotFoundException("No se encontró el archivo missing.jpg de la propiedad con ID: 1"));
+
+        mockMvc.perform(get("/media/properties/{propertyId}/{fileName}", samplePropertyId, "missing.jpg"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -3,35 +3,62 @@ package com.pragma.home360.home.integration.infrastructure.endpoints.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pragma.home360.home.application.dto.request.PropertyExportFormat;
 import com.pragma.home360.home.application.dto.request.SavePropertyRequest;
 import com.pragma.home360.home.application.dto.request.filters.PropertyFilterRequest;
 import com.pragma.home360.home.application.dto.response.CategoryResponse;
+import com.pragma.home360.home.application.dto.response.FacetCountResponse;
 import com.pragma.home360.home.application.dto.response.LocationResponse;
+import com.pragma.home360.home.application.dto.response.NearestPropertyResponse;
 import com.pragma.home360.home.application.dto.response.PaginatedResponse;
+import com.pragma.home360.home.application.dto.response.PropertyBatchResponse;
+import com.pragma.home360.home.application.dto.response.PriceRangeFacetResponse;
+import com.pragma.home360.home.application.dto.response.PropertyCardResponse;
+import com.pragma.home360.home.application.dto.response.PropertyClusterResponse;
+import com.pragma.home360.home.application.dto.response.PropertyFacetsResponse;
+import com.pragma.home360.home.application.dto.response.PropertyImportReportResponse;
+import com.pragma.home360.home.application.dto.response.PropertyImportRowResponse;
 import com.pragma.home360.home.application.dto.response.PropertyResponse;
+import com.pragma.home360.home.application.dto.response.ResourceVersionResponse;
+import com.pragma.home360.home.application.services.PropertyExportService;
+import com.pragma.home360.home.application.services.PropertyImportService;
 import com.pragma.home360.home.application.services.PropertyService;
 import com.pragma.home360.home.infrastructure.endpoints.rest.PropertyController;
 import com.pragma.home360.home.infrastructure.entities.enums.PropertyPublicationStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.hamcrest.Matchers.is;
@@ -48,6 +75,12 @@ class PropertyControllerTest {
     @MockitoBean
     private PropertyService propertyService;
 
+    @MockitoBean
+    private PropertyExportService propertyExportService;
+
+    @MockitoBean
+    private PropertyImportService propertyImportService;
+
     private ObjectMapper objectMapper;
     private PropertyResponse samplePropertyResponse;
     private SavePropertyRequest sampleSavePropertyRequest;
@@ -127,11 +160,33 @@ class PropertyControllerTest {
     }
 
 
+    @Test
+    @DisplayName("GET /api/v1/properties/batch - Debería retornar las propiedades pedidas y los IDs faltantes")
+    void getPropertiesByIds_shouldReturnPropertiesAndMissingIds() throws Exception {
+        when(propertyService.getPropertiesByIds(List.of(1L, 42L)))
+                .thenReturn(new PropertyBatchResponse(List.of(samplePropertyResponse), List.of(42L)));
+
+        mockMvc.perform(get("/api/v1/properties/batch")
+                        .param("ids", "1,42")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.properties", hasSize(1)))
+                .andExpect(jsonPath("$.properties[0].id", is(1)))
+                .andExpect(jsonPath("$.missingIds[0]", is(42)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/properties/batch - Debería retornar 400 Bad Request con IDs no numéricos")
+    void getPropertiesByIds_withInvalidId_shouldReturn400BadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/properties/batch").param("ids", "1,abc"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("GET /api/v1/properties/{id} - Debería retornar la propiedad y 200 OK si existe")
     void getPropertyById_whenPropertyExists_shouldReturnPropertyAnd200OK() throws Exception {
         Long propertyId = 1L;
-        when(propertyService.getPropertyById(propertyId)).thenReturn(samplePropertyResponse);
+        when(propertyService.getPropertyById(propertyId, null)).thenReturn(samplePropertyResponse);
 
         ResultActions resultActions = mockMvc.perform(get("/api/v1/properties/{id}", propertyId)
                 .accept(MediaType.APPLICATION_JSON));
@@ -142,11 +197,83 @@ class PropertyControllerTest {
                 .andExpect(jsonPath("$.name", is(samplePropertyResponse.name())));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/properties/{id} - Debería enviar ETag y Last-Modified con la propiedad")
+    void getPropertyById_shouldSendValidators() throws Exception {
+        ResourceVersionResponse version = new ResourceVersionResponse("\"1-5f3a\"", Instant.parse("2026-10-01T10:15:30Z"));
+        when(propertyService.getPropertyVersion(1L)).thenReturn(version);
+        when(propertyService.getPropertyById(1L, version)).thenReturn(samplePropertyResponse);
+        when(propertyService.getPropertyVersion(samplePropertyResponse)).thenReturn(version);
+
+        mockMvc.perform(get("/api/v1/properties/{id}", 1L).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-5f3a\""))
+                .andExpect(header().string("Last-Modified", "Thu, 01 Oct 2026 10:15:30 GMT"))
+                .andExpect(jsonPath("$.id", is(1)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/properties/{id} - Debería enviar los validadores del detalle cargado si cambió tras consultar la versión")
+    void getPropertyById_whenLoadedPropertyIsNewer_shouldSendValidatorsOfServedBody() throws Exception {
+        ResourceVersionResponse version = new ResourceVersionResponse("\"1-5f3a\"", Instant.parse("2026-10-01T10:15:30Z"));
+        ResourceVersionResponse served = new ResourceVersionResponse("\"1-6c01\"", Instant.parse("2026-10-01T10:16:00Z"));
+        when(propertyService.getPropertyVersion(1L)).thenReturn(version);
+        when(propertyService.getPropertyById(1L, version)).thenReturn(samplePropertyResponse);
+        when(propertyService.getPropertyVersion(samplePropertyResponse)).thenReturn(served);
+
+        mockMvc.perform(get("/api/v1/properties/{id}", 1L).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-6c01\""))
+                .andExpect(header().string("Last-Modified", "Thu, 01 Oct 2026 10:16:00 GMT"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/properties/{id} - Debería retornar 304 sin hidratar la propiedad si la ETag coincide")
+    void getPropertyById_whenETagMatches_shouldReturn304WithoutLoadingProperty() throws Exception {
+        when(propertyService.getPropertyVersion(1L))
+                .thenReturn(new ResourceVersionResponse("\"1-5f3a\"", Instant.parse("2026-10-01T10:15:30Z")));
+
+        mockMvc.perform(get("/api/v1/properties/{id}", 1L).header("If-None-Match", "\"1-5f3a\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(propertyService, never()).getPropertyById(any(), any());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/properties/{id} - Debería retornar 304 si no cambió desde If-Modified-Since")
+    void getPropertyById_whenNotModifiedSince_shouldReturn304() throws Exception {
+        when(propertyService.getPropertyVersion(1L))
+                .thenReturn(new ResourceVersionResponse("\"1-5f3a\"", Instant.parse("2026-10-01T10:15:30Z")));
+
+        mockMvc.perform(get("/api/v1/properties/{id}", 1L).header("If-Modified-Since", "Thu, 01 Oct 2026 10:15:30 GMT"))
+                .andExpect(status().isNotModified());
+
+        verify(propertyService, never()).getPropertyById(any(), any());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/properties - Debería retornar 304 sin cuerpo si la ETag de la página cargada coincide")
+    void getAllProperties_whenETagMatches_shouldReturn304WithoutBody() throws Exception {
+        PaginatedResponse<PropertyResponse> paginatedResponse = new PaginatedResponse<>(
+                Collections.singletonList(samplePropertyResponse), 0, 10, 1, 1L);
+        when(propertyService.getAllProperties(any(PropertyFilterRequest.class))).thenReturn(paginatedResponse);
+        when(propertyService.getPropertyListingVersion(paginatedResponse))
+                .thenReturn(new ResourceVersionResponse("\"9b2c\"", null));
+
+        mockMvc.perform(get("/api/v1/properties").param("page", "0").param("size", "10")
+                        .header("If-None-Match", "\"9b2c\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"9b2c\""))
+                .andExpect(header().doesNotExist("Last-Modified"))
+                .andExpect(content().string(""));
+    }
+
     @Test
     @DisplayName("GET /api/v1/properties/{id} - Debería retornar 404 Not Found si la propiedad no existe")
     void getPropertyById_whenPropertyDoesNotExist_shouldReturn404NotFound() throws Exception {
         Long propertyId = 999L;
-        when(propertyService.getPropertyById(propertyId)).thenReturn(null); // El servicio retorna null si no se encuentra
+        when(propertyService.getPropertyById(propertyId, null)).thenReturn(null); // El servicio retorna null si no se encuentra
 
         ResultActions resultActions = mockMvc.perform(get("/api/v1/properties/{id}", propertyId)
                 .accept(MediaType.APPLICATION_JSON));
@@ -197,4 +324,213 @@ class PropertyControllerTest {
                 .andExpect(jsonPath("$.content", hasSize(0)))
                 .andExpect(jsonPath("$.totalElements", is(0)));
     }
+
+    @Test
+    @DisplayName("GET /api/v1/properties/cards - Debería retornar las tarjetas sin totales y 200 OK")
+    void getPropertyCards_shouldReturnCardsAnd200OK() throws Exception {
+        PropertyCardResponse card = new PropertyCardResponse(12L, "Apartamento en El Poblado", new BigDecimal("450000000"),
+                3, 2, "Medellín", "El Poblado", "/media/properties/12-1.jpg", 8);
+        PaginatedResponse<PropertyCardResponse> paginatedResponse = new PaginatedResponse<>(
+                List.of(card), 0, 20, null, null, "bmV4dA", true);
+        ArgumentCaptor<PropertyFilterRequest> filterCaptor = ArgumentCaptor.forClass(PropertyFilterRequest.class);
+        when(propertyService.getPropertyCards(filterCaptor.capture())).thenReturn(paginatedResponse);
+
+        mockMvc.perform(get("/api/v1/properties/cards")
+                        .param("size", "20")
+                        .param("withTotal", "false")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].cityName", is("Medellín")))
+                .andExpect(jsonPath("$.content[0].mainImageUrl", is("/media/properties/12-1.jpg")))
+                .andExpect(jsonPath("$.content[0].description").doesNotExist())
+                .andExpect(jsonPath("$.hasNext", is(true)));
+
+        assertEquals(false, filterCaptor.getValue().withTotal());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/properties/near - Debería retornar las propiedades dentro del radio combinando los filtros y 200 OK")
+    void getPropertiesNear_shouldReturnPropertiesWithinRadiusAnd200OK() throws Exception {
+        PaginatedResponse<PropertyResponse> paginatedResponse = new PaginatedResponse<>(
+                Collections.singletonList(samplePropertyResponse), 0, 10, 1, 1L
+        );
+        ArgumentCaptor<PropertyFilterRequest> filterCaptor = ArgumentCaptor.forClass(PropertyFilterRequest.class);
+        when(propertyService.getPropertiesNear(eq(6.2088), eq(-75.5678), eq(2.5), filterCaptor.capture()))
+                .thenReturn(paginatedResponse);
+
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/properties/near")
+                .param("lat", "6.2088")
+                .param("lng", "-75.5678")
+                .param("radiusKm", "2.5")
+                .param("minRooms", "2")
+                .accept(MediaType.APPLICATION_JSON));
+
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].id", is(samplePropertyResponse.id().intValue())));
+        assertEquals(2, filterCaptor.getValue().minRooms());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/properties/near - Debería retornar 400 Bad Request si falta el radio")
+    void getPropertiesNear_withoutRadius_shouldReturn400BadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/properties/near")
+                        .param("lat", "6.2088")
+                        .param("lng", "-75.5678")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("El parámetro requerido 'radiusKm' no fue proporcionado.")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/properties/{id}/nearest - Debería retornar las propiedades más cercanas con su distancia y 200 OK")
+    void getPropertiesNearestTo_shouldReturnNearestPropertiesAnd200OK() throws Exception {
+        when(propertyService.getPropertiesNearestTo(7L, 3))
+                .thenReturn(List.of(new NearestPropertyResponse(0.42, samplePropertyResponse)));
+
+        mockMvc.perform(get("/api/v1/properties/7/nearest")
+                        .param("limit", "3")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].distanceKm", is(0.42)))
+                .andExpect(jsonPath("$[0].property.id", is(samplePropertyResponse.id().intValue())));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/properties/clusters - Debería retornar los grupos del área visible y 200 OK")
+    void getPropertyClusters_shouldReturnClustersAnd200OK() throws Exception {
+        when(propertyService.getPropertyClusters(6.15, -75.65, 6.35, -75.5, 13))
+                .thenReturn(List.of(new PropertyClusterResponse(42L, 6.2088, -75.5678,
+                        new BigDecimal("180000000"), new BigDecimal("950000000"))));
+
+        mockMvc.perform(get("/api/v1/properties/clusters")
+                        .param("minLat", "6.15")
+                        .param("minLng", "-75.65")
+                        .param("maxLat", "6.35")
+                        .param("maxLng", "-75.5")
+                        .param("zoom", "13")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].count", is(42)))
+                .andExpect(jsonPath("$[0].latitude", is(6.2088)))
+                .andExpect(jsonPath("$[0].minPrice", is(180000000)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/properties/facets - Debería retornar los conteos por faceta con los filtros recibidos y 200 OK")
+    void getPropertyFacets_shouldReturnFacetCountsAnd200OK() throws Exception {
+        PropertyFacetsResponse facetsResponse = new PropertyFacetsResponse(
+                12L,
+                List.of(new FacetCountResponse(1L, "Apartamento", 12L)),
+                List.of(new FacetCountResponse(3L, "Medellín", 12L)),
+                List.of(new PriceRangeFacetResponse(null, new BigDecimal("100000000"), 4L),
+                        new PriceRangeFacetResponse(new BigDecimal("100000000"), null, 8L))
+        );
+        ArgumentCaptor<PropertyFilterRequest> filterCaptor = ArgumentCaptor.forClass(PropertyFilterRequest.class);
+        when(propertyService.getPropertyFacets(filterCaptor.capture())).thenReturn(facetsResponse);
+
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/properties/facets")
+                .param("cityId", "3")
+                .param("minRooms", "2")
+                .accept(MediaType.APPLICATION_JSON));
+
+        resultActions.andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.total", is(12)))
+                .andExpect(jsonPath("$.categories[0].name", is("Apartamento")))
+                .andExpect(jsonPath("$.cities[0].count", is(12)))
+                .andExpect(jsonPath("$.priceRanges", hasSize(2)))
+                .andExpect(jsonPath("$.priceRanges[0].minPrice").doesNotExist());
+        assertEquals(3L, filterCaptor.getValue().cityId());
+        assertEquals(2, filterCaptor.getValue().minRooms());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/properties/facets - Debería retornar 400 Bad Request con filtros negativos")
+    void getPropertyFacets_withNegativeFilter_shouldReturn400BadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/properties/facets")
+                        .param("minPrice", "-1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/properties/export - Debería descargar el catálogo en CSV como adjunto")
+    void exportProperties_asCsv_shouldStreamAttachment() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write("id,name\r\n1,Casa\r\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(propertyExportService).exportPublishedProperties(eq(PropertyExportFormat.CSV), any(OutputStream.class));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/properties/export").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"properties.csv\""))
+                .andExpect(content().string("id,name\r\n1,Casa\r\n"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/properties/export - Debería usar NDJSON por defecto")
+    void exportProperties_withoutFormat_shouldUseNdjson() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/properties/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/properties/export - Debería retornar 400 Bad Request con un formato no soportado")
+    void exportProperties_withUnknownFormat_shouldReturn400BadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/properties/export").param("format", "XML"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/properties/import - Debería retornar el reporte por fila sin validar el arreglo con @Valid")
+    void importProperties_withJsonArray_shouldReturnReport() throws Exception {
+        SavePropertyRequest invalidRequest = new SavePropertyRequest(null, null, 2, 1,
+                new BigDecimal("100000"), LocalDate.now(), 1, 1);
+        PropertyImportReportResponse report = new PropertyImportReportResponse(1, 1, List.of(
+                new PropertyImportRowResponse(1, true, 31L, null),
+                new PropertyImportRowResponse(2, false, null, "El nombre de la propiedad no puede estar vacío.")));
+        when(propertyImportService.importProperties(anyList())).thenReturn(report);
+
+        mockMvc.perform(post("/api/v1/properties/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(sampleSavePropertyRequest, invalidRequest))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", is(1)))
+                .andExpect(jsonPath("$.rejected", is(1)))
+                .andExpect(jsonPath("$.rows", hasSize(2)))
+                .andExpect(jsonPath("$.rows[0].propertyId", is(31)))
+                .andExpect(jsonPath("$.rows[1].imported", is(false)));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/properties/import - Debería importar el archivo CSV recibido como multipart")
+    void importProperties_withCsvFile_shouldDelegateFile() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "properties.csv", "text/csv",
+                "name,description,numberOfRooms,numberOfBathrooms,price,activePublicationDate,categoryId,locationId\n"
+                        .getBytes(StandardCharsets.UTF_8));
+        ArgumentCaptor<MultipartFile> fileCaptor = ArgumentCaptor.forClass(MultipartFile.class);
+        when(propertyImportService.importPropertiesCsv(fileCaptor.capture()))
+                .thenReturn(new PropertyImportReportResponse(0, 0, List.of()));
+
+        mockMvc.perform(multipart("/api/v1/properties/import").file(file))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", is(0)));
+
+        assertEquals("properties.csv", fileCaptor.getValue().getOriginalFilename());
+    }
 }
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.pragma.home360.home.application.dto.request.PropertyImageUploadRequest;
 import com.pragma.home360.home.application.dto.response.PropertyImageResponse;
+import com.pragma.home360.home.application.dto.response.ResourceVersionResponse;
 import com.pragma.home360.home.application.services.PropertyImageService;
 import com.pragma.home360.home.infrastructure.endpoints.rest.PropertyImageController;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,12 +22,15 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.hamcrest.Matchers.is;
@@ -77,6 +81,21 @@ class PropertyImageControllerTest {
         resultActions.andExpect(status().isOk()).andExpect(content().contentType(MediaType.APPLICATION_JSON)).andExpect(jsonPath("$", hasSize(1))).andExpect(jsonPath("$[0].id", is(sampleImageId.intValue())));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/properties/{propertyId}/images - Debería retornar 304 sin cargar las imágenes si la ETag coincide")
+    void getPropertyImages_whenETagMatches_shouldReturn304WithoutLoadingImages() throws Exception {
+        ResourceVersionResponse version = new ResourceVersionResponse("\"1-5f3a\"", Instant.parse("2026-10-01T10:15:30Z"));
+        when(propertyImageService.getImagesVersion(samplePropertyId)).thenReturn(version);
+
+        mockMvc.perform(get("/api/v1/properties/{propertyId}/images", samplePropertyId)
+                        .header("If-None-Match", "\"1-5f3a\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"1-5f3a\""))
+                .andExpect(content().string(""));
+
+        verify(propertyImageService, never()).getImagesForProperty(any());
+    }
+
     @Test
     @DisplayName("GET /api/v1/properties/{propertyId}/images/{imageId} - Debería retornar la imagen y 200 OK")
     void getPropertyImageById_whenImageExists_shouldReturnImageAnd200OK() throws Exception {
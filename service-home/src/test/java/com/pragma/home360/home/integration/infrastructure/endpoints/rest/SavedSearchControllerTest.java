@@ -0,0 +1,95 @@
+package com.pragma.home360.home.integration.infrastructure.endpoints.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.home360.home.application.dto.request.SaveSavedSearchRequest;
+import com.pragma.home360.home.application.dto.response.SavedSearchResponse;
+import com.pragma.home360.home.application.services.SavedSearchService;
+import com.pragma.home360.home.domain.exceptions.ModelNotFoundException;
+import com.pragma.home360.home.domain.exceptions.ValidationException;
+import com.pragma.home360.home.domain.utils.constants.DomainConstants;
+import com.pragma.home360.home.infrastructure.endpoints.rest.SavedSearchController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SavedSearchController.class)
+@DisplayName("Pruebas de Integración para SavedSearchController")
+class SavedSearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SavedSearchService savedSearchService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static SaveSavedSearchRequest request(String email) {
+        return new SaveSavedSearchRequest(email, "Apartamentos en El Poblado", new BigDecimal("200000000"),
+                new BigDecimal("450000000"), 2, 3, null, 1L, null, null, 7L);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/saved-searches - Debería guardar la búsqueda y retornar 201 Created")
+    void createSavedSearch_shouldReturnSavedSearchAnd201Created() throws Exception {
+        SaveSavedSearchRequest request = request("comprador@correo.com");
+        SavedSearchResponse response = new SavedSearchResponse(15L, request.email(), request.name(),
+                request.minPrice(), request.maxPrice(), 2, 3, null, 1L, null, null, 7L, LocalDateTime.now());
+        when(savedSearchService.save(any(SaveSavedSearchRequest.class))).thenReturn(response);
+
+        mockMvc.perform(post("/api/v1/saved-searches")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id", is(15)))
+                .andExpect(jsonPath("$.email", is("comprador@correo.com")))
+                .andExpect(jsonPath("$.neighborhoodId", is(7)));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/saved-searches - Debería retornar 422 si el correo no es válido")
+    void createSavedSearch_withInvalidEmail_shouldReturn422() throws Exception {
+        when(savedSearchService.save(any(SaveSavedSearchRequest.class)))
+                .thenThrow(new ValidationException(DomainConstants.SAVED_SEARCH_EMAIL_INVALID));
+
+        mockMvc.perform(post("/api/v1/saved-searches")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request("comprador"))))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/saved-searches/{id} - Debería eliminar la búsqueda y retornar 204 No Content")
+    void deleteSavedSearch_shouldReturn204NoContent() throws Exception {
+        mockMvc.perform(delete("/api/v1/saved-searches/{id}", 15L))
+                .andExpect(status().isNoContent());
+
+        verify(savedSearchService).deleteSavedSearch(15L);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/saved-searches/{id} - Debería retornar 404 si la búsqueda no existe")
+    void deleteSavedSearch_whenNotFound_shouldReturn404() throws Exception {
+        doThrow(new ModelNotFoundException(String.format(DomainConstants.SAVED_SEARCH_NOT_FOUND, 99L)))
+                .when(savedSearchService).deleteSavedSearch(99L);
+
+        mockMvc.perform(delete("/api/v1/saved-searches/{id}", 99L))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,80 @@
+package com.pragma.home360.home.integration.infrastructure.endpoints.rest;
+
+import com.pragma.home360.home.application.dto.response.SuggestionResponse;
+import com.pragma.home360.home.application.services.SuggestionService;
+import com.pragma.home360.home.domain.exceptions.ValidationException;
+import com.pragma.home360.home.domain.model.SuggestionType;
+import com.pragma.home360.home.domain.utils.constants.DomainConstants;
+import com.pragma.home360.home.infrastructure.endpoints.rest.SearchController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SearchController.class)
+@DisplayName("Pruebas de Integración para SearchController")
+class SearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SuggestionService suggestionService;
+
+    @Test
+    @DisplayName("GET /api/v1/search/suggest - Debería retornar las sugerencias y 200 OK")
+    void suggest_shouldReturnSuggestionsAnd200OK() throws Exception {
+        List<SuggestionResponse> suggestions = List.of(
+                new SuggestionResponse(SuggestionType.NEIGHBORHOOD, 7L, "El Poblado", 12),
+                new SuggestionResponse(SuggestionType.PROPERTY, 31L, "Penthouse Poblado", 1));
+        when(suggestionService.suggest("pob", 5)).thenReturn(suggestions);
+
+        mockMvc.perform(get("/api/v1/search/suggest")
+                        .param("q", "pob")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].type", is("NEIGHBORHOOD")))
+                .andExpect(jsonPath("$[0].id", is(7)))
+                .andExpect(jsonPath("$[0].text", is("El Poblado")))
+                .andExpect(jsonPath("$[0].popularity", is(12)))
+                .andExpect(jsonPath("$[1].type", is("PROPERTY")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/search/suggest - Debería usar 10 sugerencias por defecto")
+    void suggest_withoutLimit_shouldUseDefaultLimit() throws Exception {
+        when(suggestionService.suggest("med", 10)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/v1/search/suggest").param("q", "med"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+
+        verify(suggestionService).suggest("med", 10);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/search/suggest - Debería retornar 422 si la cantidad está fuera de rango")
+    void suggest_withInvalidLimit_shouldReturn422() throws Exception {
+        when(suggestionService.suggest("pob", 50))
+                .thenThrow(new ValidationException(DomainConstants.SUGGESTION_LIMIT_INVALID));
+
+        mockMvc.perform(get("/api/v1/search/suggest")
+                        .param("q", "pob")
+                        .param("limit", "50"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+}
@@ -0,0 +1,156 @@
+package com.pragma.home360.home.integration.infrastructure.tasks;
+
+import com.pragma.home360.home.infrastructure.entities.SchedulerLeaseEntity;
+import com.pragma.home360.home.infrastructure.repositories.mysql.SchedulerLeaseRepository;
+import com.pragma.home360.home.infrastructure.tasks.SchedulerLeaseLostException;
+import com.pragma.home360.home.infrastructure.tasks.SchedulerLeaseRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Levanta dos contextos de aplicación sobre la misma base H2 en memoria, como dos réplicas del servicio.
+ */
+@DisplayName("Pruebas de Integración para SchedulerLeaseRegistry con dos réplicas")
+class SchedulerLeaseRegistryTest {
+
+    private static final String LEASE = "test-lease";
+
+    private ConfigurableApplicationContext firstReplica;
+    private ConfigurableApplicationContext secondReplica;
+    private SchedulerLeaseRegistry firstRegistry;
+    private SchedulerLeaseRegistry secondRegistry;
+
+    @BeforeEach
+    void setUp() {
+        String url = "jdbc:h2:mem:scheduler-leases-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        firstReplica = startReplica(url);
+        secondReplica = startReplica(url);
+        firstRegistry = firstReplica.getBean(SchedulerLeaseRegistry.class);
+        secondRegistry = secondReplica.getBean(SchedulerLeaseRegistry.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        secondReplica.close();
+        firstReplica.close();
+    }
+
+    @Test
+    @DisplayName("Debe ejecutar la tarea en una sola réplica mientras la concesión está vigente")
+    void callIfLeader_ShouldRunTaskOnlyOnReplicaHoldingTheLease() {
+        AtomicInteger runs = new AtomicInteger();
+
+        Optional<String> first = firstRegistry.callIfLeader(LEASE, () -> {
+            runs.incrementAndGet();
+            Optional<String> second = secondRegistry.callIfLeader(LEASE, () -> {
+                runs.incrementAndGet();
+                return "second";
+            });
+            assertTrue(second.isEmpty());
+            return "first";
+        });
+
+        assertEquals(Optional.of("first"), first);
+        assertEquals(1, runs.get());
+        assertEquals(Optional.of("second"), secondRegistry.callIfLeader(LEASE, () -> "second"),
+                "al terminar se libera la concesión");
+    }
+
+    @Test
+    @DisplayName("Debe ceder la concesión vencida a otra réplica con un token mayor y rechazar a la anterior")
+    void fence_ShouldRejectFormerLeaderAfterAnotherReplicaTakesOverExpiredLease() {
+        firstRegistry.callIfLeader(LEASE, () -> {
+            assertDoesNotThrow(firstRegistry::fence);
+            long firstToken = currentToken();
+
+            expireLease();
+            Optional<Long> secondToken = secondRegistry.callIfLeader(LEASE, () -> {
+                secondRegistry.fence();
+                return currentToken();
+            });
+
+            assertEquals(Optional.of(firstToken + 1), secondToken);
+            assertThrows(SchedulerLeaseLostException.class, firstRegistry::fence);
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("No debe comprobar nada si la escritura no viene de una tarea con concesión")
+    void fence_WithoutLease_ShouldDoNothing() {
+        assertDoesNotThrow(firstRegistry::fence);
+    }
+
+    private static ConfigurableApplicationContext startReplica(String url) {
+        return new SpringApplicationBuilder(ReplicaConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + url,
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=update",
+                        "--home360.scheduler.lease-duration=60s");
+    }
+
+    private void expireLease() {
+        execute("UPDATE scheduler_leases SET lease_until = TIMESTAMPADD(SECOND, -1, CURRENT_TIMESTAMP) WHERE name = '" + LEASE + "'");
+    }
+
+    private long currentToken() {
+        try (Connection connection = firstReplica.getBean(DataSource.class).getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT fencing_token FROM scheduler_leases WHERE name = '" + LEASE + "'")) {
+            assertTrue(resultSet.next());
+            return resultSet.getLong(1);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void execute(String sql) {
+        try (Connection connection = firstReplica.getBean(DataSource.class).getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate(sql);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({
+            DataSourceAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class
+    })
+    @EntityScan(basePackageClasses = SchedulerLeaseEntity.class)
+    @EnableJpaRepositories(basePackageClasses = SchedulerLeaseRepository.class, includeFilters =
+    @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = SchedulerLeaseRepository.class))
+    @Import(SchedulerLeaseRegistry.class)
+    static class ReplicaConfiguration {
+    }
+}
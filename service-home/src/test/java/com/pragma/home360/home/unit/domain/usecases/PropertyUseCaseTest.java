@@ -4,13 +4,24 @@ import com.pragma.home360.home.domain.exceptions.ModelNotFoundException;
 import com.pragma.home360.home.domain.exceptions.ValidationException;
 import com.pragma.home360.home.domain.model.CategoryModel;
 import com.pragma.home360.home.domain.model.LocationModel;
+import com.pragma.home360.home.domain.model.MapViewportModel;
+import com.pragma.home360.home.domain.model.NearestPropertyModel;
+import com.pragma.home360.home.domain.model.PropertyBatchModel;
+import com.pragma.home360.home.domain.model.PropertyCardModel;
+import com.pragma.home360.home.domain.model.PropertyClusterModel;
+import com.pragma.home360.home.domain.model.PropertyCriteriaModel;
+import com.pragma.home360.home.domain.model.PropertyFacetsModel;
 import com.pragma.home360.home.domain.model.PropertyFilterModel;
+import com.pragma.home360.home.domain.model.PropertyImportReportModel;
+import com.pragma.home360.home.domain.model.PropertyImportResultModel;
 import com.pragma.home360.home.domain.model.PropertyModel;
+import com.pragma.home360.home.domain.model.PropertyPublicationRunModel;
 import com.pragma.home360.home.domain.ports.out.CategoryPersistencePort;
 import com.pragma.home360.home.domain.ports.out.LocationPersistencePort;
 import com.pragma.home360.home.domain.ports.out.PropertyPersistencePort;
 import com.pragma.home360.home.domain.usecases.PropertyUseCase;
 import com.pragma.home360.home.domain.utils.constants.DomainConstants;
+import com.pragma.home360.home.domain.utils.pagination.KeysetCursor;
 import com.pragma.home360.home.domain.utils.pagination.PagedResult;
 import com.pragma.home360.home.infrastructure.entities.enums.PropertyPublicationStatus;
 import com.pragma.home360.home.unit.mocks.PropertyFilterMock;
@@ -30,10 +41,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -259,6 +273,104 @@ class PropertyUseCaseTest {
             ModelNotFoundException exception = assertThrows(ModelNotFoundException.class, () -> propertyUseCase.saveProperty(validProperty));
             assertEquals(String.format(DomainConstants.LOCATION_NOT_FOUND_BY_ID, 999L), exception.getMessage());
         }
+
+        @Test
+        @DisplayName("Debería informar la categoría inexistente antes que la ubicación faltante")
+        void saveProperty_UnknownCategoryAndNullLocation_ShouldThrowModelNotFoundException() {
+            validProperty.setCategory(new CategoryModel(999L, null, null));
+            validProperty.setLocation(null);
+            when(categoryPersistencePort.getCategoryById(999L)).thenReturn(Optional.empty());
+
+            ModelNotFoundException exception = assertThrows(ModelNotFoundException.class, () -> propertyUseCase.saveProperty(validProperty));
+            assertEquals(String.format(DomainConstants.CATEGORY_NOT_FOUND_BY_ID, 999L), exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Debería lanzar ValidationException cuando la descripción excede la longitud máxima")
+        void saveProperty_DescriptionTooLong_ShouldThrowValidationException() {
+            validProperty.setDescription("a".repeat(DomainConstants.PROPERTY_DESCRIPTION_MAX_LENGTH + 1));
+
+            ValidationException exception = assertThrows(ValidationException.class, () -> propertyUseCase.saveProperty(validProperty));
+            assertEquals(String.format(DomainConstants.PROPERTY_DESCRIPTION_MAX_LENGTH_EXCEEDED, DomainConstants.PROPERTY_DESCRIPTION_MAX_LENGTH), exception.getMessage());
+            verifyNoInteractions(categoryPersistencePort, locationPersistencePort, propertyPersistencePort);
+        }
+
+        @Test
+        @DisplayName("Debería lanzar ValidationException cuando la fecha de publicación activa es nula")
+        void saveProperty_NullActiveDate_ShouldThrowValidationException() {
+            validProperty.setActivePublicationDate(null);
+
+            ValidationException exception = assertThrows(ValidationException.class, () -> propertyUseCase.saveProperty(validProperty));
+            assertEquals(DomainConstants.PROPERTY_ACTIVE_DATE_REQUIRED, exception.getMessage());
+            verifyNoInteractions(categoryPersistencePort, locationPersistencePort, propertyPersistencePort);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests para método importProperties")
+    class ImportPropertiesMethodTests {
+
+        @Test
+        @DisplayName("Debería guardar solo las filas válidas y reportar el motivo de cada rechazo en su posición")
+        void importProperties_MixedRows_ShouldSaveValidRowsAndReportRejections() {
+            // Arrange
+            PropertyModel valid = PropertyMock.createPropertyModelWithCategoryId(1L);
+            PropertyModel unknownCategory = PropertyMock.createPropertyModelWithCategoryId(999L);
+            PropertyModel zeroPrice = PropertyMock.createPropertyModelWithZeroPrice();
+            PropertyModel validToday = PropertyMock.createPropertyModelWithActiveDate(LocalDate.now());
+            when(categoryPersistencePort.getExistingCategoryIds(Set.of(1L, 999L))).thenReturn(Set.of(1L));
+            when(locationPersistencePort.getExistingLocationIds(Set.of(1L))).thenReturn(Set.of(1L));
+            when(propertyPersistencePort.saveProperties(anyList())).thenReturn(List.of(101L, 102L));
+
+            // Act
+            PropertyImportReportModel report = propertyUseCase.importProperties(
+                    List.of(valid, unknownCategory, zeroPrice, validToday));
+
+            // Assert
+            assertEquals(2, report.imported());
+            assertEquals(2, report.rejected());
+            assertEquals(List.of(
+                    PropertyImportResultModel.imported(101L),
+                    PropertyImportResultModel.rejected(String.format(DomainConstants.CATEGORY_NOT_FOUND_BY_ID, 999L)),
+                    PropertyImportResultModel.rejected(DomainConstants.PROPERTY_PRICE_MUST_BE_POSITIVE),
+                    PropertyImportResultModel.imported(102L)), report.results());
+
+            verify(propertyPersistencePort).saveProperties(propertyListCaptor.capture());
+            assertEquals(List.of(valid, validToday), propertyListCaptor.getValue());
+            assertEquals(PropertyPublicationStatus.PUBLICATION_PENDING, valid.getPublicationStatus());
+            assertEquals(PropertyPublicationStatus.PUBLISHED, validToday.getPublicationStatus());
+            verify(categoryPersistencePort, never()).getCategoryById(anyLong());
+            verify(locationPersistencePort, never()).getLocationById(anyLong());
+        }
+
+        @Test
+        @DisplayName("No debería guardar nada si todas las filas son inválidas")
+        void importProperties_AllRowsInvalid_ShouldNotSave() {
+            // Arrange
+            when(categoryPersistencePort.getExistingCategoryIds(any())).thenReturn(Set.of(1L));
+            when(locationPersistencePort.getExistingLocationIds(any())).thenReturn(Set.of(1L));
+
+            // Act
+            PropertyImportReportModel report = propertyUseCase.importProperties(List.of(
+                    PropertyMock.createPropertyModelWithNullActiveDate(),
+                    PropertyMock.createPropertyModelWithNullLocationObject()));
+
+            // Assert
+            assertEquals(0, report.imported());
+            assertEquals(List.of(
+                    PropertyImportResultModel.rejected(DomainConstants.PROPERTY_ACTIVE_DATE_REQUIRED),
+                    PropertyImportResultModel.rejected(DomainConstants.PROPERTY_LOCATION_ID_REQUIRED)), report.results());
+            verify(propertyPersistencePort, never()).saveProperties(anyList());
+        }
+
+        @Test
+        @DisplayName("Debería lanzar ValidationException si no hay filas")
+        void importProperties_Empty_ShouldThrowValidationException() {
+            // Act & Assert
+            ValidationException exception = assertThrows(ValidationException.class,
+                    () -> propertyUseCase.importProperties(List.of()));
+            assertEquals(DomainConstants.PROPERTY_IMPORT_EMPTY, exception.getMessage());
+        }
     }
 
     @Nested
@@ -284,6 +396,57 @@ class PropertyUseCaseTest {
             );
             verify(propertyPersistencePort).getPropertyById(999L);
         }
+
+        @Test
+        @DisplayName("Debería recargar la propiedad sin la copia en caché")
+        void reloadPropertyById_ShouldReadFromPersistenceAgain() {
+            when(propertyPersistencePort.reloadPropertyById(1L)).thenReturn(Optional.of(validProperty));
+            assertSame(validProperty, propertyUseCase.reloadPropertyById(1L));
+            verify(propertyPersistencePort, never()).getPropertyById(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests para método getPropertiesByIds")
+    class GetPropertiesByIdsMethodTests {
+        @Test
+        @DisplayName("Debería consultar los ids sin repetir y devolverlos en el orden pedido con los faltantes")
+        void getPropertiesByIds_ShouldKeepRequestOrderAndReportMissingIds() {
+            // Arrange
+            PropertyModel first = new PropertyModel();
+            first.setId(7L);
+            PropertyModel second = new PropertyModel();
+            second.setId(3L);
+            when(propertyPersistencePort.getPropertiesByIds(anyCollection())).thenReturn(List.of(second, first));
+
+            // Act
+            PropertyBatchModel result = propertyUseCase.getPropertiesByIds(List.of(7L, 42L, 3L, 7L));
+
+            // Assert
+            assertEquals(List.of(7L, 3L), result.properties().stream().map(PropertyModel::getId).toList());
+            assertEquals(List.of(42L), result.missingIds());
+            verify(propertyPersistencePort).getPropertiesByIds(Set.of(7L, 42L, 3L));
+        }
+
+        @Test
+        @DisplayName("Debería lanzar ValidationException cuando se piden demasiados ids")
+        void getPropertiesByIds_TooManyIds_ShouldThrowValidationException() {
+            // Arrange
+            List<Long> ids = LongStream.rangeClosed(1, DomainConstants.PROPERTY_BATCH_MAX_IDS + 1).boxed().toList();
+
+            // Act & Assert
+            ValidationException exception = assertThrows(ValidationException.class, () -> propertyUseCase.getPropertiesByIds(ids));
+            assertEquals(DomainConstants.PROPERTY_BATCH_MAX_IDS_EXCEEDED, exception.getMessage());
+            verify(propertyPersistencePort, never()).getPropertiesByIds(anyCollection());
+        }
+
+        @Test
+        @DisplayName("Debería lanzar ValidationException con ids no positivos")
+        void getPropertiesByIds_NonPositiveId_ShouldThrowValidationException() {
+            ValidationException exception = assertThrows(ValidationException.class,
+                    () -> propertyUseCase.getPropertiesByIds(List.of(1L, 0L)));
+            assertEquals(DomainConstants.PROPERTY_BATCH_ID_INVALID, exception.getMessage());
+        }
     }
 
     @Nested
@@ -319,6 +482,30 @@ class PropertyUseCaseTest {
             assertEquals(expectedNormalizedSearchTerm, filterCaptor.getValue().searchTerm());
         }
 
+        @ParameterizedTest
+        @ValueSource(strings = {"description", "location", "numberOfBathrooms"})
+        @DisplayName("Debería lanzar ValidationException con un campo de ordenamiento fuera de la lista permitida")
+        void getAllProperties_NotAllowedSortField_ShouldThrowValidationException(String sortField) {
+            PropertyFilterModel invalidFilter = new PropertyFilterModel(0, 10, sortField, "ASC", null);
+
+            ValidationException exception = assertThrows(ValidationException.class, () -> propertyUseCase.getAllProperties(invalidFilter));
+            assertEquals(DomainConstants.PROPERTY_SORT_FIELD_INVALID, exception.getMessage());
+            verify(propertyPersistencePort, never()).getAllProperties(any(PropertyFilterModel.class));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"price", "createdAt", "activePublicationDate", "numberOfRooms", "name"})
+        @DisplayName("Debería aceptar los campos de ordenamiento respaldados por índice")
+        void getAllProperties_AllowedSortField_ShouldDelegate(String sortField) {
+            PagedResult<PropertyModel> emptyResult = new PagedResult<>(Collections.emptyList(), 0, 10, 0L, 0);
+            when(propertyPersistencePort.getAllProperties(any(PropertyFilterModel.class))).thenReturn(emptyResult);
+
+            propertyUseCase.getAllProperties(new PropertyFilterModel(0, 10, sortField, "DESC", null));
+
+            verify(propertyPersistencePort).getAllProperties(filterCaptor.capture());
+            assertEquals(sortField, filterCaptor.getValue().sortField());
+        }
+
         @Test
         @DisplayName("Debería lanzar ValidationException con página negativa")
         void getAllProperties_NegativePage_ShouldThrowValidationException() {
@@ -343,6 +530,248 @@ class PropertyUseCaseTest {
             ValidationException exception = assertThrows(ValidationException.class, () -> propertyUseCase.getAllProperties(invalidFilter));
             assertEquals(DomainConstants.PAGINATION_MAX_OFFSET, exception.getMessage());
         }
+
+        @Test
+        @DisplayName("Debería omitir el límite de offset cuando se pagina con cursor")
+        void getAllProperties_WithCursor_ShouldSkipOffsetLimit() {
+            String cursor = new KeysetCursor("price", "ASC", 25L, "150000.00").encode();
+            PropertyFilterModel cursorFilter = new PropertyFilterModel(201, 50, "price", "ASC", null, cursor);
+            PagedResult<PropertyModel> emptyResult = new PagedResult<>(Collections.emptyList(), 0, 50, 0L, 0);
+            when(propertyPersistencePort.getAllProperties(any(PropertyFilterModel.class))).thenReturn(emptyResult);
+
+            propertyUseCase.getAllProperties(cursorFilter);
+
+            verify(propertyPersistencePort).getAllProperties(filterCaptor.capture());
+            assertEquals(cursor, filterCaptor.getValue().cursor());
+        }
+
+        @Test
+        @DisplayName("Debería lanzar ValidationException cuando el cursor no corresponde al ordenamiento")
+        void getAllProperties_CursorWithDifferentSort_ShouldThrowValidationException() {
+            String cursor = new KeysetCursor("price", "ASC", 25L, "150000.00").encode();
+            PropertyFilterModel cursorFilter = new PropertyFilterModel(0, 10, "name", "ASC", null, cursor);
+
+            assertThrows(ValidationException.class, () -> propertyUseCase.getAllProperties(cursorFilter));
+            verify(propertyPersistencePort, never()).getAllProperties(any(PropertyFilterModel.class));
+        }
+
+        @Test
+        @DisplayName("Debería aceptar el cursor de id devuelto para un listado ordenado por relevancia")
+        void getAllProperties_RelevanceWithIdCursor_ShouldPassCursorToPort() {
+            String cursor = new KeysetCursor("id", "DESC", 25L, "25").encode();
+            PropertyFilterModel cursorFilter = new PropertyFilterModel(0, 10, "relevance", "DESC", null, cursor);
+            PagedResult<PropertyModel> emptyResult = new PagedResult<>(Collections.emptyList(), 0, 10, 0L, 0);
+            when(propertyPersistencePort.getAllProperties(any(PropertyFilterModel.class))).thenReturn(emptyResult);
+
+            propertyUseCase.getAllProperties(cursorFilter);
+
+            verify(propertyPersistencePort).getAllProperties(filterCaptor.capture());
+            assertEquals(cursor, filterCaptor.getValue().cursor());
+        }
+
+        @Test
+        @DisplayName("Debería lanzar ValidationException cuando el cursor está mal formado")
+        void getAllProperties_MalformedCursor_ShouldThrowValidationException() {
+            PropertyFilterModel cursorFilter = new PropertyFilterModel(0, 10, "id", "ASC", null, "%%no-es-base64%%");
+
+            ValidationException exception = assertThrows(ValidationException.class, () -> propertyUseCase.getAllProperties(cursorFilter));
+            assertEquals(DomainConstants.PAGINATION_CURSOR_INVALID, exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Debería pasar los filtros estructurados al puerto sin modificarlos")
+        void getAllProperties_WithCriteria_ShouldPassCriteriaToPort() {
+            PropertyCriteriaModel criteria = PropertyFilterMock.createPriceRoomsCriteria(new BigDecimal("100000"), new BigDecimal("500000"), 3);
+            PagedResult<PropertyModel> emptyResult = new PagedResult<>(Collections.emptyList(), 0, 10, 0L, 0);
+            when(propertyPersistencePort.getAllProperties(any(PropertyFilterModel.class))).thenReturn(emptyResult);
+
+            propertyUseCase.getAllProperties(PropertyFilterMock.createPropertyFilterWithCriteria(criteria));
+
+            verify(propertyPersistencePort).getAllProperties(filterCaptor.capture());
+            assertEquals(criteria, filterCaptor.getValue().criteria());
+        }
+
+        @Test
+        @DisplayName("Debería lanzar ValidationException cuando el precio mínimo supera al máximo")
+        void getAllProperties_MinPriceGreaterThanMax_ShouldThrowValidationException() {
+            PropertyCriteriaModel criteria = PropertyFilterMock.createPriceRoomsCriteria(new BigDecimal("500000"), new BigDecimal("100000"), null);
+
+            ValidationException exception = assertThrows(ValidationException.class,
+                    () -> propertyUseCase.getAllProperties(PropertyFilterMock.createPropertyFilterWithCriteria(criteria)));
+            assertEquals(DomainConstants.PROPERTY_FILTER_PRICE_RANGE_INVALID, exception.getMessage());
+            verify(propertyPersistencePort, never()).getAllProperties(any(PropertyFilterModel.class));
+        }
+
+        @Test
+        @DisplayName("Debería lanzar ValidationException con filtros negativos")
+        void getAllProperties_NegativeCriteria_ShouldThrowValidationException() {
+            PropertyCriteriaModel criteria = PropertyFilterMock.createPriceRoomsCriteria(null, null, -1);
+
+            ValidationException exception = assertThrows(ValidationException.class,
+                    () -> propertyUseCase.getAllProperties(PropertyFilterMock.createPropertyFilterWithCriteria(criteria)));
+            assertEquals(DomainConstants.PROPERTY_FILTER_VALUE_NEGATIVE, exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Debería pasar el radio de búsqueda al puerto junto con los demás filtros")
+        void getAllProperties_WithNear_ShouldPassRadiusToPort() {
+            PagedResult<PropertyModel> emptyResult = new PagedResult<>(Collections.emptyList(), 0, 10, 0L, 0);
+            when(propertyPersistencePort.getAllProperties(any(PropertyFilterModel.class))).thenReturn(emptyResult);
+
+            propertyUseCase.getAllProperties(PropertyFilterMock.createPropertyFilterNear(6.2088, -75.5678, 2.5));
+
+            verify(propertyPersistencePort).getAllProperties(filterCaptor.capture());
+            assertEquals(2.5, filterCaptor.getValue().criteria().near().radiusKm());
+        }
+
+        @Test
+        @DisplayName("Debería lanzar ValidationException con coordenadas fuera de rango")
+        void getAllProperties_NearWithInvalidCoordinates_ShouldThrowValidationException() {
+            ValidationException exception = assertThrows(ValidationException.class,
+                    () -> propertyUseCase.getAllProperties(PropertyFilterMock.createPropertyFilterNear(95, -75.5678, 2.5)));
+            assertEquals(DomainConstants.PROPERTY_NEAR_COORDINATES_INVALID, exception.getMessage());
+            verify(propertyPersistencePort, never()).getAllProperties(any(PropertyFilterModel.class));
+        }
+
+        @Test
+        @DisplayName("Debería lanzar ValidationException con un radio no positivo o mayor al máximo")
+        void getAllProperties_NearWithInvalidRadius_ShouldThrowValidationException() {
+            ValidationException zeroRadius = assertThrows(ValidationException.class,
+                    () -> propertyUseCase.getAllProperties(PropertyFilterMock.createPropertyFilterNear(6.2088, -75.5678, 0)));
+            ValidationException hugeRadius = assertThrows(ValidationException.class,
+                    () -> propertyUseCase.getAllProperties(PropertyFilterMock.createPropertyFilterNear(6.2088, -75.5678, 500)));
+
+            assertEquals(DomainConstants.PROPERTY_NEAR_RADIUS_INVALID, zeroRadius.getMessage());
+            assertEquals(DomainConstants.PROPERTY_NEAR_RADIUS_INVALID, hugeRadius.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests para métodos de propiedades más cercanas")
+    class GetNearestPropertiesMethodTests {
+        @Test
+        @DisplayName("Debería buscar alrededor de la ubicación de la propiedad excluyéndola del resultado")
+        void getPropertiesNearestTo_ShouldUsePropertyCoordinatesAndExcludeIt() {
+            mockLocation.setLatitude(6.2088);
+            mockLocation.setLongitude(-75.5678);
+            NearestPropertyModel neighbor = new NearestPropertyModel(PropertyMock.createPropertyModelWithId(2L), 0.8);
+            when(propertyPersistencePort.getPropertyById(validProperty.getId())).thenReturn(Optional.of(validProperty));
+            when(propertyPersistencePort.getNearestProperties(6.2088, -75.5678, 5, validProperty.getId()))
+                    .thenReturn(List.of(neighbor));
+
+            List<NearestPropertyModel> result = propertyUseCase.getPropertiesNearestTo(validProperty.getId(), 5);
+
+            assertEquals(List.of(neighbor), result);
+        }
+
+        @Test
+        @DisplayName("Debería lanzar ValidationException si la propiedad no tiene coordenadas")
+        void getPropertiesNearestTo_WithoutCoordinates_ShouldThrowValidationException() {
+            when(propertyPersistencePort.getPropertyById(validProperty.getId())).thenReturn(Optional.of(validProperty));
+
+            ValidationException exception = assertThrows(ValidationException.class,
+                    () -> propertyUseCase.getPropertiesNearestTo(validProperty.getId(), 5));
+            assertEquals(String.format(DomainConstants.PROPERTY_LOCATION_WITHOUT_COORDINATES, validProperty.getId()), exception.getMessage());
+            verify(propertyPersistencePort, never()).getNearestProperties(anyDouble(), anyDouble(), anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("Debería lanzar ValidationException con una cantidad fuera de rango")
+        void getNearestProperties_WithInvalidLimit_ShouldThrowValidationException() {
+            ValidationException exception = assertThrows(ValidationException.class,
+                    () -> propertyUseCase.getNearestProperties(6.2088, -75.5678, DomainConstants.PROPERTY_NEAREST_MAX_LIMIT + 1));
+            assertEquals(DomainConstants.PROPERTY_NEAREST_LIMIT_INVALID, exception.getMessage());
+            verify(propertyPersistencePort, never()).getNearestProperties(anyDouble(), anyDouble(), anyInt(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests para método getPropertyCards")
+    class GetPropertyCardsMethodTests {
+        @Test
+        @DisplayName("Debería normalizar el término de búsqueda y delegar el listado de tarjetas al puerto")
+        void getPropertyCards_WithSearchTerm_ShouldNormalizeAndDelegate() {
+            PagedResult<PropertyCardModel> emptyResult = new PagedResult<>(Collections.emptyList(), 0, 10, 0L, 0);
+            when(propertyPersistencePort.getPropertyCards(any(PropertyFilterModel.class))).thenReturn(emptyResult);
+
+            PagedResult<PropertyCardModel> result = propertyUseCase.getPropertyCards(
+                    PropertyFilterMock.createPropertyFilterWithSearchTerm("Casa con Jardín"));
+
+            assertSame(emptyResult, result);
+            verify(propertyPersistencePort).getPropertyCards(filterCaptor.capture());
+            assertEquals("casa con jardin", filterCaptor.getValue().searchTerm());
+        }
+
+        @Test
+        @DisplayName("Debería aplicar las mismas validaciones de paginación que el listado completo")
+        void getPropertyCards_NegativePage_ShouldThrowValidationException() {
+            PropertyFilterModel invalidFilter = new PropertyFilterModel(-1, 10, "id", "ASC", null);
+
+            ValidationException exception = assertThrows(ValidationException.class, () -> propertyUseCase.getPropertyCards(invalidFilter));
+            assertEquals(DomainConstants.PAGINATION_PAGE_NEGATIVE, exception.getMessage());
+            verify(propertyPersistencePort, never()).getPropertyCards(any(PropertyFilterModel.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests para método getPropertyClusters")
+    class GetPropertyClustersMethodTests {
+        @Test
+        @DisplayName("Debería delegar al puerto un área válida, incluso si cruza el antimeridiano")
+        void getPropertyClusters_WithViewportCrossingAntimeridian_ShouldDelegate() {
+            MapViewportModel viewport = new MapViewportModel(-20, 170, -10, -170, 6);
+            List<PropertyClusterModel> clusters = List.of(
+                    new PropertyClusterModel(3, -15, 179, new BigDecimal("1"), new BigDecimal("9")));
+            when(propertyPersistencePort.getPropertyClusters(viewport)).thenReturn(clusters);
+
+            assertEquals(clusters, propertyUseCase.getPropertyClusters(viewport));
+        }
+
+        @Test
+        @DisplayName("Debería lanzar ValidationException si la latitud mínima supera a la máxima")
+        void getPropertyClusters_WithInvertedLatitudes_ShouldThrowValidationException() {
+            ValidationException exception = assertThrows(ValidationException.class,
+                    () -> propertyUseCase.getPropertyClusters(new MapViewportModel(7, -76, 6, -75, 12)));
+            assertEquals(DomainConstants.PROPERTY_CLUSTER_VIEWPORT_INVALID, exception.getMessage());
+            verify(propertyPersistencePort, never()).getPropertyClusters(any());
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, DomainConstants.PROPERTY_CLUSTER_MAX_ZOOM + 1})
+        @DisplayName("Debería lanzar ValidationException con un zoom fuera de rango")
+        void getPropertyClusters_WithInvalidZoom_ShouldThrowValidationException(int zoom) {
+            ValidationException exception = assertThrows(ValidationException.class,
+                    () -> propertyUseCase.getPropertyClusters(new MapViewportModel(6, -76, 7, -75, zoom)));
+            assertEquals(DomainConstants.PROPERTY_CLUSTER_ZOOM_INVALID, exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests para método getPropertyFacets")
+    class GetPropertyFacetsMethodTests {
+        @Test
+        @DisplayName("Debería normalizar el término de búsqueda y delegar el cálculo de facetas al puerto")
+        void getPropertyFacets_WithSearchTerm_ShouldNormalizeAndDelegate() {
+            PropertyFacetsModel expectedFacets = new PropertyFacetsModel(0L, List.of(), List.of(), List.of());
+            when(propertyPersistencePort.getPropertyFacets(any(PropertyFilterModel.class))).thenReturn(expectedFacets);
+
+            PropertyFacetsModel result = propertyUseCase.getPropertyFacets(PropertyFilterMock.createPropertyFilterWithSearchTerm("Casa con Jardín"));
+
+            assertSame(expectedFacets, result);
+            verify(propertyPersistencePort).getPropertyFacets(filterCaptor.capture());
+            assertEquals("casa con jardin", filterCaptor.getValue().searchTerm());
+        }
+
+        @Test
+        @DisplayName("Debería lanzar ValidationException cuando el rango de precio es inválido")
+        void getPropertyFacets_InvalidPriceRange_ShouldThrowValidationException() {
+            PropertyCriteriaModel criteria = PropertyFilterMock.createPriceRoomsCriteria(new BigDecimal("2"), new BigDecimal("1"), null);
+
+            ValidationException exception = assertThrows(ValidationException.class,
+                    () -> propertyUseCase.getPropertyFacets(PropertyFilterMock.createPropertyFilterWithCriteria(criteria)));
+            assertEquals(DomainConstants.PROPERTY_FILTER_PRICE_RANGE_INVALID, exception.getMessage());
+            verify(propertyPersistencePort, never()).getPropertyFacets(any(PropertyFilterModel.class));
+        }
     }
 
     @Nested
@@ -515,42 +944,40 @@ class PropertyUseCaseTest {
     class ProcessPendingPropertiesToPublishMethodTests {
 
         @Test
-        @DisplayName("Debería actualizar propiedades pendientes a publicadas")
-        void processPendingPropertiesToPublish_WithPendingProperties_ShouldUpdateStatus() {
-            PropertyModel pendingProp1 = PropertyMock.createPropertyModelWithStatus(PropertyPublicationStatus.PUBLICATION_PENDING);
-            pendingProp1.setId(10L);
-            PropertyModel pendingProp2 = PropertyMock.createPropertyModelWithStatus(PropertyPublicationStatus.PUBLICATION_PENDING);
-            pendingProp2.setId(11L);
-            List<PropertyModel> pendingProperties = List.of(pendingProp1, pendingProp2);
+        @DisplayName("Debería publicar por bloques hasta que un bloque salga incompleto")
+        void processPendingPropertiesToPublish_WithPendingProperties_ShouldPublishInChunks() {
+            List<Long> fullChunk = LongStream.rangeClosed(1, DomainConstants.PROPERTY_PUBLICATION_CHUNK_SIZE).boxed().toList();
+            when(propertyPersistencePort.publishPendingProperties(any(LocalDate.class), eq(DomainConstants.PROPERTY_PUBLICATION_CHUNK_SIZE)))
+                    .thenReturn(fullChunk)
+                    .thenReturn(List.of(10_001L, 10_002L));
 
-            when(propertyPersistencePort.findByPublicationStatusAndActiveDateLessThanEqual(
-                    eq(PropertyPublicationStatus.PUBLICATION_PENDING),
-                    any(LocalDate.class))
-            ).thenReturn(pendingProperties);
+            PropertyPublicationRunModel result = propertyUseCase.processPendingPropertiesToPublish();
 
-            doNothing().when(propertyPersistencePort).updateProperties(anyList());
+            assertEquals(DomainConstants.PROPERTY_PUBLICATION_CHUNK_SIZE + 2, result.published());
+            assertEquals(2, result.chunks());
+            verify(propertyPersistencePort, times(2)).publishPendingProperties(any(LocalDate.class), eq(DomainConstants.PROPERTY_PUBLICATION_CHUNK_SIZE));
+        }
+
+        @Test
+        @DisplayName("Debería consultar un solo bloque si no hay propiedades pendientes")
+        void processPendingPropertiesToPublish_NoPendingProperties_ShouldStopAfterFirstChunk() {
+            when(propertyPersistencePort.publishPendingProperties(any(LocalDate.class), anyInt()))
+                    .thenReturn(Collections.emptyList());
 
-            propertyUseCase.processPendingPropertiesToPublish();
+            PropertyPublicationRunModel result = propertyUseCase.processPendingPropertiesToPublish();
 
-            verify(propertyPersistencePort).updateProperties(propertyListCaptor.capture());
-            List<PropertyModel> capturedList = propertyListCaptor.getValue();
-            assertEquals(2, capturedList.size());
-            assertTrue(capturedList.stream().allMatch(p -> p.getPublicationStatus() == PropertyPublicationStatus.PUBLISHED));
-            assertEquals(10L, capturedList.get(0).getId());
-            assertEquals(11L, capturedList.get(1).getId());
+            assertEquals(0, result.published());
+            assertEquals(0, result.chunks());
+            verify(propertyPersistencePort, times(1)).publishPendingProperties(any(LocalDate.class), anyInt());
         }
 
         @Test
-        @DisplayName("No debería hacer nada si no hay propiedades pendientes")
-        void processPendingPropertiesToPublish_NoPendingProperties_ShouldDoNothing() {
-            when(propertyPersistencePort.findByPublicationStatusAndActiveDateLessThanEqual(
-                    eq(PropertyPublicationStatus.PUBLICATION_PENDING),
-                    any(LocalDate.class))
-            ).thenReturn(Collections.emptyList());
-
-            propertyUseCase.processPendingPropertiesToPublish();
+        @DisplayName("Debería retornar la fecha de la próxima propiedad pendiente")
+        void getNextPendingPublicationDate_ShouldReturnDateFromPersistence() {
+            LocalDate tomorrow = LocalDate.now().plusDays(1);
+            when(propertyPersistencePort.findNextPendingPublicationDate()).thenReturn(Optional.of(tomorrow));
 
-            verify(propertyPersistencePort, never()).updateProperties(anyList());
+            assertEquals(Optional.of(tomorrow), propertyUseCase.getNextPendingPublicationDate());
         }
     }
 }
@@ -0,0 +1,184 @@
+package com.pragma.home360.home.unit.domain.usecases;
+
+import com.pragma.home360.home.domain.exceptions.ModelNotFoundException;
+import com.pragma.home360.home.domain.exceptions.ValidationException;
+import com.pragma.home360.home.domain.model.CategoryModel;
+import com.pragma.home360.home.domain.model.SavedSearchModel;
+import com.pragma.home360.home.domain.ports.out.CategoryPersistencePort;
+import com.pragma.home360.home.domain.ports.out.CityPersistencePort;
+import com.pragma.home360.home.domain.ports.out.DepartmentPersistencePort;
+import com.pragma.home360.home.domain.ports.out.NeighborhoodPersistencePort;
+import com.pragma.home360.home.domain.ports.out.SavedSearchPersistencePort;
+import com.pragma.home360.home.domain.usecases.SavedSearchUseCase;
+import com.pragma.home360.home.domain.utils.constants.DomainConstants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SavedSearchUseCaseTest {
+
+    @Mock
+    private SavedSearchPersistencePort savedSearchPersistencePort;
+
+    @Mock
+    private CategoryPersistencePort categoryPersistencePort;
+
+    @Mock
+    private DepartmentPersistencePort departmentPersistencePort;
+
+    @Mock
+    private CityPersistencePort cityPersistencePort;
+
+    @Mock
+    private NeighborhoodPersistencePort neighborhoodPersistencePort;
+
+    @InjectMocks
+    private SavedSearchUseCase savedSearchUseCase;
+
+    private static SavedSearchModel savedSearch(String email, BigDecimal minPrice, BigDecimal maxPrice,
+                                                Integer minRooms, Integer maxRooms, Long categoryId) {
+        return new SavedSearchModel(null, email, "Apartamentos", minPrice, maxPrice, minRooms, maxRooms, null,
+                categoryId, null, null, null, null);
+    }
+
+    @Nested
+    @DisplayName("Tests para método saveSavedSearch")
+    class SaveSavedSearchMethodTests {
+
+        @Test
+        @DisplayName("Debería guardar la búsqueda cuando los criterios son válidos")
+        void saveSavedSearch_ValidSearch_ShouldSave() {
+            // Arrange
+            SavedSearchModel request = savedSearch("comprador@correo.com", new BigDecimal("200000000"),
+                    new BigDecimal("450000000"), 2, 3, 1L);
+            SavedSearchModel saved = new SavedSearchModel(15L, request.email(), request.name(), request.minPrice(),
+                    request.maxPrice(), 2, 3, null, 1L, null, null, null, null);
+            when(categoryPersistencePort.getCategoryById(1L)).thenReturn(Optional.of(new CategoryModel()));
+            when(savedSearchPersistencePort.saveSavedSearch(request)).thenReturn(saved);
+
+            // Act
+            SavedSearchModel result = savedSearchUseCase.saveSavedSearch(request);
+
+            // Assert
+            assertEquals(15L, result.id());
+            verify(savedSearchPersistencePort).saveSavedSearch(request);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"comprador", "comprador@", "comprador@correo", "compra dor@correo.com"})
+        @DisplayName("Debería lanzar ValidationException si el correo no es válido")
+        void saveSavedSearch_InvalidEmail_ShouldThrowValidationException(String email) {
+            // Act & Assert
+            ValidationException exception = assertThrows(ValidationException.class,
+                    () -> savedSearchUseCase.saveSavedSearch(savedSearch(email, null, null, null, null, null)));
+
+            assertEquals(DomainConstants.SAVED_SEARCH_EMAIL_INVALID, exception.getMessage());
+            verify(savedSearchPersistencePort, never()).saveSavedSearch(any());
+        }
+
+        @Test
+        @DisplayName("Debería lanzar ValidationException si el correo está vacío")
+        void saveSavedSearch_BlankEmail_ShouldThrowValidationException() {
+            // Act & Assert
+            ValidationException exception = assertThrows(ValidationException.class,
+                    () -> savedSearchUseCase.saveSavedSearch(savedSearch(" ", null, null, null, null, null)));
+
+            assertEquals(DomainConstants.SAVED_SEARCH_EMAIL_CANNOT_BE_EMPTY, exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Debería lanzar ValidationException si el precio mínimo supera al máximo")
+        void saveSavedSearch_InvertedPriceRange_ShouldThrowValidationException() {
+            // Act & Assert
+            ValidationException exception = assertThrows(ValidationException.class,
+                    () -> savedSearchUseCase.saveSavedSearch(savedSearch("comprador@correo.com",
+                            new BigDecimal("500"), new BigDecimal("100"), null, null, null)));
+
+            assertEquals(DomainConstants.PROPERTY_FILTER_PRICE_RANGE_INVALID, exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Debería lanzar ValidationException si el mínimo de habitaciones supera al máximo")
+        void saveSavedSearch_InvertedRoomsRange_ShouldThrowValidationException() {
+            // Act & Assert
+            ValidationException exception = assertThrows(ValidationException.class,
+                    () -> savedSearchUseCase.saveSavedSearch(savedSearch("comprador@correo.com",
+                            null, null, 4, 2, null)));
+
+            assertEquals(DomainConstants.SAVED_SEARCH_ROOMS_RANGE_INVALID, exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Debería lanzar ValidationException si algún criterio es negativo")
+        void saveSavedSearch_NegativeValue_ShouldThrowValidationException() {
+            // Act & Assert
+            ValidationException exception = assertThrows(ValidationException.class,
+                    () -> savedSearchUseCase.saveSavedSearch(savedSearch("comprador@correo.com",
+                            new BigDecimal("-1"), null, null, null, null)));
+
+            assertEquals(DomainConstants.PROPERTY_FILTER_VALUE_NEGATIVE, exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Debería lanzar ModelNotFoundException si la categoría no existe")
+        void saveSavedSearch_UnknownCategory_ShouldThrowModelNotFoundException() {
+            // Arrange
+            when(categoryPersistencePort.getCategoryById(99L)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            ModelNotFoundException exception = assertThrows(ModelNotFoundException.class,
+                    () -> savedSearchUseCase.saveSavedSearch(savedSearch("comprador@correo.com",
+                            null, null, null, null, 99L)));
+
+            assertEquals(String.format(DomainConstants.CATEGORY_NOT_FOUND_BY_ID, 99L), exception.getMessage());
+            verify(savedSearchPersistencePort, never()).saveSavedSearch(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests para método deleteSavedSearch")
+    class DeleteSavedSearchMethodTests {
+
+        @Test
+        @DisplayName("Debería eliminar la búsqueda cuando existe")
+        void deleteSavedSearch_Existing_ShouldDelete() {
+            // Arrange
+            when(savedSearchPersistencePort.getSavedSearchById(15L))
+                    .thenReturn(Optional.of(savedSearch("comprador@correo.com", null, null, null, null, null)));
+
+            // Act
+            savedSearchUseCase.deleteSavedSearch(15L);
+
+            // Assert
+            verify(savedSearchPersistencePort).deleteSavedSearch(15L);
+        }
+
+        @Test
+        @DisplayName("Debería lanzar ModelNotFoundException si la búsqueda no existe")
+        void deleteSavedSearch_Missing_ShouldThrowModelNotFoundException() {
+            // Arrange
+            when(savedSearchPersistencePort.getSavedSearchById(15L)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            ModelNotFoundException exception = assertThrows(ModelNotFoundException.class,
+                    () -> savedSearchUseCase.deleteSavedSearch(15L));
+
+            assertEquals(String.format(DomainConstants.SAVED_SEARCH_NOT_FOUND, 15L), exception.getMessage());
+            verify(savedSearchPersistencePort, never()).deleteSavedSearch(any());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.pragma.home360.home.unit.domain.usecases;
+
+import com.pragma.home360.home.domain.exceptions.ValidationException;
+import com.pragma.home360.home.domain.model.SuggestionModel;
+import com.pragma.home360.home.domain.model.SuggestionType;
+import com.pragma.home360.home.domain.ports.out.SuggestionIndexPort;
+import com.pragma.home360.home.domain.usecases.SuggestionUseCase;
+import com.pragma.home360.home.domain.utils.constants.DomainConstants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SuggestionUseCaseTest {
+
+    @Mock
+    private SuggestionIndexPort suggestionIndexPort;
+
+    @InjectMocks
+    private SuggestionUseCase suggestionUseCase;
+
+    @Nested
+    @DisplayName("Tests para método suggest")
+    class SuggestMethodTests {
+
+        @Test
+        @DisplayName("Debería normalizar el texto antes de consultar el índice")
+        void suggest_WithAccentsAndExtraSpaces_ShouldQueryNormalizedPrefix() {
+            // Arrange
+            List<SuggestionModel> suggestions = List.of(
+                    new SuggestionModel(SuggestionType.NEIGHBORHOOD, 7L, "El Poblado", 12));
+            when(suggestionIndexPort.suggest("el pob", 5)).thenReturn(suggestions);
+
+            // Act
+            List<SuggestionModel> result = suggestionUseCase.suggest("  ÉL   Pob ", 5);
+
+            // Assert
+            assertEquals(suggestions, result);
+            verify(suggestionIndexPort).suggest("el pob", 5);
+        }
+
+        @Test
+        @DisplayName("Debería retornar vacío sin consultar el índice si el texto no tiene letras ni números")
+        void suggest_WithOnlySymbols_ShouldReturnEmptyWithoutQueryingIndex() {
+            // Act
+            List<SuggestionModel> result = suggestionUseCase.suggest("¿?-", 5);
+
+            // Assert
+            assertTrue(result.isEmpty());
+            verifyNoInteractions(suggestionIndexPort);
+        }
+
+        @Test
+        @DisplayName("Debería lanzar ValidationException si el texto está vacío")
+        void suggest_WithBlankQuery_ShouldThrowValidationException() {
+            // Act & Assert
+            ValidationException exception = assertThrows(ValidationException.class,
+                    () -> suggestionUseCase.suggest("   ", 5));
+
+            assertEquals(DomainConstants.SUGGESTION_QUERY_CANNOT_BE_EMPTY, exception.getMessage());
+            verify(suggestionIndexPort, never()).suggest(anyString(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Debería lanzar ValidationException si el texto supera la longitud máxima")
+        void suggest_WithTooLongQuery_ShouldThrowValidationException() {
+            // Arrange
+            String query = "a".repeat(DomainConstants.SUGGESTION_QUERY_MAX_LENGTH + 1);
+
+            // Act & Assert
+            ValidationException exception = assertThrows(ValidationException.class,
+                    () -> suggestionUseCase.suggest(query, 5));
+
+            assertEquals(String.format(DomainConstants.SUGGESTION_QUERY_MAX_LENGTH_EXCEEDED,
+                    DomainConstants.SUGGESTION_QUERY_MAX_LENGTH), exception.getMessage());
+            verify(suggestionIndexPort, never()).suggest(anyString(), anyInt());
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, -1, DomainConstants.SUGGESTION_MAX_LIMIT + 1})
+        @DisplayName("Debería lanzar ValidationException si la cantidad está fuera de rango")
+        void suggest_WithLimitOutOfRange_ShouldThrowValidationException(int limit) {
+            // Act & Assert
+            ValidationException exception = assertThrows(ValidationException.class,
+                    () -> suggestionUseCase.suggest("pob", limit));
+
+            assertEquals(DomainConstants.SUGGESTION_LIMIT_INVALID, exception.getMessage());
+            verify(suggestionIndexPort, never()).suggest(anyString(), anyInt());
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.pragma.home360.home.unit.mocks;
 
+import com.pragma.home360.home.domain.model.GeoRadiusModel;
+import com.pragma.home360.home.domain.model.PropertyCriteriaModel;
 import com.pragma.home360.home.domain.model.PropertyFilterModel;
 
+import java.math.BigDecimal;
+
 public class PropertyFilterMock {
 
     public static PropertyFilterModel createPropertyFilter(Integer page, Integer size, String sortField, String direction, String searchTerm) {
@@ -37,4 +41,16 @@ public class PropertyFilterMock {
     public static PropertyFilterModel createPropertyFilterWithSearchTerm(String searchTerm) {
         return createPropertyFilter(0, 10, "id", "ASC", searchTerm);
     }
-}
\ No newline at end of file
+
+    public static PropertyFilterModel createPropertyFilterWithCriteria(PropertyCriteriaModel criteria) {
+        return new PropertyFilterModel(0, 10, "id", "ASC", null, null, criteria);
+    }
+
+    public static PropertyCriteriaModel createPriceRoomsCriteria(BigDecimal minPrice, BigDecimal maxPrice, Integer minRooms) {
+        return new PropertyCriteriaModel(minPrice, maxPrice, minRooms, null, null, null, null, null, null);
+    }
+
+    public static PropertyFilterModel createPropertyFilterNear(double latitude, double longitude, double radiusKm) {
+        return createDefaultPropertyFilter().withNear(new GeoRadiusModel(latitude, longitude, radiusKm));
+    }
+}